@@ -0,0 +1,52 @@
+package com.github.jackieonway.copier.annotation;
+
+/**
+ * 集合输出策略枚举，用于指定 toDto 生成的 List/Set/Map 的形态。
+ *
+ * <ul>
+ *   <li>{@link #MUTABLE}：可变集合（默认），如 {@code ArrayList}、{@code LinkedHashSet}、{@code HashMap}</li>
+ *   <li>{@link #UNMODIFIABLE_COMPACT}：不可变的紧凑集合，空集合与单元素集合复用 JDK 的共享/单例实现</li>
+ *   <li>{@link #INHERIT}：仅用于 {@link CopyField}，沿用 {@link CopyTarget#collectionOutput()} 的设置</li>
+ * </ul>
+ *
+ * <p><b>使用示例</b></p>
+ * <pre>
+ * &#64;CopyTarget(source = Order.class, collectionOutput = CollectionOutput.UNMODIFIABLE_COMPACT)
+ * public class OrderDto {
+ *     private List&lt;String&gt; tags;
+ *
+ *     // 该字段仍然需要可变集合
+ *     &#64;CopyField(collectionOutput = CollectionOutput.MUTABLE)
+ *     private List&lt;String&gt; notes;
+ * }
+ * </pre>
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ * @see CopyTarget#collectionOutput()
+ * @see CopyField#collectionOutput()
+ */
+public enum CollectionOutput {
+
+    /**
+     * 沿用 {@link CopyTarget#collectionOutput()} 的设置，仅作为 {@link CopyField} 的默认值。
+     */
+    INHERIT,
+
+    /**
+     * 可变集合，按源集合大小精确预分配。
+     */
+    MUTABLE,
+
+    /**
+     * 不可变的紧凑集合。
+     *
+     * <p>空集合返回 {@code Collections.emptyList()}/{@code emptySet()}/{@code emptyMap()}，
+     * 单元素集合返回 {@code singletonList}/{@code singleton}/{@code singletonMap}，
+     * 更大的集合返回精确容量集合的不可修改视图。
+     *
+     * <p>只作用于 toDto 方向、且字段声明为 List/Set/Map 接口的字段；
+     * 字段声明为具体集合类或指定了 {@link CopyField#implementation()} 时仍生成可变集合。
+     */
+    UNMODIFIABLE_COMPACT
+}
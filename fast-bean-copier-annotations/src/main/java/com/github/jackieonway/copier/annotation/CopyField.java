@@ -48,6 +48,18 @@ import com.github.jackieonway.copier.converter.TypeConverter;
  * private String priceStr;
  * </pre>
  *
+ * <p><b>5. 指定集合实现类</b></p>
+ * <pre>
+ * &#64;CopyField(implementation = TreeMap.class)
+ * private Map&lt;String, Integer&gt; scores;
+ * </pre>
+ *
+ * <p><b>6. 源集合已不可变时直接共享</b></p>
+ * <pre>
+ * &#64;CopyField(copyStrategy = CopyStrategy.SHARE_IF_IMMUTABLE)
+ * private List&lt;String&gt; tags;
+ * </pre>
+ *
  * @author jackieonway
  * @since 1.2.0
  * @see CopyTarget
@@ -65,6 +77,9 @@ public @interface CopyField {
      *
      * <p>如果为空数组（默认值），则使用注解所在字段的名称作为源字段名。
      *
+     * <p>v1.3 起单个源字段可以是点号分隔的嵌套路径，例如 {@code "customer.address.city"}：
+     * toDto 时每个路径前缀只读取一次并判空，fromDto 时按需创建中间对象。
+     *
      * @return 源字段名数组
      */
     String[] source() default {};
@@ -133,4 +148,72 @@ public @interface CopyField {
      * @return 格式字符串
      */
     String format() default "";
+
+    /**
+     * 目标集合字段使用的实现类。
+     *
+     * <p>仅对 List、Set、Queue、Map 类型的字段生效，且只影响 toDto 方向。
+     * 实现类必须是可实例化的具体类，并且可以赋值给字段声明的类型，
+     * 例如 {@code TreeMap}、{@code LinkedList}、{@code ArrayDeque}。
+     * 枚举元素的 Set、枚举 key 的 Map 可以指定 {@code EnumSet}/{@code EnumMap}，
+     * 此时源集合中的 null 元素（key）会导致拷贝抛出 {@code NullPointerException}，迭代顺序变为枚举声明顺序。
+     *
+     * <p>默认值 {@code void.class} 表示按字段类型自动选择：
+     * 分别使用 {@code ArrayList}、{@code LinkedHashSet}、{@code ArrayDeque}、{@code HashMap}。
+     *
+     * @return 集合实现类
+     * @since 1.3.0
+     */
+    Class<?> implementation() default void.class;
+
+    /**
+     * 该字段的集合输出策略。
+     *
+     * <p>默认值 {@link CollectionOutput#INHERIT} 表示沿用 {@link CopyTarget#collectionOutput()}。
+     *
+     * @return 集合输出策略
+     * @since 1.3.0
+     */
+    CollectionOutput collectionOutput() default CollectionOutput.INHERIT;
+
+    /**
+     * 该字段的拷贝策略。
+     *
+     * <p>仅对直接映射的 List、Set、Queue、Map 字段生效，双向拷贝均适用。
+     * 默认值 {@link CopyStrategy#DEEP} 保持原有的深拷贝行为。
+     *
+     * @return 拷贝策略
+     * @since 1.3.0
+     */
+    CopyStrategy copyStrategy() default CopyStrategy.DEEP;
+
+    /**
+     * 字段拷贝条件，布尔类型的 Java 表达式。
+     *
+     * <p>与 {@link #expression()} 一样可以通过 {@code source} 变量访问源对象。
+     * 条件为 false 时跳过该字段的整个拷贝、转换或深拷贝过程，目标字段保持默认值，
+     * 适合只在特定状态下才需要的昂贵转换。仅对 toDto 方向生效，fromDto 照常拷贝。
+     *
+     * <p>示例：{@code source.getStatus() == OrderStatus.SHIPPED}
+     *
+     * @return 条件表达式，默认为空表示无条件拷贝
+     * @since 1.3.0
+     */
+    String condition() default "";
+
+    /**
+     * 集合元素的合并键（属性名），用于把 DTO 的子集合同步到已有的源对象中。
+     *
+     * <p>仅对直接映射的 List/Set 字段生效，且两侧的元素类型都必须有该属性。
+     * 在 Copier 的 {@code updateFromDto(dto, existing)} 中，
+     * 会按键为已有集合的元素建立哈希索引：键相同的元素原地更新，新元素追加到末尾，
+     * DTO 中不存在的元素被移除，整体 O(n)，并且保留已有的集合实例（如 JPA 托管的集合）。
+     * {@code fromDto} 与 {@code toDto} 不受影响。
+     *
+     * <p>示例：{@code @CopyField(mergeKey = "id")}
+     *
+     * @return 合并键属性名，默认为空表示整体替换
+     * @since 1.3.0
+     */
+    String mergeKey() default "";
 }
@@ -0,0 +1,49 @@
+package com.github.jackieonway.copier.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 具名的附加源，只能在 {@link CopyTarget#sources()} 中使用。
+ *
+ * <p>目标字段通过 {@code @CopyField(source = "名称.字段")} 从附加源取值，
+ * 生成的 {@code toDto(主源, 附加源...)} 一次性填充目标对象，不创建任何中间对象。
+ *
+ * <p><b>使用示例</b></p>
+ * <pre>
+ * &#64;CopyTarget(source = Post.class, sources = {
+ *         &#64;CopySource(name = "stats", type = PostStats.class),
+ *         &#64;CopySource(name = "prefs", type = UserPreferences.class)})
+ * public class PostView {
+ *     private String title;
+ *     &#64;CopyField(source = "stats.viewCount")
+ *     private long views;
+ * }
+ *
+ * PostView view = PostViewCopier.toDto(post, stats, prefs);
+ * </pre>
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ * @see CopyTarget#sources()
+ */
+@Target({})
+@Retention(RetentionPolicy.SOURCE)
+public @interface CopySource {
+
+    /**
+     * 源名称，同时作为生成的 {@code toDto} 方法的参数名，必须是合法的 Java 标识符，
+     * 且不能是 {@code source} 或 {@code target}。
+     *
+     * @return 源名称
+     */
+    String name();
+
+    /**
+     * 源类型。
+     *
+     * @return 源类的 Class 对象
+     */
+    Class<?> type();
+}
@@ -0,0 +1,49 @@
+package com.github.jackieonway.copier.annotation;
+
+/**
+ * 集合字段拷贝策略枚举。
+ *
+ * <ul>
+ *   <li>{@link #DEEP}：总是拷贝集合（默认），元素按需深拷贝</li>
+ *   <li>{@link #SHARE}：直接共享源集合实例，不做任何拷贝</li>
+ *   <li>{@link #SHARE_IF_IMMUTABLE}：源集合为已知的不可变实现时共享，否则深拷贝</li>
+ * </ul>
+ *
+ * <p><b>使用示例</b></p>
+ * <pre>
+ * &#64;CopyTarget(source = Order.class)
+ * public class OrderDto {
+ *     // List.of / Collections.unmodifiableList 等不可变集合直接传递
+ *     &#64;CopyField(copyStrategy = CopyStrategy.SHARE_IF_IMMUTABLE)
+ *     private List&lt;String&gt; tags;
+ * }
+ * </pre>
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ * @see CopyField#copyStrategy()
+ * @see com.github.jackieonway.copier.runtime.Immutables
+ */
+public enum CopyStrategy {
+
+    /**
+     * 深拷贝，生成新的集合实例。
+     */
+    DEEP,
+
+    /**
+     * 共享源集合实例。
+     *
+     * <p>要求源字段类型可以直接赋值给目标字段类型，源集合后续的修改会反映到目标对象上；
+     * 元素同样不做拷贝，两侧对象共享相同的元素实例。
+     */
+    SHARE,
+
+    /**
+     * 源集合为已知的不可变实现时共享实例，否则回退为深拷贝。
+     *
+     * <p>元素需要转换或深拷贝（如 {@code List<User>} 到 {@code List<UserDto>}、
+     * {@code List<User>}、{@code List<List<String>>}）时无法共享，编译期给出警告并始终深拷贝。
+     */
+    SHARE_IF_IMMUTABLE
+}
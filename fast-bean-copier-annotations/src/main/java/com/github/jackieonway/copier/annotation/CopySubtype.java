@@ -0,0 +1,45 @@
+package com.github.jackieonway.copier.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 子类型映射声明，只能在 {@link CopyTarget#subtypes()} 中使用。
+ *
+ * <p>{@code target} 必须继承声明它的目标类，且本身是以 {@code source} 为源的 {@code @CopyTarget} 类；
+ * {@code source} 必须继承父类映射的源类。
+ *
+ * <p><b>使用示例</b></p>
+ * <pre>
+ * &#64;CopyTarget(source = Payment.class, subtypes = {
+ *         &#64;CopySubtype(source = CardPayment.class, target = CardPaymentDto.class),
+ *         &#64;CopySubtype(source = BankPayment.class, target = BankPaymentDto.class)})
+ * public class PaymentDto { }
+ *
+ * // 运行时类型为 CardPayment 时返回 CardPaymentDto
+ * PaymentDto dto = PaymentDtoCopier.toDto(payment);
+ * </pre>
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ * @see CopyTarget#subtypes()
+ */
+@Target({})
+@Retention(RetentionPolicy.SOURCE)
+public @interface CopySubtype {
+
+    /**
+     * 源子类型。
+     *
+     * @return 源子类的 Class 对象
+     */
+    Class<?> source();
+
+    /**
+     * 目标子类型。
+     *
+     * @return 目标子类的 Class 对象
+     */
+    Class<?> target();
+}
@@ -130,4 +130,293 @@ public @interface CopyTarget {
      * @see ComponentModel
      */
     ComponentModel componentModel() default ComponentModel.DEFAULT;
+
+    /**
+     * 集合输出策略，可选，默认为 {@link CollectionOutput#MUTABLE}。
+     *
+     * <p>设置为 {@link CollectionOutput#UNMODIFIABLE_COMPACT} 时，toDto 对空集合和单元素集合
+     * 返回共享/单例的不可变实现，显著减少大量小集合的堆占用。
+     * 单个字段可以通过 {@link CopyField#collectionOutput()} 覆盖。
+     *
+     * @return 集合输出策略
+     * @since 1.3.0
+     * @see CollectionOutput
+     */
+    CollectionOutput collectionOutput() default CollectionOutput.MUTABLE;
+
+    /**
+     * 是否同时生成二进制编解码器，可选，默认为 {@code false}。
+     *
+     * <p>设置为 {@code true} 时额外生成 {@code XxxCodec} 类，提供 {@code sizeOf}、{@code writeTo}、
+     * {@code readFrom} 与 {@code encode} 静态方法，基于 {@link java.nio.ByteBuffer} 读写目标类的全部字段，
+     * 不使用反射。嵌套字段的类型同样需要开启 codec。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = User.class, codec = true)
+     * public class UserDto { }
+     *
+     * ByteBuffer buffer = ByteBuffer.allocateDirect(UserDtoCodec.sizeOf(dto));
+     * UserDtoCodec.writeTo(dto, buffer);
+     * </pre>
+     *
+     * @return 是否生成编解码器
+     * @since 1.3.0
+     * @see com.github.jackieonway.copier.runtime.CodecSupport
+     */
+    boolean codec() default false;
+
+    /**
+     * 是否同时生成列式（struct-of-arrays）批量输出，可选，默认为 {@code false}。
+     *
+     * <p>设置为 {@code true} 时，Copier 额外提供 {@code toDtoColumns(List)} 方法，返回生成的
+     * {@code XxxColumns} 类：每个映射字段对应一个数组（基本类型字段为基本类型数组），
+     * 适合按列扫描、聚合的分析场景，避免为每行创建 DTO 对象。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Trade.class, columns = true)
+     * public class TradeDto { }
+     *
+     * TradeDtoColumns columns = TradeDtoCopier.toDtoColumns(trades);
+     * double[] prices = columns.getPrice();
+     * TradeDtoColumns.Cursor cursor = columns.cursor();
+     * while (cursor.next()) {
+     *     total += cursor.getPrice() * cursor.getQuantity();
+     * }
+     * </pre>
+     *
+     * @return 是否生成列式输出
+     * @since 1.3.0
+     */
+    boolean columns() default false;
+
+    /**
+     * 是否同时生成堆外定长记录输出，可选，默认为 {@code false}。
+     *
+     * <p>设置为 {@code true} 时额外生成 {@code XxxFlyweight} 类，按固定偏移读写直接缓冲区或内存映射文件中的记录，
+     * Copier 提供 {@code toDtoOffHeap(List)} 与 {@code toDtoOffHeap(List, Path)} 方法。
+     * 目标类的字段必须全部为基本类型，适合常驻内存的大量小对象（价格点、计数器等）。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Tick.class, offHeap = true)
+     * public class TickDto { }
+     *
+     * TickDtoCopier.toDtoOffHeap(ticks, path);
+     * // 重启后直接映射
+     * MappedDtoArray&lt;TickDto&gt; array = MappedDtoArray.open(path, TickDtoFlyweight.LAYOUT);
+     * TickDtoFlyweight tick = new TickDtoFlyweight(array);
+     * double price = tick.moveTo(0).getPrice();
+     * </pre>
+     *
+     * @return 是否生成堆外输出
+     * @since 1.3.0
+     * @see com.github.jackieonway.copier.runtime.MappedDtoArray
+     */
+    boolean offHeap() default false;
+
+    /**
+     * 是否同时生成延迟只读视图，可选，默认为 {@code false}。
+     *
+     * <p>设置为 {@code true} 时 Copier 额外提供 {@code toDtoView(source)}，返回继承目标类的视图对象：
+     * 无需转换的字段直接委托给源对象，需要转换或深拷贝的字段在首次访问 getter 时才执行映射并缓存结果。
+     * 无论字段数量和集合大小，创建视图只分配一个对象，适合映射后立即被序列化、只读一次的场景。
+     * 目标类及被映射字段的 getter/setter 不能是 final。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Order.class, view = true)
+     * public class OrderDto { }
+     *
+     * OrderDto view = OrderDtoCopier.toDtoView(order);
+     * objectMapper.writeValue(out, view);
+     * </pre>
+     *
+     * @return 是否生成视图
+     * @since 1.3.0
+     */
+    boolean view() default false;
+
+    /**
+     * 具名的附加源，可选，默认为空。
+     *
+     * <p>声明后 Copier 额外提供 {@code toDto(source, 附加源...)}，参数按声明顺序排列，
+     * 一次性把主源与所有附加源的字段填充到同一个目标对象中。
+     * 目标字段通过 {@code @CopyField(source = "名称.字段")} 选择附加源，
+     * 名称之后的部分同样支持点号路径；未以附加源名称开头的字段仍从主源拷贝。
+     * 来自附加源的字段只在多源 {@code toDto} 中填充，{@code fromDto} 不会回写附加源。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Post.class, sources = &#64;CopySource(name = "stats", type = PostStats.class))
+     * public class PostView {
+     *     &#64;CopyField(source = "stats.viewCount")
+     *     private long views;
+     * }
+     * </pre>
+     *
+     * @return 附加源数组
+     * @since 1.3.0
+     */
+    CopySource[] sources() default {};
+
+    /**
+     * 映射链的中间类型，可选，默认 {@code void.class} 表示直接从 {@link #source()} 映射。
+     *
+     * <p>中间类型本身必须是以同一个 {@link #source()} 为源的 {@code @CopyTarget} 类。
+     * 指定后，本类的字段映射（含 {@link CopyField}）按中间类型解析，
+     * 处理器在编译期把"源 → 中间类型"与"中间类型 → 本类"两段映射逐字段合成为"源 → 本类"的直接映射，
+     * 两段的表达式、转换器在同一处内联执行，不创建中间对象。无法合成的字段在编译期报错。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Employee.class)
+     * public class EmployeeModel { }
+     *
+     * &#64;CopyTarget(source = Employee.class, via = EmployeeModel.class)
+     * public class EmployeeResponse { }
+     *
+     * EmployeeResponse response = EmployeeResponseCopier.toDto(employee);
+     * </pre>
+     *
+     * @return 中间类型
+     * @since 1.3.0
+     */
+    Class<?> via() default void.class;
+
+    /**
+     * 子类型映射，可选，默认为空。
+     *
+     * <p>声明后生成的 {@code toDto} 按源对象的运行时类型分派到对应子类型的 Copier，
+     * {@code fromDto} 按目标对象的运行时类型反向分派；未声明的子类按最接近的已声明父类型分派，
+     * 都不匹配时按本类的字段映射拷贝。集合、数组等批量方法同样经过分派。
+     * 子类型较少时生成按 {@code getClass()} 精确比较的分支，较多时生成基于 {@link ClassValue} 的分派表，
+     * 每个运行时类型只在首次出现时计算一次，不使用反射。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Payment.class, subtypes = {
+     *         &#64;CopySubtype(source = CardPayment.class, target = CardPaymentDto.class),
+     *         &#64;CopySubtype(source = BankPayment.class, target = BankPaymentDto.class)})
+     * public class PaymentDto { }
+     * </pre>
+     *
+     * @return 子类型映射数组
+     * @since 1.3.0
+     */
+    CopySubtype[] subtypes() default {};
+
+    /**
+     * 是否同时生成与 {@code Map<String, Object>} 的互转方法，可选，默认为 {@code false}。
+     *
+     * <p>设置为 {@code true} 时 Copier 额外提供 {@code toMap(dto)} 与 {@code fromMap(map)}，
+     * 按目标类的字段列表在编译期生成，不使用反射：键为字段名（编译期常量），
+     * {@code toMap} 创建预设容量、保持字段顺序的 Map；{@code fromMap} 遍历条目并按键的哈希值 {@code switch}，
+     * 数值、布尔、字符串与枚举字段按 {@code MapSupport} 的规则转换，其余字段按声明类型直接赋值。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Account.class, map = true)
+     * public class AccountDto { }
+     *
+     * redis.opsForHash().putAll(key, AccountDtoCopier.toMap(dto));
+     * AccountDto dto = AccountDtoCopier.fromMap(redis.opsForHash().entries(key));
+     * </pre>
+     *
+     * @return 是否生成 Map 互转方法
+     * @since 1.3.0
+     */
+    boolean map() default false;
+
+    /**
+     * 是否同时生成 JDBC 行映射器，可选，默认为 {@code false}。
+     *
+     * <p>设置为 {@code true} 时额外生成 {@code XxxRowMapper}：{@code fromResultSet}/{@code readAll} 把结果集的行读取为本类对象，
+     * 列序号按结果集解析一次并缓存；{@code bind} 按字段顺序使用 {@code setLong}、{@code setString} 等类型化方法绑定参数，
+     * 可配合 {@code insertSql} 批量写入。列名为字段名的下划线形式，读取时不区分大小写。
+     * 字段类型须为基本类型及包装类型、String、BigDecimal、byte[]、枚举、Date、LocalDate、LocalDateTime 或 Instant。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Account.class, rowMapper = true)
+     * public class AccountRow { }
+     *
+     * List&lt;AccountRow&gt; rows = AccountRowRowMapper.readAll(statement.executeQuery());
+     * </pre>
+     *
+     * @return 是否生成行映射器
+     * @since 1.3.0
+     */
+    boolean rowMapper() default false;
+
+    /**
+     * 分隔文本（CSV/TSV）的列，按列顺序列出字段名，可选，默认为空（不生成）。
+     *
+     * <p>非空时额外生成 {@code XxxCsv}：{@code fromRow(CharSequence[])} 把一行的字段解析为本类对象，
+     * {@code writeRow(T, Appendable)} 按同样的列顺序写出一行，{@code read(Path, boolean, Consumer)}
+     * 以内存映射方式流式读取文件，逐行解析时不为每行创建 String。空字段表示 null。
+     * 字段类型须为基本类型及包装类型、String、BigDecimal、BigInteger、枚举、LocalDate、LocalDateTime、LocalTime 或 Instant。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Trade.class, csvColumns = {"id", "symbol", "price"})
+     * public class TradeRecord { }
+     *
+     * TradeRecordCsv.read(path, true, records::add);
+     * </pre>
+     *
+     * @return 列对应的字段名
+     * @since 1.3.0
+     */
+    String[] csvColumns() default {};
+
+    /**
+     * 分隔文本的分隔符，可选，默认为逗号。须为双引号与换行以外的 ASCII 字符，仅在设置了 {@link #csvColumns()} 时生效。
+     *
+     * @return 分隔符
+     * @since 1.3.0
+     */
+    char csvDelimiter() default ',';
+
+    /**
+     * 是否同时生成 JSON 编解码器，可选，默认为 {@code false}。
+     *
+     * <p>设置为 {@code true} 时额外生成 {@code XxxJsonCodec}：{@code write(T, Appendable)}、{@code write(T, OutputStream)}
+     * 流式写出 JSON，{@code read(Reader)}、{@code read(byte[])} 读取 JSON。字段名预先编码，读取时按字段名 switch，
+     * 不使用反射。嵌套对象需要同样标注 {@code json = true}；标注了 {@code @CopyField(converter = JsonConverter.class)}
+     * 的字段交给 JsonConverter 处理，其中 String 字段视为已序列化的 JSON 原样嵌入。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Profile.class, json = true)
+     * public class ProfileDto { }
+     *
+     * ProfileDtoJsonCodec.write(ProfileDtoCopier.toDto(profile), response.getOutputStream());
+     * </pre>
+     *
+     * @return 是否生成 JSON 编解码器
+     * @since 1.3.0
+     */
+    boolean json() default false;
+
+    /**
+     * 是否为生成的 Copier 开启运行时指标，可选，默认为 {@code false}。
+     *
+     * <p>设置为 {@code true} 时，{@code toDto}、{@code fromDto}、{@code updateFromDto} 及列表方法会记录调用次数
+     * （{@code LongAdder}）、抽样耗时和集合字段大小分布，可通过 {@code CopierMetricsRegistry} 或 JMX 查看。
+     * 编译参数 {@code -Afastbeancopier.metrics=true} 可为所有 Copier 开启。未开启时生成的代码与原来完全相同。
+     *
+     * <p>示例：
+     * <pre>
+     * &#64;CopyTarget(source = Order.class, metrics = true)
+     * public class OrderDto { }
+     *
+     * CopierMetricsRegistry.get(OrderDtoCopier.class).getCalls();
+     * </pre>
+     *
+     * @return 是否开启运行时指标
+     * @since 1.3.0
+     */
+    boolean metrics() default false;
 }
@@ -0,0 +1,37 @@
+package com.github.jackieonway.copier.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 为类生成无反射的深拷贝克隆器。
+ *
+ * <p>编译后生成 {@code XxxCloner}，提供 {@code deepClone(Xxx)}：递归克隆嵌套对象、
+ * List/Set/Queue/Map 与数组的任意层级，不可变类型直接共享。
+ * 同一次克隆中，源对象图里被多处引用的对象（包括集合与数组）在克隆结果中同样只有一份，
+ * 循环引用也会被保留。
+ *
+ * <p>{@code @CopyTarget(source = 自身)} 的同类型拷贝会自动生成同样的克隆器，无需重复标注。
+ *
+ * <p><b>使用示例</b></p>
+ * <pre>
+ * &#64;DeepClone
+ * public class Folder {
+ *     private Folder parent;
+ *     private List&lt;Folder&gt; children;
+ * }
+ *
+ * Folder copy = FolderCloner.deepClone(folder);
+ * </pre>
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface DeepClone {
+}
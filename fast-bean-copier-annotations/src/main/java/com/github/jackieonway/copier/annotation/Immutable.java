@@ -0,0 +1,35 @@
+package com.github.jackieonway.copier.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记不可变的值类型。
+ *
+ * <p>被标注类型的实例在拷贝时直接共享引用，不再生成嵌套 Copier 调用。
+ * 满足"final 类且所有实例字段均为 final 的不可变类型"的类会被自动推断为不可变，无需标注；
+ * 本注解用于推断无法覆盖的情况，例如非 final 类或含有私有只读数组的类。
+ *
+ * <p><b>使用示例</b></p>
+ * <pre>
+ * &#64;Immutable
+ * public class GeoPoint {
+ *     private final double latitude;
+ *     private final double longitude;
+ *     // ...
+ * }
+ * </pre>
+ *
+ * <p>保留策略为 CLASS，以便其他模块编译时仍能识别已编译类上的标注。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface Immutable {
+}
@@ -0,0 +1,409 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * 生成的 Codec 类使用的二进制读写工具。
+ *
+ * <p>编码约定：
+ * <ul>
+ *   <li>长度使用无符号 varint，写入"长度 + 1"，0 表示 null</li>
+ *   <li>字符串按 UTF-8 编码，写入时直接逐字符编码到缓冲区，不创建中间字节数组</li>
+ *   <li>日期时间类型先写 1 字节存在标记，再写定长数值</li>
+ * </ul>
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class CodecSupport {
+
+    private CodecSupport() {
+    }
+
+    /**
+     * 计算无符号 varint 的编码长度。
+     *
+     * @param value 数值，按无符号处理
+     * @return 字节数（1~5）
+     */
+    public static int sizeOfVarint(int value) {
+        if ((value & ~0x7F) == 0) {
+            return 1;
+        }
+        if ((value & ~0x3FFF) == 0) {
+            return 2;
+        }
+        if ((value & ~0x1FFFFF) == 0) {
+            return 3;
+        }
+        if ((value & ~0xFFFFFFF) == 0) {
+            return 4;
+        }
+        return 5;
+    }
+
+    /**
+     * 写入无符号 varint。
+     *
+     * @param buffer 目标缓冲区
+     * @param value  数值，按无符号处理
+     */
+    public static void writeVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * 读取无符号 varint。
+     *
+     * @param buffer 源缓冲区
+     * @return 数值
+     */
+    public static int readVarint(ByteBuffer buffer) {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("varint 格式错误");
+    }
+
+    /**
+     * 计算字符串的编码长度。
+     *
+     * @param value 字符串，可以为 null
+     * @return 字节数
+     */
+    public static int sizeOfString(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int length = utf8Length(value);
+        return sizeOfVarint(length + 1) + length;
+    }
+
+    /**
+     * 写入字符串。
+     *
+     * @param buffer 目标缓冲区
+     * @param value  字符串，可以为 null
+     */
+    public static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            writeVarint(buffer, 0);
+            return;
+        }
+        writeVarint(buffer, utf8Length(value) + 1);
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else {
+                    // 与 String.getBytes(UTF_8) 一致，孤立代理项替换为 '?'
+                    buffer.put((byte) '?');
+                }
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * 读取字符串。
+     *
+     * @param buffer 源缓冲区
+     * @return 字符串，可能为 null
+     */
+    public static String readString(ByteBuffer buffer) {
+        int length = readVarint(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 计算 BigInteger 的编码长度。
+     *
+     * @param value 数值，可以为 null
+     * @return 字节数
+     */
+    public static int sizeOfBigInteger(BigInteger value) {
+        if (value == null) {
+            return 1;
+        }
+        int length = value.bitLength() / 8 + 1;
+        return sizeOfVarint(length + 1) + length;
+    }
+
+    /**
+     * 写入 BigInteger（二进制补码）。
+     *
+     * @param buffer 目标缓冲区
+     * @param value  数值，可以为 null
+     */
+    public static void writeBigInteger(ByteBuffer buffer, BigInteger value) {
+        if (value == null) {
+            writeVarint(buffer, 0);
+            return;
+        }
+        byte[] bytes = value.toByteArray();
+        writeVarint(buffer, bytes.length + 1);
+        buffer.put(bytes);
+    }
+
+    /**
+     * 读取 BigInteger。
+     *
+     * @param buffer 源缓冲区
+     * @return 数值，可能为 null
+     */
+    public static BigInteger readBigInteger(ByteBuffer buffer) {
+        int length = readVarint(buffer) - 1;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * 计算 BigDecimal 的编码长度。
+     *
+     * @param value 数值，可以为 null
+     * @return 字节数
+     */
+    public static int sizeOfBigDecimal(BigDecimal value) {
+        return value == null ? 1 : sizeOfBigInteger(value.unscaledValue()) + 4;
+    }
+
+    /**
+     * 写入 BigDecimal（非标度值 + 4 字节标度）。
+     *
+     * @param buffer 目标缓冲区
+     * @param value  数值，可以为 null
+     */
+    public static void writeBigDecimal(ByteBuffer buffer, BigDecimal value) {
+        if (value == null) {
+            writeVarint(buffer, 0);
+            return;
+        }
+        writeBigInteger(buffer, value.unscaledValue());
+        buffer.putInt(value.scale());
+    }
+
+    /**
+     * 读取 BigDecimal。
+     *
+     * @param buffer 源缓冲区
+     * @return 数值，可能为 null
+     */
+    public static BigDecimal readBigDecimal(ByteBuffer buffer) {
+        BigInteger unscaled = readBigInteger(buffer);
+        return unscaled == null ? null : new BigDecimal(unscaled, buffer.getInt());
+    }
+
+    /**
+     * 计算 Date 的编码长度。
+     *
+     * @param value 日期，可以为 null
+     * @return 字节数
+     */
+    public static int sizeOfDate(Date value) {
+        return value == null ? 1 : 9;
+    }
+
+    /**
+     * 写入 Date（毫秒时间戳）。
+     *
+     * @param buffer 目标缓冲区
+     * @param value  日期，可以为 null
+     */
+    public static void writeDate(ByteBuffer buffer, Date value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        buffer.put((byte) 1);
+        buffer.putLong(value.getTime());
+    }
+
+    /**
+     * 读取 Date。
+     *
+     * @param buffer 源缓冲区
+     * @return 日期，可能为 null
+     */
+    public static Date readDate(ByteBuffer buffer) {
+        return buffer.get() == 0 ? null : new Date(buffer.getLong());
+    }
+
+    /**
+     * 计算 LocalDate 的编码长度。
+     *
+     * @param value 日期，可以为 null
+     * @return 字节数
+     */
+    public static int sizeOfLocalDate(LocalDate value) {
+        return value == null ? 1 : 9;
+    }
+
+    /**
+     * 写入 LocalDate（epoch day）。
+     *
+     * @param buffer 目标缓冲区
+     * @param value  日期，可以为 null
+     */
+    public static void writeLocalDate(ByteBuffer buffer, LocalDate value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        buffer.put((byte) 1);
+        buffer.putLong(value.toEpochDay());
+    }
+
+    /**
+     * 读取 LocalDate。
+     *
+     * @param buffer 源缓冲区
+     * @return 日期，可能为 null
+     */
+    public static LocalDate readLocalDate(ByteBuffer buffer) {
+        return buffer.get() == 0 ? null : LocalDate.ofEpochDay(buffer.getLong());
+    }
+
+    /**
+     * 计算 LocalDateTime 的编码长度。
+     *
+     * @param value 日期时间，可以为 null
+     * @return 字节数
+     */
+    public static int sizeOfLocalDateTime(LocalDateTime value) {
+        return value == null ? 1 : 17;
+    }
+
+    /**
+     * 写入 LocalDateTime（epoch day + 当日纳秒）。
+     *
+     * @param buffer 目标缓冲区
+     * @param value  日期时间，可以为 null
+     */
+    public static void writeLocalDateTime(ByteBuffer buffer, LocalDateTime value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        buffer.put((byte) 1);
+        buffer.putLong(value.toLocalDate().toEpochDay());
+        buffer.putLong(value.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * 读取 LocalDateTime。
+     *
+     * @param buffer 源缓冲区
+     * @return 日期时间，可能为 null
+     */
+    public static LocalDateTime readLocalDateTime(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        LocalDate date = LocalDate.ofEpochDay(buffer.getLong());
+        return LocalDateTime.of(date, java.time.LocalTime.ofNanoOfDay(buffer.getLong()));
+    }
+
+    /**
+     * 计算 Instant 的编码长度。
+     *
+     * @param value 时间点，可以为 null
+     * @return 字节数
+     */
+    public static int sizeOfInstant(Instant value) {
+        return value == null ? 1 : 13;
+    }
+
+    /**
+     * 写入 Instant（秒 + 纳秒）。
+     *
+     * @param buffer 目标缓冲区
+     * @param value  时间点，可以为 null
+     */
+    public static void writeInstant(ByteBuffer buffer, Instant value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        buffer.put((byte) 1);
+        buffer.putLong(value.getEpochSecond());
+        buffer.putInt(value.getNano());
+    }
+
+    /**
+     * 读取 Instant。
+     *
+     * @param buffer 源缓冲区
+     * @return 时间点，可能为 null
+     */
+    public static Instant readInstant(ByteBuffer buffer) {
+        return buffer.get() == 0 ? null : Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // 代理对两个 char 共 4 字节
+                    bytes += 2;
+                    i++;
+                }
+            } else {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,250 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 单个 Copier 的运行时指标，由 {@code @CopyTarget(metrics = true)} 生成的代码通过
+ * {@link CopierMetricsRegistry#register(Class)} 创建。
+ *
+ * <p>每个操作（{@code toDto}、{@code fromDto} 等）的调用次数用 {@link LongAdder} 精确计数；
+ * 耗时与集合字段大小只在抽样到的调用中记录（默认每 16 次调用抽样 1 次，
+ * 可用系统属性 {@code fastbeancopier.metrics.sampleRate} 调整，取值会向上取整为 2 的幂，1 表示全部记录），
+ * 未抽样的调用只多一次 {@code LongAdder} 累加和一次随机数判断。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class CopierMetrics implements CopierMetricsMXBean {
+
+    /**
+     * {@link Operation#start()} 在未抽样时的返回值。
+     */
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    /**
+     * 抽样掩码：随机数与掩码为 0 时抽样。
+     */
+    private static final int SAMPLE_MASK = sampleMask(Integer.getInteger("fastbeancopier.metrics.sampleRate", 16));
+
+    private final String copier;
+
+    private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<>();
+
+    CopierMetrics(String copier) {
+        this.copier = copier;
+    }
+
+    private static int sampleMask(int rate) {
+        if (rate <= 1) {
+            return 0;
+        }
+        return Integer.highestOneBit(Math.min(rate - 1, 1 << 30)) * 2 - 1;
+    }
+
+    /**
+     * 获取或创建一个操作的指标。
+     *
+     * @param name       操作名
+     * @param sizeFields 需要统计大小的集合字段名，按下标对应 {@link Operation#recordSize(int, int)}
+     * @return 操作指标
+     */
+    public Operation operation(String name, String... sizeFields) {
+        return operations.computeIfAbsent(name, key -> new Operation(sizeFields));
+    }
+
+    /**
+     * 查找操作的指标。
+     *
+     * @param name 操作名
+     * @return 操作指标，不存在时返回 null
+     */
+    public Operation getOperation(String name) {
+        return operations.get(name);
+    }
+
+    @Override
+    public String getCopier() {
+        return copier;
+    }
+
+    @Override
+    public Map<String, Long> getCalls() {
+        return collect(Operation::getCalls);
+    }
+
+    @Override
+    public Map<String, Long> getSampledCalls() {
+        return collect(operation -> operation.latency.getCount());
+    }
+
+    @Override
+    public Map<String, Double> getLatencyMeanNanos() {
+        Map<String, Double> result = new TreeMap<>();
+        operations.forEach((name, operation) -> result.put(name, operation.latency.getMean()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50Nanos() {
+        return collect(operation -> operation.latency.getPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Nanos() {
+        return collect(operation -> operation.latency.getPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyMaxNanos() {
+        return collect(operation -> operation.latency.getMax());
+    }
+
+    @Override
+    public Map<String, Double> getCollectionSizeMean() {
+        return collectSizes(Histogram::getMean);
+    }
+
+    @Override
+    public Map<String, Long> getCollectionSizeP99() {
+        Map<String, Long> result = new TreeMap<>();
+        collectSizes(histogram -> histogram.getPercentile(99)).forEach((key, value) -> result.put(key, value.longValue()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getCollectionSizeMax() {
+        Map<String, Long> result = new TreeMap<>();
+        collectSizes(histogram -> histogram.getMax()).forEach((key, value) -> result.put(key, value.longValue()));
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        operations.values().forEach(Operation::reset);
+    }
+
+    private Map<String, Long> collect(ToLongFunction<Operation> function) {
+        Map<String, Long> result = new TreeMap<>();
+        operations.forEach((name, operation) -> result.put(name, function.applyAsLong(operation)));
+        return result;
+    }
+
+    private Map<String, Double> collectSizes(ToDoubleFunction<Histogram> function) {
+        Map<String, Double> result = new TreeMap<>();
+        operations.forEach((name, operation) -> {
+            for (int i = 0; i < operation.sizeFields.length; i++) {
+                result.put(name + "." + operation.sizeFields[i], function.applyAsDouble(operation.sizes[i]));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 单个操作的指标，生成的代码按如下方式使用：
+     * <pre>{@code
+     * long metricsStart = TO_DTO_METRICS.start();
+     * try {
+     *     ...
+     * } finally {
+     *     TO_DTO_METRICS.stop(metricsStart);
+     * }
+     * }</pre>
+     */
+    public static final class Operation {
+
+        private final LongAdder calls = new LongAdder();
+
+        private final Histogram latency = new Histogram();
+
+        private final String[] sizeFields;
+
+        private final Histogram[] sizes;
+
+        private Operation(String[] sizeFields) {
+            this.sizeFields = sizeFields.clone();
+            this.sizes = new Histogram[sizeFields.length];
+            for (int i = 0; i < sizes.length; i++) {
+                sizes[i] = new Histogram();
+            }
+        }
+
+        /**
+         * 记录一次调用。
+         *
+         * @return 抽样到时返回 {@link System#nanoTime()}，否则返回 {@link #NOT_SAMPLED}
+         */
+        public long start() {
+            calls.increment();
+            return (ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) == 0 ? System.nanoTime() : NOT_SAMPLED;
+        }
+
+        /**
+         * 结束一次调用，抽样到时记录耗时。
+         *
+         * @param start {@link #start()} 的返回值
+         */
+        public void stop(long start) {
+            if (start != NOT_SAMPLED) {
+                latency.record(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * 记录集合字段的大小。
+         *
+         * @param field 字段下标，对应创建时的 sizeFields
+         * @param size  元素个数
+         */
+        public void recordSize(int field, int size) {
+            sizes[field].record(size);
+        }
+
+        /**
+         * 调用次数。
+         *
+         * @return 次数
+         */
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        /**
+         * 抽样耗时（纳秒）的直方图。
+         *
+         * @return 直方图
+         */
+        public Histogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * 集合字段大小的直方图。
+         *
+         * @param field 字段名
+         * @return 直方图，未统计该字段时返回 null
+         */
+        public Histogram getSizes(String field) {
+            for (int i = 0; i < sizeFields.length; i++) {
+                if (sizeFields[i].equals(field)) {
+                    return sizes[i];
+                }
+            }
+            return null;
+        }
+
+        private void reset() {
+            calls.reset();
+            latency.reset();
+            for (Histogram histogram : sizes) {
+                histogram.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.util.Map;
+
+/**
+ * 单个 Copier 的运行时指标 JMX 接口，注册在
+ * {@code com.github.jackieonway.copier:type=CopierMetrics,name=<Copier 全限定名>} 下。
+ *
+ * <p>按操作（{@code toDto}、{@code fromDto} 等）统计的属性以操作名为键；
+ * 集合大小分布以 {@code 操作名.字段名} 为键。耗时单位为纳秒，耗时与集合大小均为抽样统计。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public interface CopierMetricsMXBean {
+
+    /**
+     * Copier 类的全限定名。
+     *
+     * @return 类名
+     */
+    String getCopier();
+
+    /**
+     * 各操作的调用次数（未抽样，精确计数）。
+     *
+     * @return 操作名 -> 调用次数
+     */
+    Map<String, Long> getCalls();
+
+    /**
+     * 各操作被抽样计时的次数。
+     *
+     * @return 操作名 -> 抽样次数
+     */
+    Map<String, Long> getSampledCalls();
+
+    /**
+     * 各操作的平均耗时。
+     *
+     * @return 操作名 -> 纳秒
+     */
+    Map<String, Double> getLatencyMeanNanos();
+
+    /**
+     * 各操作耗时的 50 百分位。
+     *
+     * @return 操作名 -> 纳秒
+     */
+    Map<String, Long> getLatencyP50Nanos();
+
+    /**
+     * 各操作耗时的 99 百分位。
+     *
+     * @return 操作名 -> 纳秒
+     */
+    Map<String, Long> getLatencyP99Nanos();
+
+    /**
+     * 各操作的最大耗时。
+     *
+     * @return 操作名 -> 纳秒
+     */
+    Map<String, Long> getLatencyMaxNanos();
+
+    /**
+     * 集合字段的平均大小。
+     *
+     * @return 操作名.字段名 -> 平均元素个数
+     */
+    Map<String, Double> getCollectionSizeMean();
+
+    /**
+     * 集合字段大小的 99 百分位。
+     *
+     * @return 操作名.字段名 -> 元素个数
+     */
+    Map<String, Long> getCollectionSizeP99();
+
+    /**
+     * 集合字段的最大大小。
+     *
+     * @return 操作名.字段名 -> 元素个数
+     */
+    Map<String, Long> getCollectionSizeMax();
+
+    /**
+     * 清空该 Copier 的全部指标。
+     */
+    void reset();
+}
@@ -0,0 +1,96 @@
+package com.github.jackieonway.copier.runtime;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Copier 运行时指标的中心注册表。
+ *
+ * <p>开启 {@code @CopyTarget(metrics = true)}（或编译参数 {@code -Afastbeancopier.metrics=true}）的 Copier
+ * 在类初始化时调用 {@link #register(Class)}，指标同时以 MXBean 形式注册到平台 MBeanServer，
+ * 对象名为 {@code com.github.jackieonway.copier:type=CopierMetrics,name=<Copier 全限定名>}。
+ * 设置系统属性 {@code fastbeancopier.metrics.jmx=false} 可关闭 JMX 注册；JMX 不可用时只保留注册表。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class CopierMetricsRegistry {
+
+    /**
+     * JMX 对象名的域。
+     */
+    public static final String JMX_DOMAIN = "com.github.jackieonway.copier";
+
+    private static final ConcurrentMap<String, CopierMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private CopierMetricsRegistry() {
+    }
+
+    /**
+     * 为 Copier 创建并注册指标。同名类再次注册（如被其他类加载器加载）时替换原有指标。
+     *
+     * @param copierClass Copier 类
+     * @return 指标
+     */
+    public static CopierMetrics register(Class<?> copierClass) {
+        CopierMetrics metrics = new CopierMetrics(copierClass.getName());
+        METRICS.put(copierClass.getName(), metrics);
+        if (Boolean.parseBoolean(System.getProperty("fastbeancopier.metrics.jmx", "true"))) {
+            registerMBean(metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * 查找 Copier 的指标。
+     *
+     * @param copierClass Copier 类
+     * @return 指标，未注册时返回 null
+     */
+    public static CopierMetrics get(Class<?> copierClass) {
+        return METRICS.get(copierClass.getName());
+    }
+
+    /**
+     * 已注册的全部指标。
+     *
+     * @return 指标快照
+     */
+    public static Collection<CopierMetrics> all() {
+        return new ArrayList<>(METRICS.values());
+    }
+
+    /**
+     * Copier 指标的 JMX 对象名。
+     *
+     * @param copierClass Copier 类
+     * @return 对象名
+     * @throws JMException 类名不是合法的对象名时抛出
+     */
+    public static ObjectName objectName(Class<?> copierClass) throws JMException {
+        return objectName(copierClass.getName());
+    }
+
+    private static ObjectName objectName(String copier) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=CopierMetrics,name=" + copier);
+    }
+
+    private static void registerMBean(CopierMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(metrics.getCopier());
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException | RuntimeException | LinkageError e) {
+            // JMX 不可用（如受限环境）时只保留注册表
+        }
+    }
+}
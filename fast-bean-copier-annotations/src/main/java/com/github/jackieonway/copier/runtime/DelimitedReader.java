@@ -0,0 +1,359 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 基于内存映射文件的流式分隔文本（CSV/TSV）读取器，生成的 {@code XxxCsv.read} 使用。
+ *
+ * <p>文件按窗口（默认 64MB）分段映射，逐字节扫描行与字段边界，UTF-8 直接解码到复用的字符缓冲区；
+ * 每行交给 {@link RowHandler} 的 {@code CharSequence[]} 及其中的字段视图在各行之间复用，
+ * 读取过程中不为每行或每个字段创建 String。支持 RFC 4180 引号规则：字段可用双引号包裹，
+ * 引号内可包含分隔符和换行，{@code ""} 表示一个双引号。行尾的 {@code \r\n} 与 {@code \n} 均可识别，
+ * 文件开头的 UTF-8 BOM 会被跳过。
+ *
+ * <p>字段视图只在 {@link RowHandler#accept(CharSequence[])} 调用期间有效，需要保留时调用 {@code toString()}。
+ * 数组长度为目前遇到的最大列数，当前行缺少的列为空字段。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class DelimitedReader {
+
+    /**
+     * 默认映射窗口大小。
+     */
+    private static final int DEFAULT_WINDOW = 64 * 1024 * 1024;
+
+    private static final Field EMPTY = new Field();
+
+    private final byte delimiter;
+
+    private final RowHandler handler;
+
+    private char[] chars = new char[256];
+
+    private int[] bounds = new int[32];
+
+    private Field[] fields = new Field[0];
+
+    private CharSequence[] columns = new CharSequence[0];
+
+    /**
+     * 上一次 {@link #decode} 之后的字符数。
+     */
+    private int decodedCount;
+
+    /**
+     * 每行的处理回调。
+     */
+    public interface RowHandler {
+
+        /**
+         * 处理一行。
+         *
+         * @param columns 字段视图，仅在本次调用期间有效
+         * @throws IOException 处理失败时抛出
+         */
+        void accept(CharSequence[] columns) throws IOException;
+    }
+
+    private DelimitedReader(char delimiter, RowHandler handler) {
+        if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("分隔符必须是引号与换行以外的 ASCII 字符");
+        }
+        this.delimiter = (byte) delimiter;
+        this.handler = handler;
+    }
+
+    /**
+     * 逐行读取文件。
+     *
+     * @param file       文件路径
+     * @param delimiter  分隔符（ASCII）
+     * @param skipHeader 是否跳过第一行
+     * @param handler    行处理回调
+     * @return 交给回调的行数（不含跳过的标题行）
+     * @throws IOException 读取失败或回调抛出时
+     */
+    public static long forEachRow(Path file, char delimiter, boolean skipHeader, RowHandler handler)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return forEachRow(channel, delimiter, skipHeader, handler);
+        }
+    }
+
+    /**
+     * 从通道的起始位置逐行读取。
+     *
+     * @param channel    文件通道
+     * @param delimiter  分隔符（ASCII）
+     * @param skipHeader 是否跳过第一行
+     * @param handler    行处理回调
+     * @return 交给回调的行数（不含跳过的标题行）
+     * @throws IOException 读取失败或回调抛出时
+     */
+    public static long forEachRow(FileChannel channel, char delimiter, boolean skipHeader, RowHandler handler)
+            throws IOException {
+        return new DelimitedReader(delimiter, handler).read(channel, skipHeader, DEFAULT_WINDOW);
+    }
+
+    static long forEachRow(FileChannel channel, char delimiter, boolean skipHeader, RowHandler handler, int window)
+            throws IOException {
+        return new DelimitedReader(delimiter, handler).read(channel, skipHeader, window);
+    }
+
+    private long read(FileChannel channel, boolean skipHeader, int window) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        long rows = 0;
+        boolean header = skipHeader;
+        while (position < size) {
+            long length = Math.min(window, size - position);
+            boolean last = position + length == size;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            int start = 0;
+            if (position == 0 && length >= 3 && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB
+                    && (buffer.get(2) & 0xFF) == 0xBF) {
+                start = 3;
+            }
+
+            int limit = (int) length;
+            int rowStart = start;
+            while (rowStart < limit) {
+                int rowEnd = scanRow(buffer, rowStart, limit);
+                if (rowEnd < 0) {
+                    if (!last) {
+                        break;
+                    }
+                    rowEnd = limit;
+                }
+                if (header) {
+                    header = false;
+                } else if (emitRow(buffer, rowStart, rowEnd)) {
+                    rows++;
+                }
+                rowStart = Math.min(rowEnd + 1, limit);
+                if (rowEnd == limit) {
+                    break;
+                }
+            }
+            if (rowStart == start && !last) {
+                // 单行超过窗口大小，扩大窗口后重新映射
+                if (window > Integer.MAX_VALUE / 2) {
+                    throw new IOException("单行超过 1GB，无法映射");
+                }
+                window *= 2;
+                continue;
+            }
+            position += last ? length : rowStart;
+        }
+        return rows;
+    }
+
+    /**
+     * 查找从 start 开始的行的结束位置（换行符的下标），引号内的换行不算行尾。
+     *
+     * @return 换行符下标，未找到时返回 -1
+     */
+    private int scanRow(MappedByteBuffer buffer, int start, int limit) {
+        boolean quoted = false;
+        for (int i = start; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 切分并解码一行，空行不回调。
+     *
+     * @return 是否回调了该行
+     */
+    private boolean emitRow(MappedByteBuffer buffer, int start, int end) throws IOException {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        if (end == start) {
+            return false;
+        }
+        int charCount = 0;
+        int fieldCount = 0;
+        int i = start;
+        while (true) {
+            ensureChars(charCount + (end - i));
+            int fieldStart = charCount;
+            if (i < end && buffer.get(i) == '"') {
+                // 引号字段：直到未转义的结束引号
+                i++;
+                while (i < end) {
+                    byte b = buffer.get(i);
+                    if (b == '"') {
+                        if (i + 1 < end && buffer.get(i + 1) == '"') {
+                            chars[charCount++] = '"';
+                            i += 2;
+                            continue;
+                        }
+                        i++;
+                        break;
+                    }
+                    i = decode(buffer, i, end, charCount);
+                    charCount = decodedCount;
+                }
+                while (i < end && buffer.get(i) != delimiter) {
+                    i = decode(buffer, i, end, charCount);
+                    charCount = decodedCount;
+                }
+            } else {
+                while (i < end) {
+                    byte b = buffer.get(i);
+                    if (b == delimiter) {
+                        break;
+                    }
+                    if (b >= 0) {
+                        chars[charCount++] = (char) b;
+                        i++;
+                    } else {
+                        i = decode(buffer, i, end, charCount);
+                        charCount = decodedCount;
+                    }
+                }
+            }
+            addField(fieldCount++, fieldStart, charCount);
+            if (i >= end) {
+                break;
+            }
+            i++;
+        }
+
+        if (columns.length < fieldCount) {
+            int oldLength = columns.length;
+            columns = Arrays.copyOf(columns, fieldCount);
+            fields = Arrays.copyOf(fields, fieldCount);
+            for (int f = oldLength; f < fieldCount; f++) {
+                fields[f] = new Field();
+            }
+        }
+        for (int f = 0; f < columns.length; f++) {
+            if (f < fieldCount) {
+                Field field = fields[f];
+                field.chars = chars;
+                field.offset = bounds[f * 2];
+                field.length = bounds[f * 2 + 1] - bounds[f * 2];
+                columns[f] = field;
+            } else {
+                columns[f] = EMPTY;
+            }
+        }
+        handler.accept(columns);
+        return true;
+    }
+
+    private void addField(int index, int start, int end) {
+        if (bounds.length < (index + 1) * 2) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[index * 2] = start;
+        bounds[index * 2 + 1] = end;
+    }
+
+    private void ensureChars(int required) {
+        if (chars.length < required) {
+            chars = Arrays.copyOf(chars, Math.max(required, chars.length * 2));
+        }
+    }
+
+    /**
+     * 解码 i 处的一个 UTF-8 字符写入 chars[count]，非法序列替换为 U+FFFD。
+     *
+     * @return 下一个字节的下标
+     */
+    private int decode(MappedByteBuffer buffer, int i, int end, int count) {
+        int b = buffer.get(i) & 0xFF;
+        int extra;
+        int codePoint;
+        if (b < 0x80) {
+            extra = 0;
+            codePoint = b;
+        } else if ((b & 0xE0) == 0xC0) {
+            extra = 1;
+            codePoint = b & 0x1F;
+        } else if ((b & 0xF0) == 0xE0) {
+            extra = 2;
+            codePoint = b & 0x0F;
+        } else if ((b & 0xF8) == 0xF0) {
+            extra = 3;
+            codePoint = b & 0x07;
+        } else {
+            chars[count] = '\uFFFD';
+            decodedCount = count + 1;
+            return i + 1;
+        }
+        if (i + extra >= end) {
+            chars[count] = '\uFFFD';
+            decodedCount = count + 1;
+            return end;
+        }
+        for (int k = 1; k <= extra; k++) {
+            int next = buffer.get(i + k) & 0xFF;
+            if ((next & 0xC0) != 0x80) {
+                chars[count] = '\uFFFD';
+                decodedCount = count + 1;
+                return i + k;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        if (Character.isSupplementaryCodePoint(codePoint)) {
+            chars[count] = Character.highSurrogate(codePoint);
+            chars[count + 1] = Character.lowSurrogate(codePoint);
+            decodedCount = count + 2;
+        } else {
+            chars[count] = (char) codePoint;
+            decodedCount = count + 1;
+        }
+        return i + extra + 1;
+    }
+
+    /**
+     * 复用的字段视图。
+     */
+    private static final class Field implements CharSequence {
+
+        private char[] chars = new char[0];
+
+        private int offset;
+
+        private int length;
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return chars[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, offset, length);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.io.IOException;
+
+/**
+ * 生成的 {@code XxxCsv} 使用的字段解析与写出工具。
+ *
+ * <p>整数与布尔值直接在 {@link CharSequence} 上解析，不创建中间 String。
+ * 空字段表示 null：包装类型与其他引用类型解析为 null，基本类型保持默认值。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class DelimitedSupport {
+
+    private DelimitedSupport() {
+    }
+
+    /**
+     * 判断字段是否为空（缺失或长度为 0）。
+     *
+     * @param value 字段
+     * @return 为空时返回 true
+     */
+    public static boolean isEmpty(CharSequence value) {
+        return value == null || value.length() == 0;
+    }
+
+    /**
+     * 解析十进制 long。
+     *
+     * @param value 非空字段
+     * @return 数值
+     * @throws NumberFormatException 格式错误或溢出时
+     */
+    public static long parseLong(CharSequence value) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+            if (length == 1) {
+                throw invalid(value);
+            }
+        }
+        // 以负数累加，使 Long.MIN_VALUE 也能表示
+        long result = 0;
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        for (; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw invalid(value);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalid(value);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 解析十进制 int。
+     *
+     * @param value 非空字段
+     * @return 数值
+     * @throws NumberFormatException 格式错误或溢出时
+     */
+    public static int parseInt(CharSequence value) {
+        long result = parseLong(value);
+        if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            throw invalid(value);
+        }
+        return (int) result;
+    }
+
+    /**
+     * 解析布尔值，接受 {@code true}/{@code false}（不区分大小写）与 {@code 1}/{@code 0}。
+     *
+     * @param value 非空字段
+     * @return 布尔值
+     * @throws IllegalArgumentException 格式错误时
+     */
+    public static boolean parseBoolean(CharSequence value) {
+        if (value.length() == 1) {
+            char c = value.charAt(0);
+            if (c == '1' || c == '0') {
+                return c == '1';
+            }
+        } else if (equalsIgnoreCase(value, "true")) {
+            return true;
+        } else if (equalsIgnoreCase(value, "false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("无法解析为 boolean: " + value);
+    }
+
+    /**
+     * 解析单个字符。
+     *
+     * @param value 非空字段
+     * @return 字符
+     * @throws IllegalArgumentException 长度不为 1 时
+     */
+    public static char parseChar(CharSequence value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("无法解析为 char: " + value);
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * 写出字段，包含分隔符、双引号或换行时用双引号包裹并转义。
+     *
+     * @param out       输出
+     * @param value     字段值，null 写出空字段
+     * @param delimiter 分隔符
+     * @throws IOException 写出失败时
+     */
+    public static void writeField(Appendable out, CharSequence value, char delimiter) throws IOException {
+        if (value == null) {
+            return;
+        }
+        int length = value.length();
+        boolean quote = false;
+        for (int i = 0; i < length && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == delimiter || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence value, String expected) {
+        if (value.length() != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(value.charAt(i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static NumberFormatException invalid(CharSequence value) {
+        return new NumberFormatException("无法解析为整数: " + value);
+    }
+}
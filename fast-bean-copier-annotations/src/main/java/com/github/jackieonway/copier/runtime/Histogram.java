@@ -0,0 +1,109 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁的对数分桶直方图，用于记录拷贝耗时（纳秒）与集合大小。
+ *
+ * <p>非负值按二进制位数落入 64 个桶之一（0 单独一个桶，{@code [2^(k-1), 2^k)} 为第 k 个桶），
+ * 记录时只做一次 {@link AtomicLongArray#incrementAndGet} 与两次 {@link LongAdder} 累加，不加锁、不分配对象。
+ * 百分位数返回所在桶的上界（不超过最大值），相对误差在 2 倍以内，适合观察数量级与长尾。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class Histogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 记录一个值，负值按 0 记录。
+     *
+     * @param value 值
+     */
+    public void record(long value) {
+        long normalized = Math.max(value, 0);
+        buckets.incrementAndGet(normalized == 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(normalized));
+        count.increment();
+        sum.add(normalized);
+        max.accumulate(normalized);
+    }
+
+    /**
+     * 记录的次数。
+     *
+     * @return 次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 平均值，未记录时为 0。
+     *
+     * @return 平均值
+     */
+    public double getMean() {
+        long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * 最大值，未记录时为 0。
+     *
+     * @return 最大值
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 百分位数（所在桶的上界，不超过最大值），未记录时为 0。
+     *
+     * @param percentile 百分位，取值 (0, 100]
+     * @return 百分位数
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) {
+                long upperBound = i == 0 ? 0 : i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upperBound, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * 清空记录。与并发的 {@link #record(long)} 之间不保证原子性。
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 不可变集合识别工具，供生成的 Copier 在运行时判断源集合能否直接共享。
+ *
+ * <p>识别基于实现类的精确匹配（类身份比较），不使用反射调用，开销为一次哈希查找：
+ * <ul>
+ *   <li>JDK {@code Collections.emptyXxx()}、{@code singletonXxx()}、{@code unmodifiableXxx()}</li>
+ *   <li>JDK 9+ {@code List.of}、{@code Set.of}、{@code Map.of} 等</li>
+ *   <li>Guava {@code ImmutableCollection}、{@code ImmutableMap}（存在于类路径时）</li>
+ * </ul>
+ *
+ * <p>注意：{@code Collections.unmodifiableXxx()} 只是只读视图，持有底层集合的一方仍可修改它。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class Immutables {
+
+    private static final Set<Class<?>> IMMUTABLE_CLASSES = new HashSet<>();
+
+    private static final Class<?>[] IMMUTABLE_BASE_CLASSES;
+
+    static {
+        Set<Class<?>> classes = IMMUTABLE_CLASSES;
+        classes.add(Collections.emptyList().getClass());
+        classes.add(Collections.emptySet().getClass());
+        classes.add(Collections.emptyMap().getClass());
+        classes.add(Collections.emptySortedSet().getClass());
+        classes.add(Collections.emptySortedMap().getClass());
+        classes.add(Collections.singletonList(null).getClass());
+        classes.add(Collections.singleton(null).getClass());
+        classes.add(Collections.singletonMap(null, null).getClass());
+        classes.add(Collections.unmodifiableList(new ArrayList<>()).getClass());
+        classes.add(Collections.unmodifiableList(new LinkedList<>()).getClass());
+        classes.add(Collections.unmodifiableSet(new HashSet<>()).getClass());
+        classes.add(Collections.unmodifiableSortedSet(new TreeSet<>()).getClass());
+        classes.add(Collections.unmodifiableCollection(new ArrayList<>()).getClass());
+        classes.add(Collections.unmodifiableMap(new HashMap<>()).getClass());
+        classes.add(Collections.unmodifiableSortedMap(new TreeMap<>()).getClass());
+        for (String name : Arrays.asList(
+                "java.util.ImmutableCollections$List12",
+                "java.util.ImmutableCollections$ListN",
+                "java.util.ImmutableCollections$SubList",
+                "java.util.ImmutableCollections$Set12",
+                "java.util.ImmutableCollections$SetN",
+                "java.util.ImmutableCollections$Map1",
+                "java.util.ImmutableCollections$MapN")) {
+            Class<?> type = findClass(name);
+            if (type != null) {
+                classes.add(type);
+            }
+        }
+
+        Class<?> guavaCollection = findClass("com.google.common.collect.ImmutableCollection");
+        Class<?> guavaMap = findClass("com.google.common.collect.ImmutableMap");
+        if (guavaCollection != null && guavaMap != null) {
+            IMMUTABLE_BASE_CLASSES = new Class<?>[]{guavaCollection, guavaMap};
+        } else {
+            IMMUTABLE_BASE_CLASSES = new Class<?>[0];
+        }
+    }
+
+    private Immutables() {
+    }
+
+    /**
+     * 判断集合是否为已知的不可变实现。
+     *
+     * @param collection 集合，可以为 null
+     * @return 已知不可变返回 true，null 或未知实现返回 false
+     */
+    public static boolean isKnownImmutable(Collection<?> collection) {
+        return collection != null && isKnownImmutableClass(collection.getClass());
+    }
+
+    /**
+     * 判断 Map 是否为已知的不可变实现。
+     *
+     * @param map Map，可以为 null
+     * @return 已知不可变返回 true，null 或未知实现返回 false
+     */
+    public static boolean isKnownImmutable(Map<?, ?> map) {
+        return map != null && isKnownImmutableClass(map.getClass());
+    }
+
+    private static boolean isKnownImmutableClass(Class<?> type) {
+        if (IMMUTABLE_CLASSES.contains(type)) {
+            return true;
+        }
+        for (Class<?> baseClass : IMMUTABLE_BASE_CLASSES) {
+            if (baseClass.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> findClass(String name) {
+        try {
+            return Class.forName(name, false, Immutables.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+}
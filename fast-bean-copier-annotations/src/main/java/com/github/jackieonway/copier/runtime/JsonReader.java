@@ -0,0 +1,512 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 生成的 {@code XxxJsonCodec} 使用的 JSON 读取器。
+ *
+ * <p>输入先整体解码到字符数组，之后在数组上直接解析：整数不经过中间 String，
+ * 不含转义的字段名通过一个小的名称缓存复用同一个 String 实例，生成的 {@code switch} 比较时命中引用相等。
+ * 格式错误时抛出 {@link IllegalArgumentException}，消息中包含出错位置。
+ *
+ * <p>读取器不是线程安全的，每次反序列化使用一个新实例。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class JsonReader {
+
+    /**
+     * 字段名缓存的槽位数（2 的幂）。
+     */
+    private static final int NAME_CACHE_SIZE = 64;
+
+    private final char[] chars;
+
+    private final int limit;
+
+    private int position;
+
+    private final String[] names = new String[NAME_CACHE_SIZE];
+
+    /**
+     * 刚进入对象或数组、尚未读取元素。
+     */
+    private boolean first;
+
+    private JsonReader(char[] chars, int limit) {
+        this.chars = chars;
+        this.limit = limit;
+        if (limit > 0 && chars[0] == '\uFEFF') {
+            position = 1;
+        }
+    }
+
+    /**
+     * 读取 UTF-8 编码的 JSON。
+     *
+     * @param json JSON 字节
+     * @return 读取器
+     */
+    public static JsonReader of(byte[] json) {
+        CharBuffer decoded = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(json));
+        return new JsonReader(decoded.array(), decoded.limit());
+    }
+
+    /**
+     * 读取字符输入中的全部 JSON（不关闭输入）。
+     *
+     * @param reader 字符输入
+     * @return 读取器
+     * @throws IOException 读取失败时
+     */
+    public static JsonReader of(Reader reader) throws IOException {
+        char[] buffer = new char[4096];
+        int length = 0;
+        int read;
+        while ((read = reader.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        return new JsonReader(buffer, length);
+    }
+
+    /**
+     * 读取字符串形式的 JSON。
+     *
+     * @param json JSON 文本
+     * @return 读取器
+     */
+    public static JsonReader of(CharSequence json) {
+        char[] array = json.toString().toCharArray();
+        return new JsonReader(array, array.length);
+    }
+
+    /**
+     * 读取 <code>{</code>。
+     */
+    public void beginObject() {
+        expect('{');
+        first = true;
+    }
+
+    /**
+     * 读取 <code>}</code>。
+     */
+    public void endObject() {
+        expect('}');
+        first = false;
+    }
+
+    /**
+     * 读取 {@code [}。
+     */
+    public void beginArray() {
+        expect('[');
+        first = true;
+    }
+
+    /**
+     * 读取 {@code ]}。
+     */
+    public void endArray() {
+        expect(']');
+        first = false;
+    }
+
+    /**
+     * 当前对象或数组是否还有元素，有则消费元素前的逗号。
+     *
+     * @return 是否还有元素
+     */
+    public boolean hasNext() {
+        int c = skipWhitespace();
+        if (c == '}' || c == ']') {
+            return false;
+        }
+        if (first) {
+            first = false;
+            return true;
+        }
+        if (c != ',') {
+            throw error("应为 ',' 或结束符");
+        }
+        position++;
+        return true;
+    }
+
+    /**
+     * 下一个值为 {@code null} 时消费它。
+     *
+     * @return 下一个值是否为 null
+     */
+    public boolean nextNull() {
+        if (skipWhitespace() == 'n' && matches("null")) {
+            position += 4;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 读取字段名及其后的冒号。
+     *
+     * @return 字段名，不含转义时返回缓存的实例
+     */
+    public String nextName() {
+        if (skipWhitespace() != '"') {
+            throw error("应为字段名");
+        }
+        int start = ++position;
+        int hash = 0;
+        while (position < limit) {
+            char c = chars[position];
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\') {
+                position = start - 1;
+                String name = nextString();
+                expect(':');
+                return name;
+            }
+            hash = 31 * hash + c;
+            position++;
+        }
+        if (position >= limit) {
+            throw error("字符串未结束");
+        }
+        int length = position++ - start;
+        int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        String name = names[slot];
+        if (name == null || !regionEquals(name, start, length)) {
+            name = new String(chars, start, length);
+            names[slot] = name;
+        }
+        expect(':');
+        return name;
+    }
+
+    /**
+     * 读取字符串值。
+     *
+     * @return 字符串
+     */
+    public String nextString() {
+        if (skipWhitespace() != '"') {
+            throw error("应为字符串");
+        }
+        int start = ++position;
+        while (position < limit) {
+            char c = chars[position];
+            if (c == '"') {
+                return new String(chars, start, position++ - start);
+            }
+            if (c == '\\') {
+                return readEscaped(start);
+            }
+            position++;
+        }
+        throw error("字符串未结束");
+    }
+
+    private String readEscaped(int start) {
+        StringBuilder builder = new StringBuilder(position - start + 16).append(chars, start, position - start);
+        while (position < limit) {
+            char c = chars[position++];
+            if (c == '"') {
+                return builder.toString();
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            if (position >= limit) {
+                break;
+            }
+            char escaped = chars[position++];
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append(escaped);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append(readHex());
+                    break;
+                default:
+                    throw error("非法的转义字符 '" + escaped + "'");
+            }
+        }
+        throw error("字符串未结束");
+    }
+
+    private char readHex() {
+        if (position + 4 > limit) {
+            throw error("\\u 转义不完整");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(chars[position++], 16);
+            if (digit < 0) {
+                throw error("\\u 转义不是十六进制");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    /**
+     * 读取单个字符（长度为 1 的字符串）。
+     *
+     * @return 字符
+     */
+    public char nextChar() {
+        String value = nextString();
+        if (value.length() != 1) {
+            throw error("应为单个字符");
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * 读取整数，直接在字符数组上解析。
+     *
+     * @return 数值
+     */
+    public long nextLong() {
+        skipWhitespace();
+        boolean negative = position < limit && chars[position] == '-';
+        if (negative) {
+            position++;
+        }
+        // 以负数累加，使 Long.MIN_VALUE 也能表示
+        long bound = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyBound = bound / 10;
+        long result = 0;
+        int start = position;
+        while (position < limit) {
+            int digit = chars[position] - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (result < multiplyBound || result * 10 < bound + digit) {
+                throw error("整数溢出");
+            }
+            result = result * 10 - digit;
+            position++;
+        }
+        if (position == start || position < limit
+                && (chars[position] == '.' || chars[position] == 'e' || chars[position] == 'E')) {
+            throw error("应为整数");
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 读取 int 范围内的整数。
+     *
+     * @return 数值
+     */
+    public int nextInt() {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw error("整数溢出");
+        }
+        return (int) value;
+    }
+
+    /**
+     * 读取浮点数，也接受字符串形式的 {@code "NaN"}、{@code "Infinity"}。
+     *
+     * @return 数值
+     */
+    public double nextDouble() {
+        return Double.parseDouble(nextNumber());
+    }
+
+    /**
+     * 读取数字的原始文本（用于 BigDecimal、BigInteger），也接受字符串形式的数字。
+     *
+     * @return 数字文本
+     */
+    public String nextNumber() {
+        if (skipWhitespace() == '"') {
+            return nextString();
+        }
+        int start = position;
+        while (position < limit) {
+            char c = chars[position];
+            if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+                break;
+            }
+            position++;
+        }
+        if (position == start) {
+            throw error("应为数字");
+        }
+        return new String(chars, start, position - start);
+    }
+
+    /**
+     * 读取布尔值。
+     *
+     * @return 布尔值
+     */
+    public boolean nextBoolean() {
+        skipWhitespace();
+        if (matches("true")) {
+            position += 4;
+            return true;
+        }
+        if (matches("false")) {
+            position += 5;
+            return false;
+        }
+        throw error("应为布尔值");
+    }
+
+    /**
+     * 读取下一个值的原始 JSON 文本（用于交给 {@code JsonConverter} 或保存为 JSON 字符串字段）。
+     *
+     * @return JSON 文本
+     */
+    public String nextRawValue() {
+        skipWhitespace();
+        int start = position;
+        skipValue();
+        return new String(chars, start, position - start);
+    }
+
+    /**
+     * 跳过下一个值（用于未知字段）。
+     */
+    public void skipValue() {
+        int c = skipWhitespace();
+        if (c == '"') {
+            skipString();
+        } else if (c == '{' || c == '[') {
+            int depth = 0;
+            do {
+                char current = chars[position];
+                if (current == '"') {
+                    skipString();
+                    continue;
+                }
+                if (current == '{' || current == '[') {
+                    depth++;
+                } else if (current == '}' || current == ']') {
+                    depth--;
+                }
+                position++;
+            } while (depth > 0 && position < limit);
+            if (depth > 0) {
+                throw error("对象或数组未结束");
+            }
+        } else {
+            int start = position;
+            while (position < limit) {
+                char current = chars[position];
+                if (current == ',' || current == '}' || current == ']' || current == ' ' || current == '\n'
+                        || current == '\r' || current == '\t') {
+                    break;
+                }
+                position++;
+            }
+            if (position == start) {
+                throw error("应为值");
+            }
+        }
+    }
+
+    private void skipString() {
+        position++;
+        while (position < limit) {
+            char c = chars[position++];
+            if (c == '\\') {
+                position++;
+            } else if (c == '"') {
+                return;
+            }
+        }
+        throw error("字符串未结束");
+    }
+
+    /**
+     * 确认输入已结束（之后只有空白）。
+     */
+    public void endDocument() {
+        if (skipWhitespace() != -1) {
+            throw error("JSON 之后有多余的内容");
+        }
+    }
+
+    private int skipWhitespace() {
+        while (position < limit) {
+            char c = chars[position];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    private void expect(char expected) {
+        if (skipWhitespace() != expected) {
+            throw error("应为 '" + expected + "'");
+        }
+        position++;
+    }
+
+    private boolean matches(String literal) {
+        int length = literal.length();
+        if (position + length > limit) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (chars[position + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean regionEquals(String name, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != chars[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("JSON 格式错误：" + message + "（位置 " + position + "）");
+    }
+}
@@ -0,0 +1,504 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 生成的 {@code XxxJsonCodec} 使用的流式 JSON 写出器。
+ *
+ * <p>字段名在生成的类中预先编码为 {@link Name}（包含前导的 <code>{</code> 或 {@code ,}、引号与冒号），
+ * 写出时直接复制，不再逐字符转义。写入 {@link OutputStream} 时字符串直接编码为 UTF-8 写入内部缓冲区，
+ * 不经过中间 String 或 byte[]；写入 {@link Appendable} 时按字符追加。
+ *
+ * <p>写出器不是线程安全的，每次序列化使用一个新实例；调用 {@link #flush()} 把缓冲的内容写到底层输出。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public abstract class JsonWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    JsonWriter() {
+    }
+
+    /**
+     * 预先编码的字段名。
+     */
+    public static final class Name {
+
+        private final String text;
+
+        private final byte[] bytes;
+
+        private Name(String text) {
+            this.text = text;
+            this.bytes = text.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 预先编码字段名。
+     *
+     * @param fieldName 字段名
+     * @param first     是否为对象的第一个字段（前导 <code>{</code>，否则前导 {@code ,}）
+     * @return 编码后的字段名
+     */
+    public static Name name(String fieldName, boolean first) {
+        StringBuilder builder = new StringBuilder(fieldName.length() + 4).append(first ? '{' : ',');
+        try {
+            of(builder).writeString(fieldName);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new Name(builder.append(':').toString());
+    }
+
+    /**
+     * 创建写入字符输出的写出器。
+     *
+     * @param out 字符输出
+     * @return 写出器
+     */
+    public static JsonWriter of(Appendable out) {
+        return new AppendableWriter(out);
+    }
+
+    /**
+     * 创建以 UTF-8 写入字节输出的写出器，内部缓冲 8KB，需调用 {@link #flush()}。
+     *
+     * @param out 字节输出
+     * @return 写出器
+     */
+    public static JsonWriter of(OutputStream out) {
+        return new StreamWriter(out);
+    }
+
+    /**
+     * 写出预先编码的字段名（含前导符与冒号）。
+     *
+     * @param name 字段名
+     * @throws IOException 写出失败时
+     */
+    public abstract void writeName(Name name) throws IOException;
+
+    /**
+     * 写出 Map 的键（含冒号），前导的逗号由调用方写出。
+     *
+     * @param key 键
+     * @throws IOException 写出失败时
+     */
+    public void writeKey(CharSequence key) throws IOException {
+        writeString(key);
+        writeAscii(':');
+    }
+
+    /**
+     * 写出转义后的字符串值。
+     *
+     * @param value 字符串，不为 null
+     * @throws IOException 写出失败时
+     */
+    public abstract void writeString(CharSequence value) throws IOException;
+
+    /**
+     * 原样写出一段 JSON（例如 {@code JsonConverter} 序列化的结果），null 写为 {@code null}。
+     *
+     * @param json JSON 文本
+     * @throws IOException 写出失败时
+     */
+    public abstract void writeRawValue(CharSequence json) throws IOException;
+
+    /**
+     * 写出整数。
+     *
+     * @param value 数值
+     * @throws IOException 写出失败时
+     */
+    public abstract void writeLong(long value) throws IOException;
+
+    /**
+     * 写出浮点数，NaN 与无穷大写为字符串。
+     *
+     * @param value 数值
+     * @throws IOException 写出失败时
+     */
+    public void writeDouble(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeString(Double.toString(value));
+        } else {
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    /**
+     * 写出单精度浮点数，NaN 与无穷大写为字符串。
+     *
+     * @param value 数值
+     * @throws IOException 写出失败时
+     */
+    public void writeFloat(float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            writeString(Float.toString(value));
+        } else {
+            writeAscii(Float.toString(value));
+        }
+    }
+
+    /**
+     * 写出十进制数字文本（如 {@code BigDecimal.toString()}）。
+     *
+     * @param number 数字文本
+     * @throws IOException 写出失败时
+     */
+    public void writeNumber(CharSequence number) throws IOException {
+        writeAscii(number);
+    }
+
+    /**
+     * 写出布尔值。
+     *
+     * @param value 布尔值
+     * @throws IOException 写出失败时
+     */
+    public void writeBoolean(boolean value) throws IOException {
+        writeAscii(value ? "true" : "false");
+    }
+
+    /**
+     * 写出 {@code null}。
+     *
+     * @throws IOException 写出失败时
+     */
+    public void writeNull() throws IOException {
+        writeAscii("null");
+    }
+
+    /**
+     * 写出 <code>{</code>。
+     *
+     * @throws IOException 写出失败时
+     */
+    public void beginObject() throws IOException {
+        writeAscii('{');
+    }
+
+    /**
+     * 写出 <code>}</code>。
+     *
+     * @throws IOException 写出失败时
+     */
+    public void endObject() throws IOException {
+        writeAscii('}');
+    }
+
+    /**
+     * 写出 {@code [}。
+     *
+     * @throws IOException 写出失败时
+     */
+    public void beginArray() throws IOException {
+        writeAscii('[');
+    }
+
+    /**
+     * 写出 {@code ]}。
+     *
+     * @throws IOException 写出失败时
+     */
+    public void endArray() throws IOException {
+        writeAscii(']');
+    }
+
+    /**
+     * 写出元素之间的 {@code ,}。
+     *
+     * @throws IOException 写出失败时
+     */
+    public void comma() throws IOException {
+        writeAscii(',');
+    }
+
+    /**
+     * 把缓冲的内容写到底层输出（不关闭输出）。
+     *
+     * @throws IOException 写出失败时
+     */
+    public abstract void flush() throws IOException;
+
+    abstract void writeAscii(char c) throws IOException;
+
+    abstract void writeAscii(CharSequence text) throws IOException;
+
+    /**
+     * 写入 {@link Appendable} 的实现。
+     */
+    private static final class AppendableWriter extends JsonWriter {
+
+        private final Appendable out;
+
+        /**
+         * out 为 StringBuilder 时直接追加数字，避免创建临时 String。
+         */
+        private final StringBuilder builder;
+
+        AppendableWriter(Appendable out) {
+            this.out = out;
+            this.builder = out instanceof StringBuilder ? (StringBuilder) out : null;
+        }
+
+        @Override
+        public void writeName(Name name) throws IOException {
+            out.append(name.text);
+        }
+
+        @Override
+        public void writeString(CharSequence value) throws IOException {
+            out.append('"');
+            int length = value.length();
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x20 || c == '"' || c == '\\') {
+                    out.append(value, start, i);
+                    appendEscape(c);
+                    start = i + 1;
+                }
+            }
+            out.append(value, start, length);
+            out.append('"');
+        }
+
+        private void appendEscape(char c) throws IOException {
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    break;
+            }
+        }
+
+        @Override
+        public void writeRawValue(CharSequence json) throws IOException {
+            out.append(json == null ? "null" : json);
+        }
+
+        @Override
+        public void writeLong(long value) throws IOException {
+            if (builder != null) {
+                builder.append(value);
+            } else {
+                out.append(Long.toString(value));
+            }
+        }
+
+        @Override
+        public void flush() {
+            // 直接写入 Appendable，无缓冲
+        }
+
+        @Override
+        void writeAscii(char c) throws IOException {
+            out.append(c);
+        }
+
+        @Override
+        void writeAscii(CharSequence text) throws IOException {
+            out.append(text);
+        }
+    }
+
+    /**
+     * 以 UTF-8 写入 {@link OutputStream} 的实现。
+     */
+    private static final class StreamWriter extends JsonWriter {
+
+        /**
+         * 单个字符编码后的最大字节数（{@code \\uXXXX} 转义为 6 字节，代理对为 4 字节）。
+         */
+        private static final int MAX_CHAR_BYTES = 6;
+
+        private final OutputStream out;
+
+        private final byte[] buffer = new byte[8192];
+
+        private int position;
+
+        StreamWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void writeName(Name name) throws IOException {
+            byte[] bytes = name.bytes;
+            if (position + bytes.length > buffer.length) {
+                flush();
+                if (bytes.length > buffer.length) {
+                    out.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        @Override
+        public void writeString(CharSequence value) throws IOException {
+            writeAscii('"');
+            encode(value, true);
+            writeAscii('"');
+        }
+
+        @Override
+        public void writeRawValue(CharSequence json) throws IOException {
+            if (json == null) {
+                writeNull();
+            } else {
+                encode(json, false);
+            }
+        }
+
+        /**
+         * 编码为 UTF-8；escape 为 true 时按 JSON 规则转义，孤立的代理字符写为 {@code \\uXXXX}。
+         */
+        private void encode(CharSequence value, boolean escape) throws IOException {
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                if (position + MAX_CHAR_BYTES > buffer.length) {
+                    flush();
+                }
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (escape && (c < 0x20 || c == '"' || c == '\\')) {
+                        writeEscape(c);
+                    } else {
+                        buffer[position++] = (byte) c;
+                    }
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    if (escape) {
+                        writeUnicodeEscape(c);
+                    } else {
+                        buffer[position++] = '?';
+                    }
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void writeEscape(char c) {
+            buffer[position++] = '\\';
+            switch (c) {
+                case '"':
+                case '\\':
+                    buffer[position++] = (byte) c;
+                    break;
+                case '\n':
+                    buffer[position++] = 'n';
+                    break;
+                case '\r':
+                    buffer[position++] = 'r';
+                    break;
+                case '\t':
+                    buffer[position++] = 't';
+                    break;
+                default:
+                    position--;
+                    writeUnicodeEscape(c);
+                    break;
+            }
+        }
+
+        private void writeUnicodeEscape(char c) {
+            buffer[position++] = '\\';
+            buffer[position++] = 'u';
+            buffer[position++] = (byte) HEX[(c >> 12) & 0xF];
+            buffer[position++] = (byte) HEX[(c >> 8) & 0xF];
+            buffer[position++] = (byte) HEX[(c >> 4) & 0xF];
+            buffer[position++] = (byte) HEX[c & 0xF];
+        }
+
+        @Override
+        public void writeLong(long value) throws IOException {
+            if (value == Long.MIN_VALUE) {
+                writeAscii("-9223372036854775808");
+                return;
+            }
+            if (position + 20 > buffer.length) {
+                flush();
+            }
+            if (value < 0) {
+                buffer[position++] = '-';
+                value = -value;
+            }
+            int start = position;
+            do {
+                buffer[position++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            for (int left = start, right = position - 1; left < right; left++, right--) {
+                byte digit = buffer[left];
+                buffer[left] = buffer[right];
+                buffer[right] = digit;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (position > 0) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        @Override
+        void writeAscii(char c) throws IOException {
+            if (position == buffer.length) {
+                flush();
+            }
+            buffer[position++] = (byte) c;
+        }
+
+        @Override
+        void writeAscii(CharSequence text) throws IOException {
+            int length = text.length();
+            if (position + length > buffer.length) {
+                flush();
+                if (length > buffer.length) {
+                    encode(text, false);
+                    return;
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) text.charAt(i);
+            }
+        }
+    }
+}
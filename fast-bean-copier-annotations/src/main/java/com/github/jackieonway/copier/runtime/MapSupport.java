@@ -0,0 +1,209 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 生成的 {@code fromMap} 使用的值转换工具。
+ *
+ * <p>Map 中的值可能来自 JSON 解析、Redis Hash 或模板模型，数值类型常与字段类型不一致（如 Integer 写入 long 字段），
+ * 也可能是字符串形式。转换规则：
+ * <ul>
+ *   <li>null 返回 null</li>
+ *   <li>数值字段接受任意 {@link Number}（按 {@code xxxValue()} 转换）和可解析的字符串</li>
+ *   <li>Boolean 字段接受 Boolean 和字符串 {@code "true"}/{@code "false"}</li>
+ *   <li>String 字段接受任意值，取其 {@code toString()}</li>
+ *   <li>枚举字段接受同类型枚举和枚举常量名</li>
+ * </ul>
+ * 无法转换时抛出 {@link IllegalArgumentException}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class MapSupport {
+
+    private MapSupport() {
+    }
+
+    /**
+     * 转换为 Integer。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static Integer asInteger(Object value) {
+        if (value == null || value instanceof Integer) {
+            return (Integer) value;
+        }
+        return value instanceof Number ? ((Number) value).intValue() : Integer.valueOf(text(value, "Integer"));
+    }
+
+    /**
+     * 转换为 Long。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static Long asLong(Object value) {
+        if (value == null || value instanceof Long) {
+            return (Long) value;
+        }
+        return value instanceof Number ? ((Number) value).longValue() : Long.valueOf(text(value, "Long"));
+    }
+
+    /**
+     * 转换为 Double。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static Double asDouble(Object value) {
+        if (value == null || value instanceof Double) {
+            return (Double) value;
+        }
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.valueOf(text(value, "Double"));
+    }
+
+    /**
+     * 转换为 Float。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static Float asFloat(Object value) {
+        if (value == null || value instanceof Float) {
+            return (Float) value;
+        }
+        return value instanceof Number ? ((Number) value).floatValue() : Float.valueOf(text(value, "Float"));
+    }
+
+    /**
+     * 转换为 Short。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static Short asShort(Object value) {
+        if (value == null || value instanceof Short) {
+            return (Short) value;
+        }
+        return value instanceof Number ? ((Number) value).shortValue() : Short.valueOf(text(value, "Short"));
+    }
+
+    /**
+     * 转换为 Byte。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static Byte asByte(Object value) {
+        if (value == null || value instanceof Byte) {
+            return (Byte) value;
+        }
+        return value instanceof Number ? ((Number) value).byteValue() : Byte.valueOf(text(value, "Byte"));
+    }
+
+    /**
+     * 转换为 Boolean。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static Boolean asBoolean(Object value) {
+        if (value == null || value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        String text = text(value, "Boolean");
+        if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+            return Boolean.valueOf(text);
+        }
+        throw new IllegalArgumentException("无法转换为 Boolean: " + value);
+    }
+
+    /**
+     * 转换为 Character。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static Character asCharacter(Object value) {
+        if (value == null || value instanceof Character) {
+            return (Character) value;
+        }
+        String text = text(value, "Character");
+        if (text.length() != 1) {
+            throw new IllegalArgumentException("无法转换为 Character: " + value);
+        }
+        return text.charAt(0);
+    }
+
+    /**
+     * 转换为 String。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * 转换为 BigDecimal。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static BigDecimal asBigDecimal(Object value) {
+        if (value == null || value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value instanceof Number ? value.toString() : text(value, "BigDecimal"));
+    }
+
+    /**
+     * 转换为 BigInteger。
+     *
+     * @param value 值
+     * @return 转换结果，value 为 null 时返回 null
+     */
+    public static BigInteger asBigInteger(Object value) {
+        if (value == null || value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return new BigInteger(text(value, "BigInteger"));
+    }
+
+    /**
+     * 转换为枚举：接受同类型枚举或枚举常量名。
+     *
+     * @param type  枚举类型
+     * @param value 值
+     * @param <E>   枚举类型
+     * @return 枚举值，value 为 null 时返回 null
+     */
+    public static <E extends Enum<E>> E asEnum(Class<E> type, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return Enum.valueOf(type, text(value, type.getSimpleName()));
+    }
+
+    private static String text(Object value, String typeName) {
+        if (value instanceof CharSequence) {
+            return value.toString().trim();
+        }
+        throw new IllegalArgumentException("无法转换为 " + typeName + ": " + value.getClass().getName());
+    }
+}
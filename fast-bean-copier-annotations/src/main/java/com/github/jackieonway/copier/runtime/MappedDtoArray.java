@@ -0,0 +1,237 @@
+package com.github.jackieonway.copier.runtime;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 堆外定长记录数组，由 {@code @CopyTarget(offHeap = true)} 生成的 Flyweight 类读写。
+ *
+ * <p>数据保存在直接缓冲区或内存映射文件中，每条记录占用固定字节数，按下标直接定位，
+ * 不为每条记录创建对象。文件格式为 16 字节头部（魔数、记录大小、记录数、保留）加连续的记录区，
+ * 统一使用小端字节序；重启后可通过 {@link #open(Path, Layout)} 直接映射已有文件。
+ *
+ * <p>单个数组的总大小不能超过 {@link Integer#MAX_VALUE} 字节。
+ *
+ * @param <T> 记录对应的 DTO 类型
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class MappedDtoArray<T> {
+
+    /**
+     * 文件头部魔数（"FBCA"）。
+     */
+    private static final int MAGIC = 0x46424341;
+
+    /**
+     * 文件头部字节数。
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * 定长记录布局，由生成的 Flyweight 类提供。
+     *
+     * @param <T> 记录对应的 DTO 类型
+     */
+    public interface Layout<T> {
+
+        /**
+         * 每条记录的字节数。
+         *
+         * @return 字节数
+         */
+        int recordSize();
+
+        /**
+         * 从指定偏移读取一条记录。
+         *
+         * @param buffer 缓冲区
+         * @param offset 记录起始偏移
+         * @return DTO 对象，记录为空时返回 null
+         */
+        T read(ByteBuffer buffer, int offset);
+
+        /**
+         * 向指定偏移写入一条记录。
+         *
+         * @param value  DTO 对象，可以为 null
+         * @param buffer 缓冲区
+         * @param offset 记录起始偏移
+         */
+        void write(T value, ByteBuffer buffer, int offset);
+    }
+
+    private final ByteBuffer buffer;
+
+    private final Layout<T> layout;
+
+    private final int recordSize;
+
+    private final int size;
+
+    private MappedDtoArray(ByteBuffer buffer, Layout<T> layout, int size) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        this.layout = layout;
+        this.recordSize = layout.recordSize();
+        this.size = size;
+    }
+
+    /**
+     * 分配直接缓冲区保存记录。
+     *
+     * @param size   记录数
+     * @param layout 记录布局
+     * @param <T>    DTO 类型
+     * @return 记录全部为空的数组
+     */
+    public static <T> MappedDtoArray<T> allocate(int size, Layout<T> layout) {
+        MappedDtoArray<T> array = new MappedDtoArray<>(
+                ByteBuffer.allocateDirect(totalSize(size, layout)), layout, size);
+        array.writeHeader();
+        return array;
+    }
+
+    /**
+     * 创建（或覆盖）内存映射文件保存记录。
+     *
+     * @param path   文件路径
+     * @param size   记录数
+     * @param layout 记录布局
+     * @param <T>    DTO 类型
+     * @return 记录全部为空的数组
+     * @throws IOException 文件读写失败
+     */
+    public static <T> MappedDtoArray<T> create(Path path, int size, Layout<T> layout) throws IOException {
+        int totalSize = totalSize(size, layout);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedDtoArray<T> array = new MappedDtoArray<>(
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, totalSize), layout, size);
+            array.writeHeader();
+            return array;
+        }
+    }
+
+    /**
+     * 以只读方式映射已有文件。
+     *
+     * @param path   文件路径
+     * @param layout 记录布局，记录大小必须与文件头部一致
+     * @param <T>    DTO 类型
+     * @return 映射后的数组
+     * @throws IOException 文件读写失败或格式不匹配
+     */
+    public static <T> MappedDtoArray<T> open(Path path, Layout<T> layout) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a MappedDtoArray file: " + path);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a MappedDtoArray file: " + path);
+            }
+            if (buffer.getInt(4) != layout.recordSize()) {
+                throw new IOException("Record size mismatch: file " + buffer.getInt(4)
+                        + ", layout " + layout.recordSize());
+            }
+            int size = buffer.getInt(8);
+            if (HEADER_SIZE + (long) size * layout.recordSize() > channel.size()) {
+                throw new IOException("Truncated MappedDtoArray file: " + path);
+            }
+            return new MappedDtoArray<>(buffer, layout, size);
+        }
+    }
+
+    private static int totalSize(int size, Layout<?> layout) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size: " + size);
+        }
+        long totalSize = HEADER_SIZE + (long) size * layout.recordSize();
+        if (totalSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("MappedDtoArray too large: " + totalSize + " bytes");
+        }
+        return (int) totalSize;
+    }
+
+    private void writeHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, recordSize);
+        buffer.putInt(8, size);
+    }
+
+    /**
+     * 记录数。
+     *
+     * @return 记录数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 每条记录的字节数。
+     *
+     * @return 字节数
+     */
+    public int recordSize() {
+        return recordSize;
+    }
+
+    /**
+     * 底层缓冲区（小端字节序），供 Flyweight 类按偏移读写。
+     *
+     * @return 缓冲区
+     */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * 计算记录在缓冲区中的起始偏移。
+     *
+     * @param index 下标
+     * @return 起始偏移
+     * @throws IndexOutOfBoundsException 下标越界
+     */
+    public int offsetOf(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return HEADER_SIZE + index * recordSize;
+    }
+
+    /**
+     * 读取指定下标的记录并创建 DTO 对象。
+     *
+     * @param index 下标
+     * @return DTO 对象，记录为空时返回 null
+     */
+    public T get(int index) {
+        return layout.read(buffer, offsetOf(index));
+    }
+
+    /**
+     * 写入指定下标的记录。只读映射时抛出 {@link java.nio.ReadOnlyBufferException}。
+     *
+     * @param index 下标
+     * @param value DTO 对象，可以为 null
+     */
+    public void set(int index, T value) {
+        layout.write(value, buffer, offsetOf(index));
+    }
+
+    /**
+     * 将内存映射文件的修改刷写到磁盘；直接缓冲区时不做任何操作。
+     */
+    public void force() {
+        if (buffer instanceof MappedByteBuffer && !buffer.isReadOnly()) {
+            ((MappedByteBuffer) buffer).force();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * v1.3 测试用源实体类 - 账户（枚举集合与多种集合实现）。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Account {
+    private Long id;
+    private Set<Permission> permissions;
+    private Map<Permission, Integer> quotas;
+    private Map<String, Integer> scores;
+    private List<String> history;
+    private Queue<String> tasks;
+    private Queue<Integer> priorities;
+
+    public Account() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Set<Permission> getPermissions() {
+        return permissions;
+    }
+
+    public void setPermissions(Set<Permission> permissions) {
+        this.permissions = permissions;
+    }
+
+    public Map<Permission, Integer> getQuotas() {
+        return quotas;
+    }
+
+    public void setQuotas(Map<Permission, Integer> quotas) {
+        this.quotas = quotas;
+    }
+
+    public Map<String, Integer> getScores() {
+        return scores;
+    }
+
+    public void setScores(Map<String, Integer> scores) {
+        this.scores = scores;
+    }
+
+    public List<String> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<String> history) {
+        this.history = history;
+    }
+
+    public Queue<String> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(Queue<String> tasks) {
+        this.tasks = tasks;
+    }
+
+    public Queue<Integer> getPriorities() {
+        return priorities;
+    }
+
+    public void setPriorities(Queue<Integer> priorities) {
+        this.priorities = priorities;
+    }
+}
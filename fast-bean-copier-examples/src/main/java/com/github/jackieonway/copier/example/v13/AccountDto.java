@@ -0,0 +1,94 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * v1.3 测试用 DTO - 账户，演示集合实现类选择。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Account.class)
+public class AccountDto {
+    private Long id;
+    @CopyField(implementation = EnumSet.class)
+    private Set<Permission> permissions;
+    @CopyField(implementation = EnumMap.class)
+    private Map<Permission, Integer> quotas;
+    @CopyField(implementation = TreeMap.class)
+    private Map<String, Integer> scores;
+    @CopyField(implementation = LinkedList.class)
+    private List<String> history;
+    private Queue<String> tasks;
+    @CopyField(implementation = PriorityQueue.class)
+    private Queue<Integer> priorities;
+
+    public AccountDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Set<Permission> getPermissions() {
+        return permissions;
+    }
+
+    public void setPermissions(Set<Permission> permissions) {
+        this.permissions = permissions;
+    }
+
+    public Map<Permission, Integer> getQuotas() {
+        return quotas;
+    }
+
+    public void setQuotas(Map<Permission, Integer> quotas) {
+        this.quotas = quotas;
+    }
+
+    public Map<String, Integer> getScores() {
+        return scores;
+    }
+
+    public void setScores(Map<String, Integer> scores) {
+        this.scores = scores;
+    }
+
+    public List<String> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<String> history) {
+        this.history = history;
+    }
+
+    public Queue<String> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(Queue<String> tasks) {
+        this.tasks = tasks;
+    }
+
+    public Queue<Integer> getPriorities() {
+        return priorities;
+    }
+
+    public void setPriorities(Queue<Integer> priorities) {
+        this.priorities = priorities;
+    }
+}
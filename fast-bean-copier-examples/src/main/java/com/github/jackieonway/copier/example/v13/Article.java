@@ -0,0 +1,70 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * v1.3 测试用实体 - 文章。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Article {
+    private Long id;
+    private String headline;
+    private Integer views;
+    private Permission level;
+    private List<String> tags;
+    private Map<String, Integer> reactions;
+
+    public Article() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getHeadline() {
+        return headline;
+    }
+
+    public void setHeadline(String headline) {
+        this.headline = headline;
+    }
+
+    public Integer getViews() {
+        return views;
+    }
+
+    public void setViews(Integer views) {
+        this.views = views;
+    }
+
+    public Permission getLevel() {
+        return level;
+    }
+
+    public void setLevel(Permission level) {
+        this.level = level;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, Integer> getReactions() {
+        return reactions;
+    }
+
+    public void setReactions(Map<String, Integer> reactions) {
+        this.reactions = reactions;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * v1.3 测试用 DTO - 文章，开启延迟只读视图。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Article.class, view = true)
+public class ArticleDto {
+    private Long id;
+    @CopyField(source = "headline")
+    private String title;
+    private int views;
+    private Permission level;
+    private List<String> tags;
+    private Map<String, Integer> reactions;
+
+    public ArticleDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public int getViews() {
+        return views;
+    }
+
+    public void setViews(int views) {
+        this.views = views;
+    }
+
+    public Permission getLevel() {
+        return level;
+    }
+
+    public void setLevel(Permission level) {
+        this.level = level;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, Integer> getReactions() {
+        return reactions;
+    }
+
+    public void setReactions(Map<String, Integer> reactions) {
+        this.reactions = reactions;
+    }
+}
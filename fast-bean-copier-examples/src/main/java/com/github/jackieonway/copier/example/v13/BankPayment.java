@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 银行转账。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class BankPayment extends Payment {
+    private String iban;
+
+    public BankPayment() {
+    }
+
+    public String getIban() {
+        return iban;
+    }
+
+    public void setIban(String iban) {
+        this.iban = iban;
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 银行转账。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = BankPayment.class)
+public class BankPaymentDto extends PaymentDto {
+    private String iban;
+
+    public BankPaymentDto() {
+    }
+
+    public String getIban() {
+        return iban;
+    }
+
+    public void setIban(String iban) {
+        this.iban = iban;
+    }
+}
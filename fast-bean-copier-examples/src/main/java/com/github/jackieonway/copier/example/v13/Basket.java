@@ -0,0 +1,71 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * v1.3 测试用实体 - 购物篮，带多种集合字段。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Basket {
+    private Long id;
+    private String owner;
+    private List<String> items;
+    private int[] quantities;
+    private Set<String> labels;
+    private Map<String, Integer> attributes;
+
+    public Basket() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public List<String> getItems() {
+        return items;
+    }
+
+    public void setItems(List<String> items) {
+        this.items = items;
+    }
+
+    public int[] getQuantities() {
+        return quantities;
+    }
+
+    public void setQuantities(int[] quantities) {
+        this.quantities = quantities;
+    }
+
+    public Set<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Set<String> labels) {
+        this.labels = labels;
+    }
+
+    public Map<String, Integer> getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(Map<String, Integer> attributes) {
+        this.attributes = attributes;
+    }
+}
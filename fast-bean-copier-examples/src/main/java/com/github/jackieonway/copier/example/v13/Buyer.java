@@ -0,0 +1,42 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.example.Address;
+
+/**
+ * v1.3 测试用实体 - 买家，包含嵌套的地址对象。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Buyer {
+    private String name;
+    private int level;
+    private Address address;
+
+    public Buyer() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+}
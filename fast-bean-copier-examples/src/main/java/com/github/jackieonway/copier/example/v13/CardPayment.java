@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 卡支付。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class CardPayment extends Payment {
+    private String cardLast4;
+
+    public CardPayment() {
+    }
+
+    public String getCardLast4() {
+        return cardLast4;
+    }
+
+    public void setCardLast4(String cardLast4) {
+        this.cardLast4 = cardLast4;
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 卡支付。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = CardPayment.class)
+public class CardPaymentDto extends PaymentDto {
+    private String cardLast4;
+
+    public CardPaymentDto() {
+    }
+
+    public String getCardLast4() {
+        return cardLast4;
+    }
+
+    public void setCardLast4(String cardLast4) {
+        this.cardLast4 = cardLast4;
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 圆。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Circle extends Shape {
+    private double radius;
+
+    public Circle() {
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public void setRadius(double radius) {
+        this.radius = radius;
+    }
+}
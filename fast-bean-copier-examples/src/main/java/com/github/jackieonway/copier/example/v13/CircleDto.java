@@ -0,0 +1,25 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 圆。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Circle.class)
+public class CircleDto extends ShapeDto {
+    private double radius;
+
+    public CircleDto() {
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public void setRadius(double radius) {
+        this.radius = radius;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CollectionOutput;
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * v1.3 测试用 DTO - 目录，演示紧凑不可变集合输出。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Catalog.class, collectionOutput = CollectionOutput.UNMODIFIABLE_COMPACT)
+public class CompactCatalogDto {
+    private Long id;
+    private List<String> tags;
+    private Set<String> labels;
+    @CopyField(collectionOutput = CollectionOutput.MUTABLE)
+    private Map<String, String> attributes;
+    private Map<String, Integer> counters;
+
+    public CompactCatalogDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Set<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Set<String> labels) {
+        this.labels = labels;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public void setAttributes(Map<String, String> attributes) {
+        this.attributes = attributes;
+    }
+
+    public Map<String, Integer> getCounters() {
+        return counters;
+    }
+
+    public void setCounters(Map<String, Integer> counters) {
+        this.counters = counters;
+    }
+}
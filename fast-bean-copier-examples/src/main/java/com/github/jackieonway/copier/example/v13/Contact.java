@@ -0,0 +1,33 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.example.Address;
+
+/**
+ * v1.3 测试用实体 - 联系方式，包含嵌套的地址对象。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Contact {
+    private String email;
+    private Address address;
+
+    public Contact() {
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.example.AddressDto;
+
+/**
+ * v1.3 测试用 DTO - 联系方式，未标注 @CopyTarget，由外层 Copier 生成拷贝辅助方法。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class ContactDto {
+    private String email;
+    private AddressDto address;
+
+    public ContactDto() {
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public AddressDto getAddress() {
+        return address;
+    }
+
+    public void setAddress(AddressDto address) {
+        this.address = address;
+    }
+}
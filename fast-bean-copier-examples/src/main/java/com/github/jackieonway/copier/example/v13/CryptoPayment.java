@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 加密货币支付。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class CryptoPayment extends Payment {
+    private String network;
+
+    public CryptoPayment() {
+    }
+
+    public String getNetwork() {
+        return network;
+    }
+
+    public void setNetwork(String network) {
+        this.network = network;
+    }
+}
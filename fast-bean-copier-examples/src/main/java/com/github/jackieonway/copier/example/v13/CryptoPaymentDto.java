@@ -0,0 +1,25 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 加密货币支付。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = CryptoPayment.class)
+public class CryptoPaymentDto extends PaymentDto {
+    private String network;
+
+    public CryptoPaymentDto() {
+    }
+
+    public String getNetwork() {
+        return network;
+    }
+
+    public void setNetwork(String network) {
+        this.network = network;
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.example.Address;
+import java.util.List;
+
+/**
+ * v1.3 测试用实体 - 客户，包含多种嵌套对象字段。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Customer {
+    private Long id;
+    private Address address;
+    private List<Address> shipping;
+    private SensorLocation location;
+    private Contact contact;
+
+    public Customer() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+
+    public List<Address> getShipping() {
+        return shipping;
+    }
+
+    public void setShipping(List<Address> shipping) {
+        this.shipping = shipping;
+    }
+
+    public SensorLocation getLocation() {
+        return location;
+    }
+
+    public void setLocation(SensorLocation location) {
+        this.location = location;
+    }
+
+    public Contact getContact() {
+        return contact;
+    }
+
+    public void setContact(Contact contact) {
+        this.contact = contact;
+    }
+}
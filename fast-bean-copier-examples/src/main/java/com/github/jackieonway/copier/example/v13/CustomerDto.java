@@ -0,0 +1,63 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.example.AddressDto;
+import java.util.List;
+
+/**
+ * v1.3 测试用 DTO - 客户，嵌套对象字段映射到不同的 DTO 类型。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Customer.class)
+public class CustomerDto {
+    private Long id;
+    private AddressDto address;
+    private List<AddressDto> shipping;
+    private SensorLocationDto location;
+    private ContactDto contact;
+
+    public CustomerDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AddressDto getAddress() {
+        return address;
+    }
+
+    public void setAddress(AddressDto address) {
+        this.address = address;
+    }
+
+    public List<AddressDto> getShipping() {
+        return shipping;
+    }
+
+    public void setShipping(List<AddressDto> shipping) {
+        this.shipping = shipping;
+    }
+
+    public SensorLocationDto getLocation() {
+        return location;
+    }
+
+    public void setLocation(SensorLocationDto location) {
+        this.location = location;
+    }
+
+    public ContactDto getContact() {
+        return contact;
+    }
+
+    public void setContact(ContactDto contact) {
+        this.contact = contact;
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+
+/**
+ * v1.3 测试用实体 - 员工。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Employee {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private long salaryCents;
+    private Integer level;
+    private List<String> skills;
+    private Contact contact;
+    private Skill primarySkill;
+    private List<Skill> certifications;
+
+    public Employee() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public long getSalaryCents() {
+        return salaryCents;
+    }
+
+    public void setSalaryCents(long salaryCents) {
+        this.salaryCents = salaryCents;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public Contact getContact() {
+        return contact;
+    }
+
+    public void setContact(Contact contact) {
+        this.contact = contact;
+    }
+
+    public Skill getPrimarySkill() {
+        return primarySkill;
+    }
+
+    public void setPrimarySkill(Skill primarySkill) {
+        this.primarySkill = primarySkill;
+    }
+
+    public List<Skill> getCertifications() {
+        return certifications;
+    }
+
+    public void setCertifications(List<Skill> certifications) {
+        this.certifications = certifications;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.List;
+
+/**
+ * v1.3 测试用领域模型 - 员工，作为映射链的中间类型。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Employee.class)
+public class EmployeeModel {
+    private Long id;
+    @CopyField(source = {"firstName", "lastName"},
+            expression = "source.getFirstName() + \" \" + source.getLastName()")
+    private String fullName;
+    @CopyField(source = "salaryCents")
+    private long salary;
+    private int level;
+    private List<String> skills;
+    private Contact contact;
+    private SkillModel primarySkill;
+    private List<SkillModel> certifications;
+
+    public EmployeeModel() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public long getSalary() {
+        return salary;
+    }
+
+    public void setSalary(long salary) {
+        this.salary = salary;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public Contact getContact() {
+        return contact;
+    }
+
+    public void setContact(Contact contact) {
+        this.contact = contact;
+    }
+
+    public SkillModel getPrimarySkill() {
+        return primarySkill;
+    }
+
+    public void setPrimarySkill(SkillModel primarySkill) {
+        this.primarySkill = primarySkill;
+    }
+
+    public List<SkillModel> getCertifications() {
+        return certifications;
+    }
+
+    public void setCertifications(List<SkillModel> certifications) {
+        this.certifications = certifications;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.List;
+
+/**
+ * v1.3 测试用 API DTO - 员工，经由 EmployeeModel 合成为直接映射。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Employee.class, via = EmployeeModel.class)
+public class EmployeeResponse {
+    private Long id;
+    private String fullName;
+    @CopyField(source = "fullName", expression = "source.getFullName().toUpperCase()",
+            condition = "source.getId() != null")
+    private String displayName;
+    @CopyField(expression = "source.getSalary() / 100.0")
+    private double salaryYuan;
+    private Integer level;
+    private List<String> skills;
+    @CopyField(source = "contact.email")
+    private String email;
+    private SkillResponse primarySkill;
+    private List<SkillResponse> certifications;
+
+    public EmployeeResponse() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public double getSalaryYuan() {
+        return salaryYuan;
+    }
+
+    public void setSalaryYuan(double salaryYuan) {
+        this.salaryYuan = salaryYuan;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public SkillResponse getPrimarySkill() {
+        return primarySkill;
+    }
+
+    public void setPrimarySkill(SkillResponse primarySkill) {
+        this.primarySkill = primarySkill;
+    }
+
+    public List<SkillResponse> getCertifications() {
+        return certifications;
+    }
+
+    public void setCertifications(List<SkillResponse> certifications) {
+        this.certifications = certifications;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public void setLevel(Integer level) {
+        this.level = level;
+    }
+}
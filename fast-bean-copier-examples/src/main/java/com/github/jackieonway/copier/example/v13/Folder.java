@@ -0,0 +1,111 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.DeepClone;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * v1.3 测试用实体 - 目录，{@code @DeepClone} 生成深拷贝克隆器（含父子循环引用）。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@DeepClone
+public class Folder {
+    private String name;
+    private Folder parent;
+    private List<Folder> children;
+    private Map<String, List<Tag>> tagsByGroup;
+    private int[][] grid;
+    private Tag[] pinned;
+    private Date createdAt;
+    private GeoPoint location;
+    private Set<String> labels;
+    private boolean archived;
+
+    public Folder() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Folder getParent() {
+        return parent;
+    }
+
+    public void setParent(Folder parent) {
+        this.parent = parent;
+    }
+
+    public List<Folder> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<Folder> children) {
+        this.children = children;
+    }
+
+    public Map<String, List<Tag>> getTagsByGroup() {
+        return tagsByGroup;
+    }
+
+    public void setTagsByGroup(Map<String, List<Tag>> tagsByGroup) {
+        this.tagsByGroup = tagsByGroup;
+    }
+
+    public int[][] getGrid() {
+        return grid;
+    }
+
+    public void setGrid(int[][] grid) {
+        this.grid = grid;
+    }
+
+    public Tag[] getPinned() {
+        return pinned;
+    }
+
+    public void setPinned(Tag[] pinned) {
+        this.pinned = pinned;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public GeoPoint getLocation() {
+        return location;
+    }
+
+    public void setLocation(GeoPoint location) {
+        this.location = location;
+    }
+
+    public Set<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Set<String> labels) {
+        this.labels = labels;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+}
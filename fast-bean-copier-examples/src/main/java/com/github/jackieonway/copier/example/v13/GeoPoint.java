@@ -0,0 +1,28 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.Immutable;
+
+/**
+ * v1.3 测试用值类型 - 坐标，非 final 类，通过 {@link Immutable} 显式声明不可变。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@Immutable
+public class GeoPoint {
+    private final double latitude;
+    private final double longitude;
+
+    public GeoPoint(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.math.BigDecimal;
+
+/**
+ * v1.3 测试用值类型 - 金额，final 类且字段均为 final，编译期自动推断为不可变。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class Money {
+    private final BigDecimal amount;
+    private final String currency;
+
+    public Money(BigDecimal amount, String currency) {
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+}
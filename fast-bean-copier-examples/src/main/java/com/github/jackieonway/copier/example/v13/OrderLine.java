@@ -0,0 +1,40 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 订单行。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class OrderLine {
+    private Long id;
+    private String sku;
+    private int quantity;
+
+    public OrderLine() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
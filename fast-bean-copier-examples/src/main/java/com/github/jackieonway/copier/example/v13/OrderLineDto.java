@@ -0,0 +1,43 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 订单行。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = OrderLine.class)
+public class OrderLineDto {
+    private Long id;
+    private String sku;
+    private int quantity;
+
+    public OrderLineDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * v1.3 测试用实体 - 包裹，包含不可变值类型字段。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Parcel {
+    private Long id;
+    private Money price;
+    private GeoPoint origin;
+    private List<Money> charges;
+    private Map<String, Money> fees;
+
+    public Parcel() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public void setPrice(Money price) {
+        this.price = price;
+    }
+
+    public GeoPoint getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(GeoPoint origin) {
+        this.origin = origin;
+    }
+
+    public List<Money> getCharges() {
+        return charges;
+    }
+
+    public void setCharges(List<Money> charges) {
+        this.charges = charges;
+    }
+
+    public Map<String, Money> getFees() {
+        return fees;
+    }
+
+    public void setFees(Map<String, Money> fees) {
+        this.fees = fees;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 支付（子类型分派的基类）。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Payment {
+    private String id;
+    private long amountCents;
+
+    public Payment() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.annotation.CopySubtype;
+
+/**
+ * v1.3 测试用 DTO - 支付，声明 5 个子类型映射，生成 ClassValue 分派表。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Payment.class, subtypes = {
+        @CopySubtype(source = CardPayment.class, target = CardPaymentDto.class),
+        @CopySubtype(source = BankPayment.class, target = BankPaymentDto.class),
+        @CopySubtype(source = WalletPayment.class, target = WalletPaymentDto.class),
+        @CopySubtype(source = CryptoPayment.class, target = CryptoPaymentDto.class),
+        @CopySubtype(source = VoucherPayment.class, target = VoucherPaymentDto.class)})
+public class PaymentDto {
+    private String id;
+    private long amountCents;
+
+    public PaymentDto() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用枚举 - 账户权限。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public enum Permission {
+    READ,
+    WRITE,
+    ADMIN
+}
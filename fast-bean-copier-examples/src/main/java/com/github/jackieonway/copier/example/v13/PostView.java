@@ -0,0 +1,109 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopySource;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.List;
+
+/**
+ * v1.3 测试用 DTO - 帖子视图，一次性聚合帖子、统计行和读者偏好。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Post.class, sources = {
+        @CopySource(name = "stats", type = PostStats.class),
+        @CopySource(name = "prefs", type = ReaderPreferences.class)})
+public class PostView {
+    private Long id;
+    private String title;
+    @CopyField(source = "stats.viewCount")
+    private long views;
+    @CopyField(source = "stats.likeCount")
+    private Integer likes;
+    @CopyField(source = "prefs.locale")
+    private String locale;
+    @CopyField(source = "prefs.theme", expression = "source.getTheme() == null ? \"light\" : source.getTheme()")
+    private String theme;
+    @CopyField(source = "prefs.mutedTags")
+    private List<String> mutedTags;
+    @CopyField(source = "prefs.home.city")
+    private String homeCity;
+    @CopyField(source = "prefs.home.street")
+    private String homeStreet;
+
+    public PostView() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+
+    public Integer getLikes() {
+        return likes;
+    }
+
+    public void setLikes(Integer likes) {
+        this.likes = likes;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public String getTheme() {
+        return theme;
+    }
+
+    public void setTheme(String theme) {
+        this.theme = theme;
+    }
+
+    public List<String> getMutedTags() {
+        return mutedTags;
+    }
+
+    public void setMutedTags(List<String> mutedTags) {
+        this.mutedTags = mutedTags;
+    }
+
+    public String getHomeCity() {
+        return homeCity;
+    }
+
+    public void setHomeCity(String homeCity) {
+        this.homeCity = homeCity;
+    }
+
+    public String getHomeStreet() {
+        return homeStreet;
+    }
+
+    public void setHomeStreet(String homeStreet) {
+        this.homeStreet = homeStreet;
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 预付卡支付，未声明子类型映射，按最接近的父类型 {@link CardPayment} 分派。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class PrepaidCardPayment extends CardPayment {
+    private long balanceCents;
+
+    public PrepaidCardPayment() {
+    }
+
+    public long getBalanceCents() {
+        return balanceCents;
+    }
+
+    public void setBalanceCents(long balanceCents) {
+        this.balanceCents = balanceCents;
+    }
+}
@@ -0,0 +1,200 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * v1.3 测试用实体 - 用户资料。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Profile {
+    private long id;
+    private String name;
+    private boolean active;
+    private Integer age;
+    private double score;
+    private Float ratio;
+    private char grade;
+    private Permission level;
+    private BigDecimal balance;
+    private LocalDateTime createdAt;
+    private Date updatedAt;
+    private UUID token;
+    private List<String> tags;
+    private Map<String, Integer> counters;
+    private Map<Permission, List<Long>> grants;
+    private int[] lucky;
+    private byte[] avatar;
+    private ProfileContact primary;
+    private List<ProfileContact> contacts;
+    private ReaderPreferences preferences;
+
+    public Profile() {
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean getActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public Float getRatio() {
+        return ratio;
+    }
+
+    public void setRatio(Float ratio) {
+        this.ratio = ratio;
+    }
+
+    public char getGrade() {
+        return grade;
+    }
+
+    public void setGrade(char grade) {
+        this.grade = grade;
+    }
+
+    public Permission getLevel() {
+        return level;
+    }
+
+    public void setLevel(Permission level) {
+        this.level = level;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public UUID getToken() {
+        return token;
+    }
+
+    public void setToken(UUID token) {
+        this.token = token;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, Integer> getCounters() {
+        return counters;
+    }
+
+    public void setCounters(Map<String, Integer> counters) {
+        this.counters = counters;
+    }
+
+    public Map<Permission, List<Long>> getGrants() {
+        return grants;
+    }
+
+    public void setGrants(Map<Permission, List<Long>> grants) {
+        this.grants = grants;
+    }
+
+    public int[] getLucky() {
+        return lucky;
+    }
+
+    public void setLucky(int[] lucky) {
+        this.lucky = lucky;
+    }
+
+    public byte[] getAvatar() {
+        return avatar;
+    }
+
+    public void setAvatar(byte[] avatar) {
+        this.avatar = avatar;
+    }
+
+    public ProfileContact getPrimary() {
+        return primary;
+    }
+
+    public void setPrimary(ProfileContact primary) {
+        this.primary = primary;
+    }
+
+    public List<ProfileContact> getContacts() {
+        return contacts;
+    }
+
+    public void setContacts(List<ProfileContact> contacts) {
+        this.contacts = contacts;
+    }
+
+    public ReaderPreferences getPreferences() {
+        return preferences;
+    }
+
+    public void setPreferences(ReaderPreferences preferences) {
+        this.preferences = preferences;
+    }
+}
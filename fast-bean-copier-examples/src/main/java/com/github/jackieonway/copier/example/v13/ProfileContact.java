@@ -0,0 +1,40 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 用户资料中的联系方式。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class ProfileContact {
+    private String kind;
+    private String value;
+    private Boolean verified;
+
+    public ProfileContact() {
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Boolean getVerified() {
+        return verified;
+    }
+
+    public void setVerified(Boolean verified) {
+        this.verified = verified;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 联系方式，生成 JSON 编解码器。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = ProfileContact.class, json = true)
+public class ProfileContactDto {
+    private String kind;
+    private String value;
+    private Boolean verified;
+
+    public ProfileContactDto() {
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Boolean getVerified() {
+        return verified;
+    }
+
+    public void setVerified(Boolean verified) {
+        this.verified = verified;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 订单，通过买家关联到地址。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Purchase {
+    private Long id;
+    private Buyer buyer;
+
+    public Purchase() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Buyer getBuyer() {
+        return buyer;
+    }
+
+    public void setBuyer(Buyer buyer) {
+        this.buyer = buyer;
+    }
+}
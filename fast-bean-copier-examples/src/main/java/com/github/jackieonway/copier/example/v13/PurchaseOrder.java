@@ -0,0 +1,52 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * v1.3 测试用实体 - 采购单，子集合由 JPA 之类的框架托管。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class PurchaseOrder {
+    private Long id;
+    private String customer;
+    private List<OrderLine> lines;
+    private Set<Tag> tags;
+
+    public PurchaseOrder() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    public List<OrderLine> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<OrderLine> lines) {
+        this.lines = lines;
+    }
+
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<Tag> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * v1.3 测试用 DTO - 采购单，子集合按 id 合并到已有实体。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = PurchaseOrder.class)
+public class PurchaseOrderDto {
+    private Long id;
+    private String customer;
+    @CopyField(mergeKey = "id")
+    private List<OrderLineDto> lines;
+    @CopyField(mergeKey = "code")
+    private Set<TagDto> tags;
+
+    public PurchaseOrderDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    public List<OrderLineDto> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<OrderLineDto> lines) {
+        this.lines = lines;
+    }
+
+    public Set<TagDto> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<TagDto> tags) {
+        this.tags = tags;
+    }
+}
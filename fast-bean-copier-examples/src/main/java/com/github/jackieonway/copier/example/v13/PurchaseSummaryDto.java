@@ -0,0 +1,66 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 扁平化的订单摘要，使用点号路径映射嵌套字段。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Purchase.class)
+public class PurchaseSummaryDto {
+    private Long id;
+    @CopyField(source = "buyer.name")
+    private String buyerName;
+    @CopyField(source = "buyer.level")
+    private int buyerLevel;
+    @CopyField(source = "buyer.address.city")
+    private String city;
+    @CopyField(source = "buyer.address.province")
+    private String province;
+
+    public PurchaseSummaryDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getBuyerName() {
+        return buyerName;
+    }
+
+    public void setBuyerName(String buyerName) {
+        this.buyerName = buyerName;
+    }
+
+    public int getBuyerLevel() {
+        return buyerLevel;
+    }
+
+    public void setBuyerLevel(int buyerLevel) {
+        this.buyerLevel = buyerLevel;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getProvince() {
+        return province;
+    }
+
+    public void setProvince(String province) {
+        this.province = province;
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * v1.3 测试用实体 - 行情报价。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Quote {
+    private long seq;
+    private String symbol;
+    private BigDecimal price;
+    private Integer volume;
+    private boolean buy;
+    private char venue;
+    private Double yield;
+    private Permission level;
+    private LocalDateTime quotedAt;
+    private String note;
+
+    public Quote() {
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Integer getVolume() {
+        return volume;
+    }
+
+    public void setVolume(Integer volume) {
+        this.volume = volume;
+    }
+
+    public boolean getBuy() {
+        return buy;
+    }
+
+    public void setBuy(boolean buy) {
+        this.buy = buy;
+    }
+
+    public char getVenue() {
+        return venue;
+    }
+
+    public void setVenue(char venue) {
+        this.venue = venue;
+    }
+
+    public Double getYield() {
+        return yield;
+    }
+
+    public void setYield(Double yield) {
+        this.yield = yield;
+    }
+
+    public Permission getLevel() {
+        return level;
+    }
+
+    public void setLevel(Permission level) {
+        this.level = level;
+    }
+
+    public LocalDateTime getQuotedAt() {
+        return quotedAt;
+    }
+
+    public void setQuotedAt(LocalDateTime quotedAt) {
+        this.quotedAt = quotedAt;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * v1.3 测试用 DTO - 行情报价记录，生成分隔文本读写器。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Quote.class, csvColumns = {"seq", "symbol", "price", "volume", "buy", "venue", "yield", "level",
+        "quotedAt", "note"})
+public class QuoteRecord {
+    private long seq;
+    private String symbol;
+    private BigDecimal price;
+    private Integer volume;
+    private boolean buy;
+    private char venue;
+    private Double yield;
+    private Permission level;
+    private LocalDateTime quotedAt;
+    private String note;
+
+    public QuoteRecord() {
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Integer getVolume() {
+        return volume;
+    }
+
+    public void setVolume(Integer volume) {
+        this.volume = volume;
+    }
+
+    public boolean getBuy() {
+        return buy;
+    }
+
+    public void setBuy(boolean buy) {
+        this.buy = buy;
+    }
+
+    public char getVenue() {
+        return venue;
+    }
+
+    public void setVenue(char venue) {
+        this.venue = venue;
+    }
+
+    public Double getYield() {
+        return yield;
+    }
+
+    public void setYield(Double yield) {
+        this.yield = yield;
+    }
+
+    public Permission getLevel() {
+        return level;
+    }
+
+    public void setLevel(Permission level) {
+        this.level = level;
+    }
+
+    public LocalDateTime getQuotedAt() {
+        return quotedAt;
+    }
+
+    public void setQuotedAt(LocalDateTime quotedAt) {
+        this.quotedAt = quotedAt;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.example.Address;
+import java.util.List;
+
+/**
+ * v1.3 测试用实体 - 读者偏好设置。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class ReaderPreferences {
+    private String locale;
+    private String theme;
+    private List<String> mutedTags;
+    private Address home;
+
+    public ReaderPreferences() {
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+
+    public String getTheme() {
+        return theme;
+    }
+
+    public void setTheme(String theme) {
+        this.theme = theme;
+    }
+
+    public List<String> getMutedTags() {
+        return mutedTags;
+    }
+
+    public void setMutedTags(List<String> mutedTags) {
+        this.mutedTags = mutedTags;
+    }
+
+    public Address getHome() {
+        return home;
+    }
+
+    public void setHome(Address home) {
+        this.home = home;
+    }
+}
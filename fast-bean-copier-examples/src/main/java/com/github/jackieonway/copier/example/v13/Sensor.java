@@ -0,0 +1,135 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * v1.3 测试用实体 - 传感器。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Sensor {
+    private long id;
+    private String name;
+    private Double temperature;
+    private boolean active;
+    private Permission level;
+    private List<String> tags;
+    private Map<String, Integer> counters;
+    private double[] samples;
+    private byte[] payload;
+    private BigDecimal price;
+    private LocalDateTime updatedAt;
+    private SensorLocation location;
+    private List<SensorLocation> history;
+
+    public Sensor() {
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getTemperature() {
+        return temperature;
+    }
+
+    public void setTemperature(Double temperature) {
+        this.temperature = temperature;
+    }
+
+    public boolean getActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Permission getLevel() {
+        return level;
+    }
+
+    public void setLevel(Permission level) {
+        this.level = level;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, Integer> getCounters() {
+        return counters;
+    }
+
+    public void setCounters(Map<String, Integer> counters) {
+        this.counters = counters;
+    }
+
+    public double[] getSamples() {
+        return samples;
+    }
+
+    public void setSamples(double[] samples) {
+        this.samples = samples;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public SensorLocation getLocation() {
+        return location;
+    }
+
+    public void setLocation(SensorLocation location) {
+        this.location = location;
+    }
+
+    public List<SensorLocation> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<SensorLocation> history) {
+        this.history = history;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * v1.3 测试用 DTO - 传感器，同时生成二进制编解码器 SensorDtoCodec。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Sensor.class, codec = true, map = true)
+public class SensorDto {
+    private long id;
+    private String name;
+    private Double temperature;
+    private boolean active;
+    private Permission level;
+    private List<String> tags;
+    private Map<String, Integer> counters;
+    private double[] samples;
+    private byte[] payload;
+    private BigDecimal price;
+    private LocalDateTime updatedAt;
+    private SensorLocationDto location;
+    private List<SensorLocationDto> history;
+
+    public SensorDto() {
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getTemperature() {
+        return temperature;
+    }
+
+    public void setTemperature(Double temperature) {
+        this.temperature = temperature;
+    }
+
+    public boolean getActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Permission getLevel() {
+        return level;
+    }
+
+    public void setLevel(Permission level) {
+        this.level = level;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, Integer> getCounters() {
+        return counters;
+    }
+
+    public void setCounters(Map<String, Integer> counters) {
+        this.counters = counters;
+    }
+
+    public double[] getSamples() {
+        return samples;
+    }
+
+    public void setSamples(double[] samples) {
+        this.samples = samples;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public SensorLocationDto getLocation() {
+        return location;
+    }
+
+    public void setLocation(SensorLocationDto location) {
+        this.location = location;
+    }
+
+    public List<SensorLocationDto> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<SensorLocationDto> history) {
+        this.history = history;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 传感器位置，作为嵌套 Codec。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = SensorLocation.class, codec = true)
+public class SensorLocationDto {
+    private double latitude;
+    private double longitude;
+    private String label;
+
+    public SensorLocationDto() {
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * v1.3 测试用实体 - 指标序列，使用包装类型集合保存数值。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Series {
+    private String name;
+    private List<Long> timestamps;
+    private List<Double> values;
+    private Set<Integer> buckets;
+
+    public Series() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Long> getTimestamps() {
+        return timestamps;
+    }
+
+    public void setTimestamps(List<Long> timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public List<Double> getValues() {
+        return values;
+    }
+
+    public void setValues(List<Double> values) {
+        this.values = values;
+    }
+
+    public Set<Integer> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(Set<Integer> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 指标序列，使用基本类型数组保存数值。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Series.class)
+public class SeriesDto {
+    private String name;
+    private long[] timestamps;
+    private double[] values;
+    private int[] buckets;
+
+    public SeriesDto() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    public void setTimestamps(long[] timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public double[] getValues() {
+        return values;
+    }
+
+    public void setValues(double[] values) {
+        this.values = values;
+    }
+
+    public int[] getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(int[] buckets) {
+        this.buckets = buckets;
+    }
+}
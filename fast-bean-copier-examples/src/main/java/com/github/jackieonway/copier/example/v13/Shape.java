@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 图形（子类型分派的基类）。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Shape {
+    private String label;
+
+    public Shape() {
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.annotation.CopySubtype;
+
+/**
+ * v1.3 测试用 DTO - 图形，子类型较少时生成 getClass() 精确比较分支。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Shape.class, subtypes = {
+        @CopySubtype(source = Circle.class, target = CircleDto.class),
+        @CopySubtype(source = Square.class, target = SquareDto.class)})
+public class ShapeDto {
+    private String label;
+
+    public ShapeDto() {
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * v1.3 测试用实体 - 书架，包含可能不可变的集合字段。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Shelf {
+    private List<String> tags;
+    private Set<String> genres;
+    private Map<String, Integer> stock;
+    private List<String> notes;
+
+    public Shelf() {
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Set<String> getGenres() {
+        return genres;
+    }
+
+    public void setGenres(Set<String> genres) {
+        this.genres = genres;
+    }
+
+    public Map<String, Integer> getStock() {
+        return stock;
+    }
+
+    public void setStock(Map<String, Integer> stock) {
+        this.stock = stock;
+    }
+
+    public List<String> getNotes() {
+        return notes;
+    }
+
+    public void setNotes(List<String> notes) {
+        this.notes = notes;
+    }
+}
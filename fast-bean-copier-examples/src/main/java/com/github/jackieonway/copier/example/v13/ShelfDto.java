@@ -0,0 +1,61 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyStrategy;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * v1.3 测试用 DTO - 书架，演示集合拷贝策略。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Shelf.class)
+public class ShelfDto {
+    @CopyField(copyStrategy = CopyStrategy.SHARE_IF_IMMUTABLE)
+    private List<String> tags;
+    @CopyField(copyStrategy = CopyStrategy.SHARE_IF_IMMUTABLE)
+    private Set<String> genres;
+    @CopyField(copyStrategy = CopyStrategy.SHARE_IF_IMMUTABLE)
+    private Map<String, Integer> stock;
+    @CopyField(copyStrategy = CopyStrategy.SHARE)
+    private List<String> notes;
+
+    public ShelfDto() {
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Set<String> getGenres() {
+        return genres;
+    }
+
+    public void setGenres(Set<String> genres) {
+        this.genres = genres;
+    }
+
+    public Map<String, Integer> getStock() {
+        return stock;
+    }
+
+    public void setStock(Map<String, Integer> stock) {
+        this.stock = stock;
+    }
+
+    public List<String> getNotes() {
+        return notes;
+    }
+
+    public void setNotes(List<String> notes) {
+        this.notes = notes;
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * v1.3 测试用实体 - 发货单。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Shipment {
+    private Long id;
+    private ShipmentStatus status;
+    private Date shippedAt;
+    private boolean detailed;
+    private List<String> items;
+
+    public Shipment() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ShipmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ShipmentStatus status) {
+        this.status = status;
+    }
+
+    public Date getShippedAt() {
+        return shippedAt;
+    }
+
+    public void setShippedAt(Date shippedAt) {
+        this.shippedAt = shippedAt;
+    }
+
+    public boolean isDetailed() {
+        return detailed;
+    }
+
+    public void setDetailed(boolean detailed) {
+        this.detailed = detailed;
+    }
+
+    public List<String> getItems() {
+        return items;
+    }
+
+    public void setItems(List<String> items) {
+        this.items = items;
+    }
+}
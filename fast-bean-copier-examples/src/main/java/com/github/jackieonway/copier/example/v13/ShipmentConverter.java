@@ -0,0 +1,36 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * v1.3 测试用转换器 - 发货单，记录转换方法的调用次数。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class ShipmentConverter {
+
+    /**
+     * 转换方法的累计调用次数。
+     */
+    public static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    /**
+     * 将发货时间格式化为日期字符串。
+     */
+    public String formatDate(Date date) {
+        INVOCATIONS.incrementAndGet();
+        return date == null ? null : new SimpleDateFormat("yyyy-MM-dd").format(date);
+    }
+
+    /**
+     * 将明细列表汇总为逗号分隔的字符串。
+     */
+    public String summarize(List<String> items) {
+        INVOCATIONS.incrementAndGet();
+        return items == null ? null : String.join(",", items);
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import java.util.List;
+
+/**
+ * v1.3 测试用 DTO - 发货单，演示按条件跳过字段的转换与深拷贝。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Shipment.class, uses = ShipmentConverter.class)
+public class ShipmentDto {
+    private Long id;
+    private ShipmentStatus status;
+    @CopyField(qualifiedByName = "formatDate", condition = "source.getStatus() == ShipmentStatus.SHIPPED")
+    private String shippedAt;
+    @CopyField(source = "items", qualifiedByName = "summarize", condition = "source.isDetailed()")
+    private String itemSummary;
+    @CopyField(condition = "source.isDetailed()")
+    private List<String> items;
+
+    public ShipmentDto() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ShipmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ShipmentStatus status) {
+        this.status = status;
+    }
+
+    public String getShippedAt() {
+        return shippedAt;
+    }
+
+    public void setShippedAt(String shippedAt) {
+        this.shippedAt = shippedAt;
+    }
+
+    public String getItemSummary() {
+        return itemSummary;
+    }
+
+    public void setItemSummary(String itemSummary) {
+        this.itemSummary = itemSummary;
+    }
+
+    public List<String> getItems() {
+        return items;
+    }
+
+    public void setItems(List<String> items) {
+        this.items = items;
+    }
+}
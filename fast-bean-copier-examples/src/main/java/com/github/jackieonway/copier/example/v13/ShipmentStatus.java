@@ -0,0 +1,12 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用枚举 - 发货状态。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public enum ShipmentStatus {
+    CREATED,
+    SHIPPED
+}
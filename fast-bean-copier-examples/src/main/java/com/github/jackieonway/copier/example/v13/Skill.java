@@ -0,0 +1,31 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 员工技能。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Skill {
+    private String name;
+    private int years;
+
+    public Skill() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getYears() {
+        return years;
+    }
+
+    public void setYears(int years) {
+        this.years = years;
+    }
+}
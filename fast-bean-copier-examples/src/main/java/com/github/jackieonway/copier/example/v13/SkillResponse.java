@@ -0,0 +1,34 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 API DTO - 员工技能。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = SkillModel.class)
+public class SkillResponse {
+    private String name;
+    private int experience;
+
+    public SkillResponse() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+
+    public void setExperience(int experience) {
+        this.experience = experience;
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 正方形。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Square extends Shape {
+    private double side;
+
+    public Square() {
+    }
+
+    public double getSide() {
+        return side;
+    }
+
+    public void setSide(double side) {
+        this.side = side;
+    }
+}
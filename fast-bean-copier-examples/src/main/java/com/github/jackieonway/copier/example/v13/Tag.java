@@ -0,0 +1,31 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 标签。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Tag {
+    private int code;
+    private String label;
+
+    public Tag() {
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public void setCode(int code) {
+        this.code = code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用 DTO - 标签，未标注 @CopyTarget，按同名字段合并。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class TagDto {
+    private Integer code;
+    private String label;
+
+    public TagDto() {
+    }
+
+    public Integer getCode() {
+        return code;
+    }
+
+    public void setCode(Integer code) {
+        this.code = code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
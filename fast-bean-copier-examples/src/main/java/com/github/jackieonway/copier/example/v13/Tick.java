@@ -0,0 +1,85 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 行情价格点。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Tick {
+    private long timestamp;
+    private Double lastPrice;
+    private int quantity;
+    private boolean buy;
+    private short venue;
+    private byte flags;
+    private float spread;
+    private char grade;
+
+    public Tick() {
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public Double getLastPrice() {
+        return lastPrice;
+    }
+
+    public void setLastPrice(Double lastPrice) {
+        this.lastPrice = lastPrice;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public boolean getBuy() {
+        return buy;
+    }
+
+    public void setBuy(boolean buy) {
+        this.buy = buy;
+    }
+
+    public short getVenue() {
+        return venue;
+    }
+
+    public void setVenue(short venue) {
+        this.venue = venue;
+    }
+
+    public byte getFlags() {
+        return flags;
+    }
+
+    public void setFlags(byte flags) {
+        this.flags = flags;
+    }
+
+    public float getSpread() {
+        return spread;
+    }
+
+    public void setSpread(float spread) {
+        this.spread = spread;
+    }
+
+    public char getGrade() {
+        return grade;
+    }
+
+    public void setGrade(char grade) {
+        this.grade = grade;
+    }
+}
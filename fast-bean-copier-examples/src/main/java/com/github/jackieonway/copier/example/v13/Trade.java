@@ -0,0 +1,78 @@
+package com.github.jackieonway.copier.example.v13;
+
+import java.util.List;
+
+/**
+ * v1.3 测试用实体 - 成交记录。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class Trade {
+    private long id;
+    private String symbol;
+    private double price;
+    private int quantity;
+    private Long volume;
+    private Permission side;
+    private List<String> tags;
+
+    public Trade() {
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public void setPrice(double price) {
+        this.price = price;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public Long getVolume() {
+        return volume;
+    }
+
+    public void setVolume(Long volume) {
+        this.volume = volume;
+    }
+
+    public Permission getSide() {
+        return side;
+    }
+
+    public void setSide(Permission side) {
+        this.side = side;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 代金券支付。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class VoucherPayment extends Payment {
+    private String voucherCode;
+
+    public VoucherPayment() {
+    }
+
+    public String getVoucherCode() {
+        return voucherCode;
+    }
+
+    public void setVoucherCode(String voucherCode) {
+        this.voucherCode = voucherCode;
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 代金券支付。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = VoucherPayment.class)
+public class VoucherPaymentDto extends PaymentDto {
+    private String voucherCode;
+
+    public VoucherPaymentDto() {
+    }
+
+    public String getVoucherCode() {
+        return voucherCode;
+    }
+
+    public void setVoucherCode(String voucherCode) {
+        this.voucherCode = voucherCode;
+    }
+}
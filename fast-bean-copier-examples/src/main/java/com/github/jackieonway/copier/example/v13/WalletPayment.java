@@ -0,0 +1,22 @@
+package com.github.jackieonway.copier.example.v13;
+
+/**
+ * v1.3 测试用实体 - 钱包支付。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class WalletPayment extends Payment {
+    private String provider;
+
+    public WalletPayment() {
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+}
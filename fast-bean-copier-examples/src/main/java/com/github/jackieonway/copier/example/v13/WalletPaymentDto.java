@@ -0,0 +1,25 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+/**
+ * v1.3 测试用 DTO - 钱包支付。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = WalletPayment.class)
+public class WalletPaymentDto extends PaymentDto {
+    private String provider;
+
+    public WalletPaymentDto() {
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+}
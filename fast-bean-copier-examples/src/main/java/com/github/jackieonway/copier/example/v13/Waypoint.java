@@ -0,0 +1,54 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+import java.util.List;
+
+/**
+ * v1.3 测试用实体 - 路径点，同类型拷贝，自动生成深拷贝克隆器。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+@CopyTarget(source = Waypoint.class)
+public class Waypoint {
+    private String name;
+    private GeoPoint point;
+    private List<Tag> tags;
+    private Waypoint next;
+
+    public Waypoint() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public GeoPoint getPoint() {
+        return point;
+    }
+
+    public void setPoint(GeoPoint point) {
+        this.point = point;
+    }
+
+    public List<Tag> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<Tag> tags) {
+        this.tags = tags;
+    }
+
+    public Waypoint getNext() {
+        return next;
+    }
+
+    public void setNext(Waypoint next) {
+        this.next = next;
+    }
+}
@@ -7,9 +7,8 @@ import static org.junit.Assert.*;
 /**
  * 嵌套对象拷贝的集成测试。
  *
- * 注意：当前实现支持同名字段的直接拷贝。
- * 对于不同类型的嵌套对象（如Address -> AddressDto），
- * 需要在应用层手动处理或使用自定义转换器。
+ * 不同类型的嵌套对象（如 Address -> AddressDto）会调用对应的 Copier，
+ * 没有 Copier 时在生成的 Copier 中按同名字段拷贝（v1.3）。
  *
  * @author jackieonway
  * @since 1.0.0
@@ -82,4 +81,34 @@ public class NestedObjectCopyTest {
         assertEquals("王五", employee.getName());
         assertNull(employee.getAddress());
     }
+
+    /**
+     * 测试不同类型的嵌套对象拷贝。
+     */
+    @Test
+    public void testNestedObjectCopy() {
+        Address address = new Address("浙江", "杭州", "文三路");
+        Employee employee = new Employee(4L, "赵六", address);
+
+        EmployeeDto employeeDto = EmployeeDtoCopier.toDto(employee);
+
+        assertNotNull(employeeDto.getAddress());
+        assertEquals("浙江", employeeDto.getAddress().getProvince());
+        assertEquals("杭州", employeeDto.getAddress().getCity());
+        assertEquals("文三路", employeeDto.getAddress().getStreet());
+    }
+
+    /**
+     * 测试嵌套对象的反向拷贝。
+     */
+    @Test
+    public void testReverseNestedObjectCopy() {
+        EmployeeDto employeeDto = new EmployeeDto(5L, "孙七", new AddressDto("江苏", "南京", "中山路"));
+
+        Employee employee = EmployeeDtoCopier.fromDto(employeeDto);
+
+        assertNotNull(employee.getAddress());
+        assertEquals("江苏", employee.getAddress().getProvince());
+        assertEquals("中山路", employee.getAddress().getStreet());
+    }
 }
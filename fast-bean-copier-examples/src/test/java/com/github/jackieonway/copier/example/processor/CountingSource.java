@@ -0,0 +1,29 @@
+package com.github.jackieonway.copier.example.processor;
+
+public class CountingSource {
+
+    private String firstName;
+    private String lastName;
+    private int firstNameReads;
+
+    public String getFirstName() {
+        firstNameReads++;
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public int firstNameReads() {
+        return firstNameReads;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.jackieonway.copier.example.processor;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+
+@CopyTarget(source = CountingSource.class)
+public class CountingSourceDto {
+
+    @CopyField(source = {"firstName", "lastName"},
+            expression = "source.getFirstName() + \" \" + source.getLastName()")
+    private String fullName;
+
+    @CopyField(source = "firstName",
+            expression = "source.getFirstName() != null ? source.getFirstName().substring(0, 1) : null")
+    private String initial;
+
+    @CopyField(source = "firstName", expression = "\"source.getFirstName()\"")
+    private String literal;
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getInitial() {
+        return initial;
+    }
+
+    public void setInitial(String initial) {
+        this.initial = initial;
+    }
+
+    public String getLiteral() {
+        return literal;
+    }
+
+    public void setLiteral(String literal) {
+        this.literal = literal;
+    }
+}
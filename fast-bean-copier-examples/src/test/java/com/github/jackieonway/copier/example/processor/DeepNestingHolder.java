@@ -0,0 +1,37 @@
+package com.github.jackieonway.copier.example.processor;
+
+import com.github.jackieonway.copier.example.User;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class DeepNestingHolder {
+
+    private List<Map<String, Set<User>>> groups;
+    private Map<String, List<List<User>>> teams;
+    private int[][] matrix;
+
+    public List<Map<String, Set<User>>> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Map<String, Set<User>>> groups) {
+        this.groups = groups;
+    }
+
+    public Map<String, List<List<User>>> getTeams() {
+        return teams;
+    }
+
+    public void setTeams(Map<String, List<List<User>>> teams) {
+        this.teams = teams;
+    }
+
+    public int[][] getMatrix() {
+        return matrix;
+    }
+
+    public void setMatrix(int[][] matrix) {
+        this.matrix = matrix;
+    }
+}
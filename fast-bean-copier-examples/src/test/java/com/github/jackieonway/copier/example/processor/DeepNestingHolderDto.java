@@ -0,0 +1,39 @@
+package com.github.jackieonway.copier.example.processor;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.example.UserDto;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@CopyTarget(source = DeepNestingHolder.class)
+public class DeepNestingHolderDto {
+
+    private List<Map<String, Set<UserDto>>> groups;
+    private Map<String, List<List<UserDto>>> teams;
+    private int[][] matrix;
+
+    public List<Map<String, Set<UserDto>>> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Map<String, Set<UserDto>>> groups) {
+        this.groups = groups;
+    }
+
+    public Map<String, List<List<UserDto>>> getTeams() {
+        return teams;
+    }
+
+    public void setTeams(Map<String, List<List<UserDto>>> teams) {
+        this.teams = teams;
+    }
+
+    public int[][] getMatrix() {
+        return matrix;
+    }
+
+    public void setMatrix(int[][] matrix) {
+        this.matrix = matrix;
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.runtime.CodecSupport;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 生成的二进制编解码器测试：{@code @CopyTarget(codec = true)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class BinaryCodecTest {
+
+    /**
+     * 测试所有支持的字段类型编码后能完整解码。
+     */
+    @Test
+    public void testRoundTripAllFieldTypes() {
+        SensorDto sensor = new SensorDto();
+        sensor.setId(42L);
+        sensor.setName("温度传感器-α 🌡");
+        sensor.setTemperature(23.5);
+        sensor.setActive(true);
+        sensor.setLevel(Permission.WRITE);
+        sensor.setTags(Arrays.asList("indoor", null, "floor-3"));
+        Map<String, Integer> counters = new LinkedHashMap<>();
+        counters.put("reads", 1024);
+        counters.put("errors", null);
+        sensor.setCounters(counters);
+        sensor.setSamples(new double[]{1.5, -2.25, 3.0});
+        sensor.setPayload(new byte[]{1, 2, 3, (byte) 0xFF});
+        sensor.setPrice(new BigDecimal("-12345678901234567890.0042"));
+        sensor.setUpdatedAt(LocalDateTime.of(2024, 5, 6, 7, 8, 9, 123456789));
+        SensorLocationDto lab = new SensorLocationDto();
+        lab.setLatitude(31.23);
+        lab.setLongitude(121.47);
+        lab.setLabel("lab");
+        sensor.setLocation(lab);
+        SensorLocationDto roof = new SensorLocationDto();
+        roof.setLabel("roof");
+        sensor.setHistory(Arrays.asList(roof, null));
+
+        SensorDto copy = SensorDtoCodec.readFrom(SensorDtoCodec.encode(sensor));
+
+        assertEquals(42L, copy.getId());
+        assertEquals(sensor.getName(), copy.getName());
+        assertEquals(Double.valueOf(23.5), copy.getTemperature());
+        assertTrue(copy.getActive());
+        assertEquals(Permission.WRITE, copy.getLevel());
+        assertEquals(sensor.getTags(), copy.getTags());
+        assertEquals(counters, copy.getCounters());
+        assertArrayEquals(sensor.getSamples(), copy.getSamples(), 0.0);
+        assertArrayEquals(sensor.getPayload(), copy.getPayload());
+        assertEquals(sensor.getPrice(), copy.getPrice());
+        assertEquals(sensor.getUpdatedAt(), copy.getUpdatedAt());
+        assertEquals("lab", copy.getLocation().getLabel());
+        assertEquals(121.47, copy.getLocation().getLongitude(), 0.0);
+        assertEquals(2, copy.getHistory().size());
+        assertEquals("roof", copy.getHistory().get(0).getLabel());
+        assertNull(copy.getHistory().get(1));
+    }
+
+    /**
+     * 测试 sizeOf 与实际写入的字节数一致。
+     */
+    @Test
+    public void testSizeOfMatchesWrittenBytes() {
+        SensorDto sensor = new SensorDto();
+        sensor.setId(300L);
+        sensor.setName("湿度");
+        sensor.setTags(Collections.singletonList("outdoor"));
+        sensor.setPrice(new BigDecimal("3.14"));
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        SensorDtoCodec.writeTo(sensor, buffer);
+
+        assertEquals(SensorDtoCodec.sizeOf(sensor), buffer.position());
+        assertEquals(SensorDtoCodec.sizeOf(sensor), SensorDtoCodec.encode(sensor).remaining());
+    }
+
+    /**
+     * 测试在直接缓冲区中连续写入与读取，包括 null 对象。
+     */
+    @Test
+    public void testDirectBuffer() {
+        SensorDto sensor = new SensorDto();
+        sensor.setName("气压");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SensorDtoCodec.sizeOf(sensor) + SensorDtoCodec.sizeOf(null));
+
+        SensorDtoCodec.writeTo(sensor, buffer);
+        SensorDtoCodec.writeTo(null, buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+
+        assertEquals("气压", SensorDtoCodec.readFrom(buffer).getName());
+        assertNull(SensorDtoCodec.readFrom(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * 测试 null 字段解码后仍为 null。
+     */
+    @Test
+    public void testNullFields() {
+        SensorDto copy = SensorDtoCodec.readFrom(SensorDtoCodec.encode(new SensorDto()));
+
+        assertNull(copy.getName());
+        assertNull(copy.getTemperature());
+        assertNull(copy.getLevel());
+        assertNull(copy.getTags());
+        assertNull(copy.getCounters());
+        assertNull(copy.getSamples());
+        assertNull(copy.getPayload());
+        assertNull(copy.getPrice());
+        assertNull(copy.getUpdatedAt());
+        assertNull(copy.getLocation());
+        assertNull(copy.getHistory());
+    }
+
+    /**
+     * 测试编解码器与生成的 Copier 配合使用。
+     */
+    @Test
+    public void testWithGeneratedCopier() {
+        SensorDto dto = new SensorDto();
+        dto.setPrice(new BigDecimal("99.5"));
+        SensorLocationDto location = new SensorLocationDto();
+        location.setLabel("lab");
+        dto.setLocation(location);
+        dto.setHistory(Collections.singletonList(location));
+        Sensor entity = SensorDtoCopier.fromDto(dto);
+
+        SensorDto decoded = SensorDtoCodec.readFrom(SensorDtoCodec.encode(SensorDtoCopier.toDto(entity)));
+
+        assertEquals("lab", decoded.getHistory().get(0).getLabel());
+        assertEquals("lab", decoded.getLocation().getLabel());
+        assertEquals(entity.getPrice(), decoded.getPrice());
+    }
+
+    /**
+     * 测试运行时的 varint 与 UTF-8 字符串编码，长度计算与写入一致。
+     */
+    @Test
+    public void testVarintAndStringEncoding() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (int value : new int[]{0, 127, 128, 16383, 16384, Integer.MAX_VALUE}) {
+            buffer.clear();
+            CodecSupport.writeVarint(buffer, value);
+            assertEquals(CodecSupport.sizeOfVarint(value), buffer.position());
+            buffer.flip();
+            assertEquals(value, CodecSupport.readVarint(buffer));
+        }
+
+        // 孤立的代理字符按 JDK 的 UTF-8 编码规则替换
+        String text = "aé中😀\ud800";
+        buffer.clear();
+        CodecSupport.writeString(buffer, text);
+        assertEquals(CodecSupport.sizeOfString(text), buffer.position());
+        buffer.flip();
+        assertEquals(new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+                CodecSupport.readString(buffer));
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * 集合实现类选择测试：默认实现与 {@code @CopyField(implementation)} 覆盖（含 EnumSet/EnumMap）。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class CollectionImplementationTest {
+
+    /**
+     * 测试 implementation 指定 EnumSet/EnumMap。
+     */
+    @Test
+    public void testEnumSetAndEnumMap() {
+        Account account = new Account();
+        account.setPermissions(new HashSet<>(Arrays.asList(Permission.WRITE, Permission.READ)));
+        Map<Permission, Integer> quotas = new HashMap<>();
+        quotas.put(Permission.ADMIN, 1);
+        account.setQuotas(quotas);
+
+        AccountDto dto = AccountDtoCopier.toDto(account);
+
+        assertTrue(dto.getPermissions() instanceof EnumSet);
+        assertEquals(EnumSet.of(Permission.READ, Permission.WRITE), dto.getPermissions());
+        assertTrue(dto.getQuotas() instanceof EnumMap);
+        assertEquals(Integer.valueOf(1), dto.getQuotas().get(Permission.ADMIN));
+    }
+
+    /**
+     * 测试 implementation 指定的实现类（TreeMap、LinkedList、ArrayDeque）。
+     */
+    @Test
+    public void testImplementationOverride() {
+        Account account = new Account();
+        Map<String, Integer> scores = new HashMap<>();
+        scores.put("b", 2);
+        scores.put("a", 1);
+        account.setScores(scores);
+        account.setHistory(new ArrayList<>(Arrays.asList("login", "logout")));
+        account.setTasks(new LinkedList<>(Collections.singletonList("sync")));
+
+        AccountDto dto = AccountDtoCopier.toDto(account);
+
+        // TreeMap 按 key 排序
+        assertTrue(dto.getScores() instanceof TreeMap);
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(dto.getScores().keySet()));
+        assertTrue(dto.getHistory() instanceof LinkedList);
+        assertEquals(Arrays.asList("login", "logout"), dto.getHistory());
+        assertTrue(dto.getTasks() instanceof ArrayDeque);
+        assertEquals("sync", dto.getTasks().peek());
+    }
+
+    /**
+     * 测试 fromDto 方向不受 implementation 影响，仍按字段类型选择默认实现。
+     */
+    @Test
+    public void testReverseUsesDefaultImplementations() {
+        AccountDto dto = new AccountDto();
+        dto.setPermissions(EnumSet.of(Permission.READ));
+        dto.setScores(new TreeMap<>(Collections.singletonMap("a", 1)));
+        dto.setHistory(new LinkedList<>(Arrays.asList("login", "logout")));
+
+        Account account = AccountDtoCopier.fromDto(dto);
+
+        assertTrue(account.getPermissions() instanceof LinkedHashSet);
+        assertTrue(account.getScores() instanceof HashMap);
+        assertTrue(account.getHistory() instanceof ArrayList);
+        assertNotSame(dto.getHistory(), account.getHistory());
+        assertEquals(dto.getHistory(), account.getHistory());
+    }
+
+    /**
+     * 测试未指定 implementation 的枚举 Set/Map 使用 LinkedHashSet/HashMap：保留 null 元素与源迭代顺序。
+     */
+    @Test
+    public void testEnumCollectionsDefaultToHashedImplementations() {
+        AccountDto dto = new AccountDto();
+        dto.setPermissions(new LinkedHashSet<>(Arrays.asList(Permission.WRITE, null, Permission.READ)));
+        Map<Permission, Integer> quotas = new HashMap<>();
+        quotas.put(null, 0);
+        quotas.put(Permission.ADMIN, 1);
+        dto.setQuotas(quotas);
+
+        Account account = AccountDtoCopier.fromDto(dto);
+
+        assertEquals(Arrays.asList(Permission.WRITE, null, Permission.READ),
+                new ArrayList<>(account.getPermissions()));
+        assertTrue(account.getQuotas() instanceof HashMap);
+        assertEquals(Integer.valueOf(0), account.getQuotas().get(null));
+        assertEquals(Integer.valueOf(1), account.getQuotas().get(Permission.ADMIN));
+    }
+
+    /**
+     * 测试空集合与 null 集合的拷贝。
+     */
+    @Test
+    public void testEmptyAndNullCollections() {
+        Account account = new Account();
+        account.setPermissions(Collections.<Permission>emptySet());
+        account.setQuotas(Collections.<Permission, Integer>emptyMap());
+
+        AccountDto dto = AccountDtoCopier.toDto(account);
+
+        assertTrue(dto.getPermissions().isEmpty());
+        assertTrue(dto.getQuotas().isEmpty());
+        assertNull(dto.getScores());
+        assertNull(dto.getTasks());
+    }
+
+    /**
+     * 测试源集合为空时 PriorityQueue 仍能创建（容量至少为 1）。
+     */
+    @Test
+    public void testEmptyPriorityQueue() {
+        Account account = new Account();
+        account.setPriorities(new LinkedList<Integer>());
+
+        AccountDto dto = AccountDtoCopier.toDto(account);
+
+        assertTrue(dto.getPriorities() instanceof PriorityQueue);
+        assertTrue(dto.getPriorities().isEmpty());
+
+        account.setPriorities(new LinkedList<>(Arrays.asList(3, 1, 2)));
+        dto = AccountDtoCopier.toDto(account);
+        assertEquals(Integer.valueOf(1), dto.getPriorities().peek());
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 列式批量输出测试：{@code @CopyTarget(columns = true)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class ColumnarOutputTest {
+
+    /**
+     * 测试每个字段输出为一列数组，null 行按默认值填充。
+     */
+    @Test
+    public void testOneArrayPerField() {
+        Trade apple = new Trade();
+        apple.setId(1L);
+        apple.setSymbol("AAPL");
+        apple.setPrice(10.5);
+        apple.setQuantity(3);
+        apple.setVolume(100L);
+        Trade microsoft = new Trade();
+        microsoft.setId(3L);
+        microsoft.setSymbol("MSFT");
+        microsoft.setPrice(20.0);
+        microsoft.setQuantity(2);
+        microsoft.setVolume(300L);
+        microsoft.setSide(Permission.READ);
+        microsoft.setTags(new ArrayList<>(Collections.singletonList("msft")));
+
+        TradeDtoColumns columns = TradeDtoCopier.toDtoColumns(Arrays.asList(apple, null, microsoft));
+
+        assertEquals(3, columns.size());
+        assertArrayEquals(new long[]{1L, 0L, 3L}, columns.getId());
+        assertArrayEquals(new String[]{"AAPL", null, "MSFT"}, columns.getSymbol());
+        assertArrayEquals(new double[]{10.5, 0.0, 20.0}, columns.getPrice(), 0.0);
+        assertArrayEquals(new int[]{3, 0, 2}, columns.getQuantity());
+        assertArrayEquals(new Long[]{100L, null, 300L}, columns.getVolume());
+        assertEquals(Permission.READ, columns.getSide()[2]);
+        assertEquals(Collections.singletonList("msft"), columns.getTags()[2]);
+    }
+
+    /**
+     * 测试集合类型的列同样深拷贝。
+     */
+    @Test
+    public void testCollectionColumnsAreCopied() {
+        Trade trade = new Trade();
+        trade.setTags(new ArrayList<>(Collections.singletonList("aapl")));
+
+        TradeDtoColumns columns = TradeDtoCopier.toDtoColumns(Collections.singletonList(trade));
+
+        assertNotSame(trade.getTags(), columns.getTags()[0]);
+        assertEquals(trade.getTags(), columns.getTags()[0]);
+    }
+
+    /**
+     * 测试游标逐行遍历与随机定位。
+     */
+    @Test
+    public void testCursor() {
+        Trade apple = new Trade();
+        apple.setSymbol("AAPL");
+        apple.setPrice(10.5);
+        apple.setQuantity(3);
+        Trade microsoft = new Trade();
+        microsoft.setSymbol("MSFT");
+        microsoft.setPrice(20.0);
+        microsoft.setQuantity(2);
+        microsoft.setVolume(300L);
+        TradeDtoColumns.Cursor cursor = TradeDtoCopier.toDtoColumns(Arrays.asList(apple, null, microsoft)).cursor();
+
+        // 累加非 null 行的成交额
+        double notional = 0;
+        int rows = 0;
+        while (cursor.next()) {
+            rows++;
+            if (!cursor.isNull()) {
+                notional += cursor.getPrice() * cursor.getQuantity();
+            }
+        }
+
+        assertEquals(3, rows);
+        assertEquals(71.5, notional, 0.0);
+        cursor.moveTo(2);
+        assertEquals("MSFT", cursor.getSymbol());
+        assertEquals(2, cursor.position());
+        assertEquals(Long.valueOf(300L), cursor.toDto().getVolume());
+    }
+
+    /**
+     * 测试游标定位到越界的行时抛出异常。
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCursorRejectsInvalidRow() {
+        TradeDtoCopier.toDtoColumns(Arrays.asList(new Trade(), new Trade())).cursor().moveTo(2);
+    }
+
+    /**
+     * 测试把某一行还原为 DTO，null 行还原为 null。
+     */
+    @Test
+    public void testRowToDto() {
+        Trade trade = new Trade();
+        trade.setId(1L);
+        trade.setSymbol("AAPL");
+        trade.setPrice(10.5);
+        trade.setTags(new ArrayList<>(Collections.singletonList("aapl")));
+        List<Trade> trades = Arrays.asList(trade, null);
+
+        TradeDtoColumns columns = TradeDtoCopier.toDtoColumns(trades);
+        TradeDto first = columns.toDto(0);
+
+        assertEquals(1L, first.getId());
+        assertEquals("AAPL", first.getSymbol());
+        assertEquals(10.5, first.getPrice(), 0.0);
+        assertEquals(Collections.singletonList("aapl"), first.getTags());
+        assertNull(columns.toDto(1));
+    }
+
+    /**
+     * 测试 null 与空列表的处理。
+     */
+    @Test
+    public void testNullAndEmptyLists() {
+        assertNull(TradeDtoCopier.toDtoColumns(null));
+
+        TradeDtoColumns columns = TradeDtoCopier.toDtoColumns(Collections.<Trade>emptyList());
+        assertEquals(0, columns.size());
+        assertFalse(columns.cursor().next());
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 紧凑集合输出测试：{@code CollectionOutput.UNMODIFIABLE_COMPACT} 对空集合与单元素集合复用 JDK 共享实现。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class CompactCollectionOutputTest {
+
+    /**
+     * 测试空集合复用 JDK 共享的空集合实例。
+     */
+    @Test
+    public void testEmptyCollections() {
+        Catalog catalog = new Catalog();
+        catalog.setTags(new ArrayList<String>());
+        catalog.setLabels(new HashSet<String>());
+        catalog.setCounters(new HashMap<String, Integer>());
+
+        CompactCatalogDto dto = CompactCatalogDtoCopier.toDto(catalog);
+
+        assertSame(Collections.emptyList(), dto.getTags());
+        assertSame(Collections.emptySet(), dto.getLabels());
+        assertSame(Collections.emptyMap(), dto.getCounters());
+    }
+
+    /**
+     * 测试单元素集合使用 JDK 的 singleton 实现。
+     */
+    @Test
+    public void testSingletonCollections() {
+        Catalog catalog = new Catalog();
+        catalog.setTags(new ArrayList<>(Collections.singletonList("java")));
+        catalog.setLabels(new HashSet<>(Collections.singleton("hot")));
+        catalog.setCounters(new HashMap<>(Collections.singletonMap("views", 7)));
+
+        CompactCatalogDto dto = CompactCatalogDtoCopier.toDto(catalog);
+
+        assertEquals(Collections.singletonList("java"), dto.getTags());
+        assertEquals(Collections.singletonList("java").getClass(), dto.getTags().getClass());
+        assertEquals(Collections.singleton("hot").getClass(), dto.getLabels().getClass());
+        assertEquals(Collections.singletonMap("views", 7), dto.getCounters());
+        assertEquals(Collections.singletonMap("views", 7).getClass(), dto.getCounters().getClass());
+    }
+
+    /**
+     * 测试多元素集合输出为不可修改的集合。
+     */
+    @Test
+    public void testUnmodifiableLargerCollections() {
+        Catalog catalog = new Catalog();
+        catalog.setTags(new ArrayList<>(Arrays.asList("java", "apt", "copier")));
+        catalog.setLabels(new LinkedHashSet<>(Arrays.asList("hot", "new")));
+        Map<String, Integer> counters = new HashMap<>();
+        counters.put("views", 7);
+        counters.put("likes", 3);
+        catalog.setCounters(counters);
+
+        CompactCatalogDto dto = CompactCatalogDtoCopier.toDto(catalog);
+
+        assertEquals(Arrays.asList("java", "apt", "copier"), dto.getTags());
+        assertEquals(2, dto.getLabels().size());
+        assertEquals(counters, dto.getCounters());
+        assertUnsupported(() -> dto.getTags().add("x"));
+        assertUnsupported(() -> dto.getLabels().add("x"));
+        assertUnsupported(() -> dto.getCounters().put("x", 1));
+    }
+
+    /**
+     * 测试字段级 collectionOutput 覆盖类级设置，输出可修改的集合。
+     */
+    @Test
+    public void testFieldLevelMutableOverride() {
+        Catalog catalog = new Catalog();
+        catalog.setAttributes(new HashMap<String, String>());
+
+        CompactCatalogDto dto = CompactCatalogDtoCopier.toDto(catalog);
+
+        assertTrue(dto.getAttributes() instanceof HashMap);
+        dto.getAttributes().put("k", "v");
+        assertEquals("v", dto.getAttributes().get("k"));
+    }
+
+    /**
+     * 测试 fromDto 方向始终输出可修改的集合。
+     */
+    @Test
+    public void testReverseCollectionsAreMutable() {
+        CompactCatalogDto dto = new CompactCatalogDto();
+        dto.setTags(Collections.singletonList("java"));
+        dto.setLabels(Collections.singleton("hot"));
+        dto.setCounters(Collections.singletonMap("views", 7));
+
+        Catalog catalog = CompactCatalogDtoCopier.fromDto(dto);
+
+        catalog.getTags().add("x");
+        catalog.getLabels().add("x");
+        catalog.getCounters().put("x", 1);
+        assertEquals(Arrays.asList("java", "x"), catalog.getTags());
+    }
+
+    /**
+     * 测试未指定紧凑输出的 DTO 仍输出可修改的集合。
+     */
+    @Test
+    public void testDefaultOutputIsMutable() {
+        Catalog catalog = new Catalog();
+        catalog.setTags(new ArrayList<String>());
+        catalog.setLabels(new HashSet<String>());
+        catalog.setCounters(new HashMap<String, Integer>());
+
+        CatalogDto dto = CatalogDtoCopier.toDto(catalog);
+
+        dto.getTags().add("x");
+        dto.getLabels().add("x");
+        dto.getCounters().put("x", 1);
+        assertEquals(1, dto.getTags().size());
+    }
+
+    /**
+     * 测试 null 集合保持为 null。
+     */
+    @Test
+    public void testNullCollections() {
+        CompactCatalogDto dto = CompactCatalogDtoCopier.toDto(new Catalog());
+
+        assertNull(dto.getTags());
+        assertNull(dto.getLabels());
+        assertNull(dto.getCounters());
+    }
+
+    /**
+     * 测试小集合较多时紧凑输出的内存分配明显少于默认输出。
+     */
+    @Test
+    public void testCompactOutputAllocatesLess() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        // 一半为空集合，一半为单元素集合
+        List<Catalog> catalogs = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Catalog catalog = new Catalog();
+            catalog.setTags(new ArrayList<String>());
+            catalog.setLabels(new HashSet<String>());
+            catalog.setAttributes(new HashMap<String, String>());
+            catalog.setCounters(new HashMap<String, Integer>());
+            if (i % 2 == 1) {
+                catalog.getTags().add("tag" + i);
+                catalog.getLabels().add("label" + i);
+                catalog.getAttributes().put("key" + i, "value" + i);
+                catalog.getCounters().put("counter" + i, i);
+            }
+            catalogs.add(catalog);
+        }
+        // 预热，避免类加载与 JIT 的分配干扰测量
+        for (int i = 0; i < 5; i++) {
+            measure(threadBean, catalogs, false);
+            measure(threadBean, catalogs, true);
+        }
+
+        long mutable = measure(threadBean, catalogs, false);
+        long compact = measure(threadBean, catalogs, true);
+        assertTrue("compact=" + compact + ", mutable=" + mutable, compact < mutable * 0.7);
+    }
+
+    /**
+     * 统计当前线程拷贝全部 catalog 时分配的字节数。
+     */
+    private long measure(com.sun.management.ThreadMXBean threadBean, List<Catalog> catalogs, boolean compact) {
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        Object[] results = new Object[catalogs.size()];
+        for (int i = 0; i < catalogs.size(); i++) {
+            results[i] = compact ? CompactCatalogDtoCopier.toDto(catalogs.get(i)) : CatalogDtoCopier.toDto(catalogs.get(i));
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        assertEquals(catalogs.size(), results.length);
+        return allocated;
+    }
+
+    private void assertUnsupported(Runnable action) {
+        try {
+            action.run();
+            fail("应抛出 UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // 期望的不可变集合行为
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+
+import static org.junit.Assert.*;
+
+/**
+ * 条件映射测试：{@code @CopyField(condition = ...)} 不成立时跳过整个字段的转换与深拷贝。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class ConditionalMappingTest {
+
+    @Before
+    public void resetInvocations() {
+        ShipmentConverter.INVOCATIONS.set(0);
+    }
+
+    /**
+     * 测试条件成立时正常转换与拷贝。
+     */
+    @Test
+    public void testConditionHolds() {
+        Shipment shipment = new Shipment();
+        shipment.setId(5L);
+        shipment.setStatus(ShipmentStatus.SHIPPED);
+        shipment.setShippedAt(new GregorianCalendar(2024, Calendar.MARCH, 8).getTime());
+        shipment.setDetailed(true);
+        shipment.setItems(new ArrayList<>(Arrays.asList("box", "crate")));
+
+        ShipmentDto dto = ShipmentDtoCopier.toDto(shipment);
+
+        assertEquals(Long.valueOf(5L), dto.getId());
+        assertEquals("2024-03-08", dto.getShippedAt());
+        assertEquals("box,crate", dto.getItemSummary());
+        assertEquals(Arrays.asList("box", "crate"), dto.getItems());
+        assertNotSame(shipment.getItems(), dto.getItems());
+        assertEquals(2, ShipmentConverter.INVOCATIONS.get());
+    }
+
+    /**
+     * 测试条件不成立时不调用转换器，也不拷贝集合。
+     */
+    @Test
+    public void testConditionFails() {
+        Shipment shipment = new Shipment();
+        shipment.setStatus(ShipmentStatus.CREATED);
+        shipment.setShippedAt(new GregorianCalendar(2024, Calendar.MARCH, 8).getTime());
+        shipment.setDetailed(false);
+        shipment.setItems(new ArrayList<>(Collections.singletonList("box")));
+
+        ShipmentDto dto = ShipmentDtoCopier.toDto(shipment);
+
+        assertEquals(ShipmentStatus.CREATED, dto.getStatus());
+        assertNull(dto.getShippedAt());
+        assertNull(dto.getItemSummary());
+        assertNull(dto.getItems());
+        assertEquals(0, ShipmentConverter.INVOCATIONS.get());
+    }
+
+    /**
+     * 测试每个字段的条件独立判断。
+     */
+    @Test
+    public void testConditionsAreIndependent() {
+        Shipment shipment = new Shipment();
+        shipment.setStatus(ShipmentStatus.CREATED);
+        shipment.setShippedAt(new GregorianCalendar(2024, Calendar.MARCH, 8).getTime());
+        shipment.setDetailed(true);
+        shipment.setItems(new ArrayList<>(Arrays.asList("box", "crate")));
+
+        ShipmentDto dto = ShipmentDtoCopier.toDto(shipment);
+
+        // 未发货：不转换发货时间；需要明细：生成摘要
+        assertNull(dto.getShippedAt());
+        assertEquals("box,crate", dto.getItemSummary());
+        assertEquals(1, ShipmentConverter.INVOCATIONS.get());
+    }
+
+    /**
+     * 测试 fromDto 方向不受条件影响。
+     */
+    @Test
+    public void testReverseIgnoresConditions() {
+        ShipmentDto dto = new ShipmentDto();
+        dto.setId(9L);
+        dto.setItems(Arrays.asList("pallet"));
+
+        Shipment shipment = ShipmentDtoCopier.fromDto(dto);
+
+        assertEquals(Long.valueOf(9L), shipment.getId());
+        assertEquals(Arrays.asList("pallet"), shipment.getItems());
+    }
+}
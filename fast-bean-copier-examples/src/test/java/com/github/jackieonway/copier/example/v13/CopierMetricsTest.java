@@ -0,0 +1,145 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.runtime.CopierMetrics;
+import com.github.jackieonway.copier.runtime.CopierMetricsRegistry;
+import com.github.jackieonway.copier.runtime.Histogram;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Copier 运行时指标测试：{@code @CopyTarget(metrics = true)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class CopierMetricsTest {
+
+    private CopierMetrics metrics;
+
+    /**
+     * 触发类初始化以注册指标，并清空之前测试留下的计数。
+     */
+    @Before
+    public void setUp() {
+        BasketDtoCopier.toDto(null);
+        metrics = CopierMetricsRegistry.get(BasketDtoCopier.class);
+        assertNotNull(metrics);
+        metrics.reset();
+    }
+
+    /**
+     * 测试按操作分别计数，批量方法内部的单个调用也计入 toDto。
+     */
+    @Test
+    public void testCountCallsPerOperation() {
+        Basket basket = new Basket();
+        basket.setId(7L);
+        basket.setOwner("alice");
+        basket.setItems(Arrays.asList("apple", "pear", "fig"));
+        BasketDto dto = BasketDtoCopier.toDto(basket);
+        BasketDtoCopier.fromDto(dto);
+        BasketDtoCopier.toDtoList(Arrays.asList(basket, basket));
+
+        assertEquals(Arrays.asList("apple", "pear", "fig"), dto.getItems());
+        Map<String, Long> calls = metrics.getCalls();
+        assertEquals(Long.valueOf(3), calls.get("toDto"));
+        assertEquals(Long.valueOf(1), calls.get("fromDto"));
+        assertEquals(Long.valueOf(1), calls.get("toDtoList"));
+        // 没有合并键字段时不生成 updateFromDto
+        assertFalse(calls.containsKey("updateFromDto"));
+    }
+
+    /**
+     * 测试按采样记录耗时与集合大小。
+     */
+    @Test
+    public void testSampleLatencyAndCollectionSizes() {
+        Basket basket = new Basket();
+        basket.setOwner("alice");
+        basket.setItems(Arrays.asList("apple", "pear", "fig"));
+        basket.setQuantities(new int[]{1, 2, 3, 4, 5});
+        basket.setLabels(new HashSet<>(Collections.singletonList("fresh")));
+        for (int i = 0; i < 2000; i++) {
+            BasketDtoCopier.toDto(basket);
+        }
+
+        CopierMetrics.Operation toDto = metrics.getOperation("toDto");
+        assertEquals(2000, toDto.getCalls());
+        long sampled = toDto.getLatency().getCount();
+        assertTrue(sampled > 0 && sampled < 2000);
+        assertEquals(sampled, toDto.getSizes("items").getCount());
+        assertEquals(3, toDto.getSizes("items").getMax());
+        assertEquals(5, toDto.getSizes("quantities").getMax());
+        assertEquals(1.0, toDto.getSizes("labels").getMean(), 0.0);
+        // null 集合不记录大小
+        assertEquals(0, toDto.getSizes("attributes").getCount());
+        assertNull(toDto.getSizes("owner"));
+        assertEquals(Long.valueOf(3), metrics.getCollectionSizeMax().get("toDto.items"));
+    }
+
+    /**
+     * 测试直方图按桶给出百分位，负值记为 0。
+     */
+    @Test
+    public void testHistogramPercentiles() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+
+        assertEquals(101, histogram.getCount());
+        assertEquals(100, histogram.getMax());
+        assertEquals(63, histogram.getPercentile(50));
+        assertEquals(100, histogram.getPercentile(99));
+        assertEquals(5050 / 101.0, histogram.getMean(), 1e-9);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    /**
+     * 测试通过 JMX 读取与重置指标。
+     */
+    @Test
+    public void testExposeMetricsThroughJmx() throws Exception {
+        Basket basket = new Basket();
+        basket.setItems(Arrays.asList("apple", "pear"));
+        BasketDtoCopier.toDto(basket);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = CopierMetricsRegistry.objectName(BasketDtoCopier.class);
+
+        assertTrue(server.isRegistered(name));
+        assertEquals(BasketDtoCopier.class.getName(), server.getAttribute(name, "Copier"));
+        TabularData calls = (TabularData) server.getAttribute(name, "Calls");
+        assertEquals(1L, calls.get(new Object[]{"toDto"}).get("value"));
+
+        server.invoke(name, "reset", null, null);
+        assertEquals(0, metrics.getOperation("toDto").getCalls());
+        assertTrue(CopierMetricsRegistry.all().contains(metrics));
+    }
+
+    /**
+     * 测试未开启 metrics 的 Copier 不生成埋点。
+     */
+    @Test
+    public void testCopierWithoutMetrics() {
+        for (Field field : SeriesDtoCopier.class.getDeclaredFields()) {
+            assertFalse(field.getName().endsWith("METRICS"));
+        }
+        assertNull(CopierMetricsRegistry.get(SeriesDtoCopier.class));
+    }
+}
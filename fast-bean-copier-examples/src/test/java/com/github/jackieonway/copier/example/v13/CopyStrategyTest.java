@@ -0,0 +1,125 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.runtime.Immutables;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * 集合拷贝策略测试：SHARE 与 SHARE_IF_IMMUTABLE。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class CopyStrategyTest {
+
+    /**
+     * 测试 SHARE_IF_IMMUTABLE 直接共享不可变的源集合。
+     */
+    @Test
+    public void testShareImmutableCollections() {
+        Shelf shelf = new Shelf();
+        shelf.setTags(Collections.unmodifiableList(Arrays.asList("java", "apt")));
+        shelf.setGenres(Collections.singleton("tech"));
+        shelf.setStock(Collections.unmodifiableMap(Collections.singletonMap("book", 3)));
+
+        ShelfDto dto = ShelfDtoCopier.toDto(shelf);
+
+        assertSame(shelf.getTags(), dto.getTags());
+        assertSame(shelf.getGenres(), dto.getGenres());
+        assertSame(shelf.getStock(), dto.getStock());
+    }
+
+    /**
+     * 测试 SHARE_IF_IMMUTABLE 对可变的源集合仍然拷贝。
+     */
+    @Test
+    public void testCopyMutableCollections() {
+        Shelf shelf = new Shelf();
+        shelf.setTags(new ArrayList<>(Arrays.asList("java", "apt")));
+        shelf.setGenres(new HashSet<>(Collections.singletonList("tech")));
+        Map<String, Integer> stock = new HashMap<>();
+        stock.put("book", 3);
+        shelf.setStock(stock);
+
+        ShelfDto dto = ShelfDtoCopier.toDto(shelf);
+
+        assertNotSame(shelf.getTags(), dto.getTags());
+        assertEquals(shelf.getTags(), dto.getTags());
+        assertNotSame(shelf.getGenres(), dto.getGenres());
+        assertEquals(shelf.getGenres(), dto.getGenres());
+        assertNotSame(shelf.getStock(), dto.getStock());
+        assertEquals(shelf.getStock(), dto.getStock());
+    }
+
+    /**
+     * 测试 SHARE 策略在两个方向上都直接共享集合。
+     */
+    @Test
+    public void testShareStrategy() {
+        Shelf shelf = new Shelf();
+        shelf.setNotes(new ArrayList<>(Collections.singletonList("note")));
+
+        ShelfDto dto = ShelfDtoCopier.toDto(shelf);
+        Shelf back = ShelfDtoCopier.fromDto(dto);
+
+        assertSame(shelf.getNotes(), dto.getNotes());
+        assertSame(shelf.getNotes(), back.getNotes());
+    }
+
+    /**
+     * 测试 fromDto 方向同样按拷贝策略共享不可变集合。
+     */
+    @Test
+    public void testReverseDirection() {
+        ShelfDto dto = new ShelfDto();
+        dto.setTags(Collections.unmodifiableList(Arrays.asList("java", "apt")));
+        dto.setStock(Collections.singletonMap("book", 3));
+
+        Shelf back = ShelfDtoCopier.fromDto(dto);
+
+        assertSame(dto.getTags(), back.getTags());
+        assertSame(dto.getStock(), back.getStock());
+    }
+
+    /**
+     * 测试 null 集合保持为 null。
+     */
+    @Test
+    public void testNullCollections() {
+        ShelfDto dto = ShelfDtoCopier.toDto(new Shelf());
+
+        assertNull(dto.getTags());
+        assertNull(dto.getGenres());
+        assertNull(dto.getStock());
+        assertNull(dto.getNotes());
+    }
+
+    /**
+     * 测试运行时识别已知的不可变集合实现。
+     */
+    @Test
+    public void testKnownImmutableImplementations() {
+        assertTrue(Immutables.isKnownImmutable(Collections.emptyList()));
+        assertTrue(Immutables.isKnownImmutable(Collections.singleton("a")));
+        assertTrue(Immutables.isKnownImmutable(Collections.singletonMap("a", 1)));
+        assertTrue(Immutables.isKnownImmutable(Collections.unmodifiableList(new LinkedList<String>())));
+        assertTrue(Immutables.isKnownImmutable(Collections.unmodifiableSortedMap(new TreeMap<String, Integer>())));
+
+        // null、可变集合与 Arrays.asList（可 set）都不视为不可变
+        assertFalse(Immutables.isKnownImmutable((List<?>) null));
+        assertFalse(Immutables.isKnownImmutable(new ArrayList<String>()));
+        assertFalse(Immutables.isKnownImmutable(Arrays.asList("a", "b")));
+        assertFalse(Immutables.isKnownImmutable(new HashMap<String, Integer>()));
+    }
+}
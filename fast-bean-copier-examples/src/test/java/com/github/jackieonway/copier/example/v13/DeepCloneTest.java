@@ -0,0 +1,153 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 深拷贝克隆器测试：{@code @DeepClone} 与同类型 {@code @CopyTarget} 生成的 {@code deepClone}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class DeepCloneTest {
+
+    /**
+     * 测试每一层对象、集合、数组与可变值都被独立拷贝。
+     */
+    @Test
+    public void testCloneEveryLevel() {
+        Folder docs = new Folder();
+        docs.setName("docs");
+        Folder root = new Folder();
+        root.setName("root");
+        root.setArchived(true);
+        root.setChildren(new ArrayList<>(Collections.singletonList(docs)));
+        Tag shared = new Tag();
+        shared.setCode(1);
+        shared.setLabel("shared");
+        Tag work = new Tag();
+        work.setCode(2);
+        work.setLabel("work");
+        Map<String, List<Tag>> groups = new LinkedHashMap<>();
+        groups.put("work", new ArrayList<>(Arrays.asList(shared, work)));
+        root.setTagsByGroup(groups);
+        root.setPinned(new Tag[]{shared, null});
+        root.setGrid(new int[][]{{1, 2}, {3}});
+        root.setCreatedAt(new Date(1000L));
+        root.setLabels(new LinkedHashSet<>(Arrays.asList("a", "b")));
+
+        Folder copy = FolderCloner.deepClone(root);
+
+        assertNotSame(root, copy);
+        assertEquals("root", copy.getName());
+        assertTrue(copy.isArchived());
+        assertNotSame(root.getChildren(), copy.getChildren());
+        assertNotSame(docs, copy.getChildren().get(0));
+        assertEquals("docs", copy.getChildren().get(0).getName());
+        assertNotSame(groups.get("work"), copy.getTagsByGroup().get("work"));
+        assertEquals("work", copy.getTagsByGroup().get("work").get(1).getLabel());
+        assertNotSame(root.getGrid()[0], copy.getGrid()[0]);
+        assertArrayEquals(new int[]{3}, copy.getGrid()[1]);
+        assertNotSame(root.getCreatedAt(), copy.getCreatedAt());
+        assertEquals(root.getCreatedAt(), copy.getCreatedAt());
+        assertEquals(root.getLabels(), copy.getLabels());
+        assertNull(copy.getPinned()[1]);
+
+        // 修改原对象不影响克隆结果
+        shared.setLabel("changed");
+        root.getGrid()[0][0] = 99;
+        assertEquals("shared", copy.getTagsByGroup().get("work").get(0).getLabel());
+        assertEquals(1, copy.getGrid()[0][0]);
+    }
+
+    /**
+     * 测试循环引用与共享引用在克隆结果中保持同样的结构。
+     */
+    @Test
+    public void testCyclesAndSharedReferences() {
+        Folder root = new Folder();
+        Folder docs = new Folder();
+        Folder photos = new Folder();
+        docs.setParent(root);
+        photos.setParent(root);
+        root.setChildren(new ArrayList<>(Arrays.asList(docs, photos)));
+        Tag shared = new Tag();
+        List<Tag> work = new ArrayList<>(Collections.singletonList(shared));
+        Map<String, List<Tag>> groups = new LinkedHashMap<>();
+        groups.put("work", work);
+        groups.put("alias", work);
+        root.setTagsByGroup(groups);
+        docs.setTagsByGroup(groups);
+        root.setPinned(new Tag[]{shared});
+
+        Folder copy = FolderCloner.deepClone(root);
+
+        Folder docsCopy = copy.getChildren().get(0);
+        assertSame(copy, docsCopy.getParent());
+        assertSame(copy, copy.getChildren().get(1).getParent());
+        assertSame(copy.getTagsByGroup(), docsCopy.getTagsByGroup());
+        assertSame(copy.getTagsByGroup().get("work"), copy.getTagsByGroup().get("alias"));
+        assertSame(copy.getTagsByGroup().get("work").get(0), copy.getPinned()[0]);
+    }
+
+    /**
+     * 测试不可变值按引用共享。
+     */
+    @Test
+    public void testShareImmutableValues() {
+        Folder root = new Folder();
+        root.setName("root");
+        root.setLocation(new GeoPoint(31.2, 121.5));
+
+        Folder copy = FolderCloner.deepClone(root);
+
+        assertSame(root.getLocation(), copy.getLocation());
+        assertSame(root.getName(), copy.getName());
+    }
+
+    /**
+     * 测试同类型的 {@code @CopyTarget} 同时生成克隆器。
+     */
+    @Test
+    public void testClonerForSelfCopy() {
+        Tag scenic = new Tag();
+        scenic.setCode(7);
+        scenic.setLabel("scenic");
+        Waypoint first = new Waypoint();
+        first.setName("start");
+        first.setPoint(new GeoPoint(1.0, 2.0));
+        first.setTags(new ArrayList<>(Collections.singletonList(scenic)));
+        Waypoint second = new Waypoint();
+        second.setName("loop");
+        second.setNext(first);
+        first.setNext(second);
+
+        Waypoint copy = WaypointCloner.deepClone(first);
+
+        assertNotSame(first, copy);
+        assertNotSame(scenic, copy.getTags().get(0));
+        assertEquals("scenic", copy.getTags().get(0).getLabel());
+        assertEquals("loop", copy.getNext().getName());
+        assertSame(copy, copy.getNext().getNext());
+        assertEquals("start", WaypointCopier.toDto(first).getName());
+    }
+
+    /**
+     * 测试 null 源对象与 null 字段。
+     */
+    @Test
+    public void testNullSource() {
+        assertNull(FolderCloner.deepClone(null));
+        assertNull(FolderCloner.deepClone(new Folder()).getChildren());
+    }
+}
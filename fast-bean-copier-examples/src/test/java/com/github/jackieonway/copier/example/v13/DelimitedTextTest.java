@@ -0,0 +1,174 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.runtime.DelimitedReader;
+import com.github.jackieonway.copier.runtime.DelimitedSupport;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 生成的分隔文本读写器测试：{@code @CopyTarget(csvColumns = ...)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class DelimitedTextTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * 把文本以 UTF-8 写入临时文件。
+     */
+    private Path write(String content) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * 测试写入文件后读回，包括需要转义的文本、全空行与边界数值。
+     */
+    @Test
+    public void testRoundTripThroughFile() throws IOException {
+        QuoteRecord record = new QuoteRecord();
+        record.setSeq(1L);
+        record.setSymbol("600519.SH");
+        record.setPrice(new BigDecimal("1688.50"));
+        record.setVolume(300);
+        record.setBuy(true);
+        record.setVenue('X');
+        record.setYield(0.0125);
+        record.setLevel(Permission.READ);
+        record.setQuotedAt(LocalDateTime.of(2024, 3, 1, 9, 30, 0, 500000000));
+        record.setNote("贵州茅台, \"龙头\"\n第二行 😀");
+        QuoteRecord minimum = new QuoteRecord();
+        minimum.setSeq(Long.MIN_VALUE);
+        Path file = folder.newFile().toPath();
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            QuoteRecordCsv.writeHeader(writer);
+            QuoteRecordCsv.writeRow(record, writer);
+            QuoteRecordCsv.writeRow(new QuoteRecord(), writer);
+            QuoteRecordCsv.writeRow(minimum, writer);
+        }
+
+        List<QuoteRecord> records = new ArrayList<>();
+        long count = QuoteRecordCsv.read(file, true, records::add);
+
+        assertEquals(3L, count);
+        QuoteRecord first = records.get(0);
+        assertEquals(1L, first.getSeq());
+        assertEquals("600519.SH", first.getSymbol());
+        assertEquals(new BigDecimal("1688.50"), first.getPrice());
+        assertEquals(Integer.valueOf(300), first.getVolume());
+        assertTrue(first.getBuy());
+        assertEquals('X', first.getVenue());
+        assertEquals(record.getYield(), first.getYield());
+        assertEquals(Permission.READ, first.getLevel());
+        assertEquals(record.getQuotedAt(), first.getQuotedAt());
+        assertEquals(record.getNote(), first.getNote());
+
+        QuoteRecord empty = records.get(1);
+        assertEquals(0L, empty.getSeq());
+        assertNull(empty.getSymbol());
+        assertNull(empty.getPrice());
+        assertNull(empty.getVolume());
+        assertFalse(empty.getBuy());
+        assertNull(empty.getLevel());
+        assertNull(empty.getNote());
+
+        assertEquals(Long.MIN_VALUE, records.get(2).getSeq());
+    }
+
+    /**
+     * 测试表头按列顺序写出。
+     */
+    @Test
+    public void testHeaderInColumnOrder() throws IOException {
+        StringBuilder out = new StringBuilder();
+        QuoteRecordCsv.writeHeader(out);
+
+        assertEquals(String.join(",", QuoteRecordCsv.COLUMNS) + "\n", out.toString());
+        assertEquals("seq", QuoteRecordCsv.COLUMNS.get(0));
+        assertEquals("note", QuoteRecordCsv.COLUMNS.get(QuoteRecordCsv.COLUMNS.size() - 1));
+    }
+
+    /**
+     * 测试解析引号字段、CRLF 换行、空行与 UTF-8 BOM。
+     */
+    @Test
+    public void testQuotedFieldsCrlfAndBom() throws IOException {
+        Path file = write("\uFEFFseq,symbol,price\r\n"
+                + "7,\"A,B\",1.5\r\n"
+                + "\r\n"
+                + "8,\"say \"\"hi\"\"\r\nagain\",2\r\n"
+                + "9");
+
+        List<QuoteRecord> records = new ArrayList<>();
+        long count = QuoteRecordCsv.read(file, true, records::add);
+
+        assertEquals(3L, count);
+        assertEquals("A,B", records.get(0).getSymbol());
+        assertEquals(new BigDecimal("1.5"), records.get(0).getPrice());
+        assertEquals("say \"hi\"\r\nagain", records.get(1).getSymbol());
+        assertEquals(9L, records.get(2).getSeq());
+        assertNull(records.get(2).getSymbol());
+    }
+
+    /**
+     * 测试逐行回调复用同一个列数组，空列读为空字符序列。
+     */
+    @Test
+    public void testColumnViewsAreReused() throws IOException {
+        Path file = write("\tc\td\na\tβ\n");
+        List<CharSequence[]> arrays = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+
+        long count = DelimitedReader.forEachRow(file, '\t', false, columns -> {
+            arrays.add(columns);
+            StringBuilder row = new StringBuilder();
+            for (CharSequence column : columns) {
+                row.append('[').append(column).append(']');
+            }
+            values.add(row.toString());
+        });
+
+        assertEquals(2L, count);
+        assertSame(arrays.get(0), arrays.get(1));
+        assertEquals(Arrays.asList("[][c][d]", "[a][β][]"), values);
+    }
+
+    /**
+     * 测试直接从字符序列解析数字与布尔值，越界与非法输入抛出 NumberFormatException。
+     */
+    @Test
+    public void testParseNumbers() {
+        assertEquals(Long.MAX_VALUE, DelimitedSupport.parseLong(String.valueOf(Long.MAX_VALUE)));
+        assertEquals(Long.MIN_VALUE, DelimitedSupport.parseLong(String.valueOf(Long.MIN_VALUE)));
+        assertEquals(-42, DelimitedSupport.parseInt("-42"));
+        assertEquals(42, DelimitedSupport.parseInt("+42"));
+        assertTrue(DelimitedSupport.parseBoolean("1"));
+        assertFalse(DelimitedSupport.parseBoolean("FALSE"));
+        for (String invalid : new String[]{"9223372036854775808", "-", "12a", "2147483648"}) {
+            try {
+                DelimitedSupport.parseInt(invalid);
+                fail("应拒绝 " + invalid);
+            } catch (NumberFormatException expected) {
+                // 预期异常
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.example.Address;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * 点号路径映射测试：{@code @CopyField(source = "buyer.address.city")} 的扁平化与反扁平化。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class DottedPathMappingTest {
+
+    /**
+     * 测试把嵌套路径上的字段扁平化到 DTO。
+     */
+    @Test
+    public void testFlattenNestedPaths() {
+        Buyer buyer = new Buyer();
+        buyer.setName("张三");
+        buyer.setLevel(3);
+        buyer.setAddress(new Address("浙江", "杭州", "文三路"));
+        Purchase purchase = new Purchase();
+        purchase.setId(100L);
+        purchase.setBuyer(buyer);
+
+        PurchaseSummaryDto dto = PurchaseSummaryDtoCopier.toDto(purchase);
+
+        assertEquals(Long.valueOf(100L), dto.getId());
+        assertEquals("张三", dto.getBuyerName());
+        assertEquals(3, dto.getBuyerLevel());
+        assertEquals("杭州", dto.getCity());
+        assertEquals("浙江", dto.getProvince());
+    }
+
+    /**
+     * 测试路径前缀为 null 时跳过对应字段。
+     */
+    @Test
+    public void testNullPathPrefix() {
+        Buyer buyer = new Buyer();
+        buyer.setName("张三");
+        Purchase purchase = new Purchase();
+        purchase.setBuyer(buyer);
+
+        // address 为 null
+        PurchaseSummaryDto dto = PurchaseSummaryDtoCopier.toDto(purchase);
+        assertEquals("张三", dto.getBuyerName());
+        assertNull(dto.getCity());
+
+        // buyer 为 null
+        purchase.setBuyer(null);
+        dto = PurchaseSummaryDtoCopier.toDto(purchase);
+        assertNull(dto.getBuyerName());
+        assertEquals(0, dto.getBuyerLevel());
+    }
+
+    /**
+     * 测试 fromDto 按路径创建中间对象。
+     */
+    @Test
+    public void testReverseCreatesIntermediateObjects() {
+        PurchaseSummaryDto dto = new PurchaseSummaryDto();
+        dto.setBuyerName("张三");
+        dto.setBuyerLevel(3);
+        dto.setCity("杭州");
+        dto.setProvince("浙江");
+
+        Purchase purchase = PurchaseSummaryDtoCopier.fromDto(dto);
+
+        assertEquals("张三", purchase.getBuyer().getName());
+        assertEquals(3, purchase.getBuyer().getLevel());
+        assertEquals("杭州", purchase.getBuyer().getAddress().getCity());
+        assertEquals("浙江", purchase.getBuyer().getAddress().getProvince());
+        assertNull(purchase.getBuyer().getAddress().getStreet());
+    }
+
+    /**
+     * 测试 DTO 值为 null 时不创建中间对象。
+     */
+    @Test
+    public void testReverseSkipsNullValues() {
+        PurchaseSummaryDto dto = new PurchaseSummaryDto();
+        dto.setBuyerName("李四");
+
+        Purchase purchase = PurchaseSummaryDtoCopier.fromDto(dto);
+
+        assertEquals("李四", purchase.getBuyer().getName());
+        assertNull(purchase.getBuyer().getAddress());
+    }
+}
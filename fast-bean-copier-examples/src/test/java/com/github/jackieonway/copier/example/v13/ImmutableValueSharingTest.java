@@ -0,0 +1,85 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 不可变值类型共享测试：推断为不可变或标注 {@code @Immutable} 的类型按引用传递，不生成嵌套 Copier 调用。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class ImmutableValueSharingTest {
+
+    /**
+     * 测试不可变字段按引用共享。
+     */
+    @Test
+    public void testShareImmutableFields() {
+        Parcel parcel = new Parcel();
+        parcel.setId(7L);
+        parcel.setPrice(new Money(new BigDecimal("9.90"), "CNY"));
+        parcel.setOrigin(new GeoPoint(31.2, 121.5));
+
+        ParcelDto dto = ParcelDtoCopier.toDto(parcel);
+
+        assertEquals(Long.valueOf(7L), dto.getId());
+        // Money 推断为不可变，GeoPoint 标注了 @Immutable
+        assertSame(parcel.getPrice(), dto.getPrice());
+        assertSame(parcel.getOrigin(), dto.getOrigin());
+    }
+
+    /**
+     * 测试集合本身被拷贝，其中的不可变元素按引用共享。
+     */
+    @Test
+    public void testCopyCollectionsShareElements() {
+        Parcel parcel = new Parcel();
+        parcel.setCharges(new ArrayList<>(Arrays.asList(new Money(BigDecimal.ONE, "CNY"), null)));
+        Map<String, Money> fees = new HashMap<>();
+        fees.put("tax", new Money(BigDecimal.TEN, "CNY"));
+        parcel.setFees(fees);
+
+        ParcelDto dto = ParcelDtoCopier.toDto(parcel);
+
+        assertNotSame(parcel.getCharges(), dto.getCharges());
+        assertSame(parcel.getCharges().get(0), dto.getCharges().get(0));
+        assertNull(dto.getCharges().get(1));
+        assertNotSame(parcel.getFees(), dto.getFees());
+        assertSame(fees.get("tax"), dto.getFees().get("tax"));
+    }
+
+    /**
+     * 测试 fromDto 方向同样共享不可变字段。
+     */
+    @Test
+    public void testReverseSharing() {
+        ParcelDto dto = new ParcelDto();
+        dto.setPrice(new Money(new BigDecimal("19.90"), "USD"));
+        dto.setOrigin(new GeoPoint(39.9, 116.4));
+
+        Parcel parcel = ParcelDtoCopier.fromDto(dto);
+
+        assertSame(dto.getPrice(), parcel.getPrice());
+        assertSame(dto.getOrigin(), parcel.getOrigin());
+    }
+
+    /**
+     * 测试 null 值处理。
+     */
+    @Test
+    public void testNullValues() {
+        ParcelDto dto = ParcelDtoCopier.toDto(new Parcel());
+
+        assertNull(dto.getPrice());
+        assertNull(dto.getOrigin());
+        assertNull(dto.getCharges());
+    }
+}
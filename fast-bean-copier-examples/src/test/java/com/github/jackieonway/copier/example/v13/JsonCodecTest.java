@@ -0,0 +1,267 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jackieonway.copier.runtime.JsonReader;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * 生成的 JSON 编解码器测试：{@code @CopyTarget(json = true)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class JsonCodecTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    /**
+     * 测试写入 Appendable 后从 Reader 读回，覆盖所有支持的字段类型。
+     */
+    @Test
+    public void testRoundTripThroughAppendableAndReader() throws IOException {
+        ProfileContactDto email = new ProfileContactDto();
+        email.setKind("email");
+        email.setValue("zs@example.com");
+        email.setVerified(true);
+        ProfileContactDto phone = new ProfileContactDto();
+        phone.setKind("phone");
+        phone.setValue("123");
+        phone.setVerified(true);
+        Map<String, Integer> counters = new LinkedHashMap<>();
+        counters.put("views", 10);
+        counters.put("null", null);
+        Map<Permission, List<Long>> grants = new LinkedHashMap<>();
+        grants.put(Permission.READ, Arrays.asList(1L, 2L));
+        ProfileDto profile = new ProfileDto();
+        profile.setId(Long.MIN_VALUE);
+        // 需要转义的字符、控制字符与代理对
+        profile.setName("张三 \"zs\"\\\n\t\u0001 😀");
+        profile.setActive(true);
+        profile.setAge(30);
+        profile.setScore(-12.5e-3);
+        profile.setRatio(0.1f);
+        profile.setGrade('A');
+        profile.setLevel(Permission.ADMIN);
+        profile.setBalance(new BigDecimal("12345678901234567890.000001"));
+        profile.setCreatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        profile.setUpdatedAt(new Date(1700000000123L));
+        profile.setToken(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        profile.setTags(Arrays.asList("a", null, "c"));
+        profile.setCounters(counters);
+        profile.setGrants(grants);
+        profile.setLucky(new int[]{3, 7, 11, 13, 17, 19, 23, 29, 31});
+        profile.setAvatar(new byte[]{0, 1, (byte) 0xFF});
+        profile.setPrimary(email);
+        profile.setContacts(Arrays.asList(phone, null));
+        profile.setPreferences("{\"locale\":\"zh-CN\",\"mutedTags\":[\"x\"]}");
+        StringBuilder json = new StringBuilder();
+
+        ProfileDtoJsonCodec.write(profile, json);
+        ProfileDto decoded = ProfileDtoJsonCodec.read(new StringReader(json.toString()));
+
+        assertEquals(profile.getId(), decoded.getId());
+        assertEquals(profile.getName(), decoded.getName());
+        assertEquals(profile.getActive(), decoded.getActive());
+        assertEquals(profile.getAge(), decoded.getAge());
+        assertEquals(profile.getScore(), decoded.getScore(), 0.0);
+        assertEquals(profile.getRatio(), decoded.getRatio());
+        assertEquals(profile.getGrade(), decoded.getGrade());
+        assertEquals(profile.getLevel(), decoded.getLevel());
+        assertEquals(profile.getBalance(), decoded.getBalance());
+        assertEquals(profile.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(profile.getUpdatedAt(), decoded.getUpdatedAt());
+        assertEquals(profile.getToken(), decoded.getToken());
+        assertEquals(profile.getTags(), decoded.getTags());
+        assertEquals(profile.getCounters(), decoded.getCounters());
+        assertEquals(profile.getGrants(), decoded.getGrants());
+        assertArrayEquals(profile.getLucky(), decoded.getLucky());
+        assertArrayEquals(profile.getAvatar(), decoded.getAvatar());
+        assertEquals(profile.getPrimary().getValue(), decoded.getPrimary().getValue());
+        assertEquals(profile.getContacts().get(0).getKind(), decoded.getContacts().get(0).getKind());
+        assertNull(decoded.getContacts().get(1));
+        assertEquals(profile.getPreferences(), decoded.getPreferences());
+    }
+
+    /**
+     * 测试写入字节流与写入 Appendable 的输出一致，并可从字节数组读回。
+     */
+    @Test
+    public void testStreamAndAppendableOutputIdentical() throws IOException {
+        ProfileContactDto email = new ProfileContactDto();
+        email.setKind("email");
+        email.setValue("zs@example.com");
+        ProfileDto profile = new ProfileDto();
+        profile.setId(1L);
+        profile.setName("张三 \"zs\"\n😀");
+        profile.setScore(1.5);
+        profile.setBalance(new BigDecimal("0.10"));
+        profile.setTags(Arrays.asList("a", null));
+        profile.setAvatar(new byte[]{0, (byte) 0xFF});
+        profile.setPrimary(email);
+        profile.setContacts(Collections.singletonList(null));
+        StringBuilder json = new StringBuilder();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        ProfileDtoJsonCodec.write(profile, json);
+        ProfileDtoJsonCodec.write(profile, bytes);
+
+        assertEquals(json.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+        ProfileDto decoded = ProfileDtoJsonCodec.read(bytes.toByteArray());
+        assertEquals(profile.getName(), decoded.getName());
+        assertEquals(1.5, decoded.getScore(), 0.0);
+        assertEquals(new BigDecimal("0.10"), decoded.getBalance());
+        assertEquals(Arrays.asList("a", null), decoded.getTags());
+        assertArrayEquals(new byte[]{0, (byte) 0xFF}, decoded.getAvatar());
+        assertEquals("zs@example.com", decoded.getPrimary().getValue());
+        assertNull(decoded.getContacts().get(0));
+    }
+
+    /**
+     * 测试输出是 Jackson 可以解析的合法 JSON。
+     */
+    @Test
+    public void testOutputIsValidJsonForJackson() throws IOException {
+        ProfileContactDto email = new ProfileContactDto();
+        email.setKind("email");
+        email.setValue("zs@example.com");
+        Map<Permission, List<Long>> grants = new LinkedHashMap<>();
+        grants.put(Permission.READ, Arrays.asList(1L, 2L));
+        ProfileDto profile = new ProfileDto();
+        profile.setId(Long.MIN_VALUE);
+        profile.setName("张三 \"zs\"\\\n\t\u0001 😀");
+        profile.setLevel(Permission.ADMIN);
+        profile.setBalance(new BigDecimal("12345678901234567890.000001"));
+        profile.setUpdatedAt(new Date(1700000000123L));
+        profile.setTags(Arrays.asList("a", null, "c"));
+        profile.setGrants(grants);
+        profile.setPrimary(email);
+        profile.setPreferences("{\"locale\":\"zh-CN\",\"mutedTags\":[\"x\"]}");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ProfileDtoJsonCodec.write(profile, bytes);
+
+        JsonNode node = mapper.readTree(bytes.toByteArray());
+
+        assertEquals(Long.MIN_VALUE, node.get("id").asLong());
+        assertEquals(profile.getName(), node.get("name").asText());
+        assertEquals("ADMIN", node.get("level").asText());
+        assertEquals(new BigDecimal("12345678901234567890.000001"), node.get("balance").decimalValue());
+        assertEquals(1700000000123L, node.get("updatedAt").asLong());
+        assertTrue(node.get("tags").get(1).isNull());
+        assertEquals(2L, node.get("grants").get("READ").get(1).asLong());
+        assertEquals("zh-CN", node.get("preferences").get("locale").asText());
+        assertEquals("zs@example.com", node.get("primary").get("value").asText());
+    }
+
+    /**
+     * 测试读取 Jackson 的输出并跳过未知字段。
+     */
+    @Test
+    public void testReadJacksonOutputAndSkipUnknownFields() throws IOException {
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("unknown", Collections.singletonMap("nested", Arrays.asList(1, "}", "\\\"")));
+        source.put("kind", "wechat");
+        source.put("value", "wxé");
+        source.put("verified", null);
+        source.put("extra", 1.5e10);
+
+        ProfileContactDto contact = ProfileContactDtoJsonCodec.read(mapper.writeValueAsBytes(source));
+
+        assertEquals("wechat", contact.getKind());
+        assertEquals("wxé", contact.getValue());
+        assertNull(contact.getVerified());
+    }
+
+    /**
+     * 测试 null 值、空集合与任意空白。
+     */
+    @Test
+    public void testNullsAndWhitespace() throws IOException {
+        ProfileDto profile = ProfileDtoJsonCodec.read(
+                " {\n \"id\" : 7 ,\t\"name\":null, \"age\":null, \"tags\": [ ], \"counters\":{}, \"primary\": null } "
+                        .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(7L, profile.getId());
+        assertNull(profile.getName());
+        assertNull(profile.getAge());
+        assertTrue(profile.getTags().isEmpty());
+        assertTrue(profile.getCounters().isEmpty());
+        assertNull(profile.getPrimary());
+
+        StringBuilder json = new StringBuilder();
+        ProfileDtoJsonCodec.write(null, json);
+        assertEquals("null", json.toString());
+        assertNull(ProfileDtoJsonCodec.read(new StringReader("null")));
+    }
+
+    /**
+     * 测试与 JSON 转换器字段配合：嵌入的 JSON 原样输出并可还原。
+     */
+    @Test
+    public void testJsonConverterFields() throws IOException {
+        Profile entity = new Profile();
+        ReaderPreferences preferences = new ReaderPreferences();
+        preferences.setLocale("en-US");
+        preferences.setMutedTags(Arrays.asList("spam"));
+        entity.setPreferences(preferences);
+
+        ProfileDto dto = ProfileDtoCopier.toDto(entity);
+        StringBuilder json = new StringBuilder();
+        ProfileDtoJsonCodec.write(dto, json);
+
+        assertTrue(json.toString().contains("\"preferences\":{\"locale\":\"en-US\""));
+        ProfileDto decoded = ProfileDtoJsonCodec.read(new StringReader(json.toString()));
+        ReaderPreferences restored = ProfileDtoCopier.fromDto(decoded).getPreferences();
+        assertEquals("en-US", restored.getLocale());
+        assertEquals(Arrays.asList("spam"), restored.getMutedTags());
+    }
+
+    /**
+     * 测试非法 JSON 抛出 IllegalArgumentException。
+     */
+    @Test
+    public void testRejectMalformedJson() {
+        for (String json : new String[]{"{\"id\":1,}", "{\"id\":1 \"name\":\"x\"}", "{\"id\":1.5}", "{\"id\":1}x",
+                "{\"name\":\"abc}", "{\"id\":99999999999999999999}"}) {
+            try {
+                ProfileDtoJsonCodec.read(json.getBytes(StandardCharsets.UTF_8));
+                fail("应拒绝 " + json);
+            } catch (IllegalArgumentException expected) {
+                // 预期异常
+            }
+        }
+    }
+
+    /**
+     * 测试 JsonReader 对重复的字段名复用同一个 String 实例。
+     */
+    @Test
+    public void testReaderReusesFieldNames() {
+        JsonReader reader = JsonReader.of("{\"kind\":1,\"kind\":2}");
+        reader.beginObject();
+        reader.hasNext();
+        String first = reader.nextName();
+        reader.skipValue();
+        reader.hasNext();
+
+        assertSame(first, reader.nextName());
+    }
+}
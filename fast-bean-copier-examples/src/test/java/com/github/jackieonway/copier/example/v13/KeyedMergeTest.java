@@ -0,0 +1,158 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * 按键合并子集合测试：{@code @CopyField(mergeKey = ...)} 与 {@code updateFromDto(dto, existing)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class KeyedMergeTest {
+
+    /**
+     * 测试按 id 合并：原地更新已匹配元素、移除 DTO 中不存在的元素，新元素追加在末尾。
+     */
+    @Test
+    public void testMergeByKey() {
+        OrderLine a = new OrderLine();
+        a.setId(10L);
+        a.setSku("A");
+        a.setQuantity(1);
+        OrderLine b = new OrderLine();
+        b.setId(11L);
+        b.setSku("B");
+        b.setQuantity(2);
+        OrderLine c = new OrderLine();
+        c.setId(12L);
+        c.setSku("C");
+        c.setQuantity(3);
+        List<OrderLine> lines = new ArrayList<>(Arrays.asList(a, b, c));
+        PurchaseOrder order = new PurchaseOrder();
+        order.setCustomer("acme");
+        order.setLines(lines);
+
+        OrderLineDto cDto = new OrderLineDto();
+        cDto.setId(12L);
+        cDto.setSku("C");
+        cDto.setQuantity(30);
+        OrderLineDto dDto = new OrderLineDto();
+        dDto.setSku("D");
+        dDto.setQuantity(4);
+        OrderLineDto aDto = new OrderLineDto();
+        aDto.setId(10L);
+        aDto.setSku("A");
+        aDto.setQuantity(1);
+        PurchaseOrderDto dto = new PurchaseOrderDto();
+        dto.setCustomer("acme-2");
+        dto.setLines(Arrays.asList(cDto, dDto, aDto));
+
+        PurchaseOrder result = PurchaseOrderDtoCopier.updateFromDto(dto, order);
+
+        assertSame(order, result);
+        assertEquals("acme-2", order.getCustomer());
+        // 集合与匹配到的元素都原地更新
+        assertSame(lines, order.getLines());
+        assertEquals(3, lines.size());
+        assertSame(a, lines.get(0));
+        assertSame(c, lines.get(1));
+        assertEquals(30, c.getQuantity());
+        assertNull(lines.get(2).getId());
+        assertEquals("D", lines.get(2).getSku());
+    }
+
+    /**
+     * 测试 DTO 中重复的键只匹配一次，其余作为新元素追加。
+     */
+    @Test
+    public void testDuplicateKeys() {
+        OrderLine b = new OrderLine();
+        b.setId(11L);
+        b.setSku("B");
+        PurchaseOrder order = new PurchaseOrder();
+        order.setLines(new ArrayList<>(Collections.singletonList(b)));
+        OrderLineDto first = new OrderLineDto();
+        first.setId(11L);
+        first.setQuantity(5);
+        OrderLineDto second = new OrderLineDto();
+        second.setId(11L);
+        second.setQuantity(6);
+        PurchaseOrderDto dto = new PurchaseOrderDto();
+        dto.setLines(Arrays.asList(first, second));
+
+        PurchaseOrderDtoCopier.updateFromDto(dto, order);
+
+        assertEquals(2, order.getLines().size());
+        assertSame(b, order.getLines().get(0));
+        assertEquals(5, order.getLines().get(0).getQuantity());
+        assertEquals(6, order.getLines().get(1).getQuantity());
+        assertNotSame(order.getLines().get(0), order.getLines().get(1));
+    }
+
+    /**
+     * 测试 Set 的合并，元素类型没有 Copier 时使用生成的辅助方法。
+     */
+    @Test
+    public void testMergeSetWithoutCopier() {
+        Tag urgent = new Tag();
+        urgent.setCode(1);
+        urgent.setLabel("urgent");
+        Tag fragile = new Tag();
+        fragile.setCode(2);
+        fragile.setLabel("fragile");
+        Set<Tag> tags = new HashSet<>(Arrays.asList(urgent, fragile));
+        PurchaseOrder order = new PurchaseOrder();
+        order.setTags(tags);
+
+        TagDto renamed = new TagDto();
+        renamed.setCode(1);
+        renamed.setLabel("URGENT");
+        PurchaseOrderDto dto = new PurchaseOrderDto();
+        dto.setTags(new HashSet<>(Collections.singletonList(renamed)));
+
+        PurchaseOrderDtoCopier.updateFromDto(dto, order);
+
+        assertSame(tags, order.getTags());
+        assertEquals(Collections.singleton(urgent), tags);
+        assertEquals("URGENT", urgent.getLabel());
+    }
+
+    /**
+     * 测试 null 集合、null 目标与 null DTO 的处理。
+     */
+    @Test
+    public void testNullCollectionsAndTargets() {
+        OrderLine line = new OrderLine();
+        line.setId(10L);
+        List<OrderLine> lines = new ArrayList<>(Collections.singletonList(line));
+        PurchaseOrder order = new PurchaseOrder();
+        order.setLines(lines);
+
+        // DTO 的集合为 null 时保留原集合
+        PurchaseOrderDtoCopier.updateFromDto(new PurchaseOrderDto(), order);
+        assertSame(lines, order.getLines());
+        assertEquals(1, lines.size());
+
+        // 目标集合为 null 时新建
+        OrderLineDto lineDto = new OrderLineDto();
+        lineDto.setId(1L);
+        lineDto.setSku("X");
+        PurchaseOrderDto dto = new PurchaseOrderDto();
+        dto.setLines(Collections.singletonList(lineDto));
+        PurchaseOrder fresh = new PurchaseOrder();
+        PurchaseOrderDtoCopier.updateFromDto(dto, fresh);
+        assertEquals("X", fresh.getLines().get(0).getSku());
+
+        assertEquals("X", PurchaseOrderDtoCopier.updateFromDto(dto, null).getLines().get(0).getSku());
+        assertSame(order, PurchaseOrderDtoCopier.updateFromDto(null, order));
+    }
+}
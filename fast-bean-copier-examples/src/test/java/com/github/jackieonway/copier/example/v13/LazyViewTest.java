@@ -0,0 +1,113 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 延迟只读视图测试：{@code @CopyTarget(view = true)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class LazyViewTest {
+
+    /**
+     * 测试无需转换的字段直接委托给源对象读取。
+     */
+    @Test
+    public void testDelegateToSource() {
+        Article article = new Article();
+        article.setId(9L);
+        article.setHeadline("Lazy views");
+        article.setLevel(Permission.READ);
+
+        ArticleDto view = ArticleDtoCopier.toDtoView(article);
+
+        assertEquals(Long.valueOf(9L), view.getId());
+        assertEquals("Lazy views", view.getTitle());
+        assertEquals(Permission.READ, view.getLevel());
+        // 视图读取的是源对象的当前值
+        article.setHeadline("Edited");
+        assertEquals("Edited", view.getTitle());
+    }
+
+    /**
+     * 测试需要转换的字段在首次访问时转换并缓存。
+     */
+    @Test
+    public void testLazyConversionIsMemoized() {
+        Article article = new Article();
+        article.setViews(null);
+        article.setTags(new ArrayList<>(Arrays.asList("java", "apt")));
+        Map<String, Integer> reactions = new HashMap<>();
+        reactions.put("like", 3);
+        article.setReactions(reactions);
+        ArticleDto view = ArticleDtoCopier.toDtoView(article);
+
+        List<String> tags = view.getTags();
+
+        assertEquals(Arrays.asList("java", "apt"), tags);
+        assertNotSame(article.getTags(), tags);
+        assertSame(tags, view.getTags());
+        assertEquals(Integer.valueOf(3), view.getReactions().get("like"));
+        assertEquals(0, view.getViews());
+    }
+
+    /**
+     * 测试首次访问前源集合的修改会反映到视图中。
+     */
+    @Test
+    public void testSourceCollectionsReadOnFirstAccess() {
+        Article article = new Article();
+        article.setTags(new ArrayList<>(Arrays.asList("java", "apt")));
+        ArticleDto view = ArticleDtoCopier.toDtoView(article);
+
+        article.getTags().add("late");
+
+        assertEquals(3, view.getTags().size());
+    }
+
+    /**
+     * 测试写入委托字段时抛出异常。
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRejectWriteToDelegatedField() {
+        ArticleDtoCopier.toDtoView(new Article()).setTitle("x");
+    }
+
+    /**
+     * 测试写入转换字段时抛出异常。
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRejectWriteToConvertedField() {
+        ArticleDtoCopier.toDtoView(new Article()).setTags(new ArrayList<String>());
+    }
+
+    /**
+     * 测试视图与立即拷贝的结果一致。
+     */
+    @Test
+    public void testMatchesEagerCopy() {
+        Article article = new Article();
+        article.setHeadline("Lazy views");
+        article.setViews(120);
+        article.setTags(new ArrayList<>(Arrays.asList("java", "apt")));
+        article.setReactions(new HashMap<String, Integer>());
+
+        ArticleDto copy = ArticleDtoCopier.toDto(article);
+        ArticleDto view = ArticleDtoCopier.toDtoView(article);
+
+        assertEquals(copy.getTitle(), view.getTitle());
+        assertEquals(copy.getTags(), view.getTags());
+        assertEquals(copy.getReactions(), view.getReactions());
+        assertEquals(copy.getViews(), view.getViews());
+        assertNull(ArticleDtoCopier.toDtoView(null));
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.runtime.MapSupport;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 对象与 {@code Map<String, Object>} 互转测试：{@code @CopyTarget(map = true)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class MapConversionTest {
+
+    /**
+     * 测试 toMap 按声明顺序放入所有字段，null 字段同样保留 key。
+     */
+    @Test
+    public void testToMapKeepsDeclarationOrder() {
+        SensorDto sensor = new SensorDto();
+        sensor.setId(42L);
+        sensor.setActive(true);
+        sensor.setLevel(Permission.WRITE);
+        SensorLocationDto location = new SensorLocationDto();
+        location.setLabel("lab");
+        sensor.setLocation(location);
+
+        Map<String, Object> map = SensorDtoCopier.toMap(sensor);
+
+        assertEquals(Arrays.asList("id", "name", "temperature", "active", "level", "tags", "counters", "samples",
+                "payload", "price", "updatedAt", "location", "history"), new ArrayList<>(map.keySet()));
+        assertEquals(42L, map.get("id"));
+        assertEquals(Boolean.TRUE, map.get("active"));
+        assertEquals(Permission.WRITE, map.get("level"));
+        assertSame(sensor.getLocation(), map.get("location"));
+        assertTrue(map.containsKey("counters"));
+        assertNull(map.get("counters"));
+    }
+
+    /**
+     * 测试 toMap 与 fromMap 往返后字段一致。
+     */
+    @Test
+    public void testRoundTrip() {
+        SensorDto sensor = new SensorDto();
+        sensor.setId(42L);
+        sensor.setName("thermo");
+        sensor.setTemperature(23.5);
+        sensor.setActive(true);
+        sensor.setLevel(Permission.WRITE);
+        sensor.setTags(Arrays.asList("indoor", "floor-3"));
+        sensor.setSamples(new double[]{1.5, 2.0});
+        sensor.setPrice(new BigDecimal("9.90"));
+        sensor.setUpdatedAt(LocalDateTime.of(2024, 5, 6, 7, 8));
+        SensorLocationDto location = new SensorLocationDto();
+        location.setLabel("lab");
+        sensor.setLocation(location);
+
+        SensorDto copy = SensorDtoCopier.fromMap(SensorDtoCopier.toMap(sensor));
+
+        assertEquals(42L, copy.getId());
+        assertEquals("thermo", copy.getName());
+        assertEquals(Double.valueOf(23.5), copy.getTemperature());
+        assertTrue(copy.getActive());
+        assertEquals(Permission.WRITE, copy.getLevel());
+        assertEquals(sensor.getTags(), copy.getTags());
+        assertArrayEquals(sensor.getSamples(), copy.getSamples(), 0.0);
+        assertEquals(sensor.getPrice(), copy.getPrice());
+        assertEquals(sensor.getUpdatedAt(), copy.getUpdatedAt());
+        assertEquals("lab", copy.getLocation().getLabel());
+    }
+
+    /**
+     * 测试 fromMap 转换类型不完全匹配的值（数字、字符串、枚举名）。
+     */
+    @Test
+    public void testLooselyTypedValues() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", 7);
+        map.put("temperature", "18.25");
+        map.put("active", "true");
+        map.put("level", "READ");
+        map.put("price", 12L);
+        map.put("name", 123);
+
+        SensorDto sensor = SensorDtoCopier.fromMap(map);
+
+        assertEquals(7L, sensor.getId());
+        assertEquals(Double.valueOf(18.25), sensor.getTemperature());
+        assertTrue(sensor.getActive());
+        assertEquals(Permission.READ, sensor.getLevel());
+        assertEquals(new BigDecimal("12"), sensor.getPrice());
+        assertEquals("123", sensor.getName());
+    }
+
+    /**
+     * 测试忽略未知的 key，基本类型字段的值为 null 时保持默认值。
+     */
+    @Test
+    public void testUnknownKeysAndNullPrimitives() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", null);
+        map.put("unknown", "x");
+        map.put(null, "y");
+        map.put("name", null);
+
+        SensorDto sensor = SensorDtoCopier.fromMap(map);
+
+        assertEquals(0L, sensor.getId());
+        assertNull(sensor.getName());
+        assertNull(SensorDtoCopier.fromMap(null));
+        assertNull(SensorDtoCopier.toMap(null));
+    }
+
+    /**
+     * 测试无法转换的值抛出 IllegalArgumentException。
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectUnconvertibleValue() {
+        MapSupport.asInteger(new Object());
+    }
+}
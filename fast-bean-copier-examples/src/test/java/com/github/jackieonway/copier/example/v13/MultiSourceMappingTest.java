@@ -0,0 +1,109 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.example.Address;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * 多源聚合测试：{@code @CopyTarget(sources = ...)} 生成的 {@code toDto(主源, 附加源...)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class MultiSourceMappingTest {
+
+    /**
+     * 测试一次调用从主源与所有附加源填充目标。
+     */
+    @Test
+    public void testFillFromAllSources() {
+        Post post = new Post();
+        post.setId(11L);
+        post.setTitle("Hello");
+        PostStats stats = new PostStats();
+        stats.setViewCount(12345L);
+        stats.setLikeCount(67);
+        ReaderPreferences prefs = new ReaderPreferences();
+        prefs.setLocale("zh-CN");
+        prefs.setMutedTags(new ArrayList<>(Arrays.asList("spoiler")));
+
+        PostView view = PostViewCopier.toDto(post, stats, prefs);
+
+        assertEquals(Long.valueOf(11L), view.getId());
+        assertEquals("Hello", view.getTitle());
+        assertEquals(12345L, view.getViews());
+        assertEquals(Integer.valueOf(67), view.getLikes());
+        assertEquals("zh-CN", view.getLocale());
+        // theme 为 null 时由表达式给出默认值
+        assertEquals("light", view.getTheme());
+        assertEquals(Arrays.asList("spoiler"), view.getMutedTags());
+        assertNotSame(prefs.getMutedTags(), view.getMutedTags());
+    }
+
+    /**
+     * 测试附加源为 null 时跳过其字段。
+     */
+    @Test
+    public void testNullAdditionalSource() {
+        Post post = new Post();
+        post.setTitle("Hello");
+        ReaderPreferences prefs = new ReaderPreferences();
+        prefs.setLocale("zh-CN");
+
+        PostView view = PostViewCopier.toDto(post, null, prefs);
+
+        assertEquals("Hello", view.getTitle());
+        assertEquals(0L, view.getViews());
+        assertNull(view.getLikes());
+        assertEquals("zh-CN", view.getLocale());
+    }
+
+    /**
+     * 测试同一附加源下共享前缀的两个路径字段（prefs.home.city / prefs.home.street），前缀为 null 时保持默认值。
+     */
+    @Test
+    public void testPathFieldsSharingPrefix() {
+        ReaderPreferences prefs = new ReaderPreferences();
+        prefs.setHome(new Address("浙江", "杭州", "文一西路"));
+
+        PostView view = PostViewCopier.toDto(new Post(), null, prefs);
+
+        assertEquals("杭州", view.getHomeCity());
+        assertEquals("文一西路", view.getHomeStreet());
+
+        PostView noHome = PostViewCopier.toDto(new Post(), null, new ReaderPreferences());
+        assertNull(noHome.getHomeCity());
+        assertNull(noHome.getHomeStreet());
+    }
+
+    /**
+     * 测试主源为 null 时返回 null。
+     */
+    @Test
+    public void testNullPrimarySource() {
+        assertNull(PostViewCopier.toDto(null, new PostStats(), new ReaderPreferences()));
+    }
+
+    /**
+     * 测试单源的 toDto/fromDto 只处理主源字段。
+     */
+    @Test
+    public void testSingleSourceMethods() {
+        Post post = new Post();
+        post.setId(11L);
+        post.setTitle("Hello");
+        post.setAuthorId(3L);
+
+        PostView view = PostViewCopier.toDto(post);
+        assertEquals("Hello", view.getTitle());
+        assertNull(view.getLocale());
+
+        Post back = PostViewCopier.fromDto(view);
+        assertEquals(Long.valueOf(11L), back.getId());
+        assertNull(back.getAuthorId());
+    }
+}
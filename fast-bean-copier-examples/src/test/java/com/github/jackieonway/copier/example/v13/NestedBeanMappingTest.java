@@ -0,0 +1,111 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.example.Address;
+import com.github.jackieonway.copier.example.AddressDto;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * 嵌套对象字段映射测试：有 Copier 时调用 Copier，没有时使用生成的拷贝辅助方法。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class NestedBeanMappingTest {
+
+    /**
+     * 测试没有 Copier 的嵌套对象按同名字段拷贝。
+     */
+    @Test
+    public void testNestedBeanWithoutCopier() {
+        Customer customer = new Customer();
+        customer.setId(1L);
+        customer.setAddress(new Address("浙江", "杭州", "文三路"));
+
+        CustomerDto dto = CustomerDtoCopier.toDto(customer);
+
+        AddressDto address = dto.getAddress();
+        assertEquals("浙江", address.getProvince());
+        assertEquals("杭州", address.getCity());
+        assertEquals("文三路", address.getStreet());
+    }
+
+    /**
+     * 测试嵌套对象有生成的 Copier 时调用该 Copier。
+     */
+    @Test
+    public void testNestedBeanWithCopier() {
+        Customer customer = new Customer();
+        SensorLocation location = new SensorLocation();
+        location.setLabel("warehouse");
+        location.setLatitude(30.0);
+        customer.setLocation(location);
+
+        CustomerDto dto = CustomerDtoCopier.toDto(customer);
+
+        assertEquals("warehouse", dto.getLocation().getLabel());
+        assertEquals(30.0, dto.getLocation().getLatitude(), 0.0);
+    }
+
+    /**
+     * 测试多层嵌套对象与嵌套对象集合的拷贝。
+     */
+    @Test
+    public void testMultiLevelNestingAndCollections() {
+        Customer customer = new Customer();
+        Contact contact = new Contact();
+        contact.setEmail("a@example.com");
+        contact.setAddress(new Address("江苏", "苏州", "干将路"));
+        customer.setContact(contact);
+        customer.setShipping(new ArrayList<>(Arrays.asList(new Address("上海", "上海", "南京路"), null)));
+
+        CustomerDto dto = CustomerDtoCopier.toDto(customer);
+
+        assertEquals("a@example.com", dto.getContact().getEmail());
+        assertEquals("干将路", dto.getContact().getAddress().getStreet());
+        assertEquals(2, dto.getShipping().size());
+        assertEquals("南京路", dto.getShipping().get(0).getStreet());
+        assertNull(dto.getShipping().get(1));
+    }
+
+    /**
+     * 测试 fromDto 方向的嵌套对象拷贝。
+     */
+    @Test
+    public void testReverseNestedBeans() {
+        CustomerDto dto = new CustomerDto();
+        dto.setAddress(new AddressDto("浙江", "杭州", "文三路"));
+        SensorLocationDto location = new SensorLocationDto();
+        location.setLabel("warehouse");
+        dto.setLocation(location);
+        ContactDto contact = new ContactDto();
+        contact.setAddress(new AddressDto("江苏", "苏州", "干将路"));
+        dto.setContact(contact);
+        dto.setShipping(Collections.singletonList(new AddressDto("上海", "上海", "南京路")));
+
+        Customer customer = CustomerDtoCopier.fromDto(dto);
+
+        assertEquals("杭州", customer.getAddress().getCity());
+        assertEquals("warehouse", customer.getLocation().getLabel());
+        assertEquals("苏州", customer.getContact().getAddress().getCity());
+        assertEquals("上海", customer.getShipping().get(0).getCity());
+    }
+
+    /**
+     * 测试 null 嵌套字段保持为 null。
+     */
+    @Test
+    public void testNullNestedFields() {
+        CustomerDto dto = CustomerDtoCopier.toDto(new Customer());
+
+        assertNull(dto.getAddress());
+        assertNull(dto.getLocation());
+        assertNull(dto.getContact());
+        assertNull(dto.getShipping());
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.jackieonway.copier.example.v13;
+
+import com.github.jackieonway.copier.runtime.MappedDtoArray;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * 堆外定长记录测试：{@code @CopyTarget(offHeap = true)}。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class OffHeapStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * 测试记录为定长且字段按宽度对齐。
+     */
+    @Test
+    public void testAlignedFixedWidthRecords() {
+        assertEquals(32, TickDtoFlyweight.RECORD_SIZE);
+        assertEquals(0, TickDtoFlyweight.TIMESTAMP_OFFSET % 8);
+        assertEquals(0, TickDtoFlyweight.LAST_PRICE_OFFSET % 8);
+        assertEquals(0, TickDtoFlyweight.QUANTITY_OFFSET % 4);
+    }
+
+    /**
+     * 测试写入直接缓冲区后通过 Flyweight 读取各类型字段。
+     */
+    @Test
+    public void testReadThroughFlyweight() {
+        Tick first = new Tick();
+        first.setTimestamp(1000L);
+        first.setLastPrice(10.5);
+        first.setQuantity(2);
+        first.setBuy(true);
+        first.setVenue((short) 7);
+        first.setFlags((byte) -1);
+        first.setSpread(0.25f);
+        first.setGrade('A');
+        Tick noPrice = new Tick();
+        noPrice.setTimestamp(3000L);
+
+        MappedDtoArray<TickDto> array = TickDtoCopier.toDtoOffHeap(Arrays.asList(first, null, noPrice));
+
+        assertEquals(3, array.size());
+        assertTrue(array.buffer().isDirect());
+        TickDtoFlyweight tick = new TickDtoFlyweight(array);
+        tick.moveTo(0);
+        assertFalse(tick.isNull());
+        assertEquals(1000L, tick.getTimestamp());
+        assertEquals(10.5, tick.getLastPrice(), 0.0);
+        assertEquals(2, tick.getQuantity());
+        assertTrue(tick.getBuy());
+        assertEquals(7, tick.getVenue());
+        assertEquals(-1, tick.getFlags());
+        assertEquals(0.25f, tick.getSpread(), 0.0f);
+        assertEquals('A', tick.getGrade());
+        // null 行与 null 字段
+        assertTrue(tick.moveTo(1).isNull());
+        assertEquals(0.0, tick.moveTo(2).getLastPrice(), 0.0);
+        assertFalse(tick.getBuy());
+    }
+
+    /**
+     * 测试按下标还原 DTO。
+     */
+    @Test
+    public void testGetDto() {
+        Tick tick = new Tick();
+        tick.setTimestamp(3000L);
+        tick.setQuantity(5);
+        tick.setGrade('B');
+
+        MappedDtoArray<TickDto> array = TickDtoCopier.toDtoOffHeap(Arrays.asList(null, tick));
+        TickDto dto = array.get(1);
+
+        assertEquals(3000L, dto.getTimestamp());
+        assertEquals(5, dto.getQuantity());
+        assertEquals('B', dto.getGrade());
+        assertNull(array.get(0));
+    }
+
+    /**
+     * 测试写入内存映射文件后重新打开。
+     */
+    @Test
+    public void testReopenMappedFile() throws IOException {
+        Tick first = new Tick();
+        first.setTimestamp(1000L);
+        Tick last = new Tick();
+        last.setQuantity(5);
+        Path path = folder.getRoot().toPath().resolve("ticks.bin");
+
+        TickDtoCopier.toDtoOffHeap(Arrays.asList(first, null, last), path);
+
+        assertEquals(MappedDtoArray.HEADER_SIZE + 3 * TickDtoFlyweight.RECORD_SIZE, Files.size(path));
+        MappedDtoArray<TickDto> array = MappedDtoArray.open(path, TickDtoFlyweight.LAYOUT);
+        assertEquals(3, array.size());
+        assertEquals(1000L, new TickDtoFlyweight(array).moveTo(0).getTimestamp());
+        assertNull(array.get(1));
+        assertEquals(5, array.get(2).getQuantity());
+    }
+
+    /**
+     * 测试 set 覆盖已有记录，写入 null 标记为空行。
+     */
+    @Test
+    public void testSetOverwritesRecords() {
+        MappedDtoArray<TickDto> array = TickDtoCopier.toDtoOffHeap(Arrays.asList(new Tick(), null));
+        TickDto dto = new TickDto();
+        dto.setTimestamp(42L);
+
+        array.set(1, dto);
+        array.set(0, null);
+
+        assertEquals(42L, array.get(1).getTimestamp());
+        assertNull(array.get(0));
+    }
+
+    /**
+     * 测试打开布局不匹配的文件时抛出 IOException。
+     */
+    @Test(expected = IOException.class)
+    public void testOpenRejectsForeignFile() throws IOException {
+        Path path = folder.newFile("other.bin").toPath();
+        Files.write(path, new byte[32]);
+
+        MappedDtoArray.open(path, TickDtoFlyweight.LAYOUT);
+    }
+
+    /**
+     * 测试定位到越界的记录时抛出异常。
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testInvalidIndex() {
+        new TickDtoFlyweight(TickDtoCopier.toDtoOffHeap(Collections.singletonList(new Tick()))).moveTo(1);
+    }
+
+    /**
+     * 测试 null 与空列表的处理。
+     */
+    @Test
+    public void testNullAndEmptyLists() {
+        assertNull(TickDtoCopier.toDtoOffHeap(null));
+        assertEquals(0, TickDtoCopier.toDtoOffHeap(Collections.<Tick>emptyList()).size());
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+
+import static org.junit.Assert.*;
+
+/**
+ * 包装类型集合与基本类型数组互转测试。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class PrimitiveArrayConversionTest {
+
+    /**
+     * 测试包装类型的 List/Set 转换为基本类型数组。
+     */
+    @Test
+    public void testCollectionsToPrimitiveArrays() {
+        Series series = new Series();
+        series.setName("cpu");
+        series.setTimestamps(new ArrayList<>(Arrays.asList(1000L, 2000L, 3000L)));
+        series.setValues(new LinkedList<>(Arrays.asList(0.5, 0.75)));
+        series.setBuckets(new LinkedHashSet<>(Arrays.asList(10, 20)));
+
+        SeriesDto dto = SeriesDtoCopier.toDto(series);
+
+        assertEquals("cpu", dto.getName());
+        assertArrayEquals(new long[]{1000L, 2000L, 3000L}, dto.getTimestamps());
+        assertArrayEquals(new double[]{0.5, 0.75}, dto.getValues(), 0.0);
+        assertArrayEquals(new int[]{10, 20}, dto.getBuckets());
+    }
+
+    /**
+     * 测试 null 元素转换为基本类型的默认值。
+     */
+    @Test
+    public void testNullElementsUseDefaultValue() {
+        Series series = new Series();
+        series.setTimestamps(Arrays.asList(1L, null, 3L));
+
+        SeriesDto dto = SeriesDtoCopier.toDto(series);
+
+        assertArrayEquals(new long[]{1L, 0L, 3L}, dto.getTimestamps());
+    }
+
+    /**
+     * 测试 fromDto 把基本类型数组转换回可修改的集合。
+     */
+    @Test
+    public void testPrimitiveArraysToCollections() {
+        SeriesDto dto = new SeriesDto();
+        dto.setTimestamps(new long[]{1000L, 2000L, 3000L});
+        dto.setValues(new double[]{0.5, 0.75});
+        dto.setBuckets(new int[]{10, 20});
+
+        Series series = SeriesDtoCopier.fromDto(dto);
+
+        assertEquals(Arrays.asList(1000L, 2000L, 3000L), series.getTimestamps());
+        assertEquals(Arrays.asList(0.5, 0.75), series.getValues());
+        assertEquals(new LinkedHashSet<>(Arrays.asList(10, 20)), series.getBuckets());
+        series.getTimestamps().add(4000L);
+        assertEquals(4, series.getTimestamps().size());
+    }
+
+    /**
+     * 测试 null 与空集合的处理。
+     */
+    @Test
+    public void testNullAndEmptyValues() {
+        SeriesDto dto = SeriesDtoCopier.toDto(new Series());
+        assertNull(dto.getTimestamps());
+        assertNull(SeriesDtoCopier.fromDto(dto).getValues());
+
+        Series series = new Series();
+        series.setTimestamps(Collections.<Long>emptyList());
+        assertEquals(0, SeriesDtoCopier.toDto(series).getTimestamps().length);
+    }
+}
@@ -0,0 +1,228 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * JDBC 行映射器测试：{@code @CopyTarget(rowMapper = true)}，使用 H2 内存数据库。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class RowMapperTest {
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:ledger");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ledger (id BIGINT PRIMARY KEY, account VARCHAR(64), amount_cents BIGINT,"
+                    + " rate DECIMAL(10, 4), settled BOOLEAN, priority INT, level VARCHAR(16), value_date DATE,"
+                    + " created_at TIMESTAMP, updated_at TIMESTAMP, posted_at TIMESTAMP, checksum VARBINARY(16),"
+                    + " score DOUBLE)");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * 用生成的 insertSql 与 bind 批量插入。
+     */
+    private void insert(LedgerEntryRow... rows) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(LedgerEntryRowRowMapper.insertSql("ledger"))) {
+            for (LedgerEntryRow row : rows) {
+                LedgerEntryRowRowMapper.bind(statement, row);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * 测试所有支持的列类型写入数据库后能完整读回。
+     */
+    @Test
+    public void testRoundTripThroughDatabase() throws SQLException {
+        LedgerEntryRow first = new LedgerEntryRow();
+        first.setId(1L);
+        LedgerEntryRow second = new LedgerEntryRow();
+        second.setId(2L);
+        second.setAccount("acct-2");
+        second.setAmountCents(1999L);
+        second.setRate(new BigDecimal("0.0125"));
+        second.setSettled(true);
+        second.setPriority(3);
+        second.setLevel(Permission.WRITE);
+        second.setValueDate(LocalDate.of(2024, 5, 6));
+        second.setCreatedAt(LocalDateTime.of(2024, 5, 6, 7, 8, 9));
+        second.setUpdatedAt(new Date(1700000000000L));
+        second.setPostedAt(Instant.ofEpochSecond(1700000000L));
+        second.setChecksum(new byte[]{1, 2, 3});
+        second.setScore(0.5);
+        insert(first, second);
+
+        List<LedgerEntryRow> rows;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM ledger ORDER BY id")) {
+            rows = LedgerEntryRowRowMapper.readAll(resultSet);
+        }
+
+        assertEquals(2, rows.size());
+        LedgerEntryRow row = rows.get(1);
+        assertEquals(2L, row.getId());
+        assertEquals("acct-2", row.getAccount());
+        assertEquals(Long.valueOf(1999L), row.getAmountCents());
+        assertEquals(0, new BigDecimal("0.0125").compareTo(row.getRate()));
+        assertTrue(row.getSettled());
+        assertEquals(Integer.valueOf(3), row.getPriority());
+        assertEquals(Permission.WRITE, row.getLevel());
+        assertEquals(LocalDate.of(2024, 5, 6), row.getValueDate());
+        assertEquals(LocalDateTime.of(2024, 5, 6, 7, 8, 9), row.getCreatedAt());
+        assertEquals(new Date(1700000000000L), row.getUpdatedAt());
+        assertEquals(Instant.ofEpochSecond(1700000000L), row.getPostedAt());
+        assertArrayEquals(new byte[]{1, 2, 3}, row.getChecksum());
+        assertEquals(0.5, row.getScore(), 0.0);
+    }
+
+    /**
+     * 测试 SQL NULL 读回为 null。
+     */
+    @Test
+    public void testSqlNulls() throws SQLException {
+        LedgerEntryRow empty = new LedgerEntryRow();
+        empty.setId(9L);
+        insert(empty);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM ledger")) {
+            assertTrue(resultSet.next());
+            LedgerEntryRow row = LedgerEntryRowRowMapper.fromResultSet(resultSet);
+
+            assertEquals(9L, row.getId());
+            assertNull(row.getAccount());
+            assertNull(row.getAmountCents());
+            assertNull(row.getPriority());
+            assertNull(row.getLevel());
+            assertNull(row.getValueDate());
+            assertNull(row.getUpdatedAt());
+            assertNull(row.getPostedAt());
+            assertNull(row.getChecksum());
+        }
+    }
+
+    /**
+     * 测试按列标签（忽略大小写与下划线）匹配字段，结果集中没有的列跳过。
+     */
+    @Test
+    public void testMatchLabelsAndSkipMissingColumns() throws SQLException {
+        LedgerEntryRow first = new LedgerEntryRow();
+        first.setId(1L);
+        LedgerEntryRow second = new LedgerEntryRow();
+        second.setId(2L);
+        second.setAccount("acct-2");
+        second.setAmountCents(1999L);
+        second.setScore(0.5);
+        insert(first, second);
+
+        List<LedgerEntryRow> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT score AS \"Score\", id, amount_cents AS amountCents FROM ledger ORDER BY id")) {
+            while (resultSet.next()) {
+                rows.add(LedgerEntryRowRowMapper.fromResultSet(resultSet));
+            }
+        }
+
+        assertEquals(2, rows.size());
+        assertEquals(1L, rows.get(0).getId());
+        assertEquals(Long.valueOf(1999L), rows.get(1).getAmountCents());
+        assertEquals(0.5, rows.get(1).getScore(), 0.0);
+        assertNull(rows.get(1).getAccount());
+    }
+
+    /**
+     * 测试交替读取两个列结构不同的结果集时，每个结果集只解析一次列下标。
+     */
+    @Test
+    public void testAlternatingResultSets() throws SQLException {
+        for (long id = 1; id <= 3; id++) {
+            LedgerEntryRow row = new LedgerEntryRow();
+            row.setId(id);
+            row.setAccount("acct-" + id);
+            row.setAmountCents(1999L);
+            insert(row);
+        }
+
+        int[] metaDataCalls = new int[1];
+        try (Statement first = connection.createStatement();
+             Statement second = connection.createStatement();
+             ResultSet byId = counting(first.executeQuery("SELECT id, account FROM ledger ORDER BY id"),
+                     metaDataCalls);
+             ResultSet reversed = counting(second.executeQuery(
+                     "SELECT amount_cents, id FROM ledger ORDER BY id DESC"), metaDataCalls)) {
+            for (long id = 1; id <= 3; id++) {
+                assertTrue(byId.next());
+                assertTrue(reversed.next());
+                LedgerEntryRow left = LedgerEntryRowRowMapper.fromResultSet(byId);
+                LedgerEntryRow right = LedgerEntryRowRowMapper.fromResultSet(reversed);
+
+                assertEquals(id, left.getId());
+                assertEquals("acct-" + id, left.getAccount());
+                assertNull(left.getAmountCents());
+                assertEquals(4 - id, right.getId());
+                assertEquals(Long.valueOf(1999L), right.getAmountCents());
+                assertNull(right.getAccount());
+            }
+        }
+        assertEquals(2, metaDataCalls[0]);
+    }
+
+    /**
+     * 包装结果集，统计 getMetaData 的调用次数。
+     */
+    private static ResultSet counting(ResultSet resultSet, int[] metaDataCalls) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    if ("getMetaData".equals(method.getName())) {
+                        metaDataCalls[0]++;
+                    }
+                    try {
+                        return method.invoke(resultSet, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * 测试生成的列名常量与 INSERT 语句按绑定顺序排列。
+     */
+    @Test
+    public void testColumnsInBindOrder() {
+        assertEquals("amount_cents", LedgerEntryRowRowMapper.COLUMNS.get(2));
+        assertTrue(LedgerEntryRowRowMapper.insertSql("ledger").startsWith("INSERT INTO ledger (id, account,"));
+    }
+}
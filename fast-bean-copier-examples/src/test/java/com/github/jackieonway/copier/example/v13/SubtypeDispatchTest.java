@@ -0,0 +1,129 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 子类型分派测试：{@code @CopyTarget(subtypes)} 按运行时类型分派到子类型的 Copier。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class SubtypeDispatchTest {
+
+    /**
+     * 测试按运行时类型分派到声明的子类型 Copier。
+     */
+    @Test
+    public void testDispatchToDeclaredSubtype() {
+        CardPayment card = new CardPayment();
+        card.setId("p-1");
+        card.setAmountCents(1999L);
+        card.setCardLast4("4242");
+        BankPayment bank = new BankPayment();
+        bank.setId("p-2");
+        bank.setIban("DE89");
+
+        PaymentDto cardDto = PaymentDtoCopier.toDto(card);
+        PaymentDto bankDto = PaymentDtoCopier.toDto(bank);
+
+        assertSame(CardPaymentDto.class, cardDto.getClass());
+        assertEquals("4242", ((CardPaymentDto) cardDto).getCardLast4());
+        assertEquals("p-1", cardDto.getId());
+        assertEquals(1999L, cardDto.getAmountCents());
+        assertSame(BankPaymentDto.class, bankDto.getClass());
+        assertEquals("DE89", ((BankPaymentDto) bankDto).getIban());
+    }
+
+    /**
+     * 测试未声明的子类分派到最近的已声明父类型。
+     */
+    @Test
+    public void testUndeclaredSubclassUsesNearestSupertype() {
+        PrepaidCardPayment prepaid = new PrepaidCardPayment();
+        prepaid.setCardLast4("0001");
+        prepaid.setBalanceCents(500L);
+
+        PaymentDto dto = PaymentDtoCopier.toDto(prepaid);
+
+        assertSame(CardPaymentDto.class, dto.getClass());
+        assertEquals("0001", ((CardPaymentDto) dto).getCardLast4());
+    }
+
+    /**
+     * 测试基类实例按基类自身的映射拷贝。
+     */
+    @Test
+    public void testBaseTypeUsesBaseMapping() {
+        Payment payment = new Payment();
+        payment.setId("p-0");
+
+        PaymentDto dto = PaymentDtoCopier.toDto(payment);
+
+        assertSame(PaymentDto.class, dto.getClass());
+        assertEquals("p-0", dto.getId());
+        assertSame(Payment.class, PaymentDtoCopier.fromDto(dto).getClass());
+    }
+
+    /**
+     * 测试 fromDto 方向同样按运行时类型分派。
+     */
+    @Test
+    public void testReverseDispatch() {
+        VoucherPaymentDto dto = new VoucherPaymentDto();
+        dto.setId("p-5");
+        dto.setVoucherCode("SPRING");
+
+        Payment payment = PaymentDtoCopier.fromDto(dto);
+
+        assertSame(VoucherPayment.class, payment.getClass());
+        assertEquals("SPRING", ((VoucherPayment) payment).getVoucherCode());
+        assertEquals("p-5", payment.getId());
+    }
+
+    /**
+     * 测试集合中的元素逐个分派，null 元素保持为 null。
+     */
+    @Test
+    public void testDispatchCollectionElements() {
+        CardPayment card = new CardPayment();
+        card.setCardLast4("4242");
+        CryptoPayment crypto = new CryptoPayment();
+        crypto.setNetwork("lightning");
+        List<Payment> payments = Arrays.asList(card, crypto, null, new WalletPayment());
+
+        List<PaymentDto> dtos = PaymentDtoCopier.toDtoList(payments);
+
+        assertSame(CardPaymentDto.class, dtos.get(0).getClass());
+        assertEquals("lightning", ((CryptoPaymentDto) dtos.get(1)).getNetwork());
+        assertNull(dtos.get(2));
+        assertSame(WalletPaymentDto.class, dtos.get(3).getClass());
+    }
+
+    /**
+     * 测试子类型较少时使用类型判断分派。
+     */
+    @Test
+    public void testSmallHierarchy() {
+        Circle circle = new Circle();
+        circle.setLabel("c");
+        circle.setRadius(2.0);
+        Shape plain = new Shape();
+        plain.setLabel("plain");
+
+        ShapeDto circleDto = ShapeDtoCopier.toDto(circle);
+        ShapeDto plainDto = ShapeDtoCopier.toDto(plain);
+
+        assertEquals(2.0, ((CircleDto) circleDto).getRadius(), 0.0);
+        assertEquals("c", circleDto.getLabel());
+        assertSame(ShapeDto.class, plainDto.getClass());
+
+        SquareDto squareDto = new SquareDto();
+        squareDto.setSide(3.0);
+        assertEquals(3.0, ((Square) ShapeDtoCopier.fromDto(squareDto)).getSide(), 0.0);
+    }
+}
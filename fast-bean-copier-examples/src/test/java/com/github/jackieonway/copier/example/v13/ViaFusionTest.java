@@ -0,0 +1,152 @@
+package com.github.jackieonway.copier.example.v13;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * 映射链合成测试：{@code @CopyTarget(via = ...)} 把两段映射合成为一次直接映射。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public class ViaFusionTest {
+
+    /**
+     * 测试合成后的结果与依次调用两段 Copier 一致。
+     */
+    @Test
+    public void testMatchChainedCopiers() {
+        Employee employee = new Employee();
+        employee.setId(8L);
+        employee.setFirstName("Ada");
+        employee.setLastName("Lovelace");
+        employee.setSalaryCents(1234567L);
+        employee.setSkills(new ArrayList<>(Arrays.asList("math", "poetry")));
+        Contact contact = new Contact();
+        contact.setEmail("ada@example.com");
+        employee.setContact(contact);
+
+        EmployeeResponse fused = EmployeeResponseCopier.toDto(employee);
+        EmployeeModel model = EmployeeModelCopier.toDto(employee);
+
+        assertEquals(Long.valueOf(8L), fused.getId());
+        assertEquals(model.getFullName(), fused.getFullName());
+        assertEquals("ADA LOVELACE", fused.getDisplayName());
+        assertEquals(model.getSalary() / 100.0, fused.getSalaryYuan(), 0.0);
+        assertEquals(model.getSkills(), fused.getSkills());
+        assertEquals("ada@example.com", fused.getEmail());
+    }
+
+    /**
+     * 测试集合只拷贝一次，结果与源集合互不影响。
+     */
+    @Test
+    public void testCollectionsCopiedOnce() {
+        Employee employee = new Employee();
+        employee.setSkills(new ArrayList<>(Arrays.asList("math", "poetry")));
+
+        EmployeeResponse fused = EmployeeResponseCopier.toDto(employee);
+
+        assertNotSame(employee.getSkills(), fused.getSkills());
+        employee.getSkills().add("chess");
+        assertEquals(2, fused.getSkills().size());
+    }
+
+    /**
+     * 测试合成后的条件与点号路径对 null 的处理。
+     */
+    @Test
+    public void testFusedConditionsAndNullPaths() {
+        Employee employee = new Employee();
+        employee.setFirstName("Ada");
+        employee.setLastName("Lovelace");
+
+        EmployeeResponse fused = EmployeeResponseCopier.toDto(employee);
+
+        // id 为 null 时不生成 displayName，contact 为 null 时跳过 email
+        assertNull(fused.getDisplayName());
+        assertNull(fused.getEmail());
+        assertEquals("Ada Lovelace", fused.getFullName());
+    }
+
+    /**
+     * 测试中间类型与两端都不同时依次做两段转换：Integer -> int -> Integer 中 null 变为 0。
+     */
+    @Test
+    public void testComposeConversionsThroughPrimitive() {
+        Employee employee = new Employee();
+
+        EmployeeResponse fused = EmployeeResponseCopier.toDto(employee);
+        EmployeeModel model = EmployeeModelCopier.toDto(employee);
+
+        assertEquals(Integer.valueOf(0), fused.getLevel());
+        assertEquals(model.getLevel(), fused.getLevel().intValue());
+
+        employee.setLevel(3);
+        assertEquals(Integer.valueOf(3), EmployeeResponseCopier.toDto(employee).getLevel());
+    }
+
+    /**
+     * 测试中间类型的嵌套对象字段有自己的映射规则（years -> experience）时依次调用两段的 Copier。
+     */
+    @Test
+    public void testComposeCopiersForNestedBean() {
+        Employee employee = new Employee();
+        Skill skill = new Skill();
+        skill.setName("math");
+        skill.setYears(12);
+        employee.setPrimarySkill(skill);
+
+        EmployeeResponse fused = EmployeeResponseCopier.toDto(employee);
+
+        assertEquals("math", fused.getPrimarySkill().getName());
+        assertEquals(12, fused.getPrimarySkill().getExperience());
+        assertEquals(12, EmployeeResponseCopier.fromDto(fused).getPrimarySkill().getYears());
+    }
+
+    /**
+     * 测试 {@code List<Bean>} 字段逐元素按两段转换，null 元素与 null 集合原样保留。
+     */
+    @Test
+    public void testComposeCopiersForBeanList() {
+        Employee employee = new Employee();
+        Skill poetry = new Skill();
+        poetry.setName("poetry");
+        poetry.setYears(5);
+        employee.setCertifications(new ArrayList<>(Arrays.asList(poetry, null)));
+
+        EmployeeResponse fused = EmployeeResponseCopier.toDto(employee);
+
+        assertEquals(2, fused.getCertifications().size());
+        assertEquals("poetry", fused.getCertifications().get(0).getName());
+        assertEquals(5, fused.getCertifications().get(0).getExperience());
+        assertNull(fused.getCertifications().get(1));
+        assertEquals(5, EmployeeResponseCopier.fromDto(fused).getCertifications().get(0).getYears());
+
+        employee.setCertifications(null);
+        assertNull(EmployeeResponseCopier.toDto(employee).getCertifications());
+    }
+
+    /**
+     * 测试 fromDto 映射回源类型。
+     */
+    @Test
+    public void testFromDtoMapsBackToSource() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(8L);
+        response.setSkills(Arrays.asList("math", "poetry"));
+        response.setEmail("ada@example.com");
+
+        Employee employee = EmployeeResponseCopier.fromDto(response);
+
+        assertEquals(Long.valueOf(8L), employee.getId());
+        assertEquals(Arrays.asList("math", "poetry"), employee.getSkills());
+        assertEquals("ada@example.com", employee.getContact().getEmail());
+        // 生成的 Copier 以 source 类型为源
+        assertNotNull(EmployeeResponseCopier.class.getMethod("toDto", Employee.class));
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.jackieonway.copier.processor;
+
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@code @CopyField(copyStrategy = SHARE_IF_IMMUTABLE)} 的编译期校验：元素、key、value 需要深拷贝时给出警告并回退为深拷贝。
+ */
+public class CopyStrategyValidationTest {
+
+    /**
+     * 测试可变元素（嵌套对象、嵌套集合）的字段回退为深拷贝，不可变元素的字段仍可共享。
+     */
+    @Test
+    public void testMutableElementsFallBackToDeepCopy() throws IOException {
+        Path outputDir = Files.createTempDirectory("copy-strategy");
+        try {
+            List<String> warnings = new ArrayList<>();
+            List<String> errors = compile(outputDir, warnings,
+                    bean("Point", "int x", "int y"),
+                    bean("Box", "java.util.List<Point> points", "java.util.Map<String,java.util.List<String>> groups",
+                            "java.util.List<String> names"),
+                    new InMemoryJavaFileObject("test.BoxDto", "package test; "
+                            + "import com.github.jackieonway.copier.annotation.CopyField; "
+                            + "import com.github.jackieonway.copier.annotation.CopyStrategy; "
+                            + "@com.github.jackieonway.copier.annotation.CopyTarget(source = Box.class) "
+                            + "public class BoxDto { "
+                            + "@CopyField(copyStrategy = CopyStrategy.SHARE_IF_IMMUTABLE) "
+                            + "private java.util.List<Point> points; "
+                            + "@CopyField(copyStrategy = CopyStrategy.SHARE_IF_IMMUTABLE) "
+                            + "private java.util.Map<String, java.util.List<String>> groups; "
+                            + "@CopyField(copyStrategy = CopyStrategy.SHARE_IF_IMMUTABLE) "
+                            + "private java.util.List<String> names; "
+                            + "public java.util.List<Point> getPoints() { return points; } "
+                            + "public void setPoints(java.util.List<Point> points) { this.points = points; } "
+                            + "public java.util.Map<String, java.util.List<String>> getGroups() { return groups; } "
+                            + "public void setGroups(java.util.Map<String, java.util.List<String>> groups) "
+                            + "{ this.groups = groups; } "
+                            + "public java.util.List<String> getNames() { return names; } "
+                            + "public void setNames(java.util.List<String> names) { this.names = names; } }"));
+
+            assertTrue(errors.toString(), errors.isEmpty());
+            assertTrue(warnings.toString(), warnings.stream().anyMatch(message ->
+                    message.contains("元素类型 test.Point 需要深拷贝")));
+            assertTrue(warnings.toString(), warnings.stream().anyMatch(message ->
+                    message.contains("元素类型 java.util.List<java.lang.String> 需要深拷贝")));
+            String copierSource = new String(Files.readAllBytes(outputDir.resolve("test/BoxDtoCopier.java")),
+                    StandardCharsets.UTF_8);
+            assertFalse(copierSource, copierSource.contains("Shared_Point"));
+            assertFalse(copierSource, copierSource.contains("Shared_StringListString"));
+            assertTrue(copierSource, copierSource.contains("copyListShared_String_String"));
+        } finally {
+            delete(outputDir);
+        }
+    }
+
+    /**
+     * 使用注解处理器编译源文件，收集警告并返回错误信息。
+     */
+    private static List<String> compile(Path outputDir, List<String> warnings, JavaFileObject... sources)
+            throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("JDK 编译器不可用", compiler);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<String> options = Arrays.asList(
+                    "-d", outputDir.toString(),
+                    "-s", outputDir.toString(),
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", BeanCopierProcessor.class.getName());
+            compiler.getTask(null, fileManager, diagnostics, options, null, Arrays.asList(sources)).call();
+        }
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            } else if (diagnostic.getKind() == Diagnostic.Kind.WARNING) {
+                warnings.add(diagnostic.getMessage(null));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * 删除临时输出目录。
+     */
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private static JavaFileObject bean(String name, String... fields) {
+        StringBuilder sb = new StringBuilder("package test; public class ").append(name).append(" { ");
+        for (String field : fields) {
+            String[] parts = field.split(" ");
+            String property = Character.toUpperCase(parts[1].charAt(0)) + parts[1].substring(1);
+            sb.append("private ").append(field).append("; ")
+                    .append("public ").append(parts[0]).append(" get").append(property)
+                    .append("() { return ").append(parts[1]).append("; } ")
+                    .append("public void set").append(property).append("(").append(field)
+                    .append(") { this.").append(parts[1]).append(" = ").append(parts[1]).append("; } ");
+        }
+        return new InMemoryJavaFileObject("test." + name, sb.append("}").toString());
+    }
+
+    /**
+     * 内存中的 Java 源文件对象。
+     */
+    private static class InMemoryJavaFileObject extends SimpleJavaFileObject {
+        private final String source;
+
+        protected InMemoryJavaFileObject(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.jackieonway.copier.processor;
+
+import com.github.jackieonway.copier.example.User;
+import com.github.jackieonway.copier.example.UserDto;
+import com.github.jackieonway.copier.example.processor.DeepNestingHolder;
+import com.github.jackieonway.copier.example.processor.DeepNestingHolderDto;
+import com.github.jackieonway.copier.example.processor.DeepNestingHolderDtoCopier;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * 任意层级嵌套集合的深拷贝测试（共享拷贝辅助方法）。
+ */
+public class DeepNestedCollectionTest {
+
+    @Test
+    public void shouldDeepCopyListOfMapOfSet() {
+        User user = new User(1L, "Tom", "t@example.com", 20);
+        Map<String, Set<User>> map = new HashMap<>();
+        map.put("admins", new LinkedHashSet<>(Collections.singletonList(user)));
+        map.put("empty", null);
+        DeepNestingHolder holder = new DeepNestingHolder();
+        holder.setGroups(Arrays.asList(map, null));
+
+        DeepNestingHolderDto dto = DeepNestingHolderDtoCopier.toDto(holder);
+
+        assertEquals(2, dto.getGroups().size());
+        assertNull(dto.getGroups().get(1));
+        Map<String, Set<UserDto>> copiedMap = dto.getGroups().get(0);
+        assertNotSame(map, copiedMap);
+        assertTrue(copiedMap.containsKey("empty"));
+        assertNull(copiedMap.get("empty"));
+        UserDto copiedUser = copiedMap.get("admins").iterator().next();
+        assertEquals("Tom", copiedUser.getName());
+
+        DeepNestingHolder back = DeepNestingHolderDtoCopier.fromDto(dto);
+        User backUser = back.getGroups().get(0).get("admins").iterator().next();
+        assertNotSame(user, backUser);
+        assertEquals(user.getId(), backUser.getId());
+    }
+
+    @Test
+    public void shouldDeepCopyMapOfListOfList() {
+        User user = new User(2L, "Jack", "j@example.com", 30);
+        Map<String, List<List<User>>> teams = new HashMap<>();
+        teams.put("t1", Collections.singletonList(Collections.singletonList(user)));
+        DeepNestingHolder holder = new DeepNestingHolder();
+        holder.setTeams(teams);
+
+        DeepNestingHolderDto dto = DeepNestingHolderDtoCopier.toDto(holder);
+
+        assertEquals("Jack", dto.getTeams().get("t1").get(0).get(0).getName());
+    }
+
+    @Test
+    public void shouldCopyEachArrayDimension() {
+        int[][] matrix = {{1, 2}, {3}, null};
+        DeepNestingHolder holder = new DeepNestingHolder();
+        holder.setMatrix(matrix);
+
+        DeepNestingHolderDto dto = DeepNestingHolderDtoCopier.toDto(holder);
+
+        assertNotSame(matrix, dto.getMatrix());
+        assertNotSame(matrix[0], dto.getMatrix()[0]);
+        assertArrayEquals(matrix[0], dto.getMatrix()[0]);
+        assertNull(dto.getMatrix()[2]);
+    }
+
+    @Test
+    public void shouldShareHelperPerElementTypePair() {
+        List<String> helpers = new ArrayList<>();
+        for (Method method : DeepNestingHolderDtoCopier.class.getDeclaredMethods()) {
+            if (method.getName().startsWith("copy")) {
+                assertTrue(Modifier.isPrivate(method.getModifiers()));
+                helpers.add(method.getName());
+            }
+        }
+        // List<User> -> List<UserDto> 被 teams 的内层与外层共享，只生成一次
+        assertEquals(1, Collections.frequency(helpers, "copyList_User_UserDto"));
+        assertTrue(helpers.contains("copyList_ListUser_ListUserDto"));
+        assertTrue(helpers.contains("copySet_User_UserDto"));
+        assertTrue(helpers.contains("copyArray_intArray_intArray"));
+        assertTrue(helpers.contains("copyArray_int_int"));
+    }
+}
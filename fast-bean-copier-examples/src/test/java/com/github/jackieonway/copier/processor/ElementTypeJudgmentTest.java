@@ -41,8 +41,25 @@ public class ElementTypeJudgmentTest {
                 + "  Nested nested; "
                 + "  Annotated annotated; "
                 + "  Nested[] nestedArray; "
+                + "  Money money; "
+                + "  Marked marked; "
+                + "  Money[] moneyArray; "
+                + "  java.math.BigDecimal decimal; "
+                + "  Mutable mutable; "
+                + "  NotFinal notFinal; "
+                + "  HoldsList holdsList; "
                 + "  @CopyTarget(source = Nested.class) public static class Annotated { } "
                 + "  public static class Nested { } "
+                + "  public static final class Money { "
+                + "    private static int counter; "
+                + "    private final java.math.BigDecimal amount = null; "
+                + "    private final String currency = null; "
+                + "    private final Money previous = null; "
+                + "  } "
+                + "  @com.github.jackieonway.copier.annotation.Immutable public static class Marked { } "
+                + "  public static final class Mutable { private String name; } "
+                + "  public static class NotFinal { private final String name = null; } "
+                + "  public static final class HoldsList { private final java.util.List<String> items = null; } "
                 + "}";
         fieldTypes = compileAndGetFieldTypes(source, "test.Types");
     }
@@ -65,6 +82,29 @@ public class ElementTypeJudgmentTest {
         assertTrue(TypeUtils.needsDeepCopy(fieldTypes.get("nestedArray")));
     }
 
+    @Test
+    public void shouldInferImmutableTypes() {
+        assertTrue(TypeUtils.isImmutable(fieldTypes.get("primitiveField")));
+        assertTrue(TypeUtils.isImmutable(fieldTypes.get("stringField")));
+        assertTrue(TypeUtils.isImmutable(fieldTypes.get("decimal")));
+        assertTrue(TypeUtils.isImmutable(fieldTypes.get("money")));
+        assertTrue(TypeUtils.isImmutable(fieldTypes.get("marked")));
+
+        assertFalse(TypeUtils.isImmutable(fieldTypes.get("mutable")));
+        assertFalse(TypeUtils.isImmutable(fieldTypes.get("notFinal")));
+        assertFalse(TypeUtils.isImmutable(fieldTypes.get("holdsList")));
+        assertFalse(TypeUtils.isImmutable(fieldTypes.get("moneyArray")));
+    }
+
+    @Test
+    public void immutableTypesShouldNotNeedDeepCopy() {
+        assertFalse(TypeUtils.needsDeepCopy(fieldTypes.get("money")));
+        assertFalse(TypeUtils.needsDeepCopy(fieldTypes.get("marked")));
+        assertFalse(TypeUtils.needsDeepCopy(fieldTypes.get("moneyArray")));
+        assertTrue(TypeUtils.needsDeepCopy(fieldTypes.get("mutable")));
+        assertTrue(TypeUtils.needsDeepCopy(fieldTypes.get("notFinal")));
+    }
+
     private static Map<String, TypeMirror> compileAndGetFieldTypes(String source, String className) throws Exception {
         JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
         assertNotNull("JDK 编译器不可用", compiler);
@@ -0,0 +1,39 @@
+package com.github.jackieonway.copier.processor;
+
+import com.github.jackieonway.copier.example.processor.CountingSource;
+import com.github.jackieonway.copier.example.processor.CountingSourceDto;
+import com.github.jackieonway.copier.example.processor.CountingSourceDtoCopier;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * 表达式公共访问器提升的测试。
+ */
+public class ExpressionHoistingTest {
+
+    @Test
+    public void shouldReadSharedAccessorOnce() {
+        CountingSource source = new CountingSource();
+        source.setFirstName("John");
+        source.setLastName("Doe");
+
+        CountingSourceDto dto = CountingSourceDtoCopier.toDto(source);
+
+        assertEquals("John Doe", dto.getFullName());
+        assertEquals("J", dto.getInitial());
+        assertEquals("source.getFirstName()", dto.getLiteral());
+        assertEquals(1, source.firstNameReads());
+    }
+
+    @Test
+    public void shouldKeepNullSemantics() {
+        CountingSource source = new CountingSource();
+
+        CountingSourceDto dto = CountingSourceDtoCopier.toDto(source);
+
+        assertEquals("null null", dto.getFullName());
+        assertNull(dto.getInitial());
+        assertEquals(1, source.firstNameReads());
+    }
+}
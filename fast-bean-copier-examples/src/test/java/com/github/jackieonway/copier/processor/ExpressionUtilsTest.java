@@ -0,0 +1,46 @@
+package com.github.jackieonway.copier.processor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * ExpressionUtils 访问器识别与替换的测试。
+ */
+public class ExpressionUtilsTest {
+
+    @Test
+    public void shouldExtractSourceAccessorsInOrder() {
+        String expression = "source.getFirstName() + \" \" + source.getLastName() + source.getFirstName()";
+        assertEquals(Arrays.asList("getFirstName", "getLastName", "getFirstName"),
+                ExpressionUtils.extractSourceAccessors(expression));
+    }
+
+    @Test
+    public void shouldIgnoreLiteralsArgumentsAndQualifiedSource() {
+        String expression = "\"source.getName()\" + source.getName(1) + other.source.getName()"
+                + " + 'x' + source . isActive ( ) + source.name()";
+        assertEquals(Collections.singletonList("isActive"), ExpressionUtils.extractSourceAccessors(expression));
+    }
+
+    @Test
+    public void shouldReplaceOnlyMappedAccessors() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("getFirstName", "cachedFirstName");
+        String expression = "source.getFirstName() + \"source.getFirstName()\" + source.getLastName()";
+        assertEquals("cachedFirstName + \"source.getFirstName()\" + source.getLastName()",
+                ExpressionUtils.replaceSourceAccessors(expression, replacements));
+    }
+
+    @Test
+    public void shouldKeepExpressionWithoutReplacements() {
+        String expression = "source.getAge() >= 18";
+        assertSame(expression, ExpressionUtils.replaceSourceAccessors(expression, Collections.<String, String>emptyMap()));
+        assertTrue(ExpressionUtils.extractSourceAccessors("").isEmpty());
+    }
+}
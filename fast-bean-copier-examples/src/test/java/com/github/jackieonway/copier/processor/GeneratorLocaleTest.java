@@ -0,0 +1,133 @@
+package com.github.jackieonway.copier.processor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * 生成代码与默认 Locale 无关：土耳其语环境下 {@code "INT".toLowerCase()} 为 {@code "ınt"}，
+ * 生成器不能依赖默认 Locale 做大小写转换。
+ */
+public class GeneratorLocaleTest {
+
+    private static final String FIELDS = "private int[] indexes; private long[] items; private short[] levels; "
+            + "private Integer id; "
+            + "public int[] getIndexes() { return indexes; } public void setIndexes(int[] v) { indexes = v; } "
+            + "public long[] getItems() { return items; } public void setItems(long[] v) { items = v; } "
+            + "public short[] getLevels() { return levels; } public void setLevels(short[] v) { levels = v; } "
+            + "public Integer getId() { return id; } public void setId(Integer v) { id = v; } ";
+
+    private static final String PRIMITIVE_FIELDS = "private int index; private long items; private short level; "
+            + "public int getIndex() { return index; } public void setIndex(int v) { index = v; } "
+            + "public long getItems() { return items; } public void setItems(long v) { items = v; } "
+            + "public short getLevel() { return level; } public void setLevel(short v) { level = v; } ";
+
+    private Locale defaultLocale;
+
+    private Path outputDir;
+
+    @Before
+    public void setUp() throws IOException {
+        defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        outputDir = Files.createTempDirectory("locale-test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Locale.setDefault(defaultLocale);
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * 二进制编解码器中的基本类型数组与 ByteBuffer 读写方法名。
+     */
+    @Test
+    public void codecShouldCompileUnderTurkishLocale() throws IOException {
+        assertCompiles(FIELDS, "codec = true");
+    }
+
+    /**
+     * JSON 编解码器中的基本类型数组读取。
+     */
+    @Test
+    public void jsonCodecShouldCompileUnderTurkishLocale() throws IOException {
+        assertCompiles(FIELDS, "json = true");
+    }
+
+    /**
+     * 堆外定长记录的偏移量常量与 ByteBuffer 读写方法名。
+     */
+    @Test
+    public void offHeapShouldCompileUnderTurkishLocale() throws IOException {
+        assertCompiles(PRIMITIVE_FIELDS, "offHeap = true");
+    }
+
+    private void assertCompiles(String fields, String attributes) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("JDK 编译器不可用", compiler);
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<JavaFileObject> sources = Arrays.asList(
+                    new InMemoryJavaFileObject("test.Reading",
+                            "package test; public class Reading { " + fields + "}"),
+                    new InMemoryJavaFileObject("test.ReadingDto",
+                            "package test; @com.github.jackieonway.copier.annotation.CopyTarget("
+                                    + "source = Reading.class, " + attributes + ") public class ReadingDto { "
+                                    + fields + "}"));
+            List<String> options = Arrays.asList(
+                    "-d", outputDir.toString(),
+                    "-s", outputDir.toString(),
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", BeanCopierProcessor.class.getName());
+            Boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+            StringBuilder errors = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.append(diagnostic).append('\n');
+                }
+            }
+            assertTrue(errors.toString(), success);
+        }
+    }
+
+    /**
+     * 内存中的 Java 源文件对象。
+     */
+    private static class InMemoryJavaFileObject extends SimpleJavaFileObject {
+        private final String source;
+
+        protected InMemoryJavaFileObject(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
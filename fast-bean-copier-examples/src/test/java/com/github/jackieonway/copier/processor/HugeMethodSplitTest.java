@@ -0,0 +1,231 @@
+package com.github.jackieonway.copier.processor;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * 超宽 Bean 的方法拆分测试：生成的每个方法都应低于 HotSpot 的 HugeMethodLimit。
+ */
+public class HugeMethodSplitTest {
+
+    private static final int FIELD_COUNT = 500;
+
+    private static final int HUGE_METHOD_LIMIT = 8000;
+
+    private static Path outputDir;
+
+    @BeforeClass
+    public static void compileWideBean() throws Exception {
+        outputDir = Files.createTempDirectory("wide-bean");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("JDK 编译器不可用", compiler);
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<JavaFileObject> sources = Arrays.asList(
+                    new InMemoryJavaFileObject("test.WideBean", wideBeanSource("WideBean", "")),
+                    new InMemoryJavaFileObject("test.WideBeanDto", wideBeanSource("WideBeanDto",
+                            "@com.github.jackieonway.copier.annotation.CopyTarget(source = WideBean.class) ")));
+            List<String> options = Arrays.asList(
+                    "-d", outputDir.toString(),
+                    "-s", outputDir.toString(),
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", BeanCopierProcessor.class.getName());
+            Boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+            StringBuilder errors = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.append(diagnostic).append('\n');
+                }
+            }
+            assertTrue(errors.toString(), success);
+        }
+    }
+
+    @AfterClass
+    public static void cleanUp() throws IOException {
+        if (outputDir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void everyGeneratedMethodShouldStayBelowHugeMethodLimit() throws Exception {
+        Map<String, Integer> codeLengths = readCodeLengths(outputDir.resolve("test/WideBeanDtoCopier.class"));
+
+        assertTrue(codeLengths.containsKey("toDtoFields0"));
+        assertTrue(codeLengths.containsKey("fromDtoFields0"));
+        for (Map.Entry<String, Integer> entry : codeLengths.entrySet()) {
+            assertTrue(entry.getKey() + " 方法体过大: " + entry.getValue(),
+                    entry.getValue() < HUGE_METHOD_LIMIT);
+        }
+    }
+
+    @Test
+    public void splitCopierShouldCopyAllFields() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> beanClass = loader.loadClass("test.WideBean");
+            Class<?> copierClass = loader.loadClass("test.WideBeanDtoCopier");
+            Object bean = beanClass.getConstructor().newInstance();
+            beanClass.getMethod("setF0", String.class).invoke(bean, "first");
+            beanClass.getMethod("setF" + (FIELD_COUNT - 5), String.class).invoke(bean, "last");
+            beanClass.getMethod("setF1", List.class).invoke(bean, Arrays.asList("a", "b"));
+
+            Object dto = copierClass.getMethod("toDto", beanClass).invoke(null, bean);
+            Class<?> dtoClass = dto.getClass();
+            assertEquals("first", dtoClass.getMethod("getF0").invoke(dto));
+            assertEquals("last", dtoClass.getMethod("getF" + (FIELD_COUNT - 5)).invoke(dto));
+            assertEquals(Arrays.asList("a", "b"), dtoClass.getMethod("getF1").invoke(dto));
+
+            Method fromDto = copierClass.getMethod("fromDto", dtoClass);
+            Object back = fromDto.invoke(null, dto);
+            assertEquals("last", beanClass.getMethod("getF" + (FIELD_COUNT - 5)).invoke(back));
+        }
+    }
+
+    /**
+     * 生成包含多种字段类型的超宽 Bean 源码。
+     */
+    private static String wideBeanSource(String className, String annotation) {
+        String[] types = {"String", "java.util.List<String>", "java.util.Map<String, Integer>",
+                "java.util.Set<Long>", "int"};
+        StringBuilder sb = new StringBuilder("package test; ")
+                .append(annotation).append("public class ").append(className).append(" { ");
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            String type = types[i % types.length];
+            sb.append("private ").append(type).append(" f").append(i).append("; ")
+                    .append("public ").append(type).append(" getF").append(i)
+                    .append("() { return f").append(i).append("; } ")
+                    .append("public void setF").append(i).append("(").append(type)
+                    .append(" v) { this.f").append(i).append(" = v; } ");
+        }
+        return sb.append("}").toString();
+    }
+
+    /**
+     * 读取 class 文件中每个方法 Code 属性的字节码长度。
+     */
+    private static Map<String, Integer> readCodeLengths(Path classFile) throws IOException {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        try (InputStream in = Files.newInputStream(classFile);
+             DataInputStream data = new DataInputStream(in)) {
+            data.readInt();
+            data.readUnsignedShort();
+            data.readUnsignedShort();
+            int poolCount = data.readUnsignedShort();
+            String[] utf8 = new String[poolCount];
+            for (int i = 1; i < poolCount; i++) {
+                int tag = data.readUnsignedByte();
+                switch (tag) {
+                    case 1:
+                        utf8[i] = data.readUTF();
+                        break;
+                    case 3:
+                    case 4:
+                    case 9:
+                    case 10:
+                    case 11:
+                    case 12:
+                    case 17:
+                    case 18:
+                        data.skipBytes(4);
+                        break;
+                    case 5:
+                    case 6:
+                        data.skipBytes(8);
+                        i++;
+                        break;
+                    case 15:
+                        data.skipBytes(3);
+                        break;
+                    default:
+                        data.skipBytes(2);
+                        break;
+                }
+            }
+            data.skipBytes(6);
+            data.skipBytes(2 * data.readUnsignedShort());
+            int fieldCount = data.readUnsignedShort();
+            for (int i = 0; i < fieldCount; i++) {
+                data.skipBytes(6);
+                skipAttributes(data);
+            }
+            int methodCount = data.readUnsignedShort();
+            for (int i = 0; i < methodCount; i++) {
+                data.skipBytes(2);
+                String name = utf8[data.readUnsignedShort()];
+                data.skipBytes(2);
+                int attributeCount = data.readUnsignedShort();
+                for (int j = 0; j < attributeCount; j++) {
+                    String attributeName = utf8[data.readUnsignedShort()];
+                    int length = data.readInt();
+                    if ("Code".equals(attributeName)) {
+                        data.skipBytes(4);
+                        int codeLength = data.readInt();
+                        result.merge(name, codeLength, Math::max);
+                        data.skipBytes(length - 8);
+                    } else {
+                        data.skipBytes(length);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void skipAttributes(DataInputStream data) throws IOException {
+        int attributeCount = data.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            data.skipBytes(2);
+            data.skipBytes(data.readInt());
+        }
+    }
+
+    /**
+     * 内存中的 Java 源文件对象。
+     */
+    private static class InMemoryJavaFileObject extends SimpleJavaFileObject {
+        private final String source;
+
+        protected InMemoryJavaFileObject(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.jackieonway.copier.processor;
+
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@code @CopyField(converter = JsonConverter.class)} 字段的代码生成：非泛型字段类型强制转换并推断反序列化类型，
+ * 泛型字段类型在编译期报错。
+ */
+public class JsonConverterFieldTest {
+
+    /**
+     * 测试非泛型字段生成的 Copier 可以编译，fromDto 以字段类型作为反序列化目标。
+     */
+    @Test
+    public void testNonGenericFieldCompiles() throws IOException {
+        Path outputDir = Files.createTempDirectory("json-converter");
+        try {
+            List<String> errors = compile(outputDir,
+                    bean("Point", "int x", "int y"),
+                    bean("Place", "Point location"),
+                    new InMemoryJavaFileObject("test.PlaceDto", "package test; "
+                            + "@com.github.jackieonway.copier.annotation.CopyTarget(source = Place.class) "
+                            + "public class PlaceDto { "
+                            + "@com.github.jackieonway.copier.annotation.CopyField("
+                            + "converter = com.github.jackieonway.copier.converter.JsonConverter.class) "
+                            + "private String location; "
+                            + "public String getLocation() { return location; } "
+                            + "public void setLocation(String location) { this.location = location; } }"));
+
+            assertTrue(errors.toString(), errors.isEmpty());
+            String copierSource = new String(Files.readAllBytes(outputDir.resolve("test/PlaceDtoCopier.java")),
+                    StandardCharsets.UTF_8);
+            assertTrue(copierSource, copierSource.contains("(String) "));
+            assertTrue(copierSource, copierSource.contains("(Point) "));
+            assertTrue(copierSource, copierSource.contains("\"test.Point\""));
+        } finally {
+            delete(outputDir);
+        }
+    }
+
+    /**
+     * 测试泛型字段类型报错，而不是生成未检查的强制转换。
+     */
+    @Test
+    public void testGenericFieldRejected() throws IOException {
+        Path outputDir = Files.createTempDirectory("json-converter");
+        try {
+            List<String> errors = compile(outputDir,
+                    bean("Point", "int x", "int y"),
+                    bean("Route", "String path"),
+                    new InMemoryJavaFileObject("test.RouteDto", "package test; "
+                            + "@com.github.jackieonway.copier.annotation.CopyTarget(source = Route.class) "
+                            + "public class RouteDto { "
+                            + "@com.github.jackieonway.copier.annotation.CopyField("
+                            + "converter = com.github.jackieonway.copier.converter.JsonConverter.class) "
+                            + "private java.util.List<Point> path; "
+                            + "public java.util.List<Point> getPath() { return path; } "
+                            + "public void setPath(java.util.List<Point> path) { this.path = path; } }"));
+
+            assertTrue(errors.toString(), errors.stream().anyMatch(message ->
+                    message.contains("JsonConverter 不支持泛型字段类型") && message.contains("java.util.List<test.Point>")));
+        } finally {
+            delete(outputDir);
+        }
+    }
+
+    /**
+     * 使用注解处理器编译源文件，返回错误信息。
+     */
+    private static List<String> compile(Path outputDir, JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("JDK 编译器不可用", compiler);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<String> options = Arrays.asList(
+                    "-d", outputDir.toString(),
+                    "-s", outputDir.toString(),
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", BeanCopierProcessor.class.getName());
+            compiler.getTask(null, fileManager, diagnostics, options, null, Arrays.asList(sources)).call();
+        }
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * 删除临时输出目录。
+     */
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private static JavaFileObject bean(String name, String... fields) {
+        StringBuilder sb = new StringBuilder("package test; public class ").append(name).append(" { ");
+        for (String field : fields) {
+            String[] parts = field.split(" ");
+            String property = Character.toUpperCase(parts[1].charAt(0)) + parts[1].substring(1);
+            sb.append("private ").append(field).append("; ")
+                    .append("public ").append(parts[0]).append(" get").append(property)
+                    .append("() { return ").append(parts[1]).append("; } ")
+                    .append("public void set").append(property).append("(").append(field)
+                    .append(") { this.").append(parts[1]).append(" = ").append(parts[1]).append("; } ");
+        }
+        return new InMemoryJavaFileObject("test." + name, sb.append("}").toString());
+    }
+
+    /**
+     * 内存中的 Java 源文件对象。
+     */
+    private static class InMemoryJavaFileObject extends SimpleJavaFileObject {
+        private final String source;
+
+        protected InMemoryJavaFileObject(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
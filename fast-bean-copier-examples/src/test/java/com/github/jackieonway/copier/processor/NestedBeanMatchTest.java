@@ -0,0 +1,164 @@
+package com.github.jackieonway.copier.processor;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * 未标注 {@code @CopyTarget} 的嵌套对象按同名字段拷贝的判定：目标的每个可写字段都必须能从源对象拷贝。
+ */
+public class NestedBeanMatchTest {
+
+    private static Path outputDir;
+
+    private static List<String> warnings = new ArrayList<>();
+
+    private static String copierSource;
+
+    @BeforeClass
+    public static void compile() throws Exception {
+        outputDir = Files.createTempDirectory("nested-bean");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("JDK 编译器不可用", compiler);
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<JavaFileObject> sources = Arrays.asList(
+                    bean("Account", "Long id", "String email"),
+                    bean("User", "Long id", "String name"),
+                    bean("Point", "int x", "int y", "String label"),
+                    bean("PointView", "int x", "int y"),
+                    bean("Team", "Account owner", "Point origin", "java.util.List<Account> members",
+                            "java.util.List<Point> path", "String title"),
+                    new InMemoryJavaFileObject("test.TeamDto", "package test; "
+                            + "@com.github.jackieonway.copier.annotation.CopyTarget(source = Team.class) "
+                            + beanBody("TeamDto", "User owner", "PointView origin", "java.util.List<User> members",
+                                    "java.util.List<PointView> path", "String title")));
+            List<String> options = Arrays.asList(
+                    "-d", outputDir.toString(),
+                    "-s", outputDir.toString(),
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", BeanCopierProcessor.class.getName());
+            Boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+            StringBuilder errors = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.append(diagnostic).append('\n');
+                } else if (diagnostic.getKind() == Diagnostic.Kind.WARNING) {
+                    warnings.add(diagnostic.getMessage(null));
+                }
+            }
+            assertTrue(errors.toString(), success);
+        }
+        copierSource = new String(Files.readAllBytes(outputDir.resolve("test/TeamDtoCopier.java")),
+                StandardCharsets.UTF_8);
+    }
+
+    @AfterClass
+    public static void cleanUp() throws IOException {
+        if (outputDir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * 只有部分字段同名的两个对象不再视为兼容，字段不拷贝并给出警告。
+     */
+    @Test
+    public void partiallyMatchingBeansShouldNotBeCopied() {
+        assertFalse(copierSource.contains("copyBean_Account_User"));
+        assertFalse(copierSource.contains("setOwner"));
+        assertFalse(copierSource.contains("setMembers"));
+    }
+
+    /**
+     * 警告中列出未映射的目标属性，并建议在嵌套 DTO 上标注 @CopyTarget。
+     */
+    @Test
+    public void warningShouldListUnmappedProperties() {
+        String warning = null;
+        for (String message : warnings) {
+            if (message.contains("'owner'")) {
+                warning = message;
+            }
+        }
+        assertNotNull(warnings.toString(), warning);
+        assertTrue(warning, warning.contains("目标属性 name 在 test.Account 中没有同名且类型兼容的字段"));
+        assertTrue(warning, warning.contains("@CopyTarget(source = test.Account.class)"));
+        assertTrue(warnings.toString(), warnings.stream().anyMatch(message -> message.contains("'members'")
+                && message.contains("目标属性 name 在 test.Account 中")));
+    }
+
+    /**
+     * 目标的每个字段都能从源对象拷贝时（源对象可以有多余字段）仍生成按同名字段拷贝的辅助方法。
+     */
+    @Test
+    public void fullyMatchingBeansShouldStillBeCopied() {
+        assertTrue(copierSource.contains("copyBean_Point_PointView"));
+        assertTrue(copierSource.contains("copyList_Point_PointView"));
+        // fromDto 把 DTO 中存在的属性写回，源对象多出的 label 保持不变
+        assertTrue(copierSource.contains("copyBean_PointView_Point"));
+    }
+
+    private static JavaFileObject bean(String name, String... fields) {
+        return new InMemoryJavaFileObject("test." + name, "package test; " + beanBody(name, fields));
+    }
+
+    /**
+     * 生成带 getter/setter 的类体。
+     */
+    private static String beanBody(String name, String... fields) {
+        StringBuilder sb = new StringBuilder("public class ").append(name).append(" { ");
+        for (String field : fields) {
+            String[] parts = field.split(" ");
+            String property = Character.toUpperCase(parts[1].charAt(0)) + parts[1].substring(1);
+            sb.append("private ").append(field).append("; ")
+                    .append("public ").append(parts[0]).append(" get").append(property)
+                    .append("() { return ").append(parts[1]).append("; } ")
+                    .append("public void set").append(property).append("(").append(field)
+                    .append(") { this.").append(parts[1]).append(" = ").append(parts[1]).append("; } ");
+        }
+        return sb.append("}").toString();
+    }
+
+    /**
+     * 内存中的 Java 源文件对象。
+     */
+    private static class InMemoryJavaFileObject extends SimpleJavaFileObject {
+        private final String source;
+
+        protected InMemoryJavaFileObject(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.github.jackieonway.copier.processor;
 
 import com.google.auto.service.AutoService;
+import com.github.jackieonway.copier.annotation.CollectionOutput;
+import com.github.jackieonway.copier.annotation.CopyStrategy;
 import com.github.jackieonway.copier.annotation.ComponentModel;
 import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopySource;
+import com.github.jackieonway.copier.annotation.CopySubtype;
 import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.annotation.DeepClone;
 import com.github.jackieonway.copier.converter.TypeConverter;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -15,12 +20,17 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.MirroredTypesException;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
@@ -29,6 +39,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +57,11 @@ import java.util.Set;
 @AutoService(Processor.class)
 public class BeanCopierProcessor extends AbstractProcessor {
 
+    /**
+     * v1.3: 为所有 Copier 开启运行时指标的编译参数（{@code -Afastbeancopier.metrics=true}）。
+     */
+    static final String METRICS_OPTION = "fastbeancopier.metrics";
+
     /**
      * 处理环境，用于访问编译时的各种信息。
      */
@@ -65,6 +82,28 @@ public class BeanCopierProcessor extends AbstractProcessor {
      */
     private Messager messager;
 
+    /**
+     * v1.3: 丢弃所有诊断信息，重新分析已处理过的类型时使用，避免重复报告。
+     */
+    private static final Messager SILENT_MESSAGER = new Messager() {
+        @Override
+        public void printMessage(Diagnostic.Kind kind, CharSequence msg) {
+        }
+
+        @Override
+        public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e) {
+        }
+
+        @Override
+        public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e, AnnotationMirror a) {
+        }
+
+        @Override
+        public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e, AnnotationMirror a,
+                                 AnnotationValue v) {
+        }
+    };
+
     /**
      * 初始化处理器。
      *
@@ -86,7 +125,20 @@ public class BeanCopierProcessor extends AbstractProcessor {
      */
     @Override
     public Set<String> getSupportedAnnotationTypes() {
-        return Collections.singleton(CopyTarget.class.getCanonicalName());
+        Set<String> types = new LinkedHashSet<>();
+        types.add(CopyTarget.class.getCanonicalName());
+        types.add(DeepClone.class.getCanonicalName());
+        return types;
+    }
+
+    /**
+     * 返回该处理器支持的编译参数。
+     *
+     * @return 支持的编译参数集合
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(METRICS_OPTION);
     }
 
     /**
@@ -110,6 +162,7 @@ public class BeanCopierProcessor extends AbstractProcessor {
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         // 获取所有被 @CopyTarget 注解标记的元素
         Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(CopyTarget.class);
+        Set<String> updatableTargets = collectUpdatableTargets(elements);
         
         for (Element element : elements) {
             // 确保是类元素
@@ -137,8 +190,30 @@ public class BeanCopierProcessor extends AbstractProcessor {
             List<TypeMirror> usesClasses = getUsesClasses(targetType, annotation);
             ComponentModel componentModel = annotation.componentModel();
             
-            // 进行字段映射分析
-            List<FieldMapping> fieldMappings = analyzeFieldMappings(sourceType, targetType, ignoreFields);
+            // v1.3: 具名附加源
+            Map<String, TypeElement> namedSources = getNamedSources(targetType, annotation);
+            if (namedSources == null) {
+                continue;
+            }
+            
+            // v1.3: 子类型映射
+            Map<TypeElement, TypeElement> subtypes = getSubtypes(sourceType, targetType, annotation);
+            if (subtypes == null) {
+                continue;
+            }
+            
+            // 进行字段映射分析（v1.3: 指定 via 时合成两段映射）
+            TypeElement viaType = getViaType(annotation);
+            List<FieldMapping> fieldMappings = viaType == null
+                    ? analyzeFieldMappings(sourceType, targetType, ignoreFields, namedSources)
+                    : fuseViaMappings(sourceType, viaType, targetType, ignoreFields, namedSources, usesClasses);
+            List<FieldMapping> namedSourceMappings = new ArrayList<>();
+            for (FieldMapping mapping : fieldMappings) {
+                if (mapping.getSourceName() != null) {
+                    namedSourceMappings.add(mapping);
+                }
+            }
+            fieldMappings.removeAll(namedSourceMappings);
             
             if (fieldMappings.isEmpty()) {
                 messager.printMessage(Diagnostic.Kind.WARNING, 
@@ -150,12 +225,96 @@ public class BeanCopierProcessor extends AbstractProcessor {
             codeGenerator.setFieldMappings(fieldMappings);
             codeGenerator.setUsesClasses(usesClasses);
             codeGenerator.setComponentModel(componentModel);
+            codeGenerator.setCollectionOutput(annotation.collectionOutput());
+            codeGenerator.setColumns(annotation.columns());
+            codeGenerator.setView(annotation.view());
+            codeGenerator.setMapSupport(annotation.map());
+            codeGenerator.setMetrics(annotation.metrics()
+                    || Boolean.parseBoolean(processingEnv.getOptions().get(METRICS_OPTION)));
+            codeGenerator.setNamedSources(namedSources, namedSourceMappings);
+            codeGenerator.setSubtypes(subtypes);
+            codeGenerator.setUpdatableTargets(updatableTargets);
+            // v1.3: 堆外定长记录，字段不满足定长要求时只报错，不生成相关方法
+            FlyweightGenerator flyweightGenerator = null;
+            if (annotation.offHeap()) {
+                flyweightGenerator = new FlyweightGenerator(processingEnv, targetType);
+                if (flyweightGenerator.validate()) {
+                    codeGenerator.setOffHeap(true);
+                } else {
+                    flyweightGenerator = null;
+                }
+            }
             codeGenerator.generateCopierClass();
+            if (flyweightGenerator != null) {
+                flyweightGenerator.generateFlyweightClass();
+            }
+
+            // v1.3: 可选的二进制编解码器
+            if (annotation.codec()) {
+                new CodecGenerator(processingEnv, targetType).generateCodecClass();
+            }
+
+            // v1.3: 可选的 JDBC 行映射器
+            if (annotation.rowMapper()) {
+                new RowMapperGenerator(processingEnv, targetType).generateRowMapperClass();
+            }
+
+            // v1.3: 可选的分隔文本读写器
+            if (annotation.csvColumns().length > 0) {
+                new DelimitedGenerator(processingEnv, targetType, annotation.csvColumns(),
+                        annotation.csvDelimiter()).generateCsvClass();
+            }
+
+            // v1.3: 可选的 JSON 编解码器
+            if (annotation.json()) {
+                new JsonCodecGenerator(processingEnv, targetType).generateJsonCodecClass();
+            }
+
+            // v1.3: 同类型拷贝同时生成深拷贝克隆器（标注了 @DeepClone 的在下面统一生成）
+            if (sourceType.equals(targetType) && targetType.getAnnotation(DeepClone.class) == null) {
+                new ClonerGenerator(processingEnv, targetType).generateClonerClass();
+            }
+        }
+
+        // v1.3: @DeepClone 深拷贝克隆器
+        for (Element element : roundEnv.getElementsAnnotatedWith(DeepClone.class)) {
+            if (element instanceof TypeElement) {
+                new ClonerGenerator(processingEnv, (TypeElement) element).generateClonerClass();
+            }
         }
         
         return true;
     }
 
+    /**
+     * 收集需要生成 updateFromDto 的目标类型：声明了合并键字段的目标类型，以及合并键集合的元素类型
+     * （其 Copier 的 updateFromDto 用于原地更新命中的元素）。
+     *
+     * @param elements 本轮标注了 @CopyTarget 的元素
+     * @return 目标类型的全限定名
+     * @since 1.3.0
+     */
+    private Set<String> collectUpdatableTargets(Set<? extends Element> elements) {
+        Set<String> names = new HashSet<>();
+        for (Element element : elements) {
+            if (!(element instanceof TypeElement)) {
+                continue;
+            }
+            for (VariableElement field : TypeUtils.getAllFields((TypeElement) element)) {
+                CopyField copyField = field.getAnnotation(CopyField.class);
+                if (copyField == null || copyField.mergeKey().trim().isEmpty()) {
+                    continue;
+                }
+                names.add(((TypeElement) element).getQualifiedName().toString());
+                List<TypeMirror> arguments = TypeUtils.extractTypeArguments(field.asType());
+                if (!arguments.isEmpty() && arguments.get(0).getKind() == TypeKind.DECLARED) {
+                    names.add(((TypeElement) typeUtils.asElement(arguments.get(0))).getQualifiedName().toString());
+                }
+            }
+        }
+        return names;
+    }
+
     /**
      * 获取源类型。
      *
@@ -177,6 +336,433 @@ public class BeanCopierProcessor extends AbstractProcessor {
         return null;
     }
 
+    /**
+     * 获取 sources 属性声明的具名附加源。
+     *
+     * <p>名称必须是合法且不重复的 Java 标识符，不能与生成方法的 {@code source}/{@code target} 参数冲突。
+     *
+     * @param targetType 目标类型
+     * @param annotation 注解
+     * @return 名称到源类型的有序映射，声明无效时返回 null
+     * @since 1.3.0
+     */
+    private Map<String, TypeElement> getNamedSources(TypeElement targetType, CopyTarget annotation) {
+        Map<String, TypeElement> namedSources = new LinkedHashMap<>();
+        for (CopySource copySource : annotation.sources()) {
+            String name = copySource.name();
+            if (!SourceVersion.isName(name) || "source".equals(name) || "target".equals(name)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "附加源名称 '" + name + "' 必须是合法的 Java 标识符，且不能是 source 或 target", targetType);
+                return null;
+            }
+            TypeMirror type;
+            try {
+                type = elementUtils.getTypeElement(copySource.type().getCanonicalName()).asType();
+            } catch (MirroredTypeException e) {
+                type = e.getTypeMirror();
+            }
+            if (type.getKind() != TypeKind.DECLARED) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "附加源 '" + name + "' 的类型必须是类：" + type, targetType);
+                return null;
+            }
+            if (namedSources.put(name, (TypeElement) typeUtils.asElement(type)) != null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "附加源名称 '" + name + "' 重复", targetType);
+                return null;
+            }
+        }
+        return namedSources;
+    }
+
+    /**
+     * 获取子类型映射并校验：源子类型须继承源类型，目标子类型须继承目标类型，
+     * 且目标子类型是以源子类型为源、使用默认组件模型的 {@code @CopyTarget} 类。
+     *
+     * @return 源子类型到目标子类型的有序映射，声明无效时返回 null
+     * @since 1.3.0
+     */
+    private Map<TypeElement, TypeElement> getSubtypes(TypeElement sourceType, TypeElement targetType,
+                                                      CopyTarget annotation) {
+        Map<TypeElement, TypeElement> subtypes = new LinkedHashMap<>();
+        Set<TypeElement> subtypeTargets = new HashSet<>();
+        for (CopySubtype copySubtype : annotation.subtypes()) {
+            TypeMirror subSource;
+            try {
+                subSource = elementUtils.getTypeElement(copySubtype.source().getCanonicalName()).asType();
+            } catch (MirroredTypeException e) {
+                subSource = e.getTypeMirror();
+            }
+            TypeMirror subTarget;
+            try {
+                subTarget = elementUtils.getTypeElement(copySubtype.target().getCanonicalName()).asType();
+            } catch (MirroredTypeException e) {
+                subTarget = e.getTypeMirror();
+            }
+            if (subSource.getKind() != TypeKind.DECLARED || subTarget.getKind() != TypeKind.DECLARED
+                    || typeUtils.isSameType(subSource, sourceType.asType())
+                    || !typeUtils.isSubtype(subSource, sourceType.asType())
+                    || typeUtils.isSameType(subTarget, targetType.asType())
+                    || !typeUtils.isSubtype(subTarget, targetType.asType())) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "子类型映射 " + subSource + " -> " + subTarget + " 必须分别继承 "
+                                + sourceType.getQualifiedName() + " 和 " + targetType.getQualifiedName(), targetType);
+                return null;
+            }
+            TypeElement subSourceElement = (TypeElement) typeUtils.asElement(subSource);
+            TypeElement subTargetElement = (TypeElement) typeUtils.asElement(subTarget);
+            CopyTarget subAnnotation = subTargetElement.getAnnotation(CopyTarget.class);
+            if (!TypeUtils.isCopyTargetOf(subTargetElement, subSource)
+                    || subAnnotation.componentModel() != ComponentModel.DEFAULT) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "子类型 " + subTarget + " 必须是以 " + subSource + " 为源、使用默认组件模型的 @CopyTarget 类",
+                        targetType);
+                return null;
+            }
+            if (subtypes.put(subSourceElement, subTargetElement) != null || !subtypeTargets.add(subTargetElement)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "子类型映射 " + subSource + " -> " + subTarget + " 重复", targetType);
+                return null;
+            }
+        }
+        return subtypes;
+    }
+
+    /**
+     * 获取映射链的中间类型。
+     *
+     * @return 中间类型，未指定（void.class）时返回 null
+     * @since 1.3.0
+     */
+    private TypeElement getViaType(CopyTarget annotation) {
+        TypeMirror viaType;
+        try {
+            Class<?> viaClass = annotation.via();
+            if (viaClass == void.class) {
+                return null;
+            }
+            viaType = elementUtils.getTypeElement(viaClass.getCanonicalName()).asType();
+        } catch (MirroredTypeException e) {
+            viaType = e.getTypeMirror();
+        }
+        return viaType.getKind() == TypeKind.DECLARED ? (TypeElement) typeUtils.asElement(viaType) : null;
+    }
+
+    /**
+     * 合成"源 → 中间类型 → 目标"两段映射为"源 → 目标"的直接映射。
+     *
+     * <p>第一段取中间类型自身 {@code @CopyTarget} 的映射（不重复报告其诊断信息），
+     * 第二段按中间类型解析目标类的字段，之后逐字段合成；来自具名附加源的映射原样保留。
+     * 中间类型的 uses 类会并入目标类，供第一段的具名转换方法使用。
+     *
+     * @return 合成后的字段映射，中间类型无效时返回空列表
+     * @since 1.3.0
+     */
+    private List<FieldMapping> fuseViaMappings(TypeElement sourceType, TypeElement viaType, TypeElement targetType,
+                                               Set<String> ignoreFields, Map<String, TypeElement> namedSources,
+                                               List<TypeMirror> usesClasses) {
+        List<FieldMapping> result = new ArrayList<>();
+        CopyTarget viaAnnotation = viaType.getAnnotation(CopyTarget.class);
+        TypeElement viaSource = viaAnnotation == null ? null : getSourceType(viaType, viaAnnotation);
+        if (viaSource == null || !typeUtils.isSameType(viaSource.asType(), sourceType.asType())
+                || getViaType(viaAnnotation) != null) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "via 指定的中间类型 '" + viaType.getQualifiedName()
+                            + "' 必须是以 " + sourceType.getQualifiedName() + " 为源且未指定 via 的 @CopyTarget 类",
+                    targetType);
+            return result;
+        }
+
+        List<FieldMapping> firstHop;
+        Messager original = messager;
+        messager = SILENT_MESSAGER;
+        try {
+            Map<String, TypeElement> viaNamedSources = getNamedSources(viaType, viaAnnotation);
+            firstHop = analyzeFieldMappings(sourceType, viaType, getIgnoreFields(viaAnnotation),
+                    viaNamedSources != null ? viaNamedSources : Collections.<String, TypeElement>emptyMap());
+        } finally {
+            messager = original;
+        }
+        Map<String, FieldMapping> firstHopByTarget = new HashMap<>();
+        for (FieldMapping mapping : firstHop) {
+            firstHopByTarget.put(mapping.getTargetFieldName(), mapping);
+        }
+        for (TypeMirror uses : getUsesClasses(viaType, viaAnnotation)) {
+            boolean present = false;
+            for (TypeMirror existing : usesClasses) {
+                present |= typeUtils.isSameType(existing, uses);
+            }
+            if (!present) {
+                usesClasses.add(uses);
+            }
+        }
+
+        for (FieldMapping mapping : analyzeFieldMappings(viaType, targetType, ignoreFields, namedSources)) {
+            if (mapping.getSourceName() != null) {
+                result.add(mapping);
+                continue;
+            }
+            FieldMapping fused = fuseMapping(sourceType, firstHopByTarget, mapping);
+            if (fused != null) {
+                result.add(fused);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 将第二段映射与其读取的中间字段的第一段映射合成为一条直接映射。
+     *
+     * <ul>
+     *   <li>直接拷贝的中间字段：改为读取第一段的源字段（含点号路径），类型转换与深拷贝按源到目标的类型只做一次</li>
+     *   <li>直接拷贝、且由其他类型的嵌套对象（或其集合）得到，或类型与两端都不同的中间字段：
+     *       依次调用两段的转换，保留中间类型上的字段映射规则与拆箱默认值</li>
+     *   <li>由表达式、转换器或具名方法得到的中间字段：在第二段为直接拷贝且类型可赋值时沿用第一段的转换</li>
+     *   <li>第二段的表达式与条件：把 {@code source.getXxx()} 替换为第一段的取值表达式</li>
+     * </ul>
+     *
+     * @return 合成后的映射，无法合成时报告错误并返回 null
+     * @since 1.3.0
+     */
+    private FieldMapping fuseMapping(TypeElement sourceType, Map<String, FieldMapping> firstHop,
+                                     FieldMapping mapping) {
+        VariableElement targetField = mapping.getTargetField();
+        FieldMapping fused;
+        switch (mapping.getMappingType()) {
+            case EXPRESSION:
+            case MANY_TO_ONE: {
+                String expression = fuseExpression(mapping.getExpression(), firstHop, targetField);
+                if (expression == null) {
+                    return null;
+                }
+                fused = new FieldMapping(null, targetField, sourceType.asType(), mapping.getTargetType());
+                fused.setMappingType(mapping.getMappingType());
+                fused.setExpression(expression);
+                List<String> sourceNames = new ArrayList<>();
+                for (String name : mapping.getSourceFieldNames()) {
+                    FieldMapping hop = firstHop.get(name);
+                    if (isDirectCopy(hop) && !hop.isPathMapping()) {
+                        sourceNames.add(hop.getSourceFieldName());
+                    }
+                }
+                fused.setSourceFieldNames(sourceNames.size() == mapping.getSourceFieldNames().size()
+                        ? sourceNames : new ArrayList<String>());
+                break;
+            }
+            case CONVERTER:
+            case QUALIFIED_BY_NAME: {
+                FieldMapping hop = firstHop.get(mapping.getSourceFieldName());
+                if (!isDirectCopy(hop) || hop.isPathMapping()
+                        || !typeUtils.isSameType(hop.getSourceType(), mapping.getSourceType())) {
+                    reportUnfusable(targetField, mapping.getSourceFieldName());
+                    return null;
+                }
+                fused = new FieldMapping(hop.getSourceField(), targetField, hop.getSourceType(), mapping.getTargetType());
+                fused.setMappingType(mapping.getMappingType());
+                fused.setConverterClassName(mapping.getConverterClassName());
+                fused.setFormat(mapping.getFormat());
+                fused.setQualifiedByName(mapping.getQualifiedByName());
+                break;
+            }
+            case SIMPLE:
+            default:
+                fused = mapping.isPathMapping()
+                        ? fusePathMapping(firstHop, mapping)
+                        : fuseSimpleMapping(firstHop, mapping);
+                if (fused == null) {
+                    return null;
+                }
+                break;
+        }
+
+        fused.setImplementationType(mapping.getImplementationType());
+        fused.setCollectionOutput(mapping.getCollectionOutput());
+        fused.setCopyStrategy(mapping.getCopyStrategy());
+        if (mapping.hasCondition()) {
+            String condition = fuseExpression(mapping.getCondition(), firstHop, targetField);
+            if (condition == null) {
+                return null;
+            }
+            fused.setCondition(condition);
+        }
+        return fused;
+    }
+
+    /**
+     * 合成第二段为直接拷贝、且不是点号路径的映射。
+     *
+     * @since 1.3.0
+     */
+    private FieldMapping fuseSimpleMapping(Map<String, FieldMapping> firstHop, FieldMapping mapping) {
+        VariableElement targetField = mapping.getTargetField();
+        FieldMapping hop = firstHop.get(mapping.getSourceFieldName());
+        if (hop == null) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "中间类型字段 '" + mapping.getSourceFieldName() + "' 没有映射来源，合成后不会拷贝", targetField);
+            return null;
+        }
+        if (hop.getSourceName() != null || hop.hasCondition()) {
+            reportUnfusable(targetField, mapping.getSourceFieldName());
+            return null;
+        }
+        FieldMapping fused;
+        switch (hop.getMappingType()) {
+            case SIMPLE:
+                if (!typeUtils.isSameType(hop.getSourceType(), hop.getTargetType())
+                        && (containsBeans(hop.getTargetType())
+                        || !typeUtils.isSameType(mapping.getSourceType(), mapping.getTargetType()))) {
+                    // 中间字段是嵌套对象（或其集合），或中间类型与两端都不同（如 Integer -> int -> Integer）：
+                    // 依次按两段各自的规则转换，保留中间类型上的字段映射和 null 转默认值等语义
+                    if (!TypeUtils.isTypeCompatible(hop.getSourceType(), hop.getTargetType())
+                            || !TypeUtils.isTypeCompatible(mapping.getSourceType(), mapping.getTargetType())) {
+                        reportUnfusable(targetField, mapping.getSourceFieldName());
+                        return null;
+                    }
+                    fused = new FieldMapping(hop.getSourceField(), targetField, hop.getSourceType(),
+                            mapping.getTargetType());
+                    fused.setViaType(hop.getTargetType());
+                } else if (!TypeUtils.isTypeCompatible(hop.getSourceType(), mapping.getTargetType())) {
+                    messager.printMessage(Diagnostic.Kind.ERROR,
+                            "无法合成字段 '" + targetField.getSimpleName() + "' 的映射，类型不兼容："
+                                    + hop.getSourceType() + " -> " + mapping.getTargetType()
+                                    + nestedBeanHint(hop.getSourceType(), mapping.getTargetType()), targetField);
+                    return null;
+                } else {
+                    fused = new FieldMapping(hop.getSourceField(), targetField, hop.getSourceType(),
+                            mapping.getTargetType());
+                }
+                if (hop.isPathMapping()) {
+                    fused.setSourcePath(hop.getSourcePath(), hop.getSourcePathTypes());
+                }
+                return fused;
+            case EXPRESSION:
+            case MANY_TO_ONE:
+            case CONVERTER:
+            case QUALIFIED_BY_NAME:
+            default:
+                if (!typeUtils.isAssignable(hop.getTargetType(), mapping.getTargetType())) {
+                    reportUnfusable(targetField, mapping.getSourceFieldName());
+                    return null;
+                }
+                fused = new FieldMapping(hop.getSourceField(), targetField, hop.getSourceType(), mapping.getTargetType());
+                fused.setMappingType(hop.getMappingType());
+                fused.setSourceFieldNames(hop.getSourceFieldNames());
+                fused.setExpression(hop.getExpression());
+                fused.setConverterClassName(hop.getConverterClassName());
+                fused.setFormat(hop.getFormat());
+                fused.setQualifiedByName(hop.getQualifiedByName());
+                return fused;
+        }
+    }
+
+    /**
+     * 合成第二段为点号路径的映射：路径首段必须是直接拷贝且类型相同的中间字段，改为从对应源字段出发。
+     *
+     * @since 1.3.0
+     */
+    private FieldMapping fusePathMapping(Map<String, FieldMapping> firstHop, FieldMapping mapping) {
+        List<String> path = mapping.getSourcePath();
+        List<TypeMirror> pathTypes = mapping.getSourcePathTypes();
+        FieldMapping hop = firstHop.get(path.get(0));
+        if (!isDirectCopy(hop) || hop.isPathMapping()
+                || !typeUtils.isSameType(hop.getSourceType(), pathTypes.get(0))) {
+            reportUnfusable(mapping.getTargetField(), path.get(0));
+            return null;
+        }
+        List<String> fusedPath = new ArrayList<>(path);
+        List<TypeMirror> fusedTypes = new ArrayList<>(pathTypes);
+        fusedPath.set(0, hop.getSourceFieldName());
+        fusedTypes.set(0, hop.getSourceType());
+        FieldMapping fused = new FieldMapping(mapping.getSourceField(), mapping.getTargetField(),
+                mapping.getSourceType(), mapping.getTargetType());
+        fused.setSourcePath(fusedPath, fusedTypes);
+        return fused;
+    }
+
+    /**
+     * 把第二段表达式中的 {@code source.getXxx()} 替换为第一段中对应中间字段的取值表达式。
+     *
+     * <p>中间字段必须由无条件的直接拷贝（且不是点号路径）或表达式得到，
+     * 表达式中也不能以其他方式引用 {@code source}。
+     *
+     * @return 替换后的表达式，无法合成时报告错误并返回 null
+     * @since 1.3.0
+     */
+    private String fuseExpression(String expression, Map<String, FieldMapping> firstHop,
+                                  VariableElement targetField) {
+        Map<String, String> replacements = new HashMap<>();
+        Map<String, String> placeholders = new HashMap<>();
+        for (String accessor : ExpressionUtils.extractSourceAccessors(expression)) {
+            String property = accessor.startsWith("is") ? accessor.substring(2) : accessor.substring(3);
+            property = property.isEmpty() ? property
+                    : Character.toLowerCase(property.charAt(0)) + property.substring(1);
+            FieldMapping hop = firstHop.get(property);
+            String replacement = null;
+            if (isDirectCopy(hop) && !hop.isPathMapping()
+                    && typeUtils.isAssignable(hop.getSourceType(), hop.getTargetType())) {
+                replacement = "source.get" + Character.toUpperCase(hop.getSourceFieldName().charAt(0))
+                        + hop.getSourceFieldName().substring(1) + "()";
+            } else if (hop != null && hop.getSourceName() == null && !hop.hasCondition()
+                    && hop.hasExpression() && (hop.getMappingType() == FieldMapping.MappingType.EXPRESSION
+                    || hop.getMappingType() == FieldMapping.MappingType.MANY_TO_ONE)) {
+                replacement = "(" + hop.getExpression() + ")";
+            }
+            if (replacement == null) {
+                reportUnfusable(targetField, property);
+                return null;
+            }
+            replacements.put(accessor, replacement);
+            placeholders.put(accessor, "fused");
+        }
+        if (ExpressionUtils.containsVariable(ExpressionUtils.replaceSourceAccessors(expression, placeholders),
+                "source")) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "无法合成字段 '" + targetField.getSimpleName()
+                            + "' 的映射：表达式只能通过 source.getXxx() 读取中间类型", targetField);
+            return null;
+        }
+        return ExpressionUtils.replaceSourceAccessors(expression, replacements);
+    }
+
+    /**
+     * 判断第一段映射是否是来自主源、无条件的直接拷贝。
+     *
+     * @since 1.3.0
+     */
+    private boolean isDirectCopy(FieldMapping hop) {
+        return hop != null && hop.getMappingType() == FieldMapping.MappingType.SIMPLE
+                && hop.getSourceName() == null && !hop.hasCondition();
+    }
+
+    /**
+     * 判断类型本身或其（逐层的）集合元素是否为需要深拷贝的嵌套对象。
+     *
+     * @since 1.3.0
+     */
+    private static boolean containsBeans(TypeMirror type) {
+        if (TypeUtils.needsDeepCopy(type)) {
+            return true;
+        }
+        if (TypeUtils.isCollectionType(type)) {
+            for (TypeMirror element : TypeUtils.elementTypes(type)) {
+                if (containsBeans(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 报告无法合成的字段。
+     *
+     * @since 1.3.0
+     */
+    private void reportUnfusable(VariableElement targetField, String viaFieldName) {
+        messager.printMessage(Diagnostic.Kind.ERROR,
+                "无法合成字段 '" + targetField.getSimpleName() + "' 的映射：中间类型字段 '" + viaFieldName
+                        + "' 的取值无法直接由源类型表示", targetField);
+    }
+
     /**
      * 获取忽略的字段列表。
      *
@@ -226,10 +812,12 @@ public class BeanCopierProcessor extends AbstractProcessor {
      * @param sourceType   源类型
      * @param targetType   目标类型
      * @param ignoreFields 忽略的字段名集合
+     * @param namedSources 具名附加源
      * @return 字段映射列表
      */
     private List<FieldMapping> analyzeFieldMappings(TypeElement sourceType, TypeElement targetType, 
-                                                     Set<String> ignoreFields) {
+                                                     Set<String> ignoreFields,
+                                                     Map<String, TypeElement> namedSources) {
         List<FieldMapping> mappings = new ArrayList<>();
         
         // 获取源类型的所有字段
@@ -267,7 +855,7 @@ public class BeanCopierProcessor extends AbstractProcessor {
             if (copyFieldAnnotation != null) {
                 // 处理 @CopyField 注解的字段
                 FieldMapping mapping = processCopyFieldAnnotation(
-                        copyFieldAnnotation, targetField, sourceFieldMap, sourceType);
+                        copyFieldAnnotation, targetField, sourceFieldMap, sourceType, namedSources);
                 if (mapping != null) {
                     mappings.add(mapping);
                 }
@@ -286,7 +874,8 @@ public class BeanCopierProcessor extends AbstractProcessor {
                     mappings.add(new FieldMapping(sourceField, targetField, sourceFieldType, targetFieldType));
                 } else {
                     messager.printMessage(Diagnostic.Kind.WARNING, 
-                        "字段 '" + targetFieldName + "' 的类型不兼容：" + sourceFieldType + " -> " + targetFieldType, 
+                        "字段 '" + targetFieldName + "' 的类型不兼容：" + sourceFieldType + " -> " + targetFieldType
+                                + nestedBeanHint(sourceFieldType, targetFieldType),
                         targetType);
                 }
             }
@@ -302,18 +891,34 @@ public class BeanCopierProcessor extends AbstractProcessor {
      * @param targetField    目标字段
      * @param sourceFieldMap 源字段映射表
      * @param sourceType     源类型
+     * @param namedSources   具名附加源
      * @return 字段映射，如果无法创建则返回 null
      * @since 1.2.0
      */
     private FieldMapping processCopyFieldAnnotation(CopyField annotation, 
                                                      VariableElement targetField,
                                                      Map<String, VariableElement> sourceFieldMap,
-                                                     TypeElement sourceType) {
+                                                     TypeElement sourceType,
+                                                     Map<String, TypeElement> namedSources) {
         String targetFieldName = targetField.getSimpleName().toString();
         TypeMirror targetFieldType = TypeUtils.getFieldType(targetField);
         
         // 获取源字段名数组
         String[] sourceNames = annotation.source();
+        
+        // v1.3: "名称.字段" 形式选择具名附加源，之后的解析都相对于该附加源进行
+        String sourceName = null;
+        if (sourceNames.length == 1 && sourceNames[0].indexOf('.') > 0
+                && namedSources.containsKey(sourceNames[0].substring(0, sourceNames[0].indexOf('.')))) {
+            int dot = sourceNames[0].indexOf('.');
+            sourceName = sourceNames[0].substring(0, dot);
+            sourceType = namedSources.get(sourceName);
+            sourceNames = new String[]{sourceNames[0].substring(dot + 1)};
+            sourceFieldMap = new HashMap<>();
+            for (VariableElement field : TypeUtils.getAllFields(sourceType)) {
+                sourceFieldMap.put(field.getSimpleName().toString(), field);
+            }
+        }
         String expression = annotation.expression();
         String qualifiedByName = annotation.qualifiedByName();
         String format = annotation.format();
@@ -352,9 +957,247 @@ public class BeanCopierProcessor extends AbstractProcessor {
             mapping = new FieldMapping(sourceField, targetField, sourceFieldType, targetFieldType);
         }
         
+        // v1.3: 集合实现类覆盖
+        TypeMirror implementationType = getImplementationType(annotation);
+        if (mapping != null && implementationType != null
+                && validateImplementationType(implementationType, mapping, targetField, targetFieldType)) {
+            mapping.setImplementationType(implementationType);
+        }
+        if (mapping != null && annotation.collectionOutput() != CollectionOutput.INHERIT) {
+            mapping.setCollectionOutput(annotation.collectionOutput());
+        }
+        if (mapping != null && annotation.copyStrategy() != CopyStrategy.DEEP
+                && validateCopyStrategy(annotation.copyStrategy(), mapping, targetField, targetFieldType)) {
+            mapping.setCopyStrategy(annotation.copyStrategy());
+        }
+        // v1.3: 条件映射
+        String condition = annotation.condition().trim();
+        if (mapping != null && !condition.isEmpty()) {
+            String syntaxError = ExpressionUtils.validateSyntax(condition);
+            if (syntaxError != null) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "条件表达式语法错误: " + syntaxError, targetField);
+                return null;
+            }
+            mapping.setCondition(condition);
+        }
+        String mergeKey = annotation.mergeKey().trim();
+        if (mapping != null && !mergeKey.isEmpty() && validateMergeKey(mergeKey, mapping, targetField)) {
+            mapping.setMergeKey(mergeKey);
+        }
+        if (mapping != null) {
+            mapping.setSourceName(sourceName);
+        }
+        
         return mapping;
     }
 
+    /**
+     * 获取集合实现类。
+     *
+     * @return 实现类型，未指定（void.class）时返回 null
+     * @since 1.3.0
+     */
+    private TypeMirror getImplementationType(CopyField annotation) {
+        TypeMirror implementationType;
+        try {
+            Class<?> implementationClass = annotation.implementation();
+            if (implementationClass == void.class) {
+                return null;
+            }
+            implementationType = elementUtils.getTypeElement(implementationClass.getCanonicalName()).asType();
+        } catch (MirroredTypeException e) {
+            implementationType = e.getTypeMirror();
+        }
+        return implementationType.getKind() == TypeKind.VOID ? null : implementationType;
+    }
+
+    /**
+     * 校验集合实现类：字段必须是直接映射的集合字段，实现类必须是可实例化的具体类，
+     * 可赋值给字段类型，并提供 public 无参或 int 容量构造方法（EnumSet/EnumMap 除外）。
+     *
+     * @return 校验通过返回 true
+     * @since 1.3.0
+     */
+    private boolean validateImplementationType(TypeMirror implementationType, FieldMapping mapping,
+                                               VariableElement targetField, TypeMirror targetFieldType) {
+        if (mapping.getMappingType() != FieldMapping.MappingType.SIMPLE
+                || !(TypeUtils.isList(targetFieldType) || TypeUtils.isSet(targetFieldType)
+                || TypeUtils.isQueue(targetFieldType) || TypeUtils.isMap(targetFieldType))) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "implementation 仅适用于直接映射的 List/Set/Queue/Map 字段", targetField);
+            return false;
+        }
+        if (!typeUtils.isAssignable(typeUtils.erasure(implementationType), typeUtils.erasure(targetFieldType))) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "实现类 " + implementationType + " 不能赋值给字段类型 " + targetFieldType, targetField);
+            return false;
+        }
+
+        String implementationName = typeUtils.erasure(implementationType).toString();
+        if ("java.util.EnumSet".equals(implementationName) || "java.util.EnumMap".equals(implementationName)) {
+            List<TypeMirror> typeArguments = TypeUtils.extractTypeArguments(targetFieldType);
+            TypeMirror enumType = typeArguments.isEmpty() ? null : typeArguments.get(0);
+            if (!TypeUtils.isEnum(enumType)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        implementationName + " 要求字段的元素（或 key）为枚举类型", targetField);
+                return false;
+            }
+            return true;
+        }
+
+        TypeElement implementationElement = (TypeElement) typeUtils.asElement(implementationType);
+        if (implementationElement.getKind() != ElementKind.CLASS
+                || implementationElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "实现类 " + implementationType + " 必须是可实例化的具体类", targetField);
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(implementationElement.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+                return true;
+            }
+        }
+        messager.printMessage(Diagnostic.Kind.ERROR,
+                "实现类 " + implementationType + " 缺少 public 无参构造方法", targetField);
+        return false;
+    }
+
+    /**
+     * 校验集合拷贝策略：字段必须是直接映射的集合字段，且不能与实现类覆盖同时使用。
+     * SHARE 要求两侧类型可以互相赋值（元素随集合一起共享）；SHARE_IF_IMMUTABLE 在两侧类型不一致，
+     * 或元素、key、value 需要深拷贝时给出警告并回退为深拷贝。
+     *
+     * @return 校验通过返回 true
+     * @since 1.3.0
+     */
+    private boolean validateCopyStrategy(CopyStrategy copyStrategy, FieldMapping mapping,
+                                         VariableElement targetField, TypeMirror targetFieldType) {
+        if (mapping.getMappingType() != FieldMapping.MappingType.SIMPLE
+                || !(TypeUtils.isList(targetFieldType) || TypeUtils.isSet(targetFieldType)
+                || TypeUtils.isQueue(targetFieldType) || TypeUtils.isMap(targetFieldType))) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "copyStrategy 仅适用于直接映射的 List/Set/Queue/Map 字段", targetField);
+            return false;
+        }
+        if (mapping.getImplementationType() != null) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "copyStrategy = " + copyStrategy + " 不能与 implementation 同时使用", targetField);
+            return false;
+        }
+        TypeMirror sourceFieldType = mapping.getSourceType();
+        boolean assignable = sourceFieldType != null
+                && typeUtils.isAssignable(sourceFieldType, targetFieldType)
+                && typeUtils.isAssignable(targetFieldType, sourceFieldType);
+        if (assignable && copyStrategy == CopyStrategy.SHARE_IF_IMMUTABLE) {
+            TypeMirror mutableElement = findMutableElementType(targetFieldType);
+            if (mutableElement != null) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "元素类型 " + mutableElement + " 需要深拷贝，共享不可变集合仍会共享其中的可变元素，"
+                                + "copyStrategy = SHARE_IF_IMMUTABLE 将回退为深拷贝", targetField);
+                return false;
+            }
+        }
+        if (assignable) {
+            return true;
+        }
+        if (copyStrategy == CopyStrategy.SHARE) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "copyStrategy = SHARE 要求源字段类型 " + sourceFieldType
+                            + " 与目标字段类型 " + targetFieldType + " 可以互相赋值", targetField);
+            return false;
+        }
+        messager.printMessage(Diagnostic.Kind.WARNING,
+                "源字段类型 " + sourceFieldType + " 与目标字段类型 " + targetFieldType
+                        + " 不一致，无法共享，copyStrategy = SHARE_IF_IMMUTABLE 将回退为深拷贝", targetField);
+        return false;
+    }
+
+    /**
+     * 查找集合字段中需要深拷贝的元素（或 key、value）类型：嵌套对象、嵌套集合与数组。
+     *
+     * @return 第一个需要深拷贝的类型参数，没有时返回 null
+     * @since 1.3.0
+     */
+    private TypeMirror findMutableElementType(TypeMirror collectionType) {
+        for (TypeMirror argument : TypeUtils.extractTypeArguments(collectionType)) {
+            if (TypeUtils.needsDeepCopy(argument) || TypeUtils.isArrayType(argument)
+                    || TypeUtils.isList(argument) || TypeUtils.isSet(argument)
+                    || TypeUtils.isQueue(argument) || TypeUtils.isMap(argument)) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 校验集合合并键：字段必须是直接映射的 List/Set，两侧元素都是对象类型，
+     * 且都声明了该属性，属性类型（装箱后）一致。
+     *
+     * @return 校验通过返回 true
+     * @since 1.3.0
+     */
+    private boolean validateMergeKey(String mergeKey, FieldMapping mapping, VariableElement targetField) {
+        TypeMirror sourceFieldType = mapping.getSourceType();
+        TypeMirror targetFieldType = mapping.getTargetType();
+        if (mapping.getMappingType() != FieldMapping.MappingType.SIMPLE || mapping.isPathMapping()
+                || mapping.getSourceName() != null
+                || !(TypeUtils.isList(targetFieldType) || TypeUtils.isSet(targetFieldType))
+                || !(TypeUtils.isList(sourceFieldType) || TypeUtils.isSet(sourceFieldType))) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "mergeKey 仅适用于直接映射的 List/Set 字段", targetField);
+            return false;
+        }
+        List<TypeMirror> sourceArguments = TypeUtils.extractTypeArguments(sourceFieldType);
+        List<TypeMirror> targetArguments = TypeUtils.extractTypeArguments(targetFieldType);
+        if (sourceArguments.size() != 1 || targetArguments.size() != 1
+                || sourceArguments.get(0).getKind() != TypeKind.DECLARED
+                || targetArguments.get(0).getKind() != TypeKind.DECLARED) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "mergeKey 要求集合元素为具体的对象类型", targetField);
+            return false;
+        }
+        TypeMirror sourceKeyType = findFieldType(sourceArguments.get(0), mergeKey);
+        TypeMirror targetKeyType = findFieldType(targetArguments.get(0), mergeKey);
+        if (sourceKeyType == null || targetKeyType == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "集合元素类型 " + (sourceKeyType == null ? sourceArguments.get(0) : targetArguments.get(0))
+                            + " 中找不到合并键属性 '" + mergeKey + "'", targetField);
+            return false;
+        }
+        if (!typeUtils.isSameType(boxed(sourceKeyType), boxed(targetKeyType))) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "合并键属性 '" + mergeKey + "' 两侧类型不一致：" + sourceKeyType + " / " + targetKeyType,
+                    targetField);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 在类型（含父类）中查找字段类型。
+     *
+     * @return 字段类型，找不到时返回 null
+     * @since 1.3.0
+     */
+    private TypeMirror findFieldType(TypeMirror type, String fieldName) {
+        for (VariableElement field : TypeUtils.getAllFields((TypeElement) typeUtils.asElement(type))) {
+            if (field.getSimpleName().contentEquals(fieldName)) {
+                return TypeUtils.getFieldType(field);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 基本类型返回其包装类型，其余原样返回。
+     *
+     * @since 1.3.0
+     */
+    private TypeMirror boxed(TypeMirror type) {
+        return type.getKind().isPrimitive() ? typeUtils.boxedClass((PrimitiveType) type).asType() : type;
+    }
+
     /**
      * 获取转换器类名。
      */
@@ -422,6 +1265,14 @@ public class BeanCopierProcessor extends AbstractProcessor {
         }
         
         TypeMirror sourceFieldType = TypeUtils.getFieldType(sourceField);
+        // v1.3: JsonConverter 按 Class 反序列化，泛型字段的元素会变成 LinkedHashMap，且需要未检查的转换
+        if (CodeGenerator.JSON_CONVERTER_CLASS.equals(converterClassName)
+                && (TypeUtils.isParameterizedType(sourceFieldType) || TypeUtils.isParameterizedType(targetFieldType))) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "JsonConverter 不支持泛型字段类型：" + sourceFieldType + " -> " + targetFieldType
+                            + "，请改用非泛型类型（如自定义包装类）", targetField);
+            return null;
+        }
         FieldMapping mapping = new FieldMapping(sourceField, targetField, sourceFieldType, targetFieldType);
         mapping.setMappingType(FieldMapping.MappingType.CONVERTER);
         mapping.setConverterClassName(converterClassName);
@@ -466,6 +1317,10 @@ public class BeanCopierProcessor extends AbstractProcessor {
                                               TypeMirror targetFieldType,
                                               String[] sourceNames,
                                               Map<String, VariableElement> sourceFieldMap) {
+        if (sourceNames.length == 1 && sourceNames[0].contains(".")) {
+            // v1.3: 点号分隔的嵌套路径
+            return createPathMapping(targetField, targetFieldType, sourceNames[0], sourceFieldMap);
+        }
         if (sourceNames.length == 1) {
             // 单一源字段
             VariableElement sourceField = sourceFieldMap.get(sourceNames[0]);
@@ -483,4 +1338,84 @@ public class BeanCopierProcessor extends AbstractProcessor {
             return null;
         }
     }
+
+    /**
+     * 创建点号路径映射，例如 {@code customer.address.city}。
+     *
+     * <p>逐段在字段所属类型（含父类）中查找字段，中间段必须是对象类型，最后一段与目标字段类型兼容。
+     *
+     * @return 字段映射，路径无效时返回 null
+     * @since 1.3.0
+     */
+    private FieldMapping createPathMapping(VariableElement targetField,
+                                           TypeMirror targetFieldType,
+                                           String path,
+                                           Map<String, VariableElement> sourceFieldMap) {
+        String[] segments = path.split("\\.", -1);
+        List<String> names = new ArrayList<>();
+        List<TypeMirror> types = new ArrayList<>();
+        Map<String, VariableElement> fields = sourceFieldMap;
+        VariableElement field = null;
+        for (int i = 0; i < segments.length; i++) {
+            field = fields.get(segments[i]);
+            if (field == null) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "找不到源字段路径 '" + path + "' 中的字段 '" + segments[i] + "'", targetField);
+                return null;
+            }
+            TypeMirror type = TypeUtils.getFieldType(field);
+            names.add(segments[i]);
+            types.add(type);
+            if (i < segments.length - 1) {
+                if (type.getKind() != TypeKind.DECLARED) {
+                    messager.printMessage(Diagnostic.Kind.ERROR,
+                            "源字段路径 '" + path + "' 的中间字段 '" + segments[i] + "' 必须是对象类型", targetField);
+                    return null;
+                }
+                fields = new HashMap<>();
+                for (VariableElement nested : TypeUtils.getAllFields((TypeElement) typeUtils.asElement(type))) {
+                    fields.put(nested.getSimpleName().toString(), nested);
+                }
+            }
+        }
+
+        TypeMirror leafType = types.get(types.size() - 1);
+        if (!TypeUtils.isTypeCompatible(leafType, targetFieldType)) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "字段 '" + targetField.getSimpleName() + "' 的类型不兼容：" + leafType + " -> " + targetFieldType
+                            + nestedBeanHint(leafType, targetFieldType),
+                    targetField);
+            return null;
+        }
+        FieldMapping mapping = new FieldMapping(field, targetField, leafType, targetFieldType);
+        mapping.setSourcePath(names, types);
+        return mapping;
+    }
+
+    /**
+     * 嵌套对象类型不兼容时的补充说明：列出源类型中没有同名且类型兼容字段的目标属性，集合与数组按元素类型说明。
+     *
+     * @return 以分号开头的说明，不是嵌套对象类型时返回空字符串
+     * @since 1.3.0
+     */
+    private String nestedBeanHint(TypeMirror sourceType, TypeMirror targetType) {
+        if (TypeUtils.isCollectionType(sourceType) && TypeUtils.isCollectionType(targetType)) {
+            List<TypeMirror> sourceElements = TypeUtils.elementTypes(sourceType);
+            List<TypeMirror> targetElements = TypeUtils.elementTypes(targetType);
+            for (int i = 0; i < sourceElements.size() && i < targetElements.size(); i++) {
+                String hint = nestedBeanHint(sourceElements.get(i), targetElements.get(i));
+                if (!hint.isEmpty()) {
+                    return hint;
+                }
+            }
+            return "";
+        }
+        List<String> unmapped = TypeUtils.unmappedNestedProperties(sourceType, targetType);
+        if (unmapped.isEmpty()) {
+            return "";
+        }
+        return "；目标属性 " + String.join(", ", unmapped) + " 在 " + sourceType
+                + " 中没有同名且类型兼容的字段，可在 " + targetType + " 上标注 @CopyTarget(source = " + sourceType
+                + ".class) 并用 @CopyField 指定映射";
+    }
 }
@@ -0,0 +1,402 @@
+package com.github.jackieonway.copier.processor;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 深拷贝克隆器生成器。
+ *
+ * <p>为 {@code @DeepClone} 标注的类（以及源类型与目标类型相同的 {@code @CopyTarget}）生成 {@code XxxCloner}，
+ * 对外只提供 {@code deepClone(T)}。对象图中每种需要克隆的类型（嵌套对象、集合、数组）各生成一个私有静态方法，
+ * 所有方法共享一个 {@link IdentityHashMap}，记录"源对象 -> 克隆对象"：
+ * 同一个源对象无论被引用多少次都只克隆一次，循环引用在创建目标对象后立即登记，因此也能正确闭合。
+ *
+ * <p>不可变类型（见 {@link TypeUtils#isImmutable(TypeMirror)}）直接共享；
+ * 无法克隆的类型（如未知的 JDK 可变类型、泛型 Bean、通配符元素）共享引用并给出编译警告。
+ * 嵌套对象按字段的声明类型创建，生成的代码不使用反射。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class ClonerGenerator {
+
+    private static final ClassName IDENTITY_MAP = ClassName.get(IdentityHashMap.class);
+
+    private static final TypeName SEEN_TYPE =
+            ParameterizedTypeName.get(IDENTITY_MAP, TypeName.OBJECT, TypeName.OBJECT);
+
+    /**
+     * 支持克隆的容器声明类型 -> 目标实现类。
+     */
+    private static final Map<String, String> CONTAINER_IMPLEMENTATIONS = new HashMap<>();
+
+    static {
+        for (String type : new String[]{"java.util.List", "java.util.Collection", "java.util.ArrayList"}) {
+            CONTAINER_IMPLEMENTATIONS.put(type, "java.util.ArrayList");
+        }
+        for (String type : new String[]{"java.util.Set", "java.util.LinkedHashSet"}) {
+            CONTAINER_IMPLEMENTATIONS.put(type, "java.util.LinkedHashSet");
+        }
+        for (String type : new String[]{"java.util.Queue", "java.util.Deque", "java.util.ArrayDeque"}) {
+            CONTAINER_IMPLEMENTATIONS.put(type, "java.util.ArrayDeque");
+        }
+        for (String type : new String[]{"java.util.Map", "java.util.LinkedHashMap"}) {
+            CONTAINER_IMPLEMENTATIONS.put(type, "java.util.LinkedHashMap");
+        }
+        for (String type : new String[]{"java.util.HashSet", "java.util.HashMap", "java.util.LinkedList",
+                "java.util.TreeSet", "java.util.TreeMap", "java.util.concurrent.ConcurrentHashMap"}) {
+            CONTAINER_IMPLEMENTATIONS.put(type, type);
+        }
+        CONTAINER_IMPLEMENTATIONS.put("java.util.SortedSet", "java.util.TreeSet");
+        CONTAINER_IMPLEMENTATIONS.put("java.util.SortedMap", "java.util.TreeMap");
+    }
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Messager messager;
+
+    /**
+     * 需要生成克隆器的类型。
+     */
+    private final TypeElement valueType;
+
+    /**
+     * 已登记的克隆方法（类型 -> 方法名），生成方法体前先登记，自引用类型递归时直接复用。
+     */
+    private final Map<String, String> helperNames = new LinkedHashMap<>();
+
+    /**
+     * 已生成的克隆方法。
+     */
+    private final List<MethodSpec> helpers = new ArrayList<>();
+
+    /**
+     * 构造方法。
+     *
+     * @param processingEnv 处理环境
+     * @param valueType     需要生成克隆器的类型
+     */
+    public ClonerGenerator(ProcessingEnvironment processingEnv, TypeElement valueType) {
+        this.processingEnv = processingEnv;
+        this.messager = processingEnv.getMessager();
+        this.valueType = valueType;
+    }
+
+    /**
+     * 获取类型对应的克隆器类名（与类型位于同一包）。
+     *
+     * @param type 类型元素
+     * @return 克隆器类名
+     */
+    public static ClassName clonerClassName(TypeElement type) {
+        return ClassName.get(ClassName.get(type).packageName(), type.getSimpleName() + "Cloner");
+    }
+
+    /**
+     * 生成克隆器类。类型不是可通过无参构造方法创建的非泛型具体类时输出编译错误，不生成文件。
+     */
+    public void generateClonerClass() {
+        if (!TypeUtils.isInstantiableBean(valueType.asType())) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "深拷贝克隆要求类型是可通过无参构造方法创建的非泛型具体类", valueType);
+            return;
+        }
+        ClassName valueName = ClassName.get(valueType);
+        String rootHelper = cloneHelper(valueType.asType(), valueType);
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(clonerClassName(valueType))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("$T 的深拷贝克隆器，由 fast-bean-copier 生成。\n", valueName)
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(MethodSpec.methodBuilder("deepClone")
+                        .addJavadoc("深拷贝对象图，保留共享引用与循环引用。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(valueName)
+                        .addParameter(valueName, "source")
+                        .addStatement("return $L(source, new $T<>())", rootHelper, IDENTITY_MAP)
+                        .build());
+        for (MethodSpec helper : helpers) {
+            classBuilder.addMethod(helper);
+        }
+
+        try {
+            JavaFile.builder(valueName.packageName(), classBuilder.build())
+                    .build()
+                    .writeTo(processingEnv.getFiler());
+        } catch (IOException e) {
+            throw new RuntimeException("生成 Cloner 类失败", e);
+        }
+    }
+
+    /**
+     * 生成值的克隆表达式。
+     *
+     * @param value 值表达式（只会被求值一次）
+     * @param type  值类型
+     * @param site  报告警告时关联的元素
+     * @return 克隆表达式
+     */
+    private CodeBlock cloneValue(CodeBlock value, TypeMirror type, Element site) {
+        if (type.getKind().isPrimitive() || TypeUtils.isImmutable(type)) {
+            return value;
+        }
+        if (!isCloneable(type)) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "类型 " + type + " 无法深拷贝，克隆结果将共享该值的引用", site);
+            return value;
+        }
+        return CodeBlock.of("$L($L, seen)", cloneHelper(type, site), value);
+    }
+
+    /**
+     * 判断类型能否生成克隆方法。
+     */
+    private boolean isCloneable(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            TypeMirror component = ((ArrayType) type).getComponentType();
+            return component.getKind().isPrimitive() || component.getKind() == TypeKind.ARRAY
+                    || (component.getKind() == TypeKind.DECLARED && !hasTypeArguments(component));
+        }
+        if (type.getKind() == TypeKind.DECLARED && containerImplementation(type) != null) {
+            List<TypeMirror> arguments = TypeUtils.extractTypeArguments(type);
+            if (arguments.isEmpty()) {
+                return false;
+            }
+            for (TypeMirror argument : arguments) {
+                if (argument.getKind() != TypeKind.DECLARED && argument.getKind() != TypeKind.ARRAY) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return TypeUtils.isInstantiableBean(type) || "java.util.Date".equals(type.toString());
+    }
+
+    private boolean hasTypeArguments(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    /**
+     * 获取（必要时生成）类型的克隆方法。
+     *
+     * @return 方法名
+     */
+    private String cloneHelper(TypeMirror type, Element site) {
+        String key = type.toString();
+        String helperName = helperNames.get(key);
+        if (helperName != null) {
+            return helperName;
+        }
+        String baseName = "clone" + typeSuffix(type);
+        helperName = baseName;
+        for (int i = 2; helperNames.containsValue(helperName); i++) {
+            helperName = baseName + i;
+        }
+        helperNames.put(key, helperName);
+
+        TypeName typeName = TypeName.get(type);
+        MethodSpec.Builder helper = MethodSpec.methodBuilder(helperName)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(typeName)
+                .addParameter(typeName, "source")
+                .addParameter(SEEN_TYPE, "seen")
+                .beginControlFlow("if (source == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T cloned = seen.get(source)", Object.class)
+                .beginControlFlow("if (cloned != null)")
+                .addStatement("return ($T) cloned", typeName)
+                .endControlFlow();
+        if (hasTypeArguments(type)) {
+            helper.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                    .addMember("value", "$S", "unchecked")
+                    .build());
+        }
+
+        if (type.getKind() == TypeKind.ARRAY) {
+            addArrayClone(helper, (ArrayType) type, site);
+        } else if (hasTypeArguments(type) && containerImplementation(type).endsWith("Map")) {
+            addMapClone(helper, type, site);
+        } else if (hasTypeArguments(type)) {
+            addCollectionClone(helper, type, site);
+        } else if ("java.util.Date".equals(type.toString())) {
+            helper.addStatement("$T target = ($T) source.clone()", typeName, typeName)
+                    .addStatement("seen.put(source, target)");
+        } else {
+            addBeanClone(helper, (TypeElement) ((DeclaredType) type).asElement());
+        }
+
+        helpers.add(helper.addStatement("return target").build());
+        return helperName;
+    }
+
+    /**
+     * 嵌套对象：创建目标对象并立即登记，再逐个字段克隆。
+     */
+    private void addBeanClone(MethodSpec.Builder helper, TypeElement element) {
+        ClassName name = ClassName.get(element);
+        helper.addStatement("$T target = new $T()", name, name)
+                .addStatement("seen.put(source, target)");
+        for (VariableElement field : TypeUtils.getAllFields(element)) {
+            String property = capitalize(field.getSimpleName().toString());
+            String getter = findAccessor(element, "get" + property, 0) ? "get" + property
+                    : findAccessor(element, "is" + property, 0) ? "is" + property : null;
+            if (getter == null || !findAccessor(element, "set" + property, 1)) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "字段 '" + field.getSimpleName() + "' 缺少 getter/setter，克隆时跳过", field);
+                continue;
+            }
+            helper.addStatement("target.set$L($L)", property,
+                    cloneValue(CodeBlock.of("source.$L()", getter), TypeUtils.getFieldType(field), field));
+        }
+    }
+
+    /**
+     * List/Set/Queue：按字段声明类型选择实现类，逐个元素克隆。
+     */
+    private void addCollectionClone(MethodSpec.Builder helper, TypeMirror type, Element site) {
+        TypeMirror elementType = TypeUtils.extractTypeArguments(type).get(0);
+        helper.addStatement("$T target = $L", TypeName.get(type), newContainer(type))
+                .addStatement("seen.put(source, target)");
+        CodeBlock element = cloneValue(CodeBlock.of("item"), elementType, site);
+        if ("item".equals(element.toString())) {
+            // 元素无需克隆时批量添加
+            helper.addStatement("target.addAll(source)");
+            return;
+        }
+        helper.beginControlFlow("for ($T item : source)", TypeName.get(elementType))
+                .addStatement("target.add($L)", element)
+                .endControlFlow();
+    }
+
+    /**
+     * Map：按字段声明类型选择实现类，键和值都克隆。
+     */
+    private void addMapClone(MethodSpec.Builder helper, TypeMirror type, Element site) {
+        List<TypeMirror> arguments = TypeUtils.extractTypeArguments(type);
+        TypeMirror keyType = arguments.get(0);
+        TypeMirror valueType = arguments.get(1);
+        helper.addStatement("$T target = $L", TypeName.get(type), newContainer(type))
+                .addStatement("seen.put(source, target)")
+                .beginControlFlow("for ($T<$T, $T> entry : source.entrySet())", Map.Entry.class,
+                        TypeName.get(keyType), TypeName.get(valueType))
+                .addStatement("target.put($L, $L)", cloneValue(CodeBlock.of("entry.getKey()"), keyType, site),
+                        cloneValue(CodeBlock.of("entry.getValue()"), valueType, site))
+                .endControlFlow();
+    }
+
+    /**
+     * 创建与源容器等长的目标容器：接口类型使用保持顺序的默认实现，具体类型沿用声明的实现类。
+     */
+    private CodeBlock newContainer(TypeMirror type) {
+        String implementation = containerImplementation(type);
+        if (implementation.startsWith("java.util.Tree")) {
+            // 有序容器沿用源容器的比较器
+            return CodeBlock.of("new $T<>(source.comparator())", ClassName.bestGuess(implementation));
+        }
+        if (implementation.equals("java.util.LinkedList")) {
+            return CodeBlock.of("new $T<>()", ClassName.bestGuess(implementation));
+        }
+        if (implementation.equals("java.util.ArrayList") || implementation.equals("java.util.ArrayDeque")) {
+            return CodeBlock.of("new $T<>(source.size())", ClassName.bestGuess(implementation));
+        }
+        return CodeBlock.of("new $T<>((int) (source.size() / 0.75f) + 1)", ClassName.bestGuess(implementation));
+    }
+
+    /**
+     * 获取容器类型的目标实现类，不支持的容器类型返回 null。
+     */
+    private String containerImplementation(TypeMirror type) {
+        String erasure = processingEnv.getTypeUtils().erasure(type).toString();
+        return CONTAINER_IMPLEMENTATIONS.get(erasure);
+    }
+
+    /**
+     * 数组：基本类型数组直接 clone()，对象数组逐个元素克隆。
+     */
+    private void addArrayClone(MethodSpec.Builder helper, ArrayType type, Element site) {
+        TypeMirror component = type.getComponentType();
+        if (component.getKind().isPrimitive()) {
+            helper.addStatement("$T target = source.clone()", TypeName.get(type))
+                    .addStatement("seen.put(source, target)");
+            return;
+        }
+        // 多维数组：new Foo[n][]，只指定第一维长度
+        TypeMirror innermost = component;
+        StringBuilder dimensions = new StringBuilder();
+        while (innermost.getKind() == TypeKind.ARRAY) {
+            innermost = ((ArrayType) innermost).getComponentType();
+            dimensions.append("[]");
+        }
+        helper.addStatement("$T target = new $T[source.length]$L", TypeName.get(type),
+                        TypeName.get(processingEnv.getTypeUtils().erasure(innermost)), dimensions)
+                .addStatement("seen.put(source, target)")
+                .beginControlFlow("for (int i = 0; i < source.length; i++)")
+                .addStatement("target[i] = $L", cloneValue(CodeBlock.of("source[i]"), component, site))
+                .endControlFlow();
+    }
+
+    /**
+     * 判断类型（含父类）是否声明了指定名称与参数个数的方法。
+     */
+    private boolean findAccessor(TypeElement element, String name, int parameterCount) {
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(element))) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameterCount
+                    && !method.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 生成方法名后缀，如 {@code _Item}、{@code List_Item}、{@code Map_String_Item}、{@code ItemArray}。
+     */
+    private String typeSuffix(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            TypeMirror component = ((ArrayType) type).getComponentType();
+            return (component.getKind().isPrimitive() ? "_" + component : typeSuffix(component)) + "Array";
+        }
+        DeclaredType declared = (DeclaredType) type;
+        StringBuilder suffix = new StringBuilder("_").append(declared.asElement().getSimpleName());
+        for (TypeMirror argument : declared.getTypeArguments()) {
+            suffix.append(typeSuffix(argument));
+        }
+        return suffix.toString();
+    }
+
+    private String capitalize(String str) {
+        if (str == null || str.isEmpty()) {
+            return str;
+        }
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+}
@@ -1,8 +1,17 @@
 package com.github.jackieonway.copier.processor;
 
+import com.github.jackieonway.copier.annotation.CollectionOutput;
 import com.github.jackieonway.copier.annotation.ComponentModel;
+import com.github.jackieonway.copier.annotation.CopyStrategy;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.runtime.CopierMetrics;
+import com.github.jackieonway.copier.runtime.CopierMetricsRegistry;
+import com.github.jackieonway.copier.runtime.Immutables;
+import com.github.jackieonway.copier.runtime.MapSupport;
+import com.github.jackieonway.copier.runtime.MappedDtoArray;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
@@ -11,17 +20,28 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeVariableName;
 import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.WildcardTypeName;
 
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.UnaryOperator;
 import javax.tools.Diagnostic;
@@ -37,6 +57,29 @@ import javax.tools.Diagnostic;
  */
 public final class CodeGenerator {
 
+    /**
+     * 单个方法体的估算字节码上限。
+     *
+     * <p>HotSpot 默认不对超过 8000 字节（HugeMethodLimit）的方法做 JIT 编译，
+     * 这里预留余量，超出时将字段拷贝拆分到私有辅助方法中。
+     *
+     * @since 1.3.0
+     */
+    private static final int METHOD_SIZE_BUDGET = 6000;
+
+    /**
+     * 运行时不可变集合识别工具。
+     *
+     * @since 1.3.0
+     */
+    private static final ClassName IMMUTABLES = ClassName.get(Immutables.class);
+
+    private static final ClassName MAPPED_DTO_ARRAY = ClassName.get(MappedDtoArray.class);
+
+    private static final String TYPE_CONVERTER_CLASS = "com.github.jackieonway.copier.converter.TypeConverter";
+
+    static final String JSON_CONVERTER_CLASS = "com.github.jackieonway.copier.converter.JsonConverter";
+
     /**
      * 处理环境，用于访问编译时的各种信息。
      */
@@ -72,11 +115,113 @@ public final class CodeGenerator {
      */
     private ComponentModel componentModel = ComponentModel.DEFAULT;
 
+    /**
+     * v1.3: 类级别的集合输出策略。
+     */
+    private CollectionOutput collectionOutput = CollectionOutput.MUTABLE;
+
+    /**
+     * v1.3: 是否生成列式批量输出。
+     */
+    private boolean columns;
+
+    /**
+     * v1.3: 是否生成堆外定长记录输出。
+     */
+    private boolean offHeap;
+
+    /**
+     * v1.3: 是否生成延迟只读视图。
+     */
+    private boolean view;
+
+    /**
+     * v1.3: 是否生成 toMap/fromMap。
+     */
+    private boolean mapSupport;
+
+    /**
+     * v1.3: 是否生成运行时指标埋点。
+     */
+    private boolean metrics;
+
+    /**
+     * v1.3: 埋点方法对应的操作指标常量。
+     */
+    private final List<FieldSpec> metricsFields = new ArrayList<>();
+
+    /**
+     * v1.3: 是否正在生成 updateFromDto，此时带合并键的集合字段按键同步到已有集合。
+     */
+    private boolean merging;
+
+    /**
+     * v1.3: 本轮生成 updateFromDto 的目标类型（全限定名），即声明了合并键字段的目标类型与合并键集合的元素类型。
+     */
+    private Set<String> updatableTargets = new HashSet<>();
+
+    /**
+     * v1.3: 具名附加源，名称到源类型，按声明顺序排列。
+     */
+    private Map<String, TypeElement> namedSources = new LinkedHashMap<>();
+
+    /**
+     * v1.3: 来自具名附加源的字段映射，只在多源 toDto 中使用。
+     */
+    private List<FieldMapping> namedSourceMappings = new ArrayList<>();
+
+    /**
+     * v1.3: 子类型映射，源子类型到目标子类型，按声明顺序排列。
+     */
+    private Map<TypeElement, TypeElement> subtypes = new LinkedHashMap<>();
+
+    /**
+     * v1.3: 子类型较多时生成的 ClassValue 分派表字段。
+     */
+    private final List<FieldSpec> subtypeTables = new ArrayList<>();
+
+    /**
+     * v1.3: 子类型数量超过该值时使用 ClassValue 分派表，否则使用 getClass() 精确比较。
+     */
+    private static final int SUBTYPE_BRANCH_LIMIT = 4;
+
     /**
      * v1.2: 需要的转换器类名集合。
      */
     private Set<String> requiredConverters = new HashSet<>();
 
+    /**
+     * v1.3: toDto 中被提升为局部变量的源对象访问器（访问器方法名 -> 局部变量名）。
+     */
+    private Map<String, String> hoistedAccessors = new LinkedHashMap<>();
+
+    /**
+     * 当前方法中已声明的源字段路径前缀局部变量（前缀路径 -> 局部变量名）。
+     *
+     * @since 1.3.0
+     */
+    private Map<String, String> pathLocals = new LinkedHashMap<>();
+
+    /**
+     * 路径前缀局部变量的类型（前缀路径 -> 类型）。
+     */
+    private final Map<String, TypeMirror> pathLocalTypes = new LinkedHashMap<>();
+
+    /**
+     * v1.3: toDto/fromDto 拆分出的字段拷贝辅助方法。
+     */
+    private final List<MethodSpec> fieldCopyHelpers = new ArrayList<>();
+
+    /**
+     * v1.3: 共享的集合拷贝辅助方法（签名与方法体 -> 方法名）。
+     */
+    private final Map<String, String> collectionCopyHelperNames = new LinkedHashMap<>();
+
+    /**
+     * v1.3: 共享的集合拷贝辅助方法。
+     */
+    private final List<MethodSpec> collectionCopyHelpers = new ArrayList<>();
+
     /**
      * 构造方法。
      *
@@ -122,6 +267,99 @@ public final class CodeGenerator {
         this.componentModel = componentModel != null ? componentModel : ComponentModel.DEFAULT;
     }
 
+    /**
+     * 设置类级别的集合输出策略。
+     *
+     * @param collectionOutput 集合输出策略
+     * @since 1.3.0
+     */
+    public void setCollectionOutput(CollectionOutput collectionOutput) {
+        this.collectionOutput = collectionOutput != null ? collectionOutput : CollectionOutput.MUTABLE;
+    }
+
+    /**
+     * 设置是否生成列式批量输出（{@code toDtoColumns} 与 {@code XxxColumns} 类）。
+     *
+     * @param columns 是否生成
+     * @since 1.3.0
+     */
+    public void setColumns(boolean columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * 设置是否生成堆外定长记录输出（{@code toDtoOffHeap}），Flyweight 类由 {@link FlyweightGenerator} 生成。
+     *
+     * @param offHeap 是否生成
+     * @since 1.3.0
+     */
+    public void setOffHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * 设置本轮生成 {@code updateFromDto} 的目标类型，不在其中的 Copier 不生成该方法。
+     *
+     * @param updatableTargets 目标类型的全限定名
+     * @since 1.3.0
+     */
+    public void setUpdatableTargets(Set<String> updatableTargets) {
+        this.updatableTargets = updatableTargets != null ? updatableTargets : new HashSet<>();
+    }
+
+    /**
+     * 设置是否生成延迟只读视图（{@code toDtoView}）。
+     *
+     * @param view 是否生成
+     * @since 1.3.0
+     */
+    public void setView(boolean view) {
+        this.view = view;
+    }
+
+    /**
+     * 设置是否生成与 {@code Map<String, Object>} 的互转方法（{@code toMap}/{@code fromMap}）。
+     *
+     * @param mapSupport 是否生成
+     * @since 1.3.0
+     */
+    public void setMapSupport(boolean mapSupport) {
+        this.mapSupport = mapSupport;
+    }
+
+    /**
+     * 设置是否生成运行时指标埋点。未开启时生成的代码不变。
+     *
+     * @param metrics 是否生成
+     * @since 1.3.0
+     */
+    public void setMetrics(boolean metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 设置具名附加源及来自附加源的字段映射，非空时生成多源 {@code toDto}。
+     *
+     * @param namedSources        名称到源类型的有序映射
+     * @param namedSourceMappings 来自附加源的字段映射
+     * @since 1.3.0
+     */
+    public void setNamedSources(Map<String, TypeElement> namedSources, List<FieldMapping> namedSourceMappings) {
+        this.namedSources = namedSources != null ? namedSources : new LinkedHashMap<>();
+        this.namedSourceMappings = namedSourceMappings != null ? namedSourceMappings : new ArrayList<>();
+        collectRequiredConverters();
+    }
+
+    /**
+     * 设置子类型映射，非空时 toDto/fromDto 按运行时类型分派到子类型的 Copier。
+     *
+     * @param subtypes 源子类型到目标子类型的有序映射
+     * @since 1.3.0
+     */
+    public void setSubtypes(Map<TypeElement, TypeElement> subtypes) {
+        this.subtypes = subtypes != null ? subtypes : new LinkedHashMap<>();
+    }
+
     /**
      * 收集需要的转换器类。
      */
@@ -132,6 +370,11 @@ public final class CodeGenerator {
                 requiredConverters.add(mapping.getConverterClassName());
             }
         }
+        for (FieldMapping mapping : namedSourceMappings) {
+            if (mapping.hasConverter()) {
+                requiredConverters.add(mapping.getConverterClassName());
+            }
+        }
     }
 
     /**
@@ -166,19 +409,29 @@ public final class CodeGenerator {
             addConstructors(classBuilder);
             
             // 创建 toDto 方法
-            MethodSpec toDtoMethod = generateToDto();
+            MethodSpec toDtoMethod = metered(generateToDto(), false);
             classBuilder.addMethod(toDtoMethod);
             
             // 创建 fromDto 方法
-            MethodSpec fromDtoMethod = generateFromDto();
+            MethodSpec fromDtoMethod = metered(generateFromDto(), true);
             classBuilder.addMethod(fromDtoMethod);
             
+            // v1.3: 把 DTO 写入已有的源对象（只为用到合并键的目标生成）
+            if (updatableTargets.contains(targetType.getQualifiedName().toString())) {
+                classBuilder.addMethod(metered(generateUpdateFromDto(), true));
+            }
+            
+            // 方法体过大时拆分出的字段拷贝辅助方法
+            for (MethodSpec helper : fieldCopyHelpers) {
+                classBuilder.addMethod(helper);
+            }
+            
             // 创建集合方法
-            classBuilder.addMethod(generateToDtoList());
+            classBuilder.addMethod(metered(generateToDtoList(), false));
             classBuilder.addMethod(generateToDtoSet());
             classBuilder.addMethod(generateToDtoMap());
             classBuilder.addMethod(generateToDtoArray());
-            classBuilder.addMethod(generateFromDtoList());
+            classBuilder.addMethod(metered(generateFromDtoList(), true));
             classBuilder.addMethod(generateFromDtoSet());
             classBuilder.addMethod(generateFromDtoMap());
             classBuilder.addMethod(generateFromDtoArray());
@@ -190,6 +443,49 @@ public final class CodeGenerator {
             classBuilder.addMethod(generateToDtoSetWithCustomizer());
             classBuilder.addMethod(generateFromDtoListWithCustomizer());
             classBuilder.addMethod(generateFromDtoSetWithCustomizer());
+
+            // v1.3: 运行时指标
+            if (metrics) {
+                addMetricsFields(classBuilder, ClassName.get(packageName, copierClassName));
+            }
+
+            // v1.3: 列式批量输出
+            if (columns) {
+                classBuilder.addMethod(generateToDtoColumns());
+                generateColumnsClass();
+            }
+
+            // v1.3: 堆外定长记录输出
+            if (offHeap) {
+                classBuilder.addMethod(generateToDtoOffHeap());
+                classBuilder.addMethod(generateToDtoOffHeapFile());
+                classBuilder.addMethod(generateFillOffHeap());
+            }
+
+            // v1.3: 延迟只读视图
+            if (view) {
+                addViewSupport(classBuilder);
+            }
+
+            // v1.3: 多源聚合
+            if (!namedSources.isEmpty()) {
+                addNamedSourcesSupport(classBuilder);
+            }
+
+            // v1.3: 与 Map<String, Object> 互转
+            if (mapSupport) {
+                addMapSupport(classBuilder);
+            }
+
+            // v1.3: 子类型分派表
+            for (FieldSpec table : subtypeTables) {
+                classBuilder.addField(table);
+            }
+
+            // 字段共享的集合与嵌套对象拷贝辅助方法（放在最后，包含上面各方法登记的辅助方法）
+            for (MethodSpec helper : collectionCopyHelpers) {
+                classBuilder.addMethod(helper);
+            }
             
             // 生成 Java 文件
             JavaFile javaFile = JavaFile.builder(packageName, classBuilder.build())
@@ -376,13 +672,20 @@ public final class CodeGenerator {
                 .addStatement("return null")
                 .endControlFlow();
         
+        // v1.3: 按运行时类型分派到子类型的 Copier
+        addSubtypeDispatch(methodBuilder, false);
+        
+        // 多个表达式共用的访问器只读取一次
+        hoistedAccessors = collectHoistedAccessors();
+        addHoistedAccessorLocals(methodBuilder);
+        
         // 创建目标对象
         methodBuilder.addStatement("$T target = new $T()", ClassName.get(targetType), ClassName.get(targetType));
         
         // 生成字段拷贝代码
-        for (FieldMapping mapping : fieldMappings) {
-            generateFieldCopyCode(methodBuilder, mapping, false);
-        }
+        addFieldCopyCode(methodBuilder, "toDto", false);
+        hoistedAccessors = new LinkedHashMap<>();
+        pathLocals = new LinkedHashMap<>();
         
         // 返回目标对象
         methodBuilder.addStatement("return target");
@@ -391,126 +694,1369 @@ public final class CodeGenerator {
     }
 
     /**
-     * 生成 fromDto 方法。
+     * 生成 updateFromDto 方法：把 DTO 的字段写入已有的源对象并返回该对象。
      *
-     * 该方法将目标对象拷贝回源对象（反向拷贝）。
-     * 方法签名：public static SourceType fromDto(TargetType source)
+     * <p>字段拷贝规则与 fromDto 相同；带合并键的集合字段改为按键同步到已有集合。
+     * 已有对象为 null 时等同于 fromDto。
+     *
+     * @since 1.3.0
      */
-    private MethodSpec generateFromDto() {
-        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("fromDto")
+    private MethodSpec generateUpdateFromDto() {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("updateFromDto")
                 .addModifiers(Modifier.PUBLIC)
                 .returns(ClassName.get(sourceType))
-                .addParameter(ClassName.get(targetType), "source");
-        
-        // 根据 ComponentModel 添加 static 修饰符
+                .addParameter(ClassName.get(targetType), "source")
+                .addParameter(ClassName.get(sourceType), "target");
         if (useStaticMethods()) {
             methodBuilder.addModifiers(Modifier.STATIC);
         }
-        
-        // 添加 null 检查
         methodBuilder.beginControlFlow("if (source == null)")
-                .addStatement("return null")
+                .addStatement("return target")
+                .endControlFlow()
+                .beginControlFlow("if (target == null)")
+                .addStatement("return fromDto(source)")
                 .endControlFlow();
-        
-        // 创建源对象
-        methodBuilder.addStatement("$T target = new $T()", ClassName.get(sourceType), ClassName.get(sourceType));
-        
-        // 生成反向字段拷贝代码
-        for (FieldMapping mapping : fieldMappings) {
-            generateFieldCopyCode(methodBuilder, mapping, true);
-        }
-        
-        // 返回源对象
-        methodBuilder.addStatement("return target");
-        
-        return methodBuilder.build();
-    }
 
-    // ========== v1.2: 函数式重载方法 ==========
+        merging = true;
+        addFieldCopyCode(methodBuilder, "updateFromDto", true);
+        merging = false;
+
+        return methodBuilder.addStatement("return target").build();
+    }
 
     /**
-     * 生成带 customizer 的 toDto 方法。
+     * 生成带合并键的集合字段同步代码（DTO → 已有源对象）。
      *
-     * @since 1.2.0
+     * <p>为已有集合的元素按键建立哈希索引，逐个处理 DTO 元素：命中且未被占用的元素原地更新，
+     * 否则转换为新元素追加；最后移除未命中的旧元素。整体 O(n)，并保留已有的集合实例。
+     * DTO 集合为 null 时不修改已有集合，已有集合为 null 时按 fromDto 的规则整体拷贝。
+     *
+     * @since 1.3.0
      */
-    private MethodSpec generateToDtoWithCustomizer() {
-        TypeName targetTypeName = ClassName.get(targetType);
-        TypeName customizerType = ParameterizedTypeName.get(
-                ClassName.get(UnaryOperator.class), targetTypeName);
-        
-        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDto")
-                .addModifiers(Modifier.PUBLIC)
-                .returns(targetTypeName)
-                .addParameter(ClassName.get(sourceType), "source")
-                .addParameter(customizerType, "customizer");
-        
-        if (useStaticMethods()) {
-            methodBuilder.addModifiers(Modifier.STATIC);
-        }
-        
-        methodBuilder.beginControlFlow("if (source == null)")
-                .addStatement("return null")
-                .endControlFlow();
-        
-        if (useStaticMethods()) {
-            methodBuilder.addStatement("$T result = toDto(source)", targetTypeName);
-        } else {
-            methodBuilder.addStatement("$T result = this.toDto(source)", targetTypeName);
+    private void generateMergeFieldCopyCode(MethodSpec.Builder methodBuilder, FieldMapping mapping) {
+        String suffix = capitalize(mapping.getSourceFieldName());
+        String incoming = "incoming" + suffix;
+        String existing = "existing" + suffix;
+        String index = "index" + suffix;
+        String matched = "matched" + suffix;
+        String added = "added" + suffix;
+        String keyGetter = "get" + capitalize(mapping.getMergeKey());
+        TypeMirror dtoType = mapping.getTargetType();
+        TypeMirror entityType = mapping.getSourceType();
+        TypeMirror dtoElementType = TypeUtils.extractTypeArguments(dtoType).get(0);
+        TypeMirror entityElementType = TypeUtils.extractTypeArguments(entityType).get(0);
+        TypeName entityElement = TypeName.get(entityElementType);
+        boolean primitiveKey = false;
+        for (javax.lang.model.element.VariableElement field : TypeUtils.getAllFields(
+                (TypeElement) processingEnv.getTypeUtils().asElement(entityElementType))) {
+            if (field.getSimpleName().contentEquals(mapping.getMergeKey())) {
+                primitiveKey = field.asType().getKind().isPrimitive();
+            }
         }
-        
-        methodBuilder.beginControlFlow("if (customizer != null)")
-                .addStatement("result = customizer.apply(result)")
+
+        methodBuilder.addStatement("$T $L = source.get$L()", TypeName.get(dtoType), incoming,
+                        capitalize(mapping.getTargetFieldName()))
+                .beginControlFlow("if ($L != null)", incoming)
+                .addStatement("$T $L = target.get$L()", TypeName.get(entityType), existing, suffix)
+                .beginControlFlow("if ($L == null)", existing)
+                .addStatement("target.set$L($L)", suffix,
+                        convertValue(CodeBlock.of("$L", incoming), dtoType, entityType, dtoType, true))
+                .nextControlFlow("else")
+                .addStatement("$T<$T, $T> $L = new $T<>($L)", Map.class, Object.class, entityElement, index,
+                        ClassName.get("java.util", "HashMap"), buildInitialCapacity(existing + ".size()"))
+                .beginControlFlow("for ($T element : $L)", entityElement, existing)
+                .beginControlFlow(primitiveKey ? "if (element != null)" : "if (element != null && element.$L() != null)",
+                        keyGetter)
+                .addStatement("$L.put(element.$L(), element)", index, keyGetter)
                 .endControlFlow()
-                .addStatement("return result");
-        
-        return methodBuilder.build();
+                .endControlFlow()
+                .addStatement("$T<$T> $L = $T.newSetFromMap(new $T<$T, $T>())", Set.class, entityElement, matched,
+                        ClassName.get("java.util", "Collections"), ClassName.get("java.util", "IdentityHashMap"),
+                        entityElement, Boolean.class)
+                .addStatement("$T<$T> $L = new $T<>()", List.class, entityElement, added, ArrayList.class)
+                .beginControlFlow("for ($T element : $L)", TypeName.get(dtoElementType), incoming)
+                .beginControlFlow("if (element == null)")
+                .addStatement("continue")
+                .endControlFlow()
+                .addStatement("$T match = $L.get(element.$L())", entityElement, index, keyGetter)
+                .beginControlFlow("if (match != null && $L.add(match))", matched)
+                .addStatement("$L", elementUpdate(dtoElementType, entityElementType))
+                .nextControlFlow("else")
+                .addStatement("$L.add($L)", added, convertValue(CodeBlock.of("element"), dtoElementType,
+                        entityElementType, dtoElementType, true))
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("$L.removeIf(element -> !$L.contains(element))", existing, matched)
+                .addStatement("$L.addAll($L)", existing, added)
+                .endControlFlow()
+                .endControlFlow();
     }
 
     /**
-     * 生成带 customizer 的 fromDto 方法。
+     * 生成把 DTO 元素 {@code element} 原地写入已有元素 {@code match} 的语句。
      *
-     * @since 1.2.0
+     * <p>DTO 元素类型标注了以已有元素类型为 source 的 {@code @CopyTarget}（默认组件模型）且其 Copier
+     * 有 updateFromDto 时调用该方法，否则生成按同名字段写入的私有静态辅助方法。
+     *
+     * @since 1.3.0
      */
-    private MethodSpec generateFromDtoWithCustomizer() {
-        TypeName sourceTypeName = ClassName.get(sourceType);
-        TypeName customizerType = ParameterizedTypeName.get(
-                ClassName.get(UnaryOperator.class), sourceTypeName);
-        
-        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("fromDto")
-                .addModifiers(Modifier.PUBLIC)
-                .returns(sourceTypeName)
-                .addParameter(ClassName.get(targetType), "source")
-                .addParameter(customizerType, "customizer");
-        
-        if (useStaticMethods()) {
-            methodBuilder.addModifiers(Modifier.STATIC);
-        }
-        
-        methodBuilder.beginControlFlow("if (source == null)")
-                .addStatement("return null")
-                .endControlFlow();
-        
-        if (useStaticMethods()) {
-            methodBuilder.addStatement("$T result = fromDto(source)", sourceTypeName);
-        } else {
-            methodBuilder.addStatement("$T result = this.fromDto(source)", sourceTypeName);
-        }
-        
-        methodBuilder.beginControlFlow("if (customizer != null)")
-                .addStatement("result = customizer.apply(result)")
-                .endControlFlow()
-                .addStatement("return result");
-        
-        return methodBuilder.build();
+    private CodeBlock elementUpdate(TypeMirror dtoElementType, TypeMirror entityElementType) {
+        TypeElement dtoElement = (TypeElement) processingEnv.getTypeUtils().asElement(dtoElementType);
+        TypeElement entityElement = (TypeElement) processingEnv.getTypeUtils().asElement(entityElementType);
+        if (TypeUtils.isCopyTargetOf(dtoElement, entityElementType) && hasStaticCopier(dtoElement)
+                && hasUpdateFromDto(dtoElement)) {
+            return CodeBlock.of("$T.updateFromDto(element, match)", copierClassName(dtoElementType));
+        }
+        return CodeBlock.of("$L(element, match)", beanUpdateHelper(dtoElement, entityElement));
     }
 
     /**
-     * 生成带 customizer 的 toDtoList 方法。
+     * 判断 DTO 类型的 Copier 是否有 updateFromDto：本轮生成的看 {@link #updatableTargets}，
+     * 之前编译好的看 Copier 类中是否声明了该方法。
      *
-     * @since 1.2.0
+     * @since 1.3.0
      */
-    private MethodSpec generateToDtoListWithCustomizer() {
-        TypeName sourceTypeName = ClassName.get(sourceType);
+    private boolean hasUpdateFromDto(TypeElement dtoElement) {
+        if (updatableTargets.contains(dtoElement.getQualifiedName().toString())) {
+            return true;
+        }
+        TypeElement copier = processingEnv.getElementUtils()
+                .getTypeElement(copierClassName(dtoElement.asType()).canonicalName());
+        if (copier == null) {
+            return false;
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(copier.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals("updateFromDto")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 生成子类型分派代码：运行时类型命中已声明的子类型（或其子类）时直接返回子类型 Copier 的结果。
+     *
+     * <p>子类型不超过 {@link #SUBTYPE_BRANCH_LIMIT} 个时先按 {@code getClass()} 精确比较，
+     * 再按 instanceof 从最具体的类型开始匹配未声明的子类，运行时类型恰为基类时跳过全部比较；
+     * 子类型更多时生成 {@link ClassValue} 分派表，每个运行时类型只计算一次，之后为一次查表加 switch。
+     *
+     * @param reverse 是否为 fromDto（按目标子类型分派到其 Copier 的 fromDto）
+     * @since 1.3.0
+     */
+    private void addSubtypeDispatch(MethodSpec.Builder methodBuilder, boolean reverse) {
+        if (subtypes.isEmpty()) {
+            return;
+        }
+        // 子类排在父类之前，instanceof 匹配时取最具体的类型
+        List<Map.Entry<TypeElement, TypeElement>> candidates = new ArrayList<>();
+        for (Map.Entry<TypeElement, TypeElement> entry : subtypes.entrySet()) {
+            TypeElement checked = reverse ? entry.getValue() : entry.getKey();
+            int index = candidates.size();
+            for (int i = 0; i < candidates.size(); i++) {
+                TypeElement other = reverse ? candidates.get(i).getValue() : candidates.get(i).getKey();
+                if (processingEnv.getTypeUtils().isSubtype(checked.asType(), other.asType())) {
+                    index = i;
+                    break;
+                }
+            }
+            candidates.add(index, entry);
+        }
+
+        TypeElement baseType = reverse ? targetType : sourceType;
+        if (candidates.size() <= SUBTYPE_BRANCH_LIMIT) {
+            methodBuilder.addStatement("$T<?> type = source.getClass()", Class.class)
+                    .beginControlFlow("if (type != $T.class)", ClassName.get(baseType));
+            for (Map.Entry<TypeElement, TypeElement> entry : candidates) {
+                TypeElement checked = reverse ? entry.getValue() : entry.getKey();
+                methodBuilder.beginControlFlow("if (type == $T.class)", ClassName.get(checked))
+                        .addStatement("return $L", subtypeCopy(entry, reverse))
+                        .endControlFlow();
+            }
+            for (Map.Entry<TypeElement, TypeElement> entry : candidates) {
+                TypeElement checked = reverse ? entry.getValue() : entry.getKey();
+                methodBuilder.beginControlFlow("if (source instanceof $T)", ClassName.get(checked))
+                        .addStatement("return $L", subtypeCopy(entry, reverse))
+                        .endControlFlow();
+            }
+            methodBuilder.endControlFlow();
+            return;
+        }
+
+        String tableName = reverse ? "FROM_DTO_SUBTYPES" : "TO_DTO_SUBTYPES";
+        TypeName tableType = ParameterizedTypeName.get(ClassName.get(ClassValue.class), ClassName.get(Integer.class));
+        MethodSpec.Builder computeValue = MethodSpec.methodBuilder("computeValue")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(Integer.class)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class),
+                        WildcardTypeName.subtypeOf(Object.class)), "type");
+        CodeBlock.Builder dispatch = CodeBlock.builder()
+                .beginControlFlow("switch ($L.get(source.getClass()))", tableName);
+        for (int i = 0; i < candidates.size(); i++) {
+            TypeElement checked = reverse ? candidates.get(i).getValue() : candidates.get(i).getKey();
+            computeValue.beginControlFlow("if ($T.class.isAssignableFrom(type))", ClassName.get(checked))
+                    .addStatement("return $L", i)
+                    .endControlFlow();
+            dispatch.add("case $L:\n$>", i)
+                    .addStatement("return $L", subtypeCopy(candidates.get(i), reverse))
+                    .add("$<");
+        }
+        computeValue.addStatement("return -1");
+        dispatch.add("default:\n$>").addStatement("break").add("$<").endControlFlow();
+
+        subtypeTables.add(FieldSpec.builder(tableType, tableName, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", TypeSpec.anonymousClassBuilder("")
+                        .superclass(tableType)
+                        .addMethod(computeValue.build())
+                        .build())
+                .build());
+        methodBuilder.addCode(dispatch.build());
+    }
+
+    /**
+     * 调用子类型 Copier 的表达式。
+     */
+    private CodeBlock subtypeCopy(Map.Entry<TypeElement, TypeElement> entry, boolean reverse) {
+        ClassName copier = copierClassName(entry.getValue().asType());
+        return reverse
+                ? CodeBlock.of("$T.fromDto(($T) source)", copier, ClassName.get(entry.getValue()))
+                : CodeBlock.of("$T.toDto(($T) source)", copier, ClassName.get(entry.getKey()));
+    }
+
+    /**
+     * 生成多源 {@code toDto(source, 附加源...)} 及每个附加源的字段填充方法。
+     *
+     * <p>先用单源 toDto 填充主源字段，再依次调用 {@code toDtoFromXxx(附加源, target)}
+     * 把附加源的字段直接写入同一个目标对象；附加源为 null 时跳过其全部字段。
+     *
+     * @since 1.3.0
+     */
+    private void addNamedSourcesSupport(TypeSpec.Builder classBuilder) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDto")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ClassName.get(targetType))
+                .addParameter(ClassName.get(sourceType), "source");
+        if (useStaticMethods()) {
+            methodBuilder.addModifiers(Modifier.STATIC);
+        }
+        for (Map.Entry<String, TypeElement> entry : namedSources.entrySet()) {
+            methodBuilder.addParameter(ClassName.get(entry.getValue()), entry.getKey());
+        }
+        methodBuilder.addStatement("$T target = toDto(source)", ClassName.get(targetType))
+                .beginControlFlow("if (target == null)")
+                .addStatement("return null")
+                .endControlFlow();
+
+        for (Map.Entry<String, TypeElement> entry : namedSources.entrySet()) {
+            String helperName = "toDtoFrom" + capitalize(entry.getKey());
+            MethodSpec.Builder helperBuilder = MethodSpec.methodBuilder(helperName)
+                    .addModifiers(Modifier.PRIVATE)
+                    .addParameter(ClassName.get(entry.getValue()), "source")
+                    .addParameter(ClassName.get(targetType), "target");
+            if (useStaticMethods()) {
+                helperBuilder.addModifiers(Modifier.STATIC);
+            }
+            List<FieldMapping> mappings = new ArrayList<>();
+            for (FieldMapping mapping : namedSourceMappings) {
+                if (entry.getKey().equals(mapping.getSourceName())) {
+                    mappings.add(mapping);
+                }
+            }
+            addPathLocals(helperBuilder, mappings);
+            for (FieldMapping mapping : mappings) {
+                generateFieldCopyCode(helperBuilder, mapping, false);
+            }
+            pathLocals = new LinkedHashMap<>();
+            classBuilder.addMethod(helperBuilder.build());
+
+            methodBuilder.beginControlFlow("if ($L != null)", entry.getKey())
+                    .addStatement("$L($L, target)", helperName, entry.getKey())
+                    .endControlFlow();
+        }
+        classBuilder.addMethod(methodBuilder.addStatement("return target").build());
+    }
+
+    /**
+     * 生成 {@code toMap(dto)} 与 {@code fromMap(map)}。
+     *
+     * <p>字段列表在编译期确定：每个键生成一个 {@code KEY_XXX} 字符串常量，
+     * toMap 按字段数量预设容量并保持字段顺序；fromMap 遍历条目、按键的 {@code hashCode()} 分派，
+     * 再用 equals 确认（哈希冲突的键落在同一分支），未知的键被忽略。
+     * 基本类型字段遇到 null 值时保留默认值。
+     *
+     * @since 1.3.0
+     */
+    private void addMapSupport(TypeSpec.Builder classBuilder) {
+        ClassName dtoName = ClassName.get(targetType);
+        ClassName mapSupport = ClassName.get(MapSupport.class);
+        TypeName mapOfObject = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class),
+                TypeName.OBJECT);
+        TypeName mapOfAny = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class),
+                WildcardTypeName.subtypeOf(Object.class));
+        TypeName entryOfAny = ParameterizedTypeName.get(ClassName.get(Map.Entry.class), ClassName.get(String.class),
+                WildcardTypeName.subtypeOf(Object.class));
+
+        List<javax.lang.model.element.VariableElement> fields = TypeUtils.getAllFields(targetType);
+        MethodSpec.Builder toMap = MethodSpec.methodBuilder("toMap")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(mapOfObject)
+                .addParameter(dtoName, "source")
+                .beginControlFlow("if (source == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T map = new $T<>($L)", mapOfObject, LinkedHashMap.class,
+                        (int) (fields.size() / 0.75f) + 1);
+        Map<Integer, List<javax.lang.model.element.VariableElement>> fieldsByHash = new java.util.TreeMap<>();
+        boolean unchecked = false;
+        for (javax.lang.model.element.VariableElement field : fields) {
+            String name = field.getSimpleName().toString();
+            String constant = "KEY_" + toConstantName(name);
+            classBuilder.addField(FieldSpec.builder(String.class, constant,
+                            Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$S", name)
+                    .build());
+            toMap.addStatement("map.put($L, source.get$L())", constant, capitalize(name));
+            fieldsByHash.computeIfAbsent(name.hashCode(), hash -> new ArrayList<>()).add(field);
+            unchecked |= field.asType().getKind() == TypeKind.DECLARED
+                    && !TypeUtils.extractTypeArguments(field.asType()).isEmpty();
+        }
+        toMap.addStatement("return map");
+
+        MethodSpec.Builder fromMap = MethodSpec.methodBuilder("fromMap")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(dtoName)
+                .addParameter(mapOfAny, "map")
+                .beginControlFlow("if (map == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T target = new $T()", dtoName, dtoName)
+                .beginControlFlow("for ($T entry : map.entrySet())", entryOfAny)
+                .addStatement("$T key = entry.getKey()", String.class)
+                .beginControlFlow("if (key == null)")
+                .addStatement("continue")
+                .endControlFlow()
+                .addStatement("$T value = entry.getValue()", Object.class)
+                .beginControlFlow("switch (key.hashCode())");
+        for (Map.Entry<Integer, List<javax.lang.model.element.VariableElement>> bucket : fieldsByHash.entrySet()) {
+            fromMap.addCode("case $L:\n$>", bucket.getKey());
+            boolean first = true;
+            for (javax.lang.model.element.VariableElement field : bucket.getValue()) {
+                String name = field.getSimpleName().toString();
+                TypeMirror type = field.asType();
+                String condition = "KEY_" + toConstantName(name) + ".equals(key)"
+                        + (type.getKind().isPrimitive() ? " && value != null" : "");
+                if (first) {
+                    fromMap.beginControlFlow("if ($L)", condition);
+                    first = false;
+                } else {
+                    fromMap.nextControlFlow("else if ($L)", condition);
+                }
+                fromMap.addStatement("target.set$L($L)", capitalize(name), mapValue(type, mapSupport));
+            }
+            fromMap.endControlFlow()
+                    .addStatement("break")
+                    .addCode("$<");
+        }
+        fromMap.addCode("default:\n$>")
+                .addStatement("break")
+                .addCode("$<")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return target");
+        if (unchecked) {
+            fromMap.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                    .addMember("value", "$S", "unchecked")
+                    .build());
+        }
+        if (useStaticMethods()) {
+            toMap.addModifiers(Modifier.STATIC);
+            fromMap.addModifiers(Modifier.STATIC);
+        }
+        classBuilder.addMethod(toMap.build());
+        classBuilder.addMethod(fromMap.build());
+    }
+
+    /**
+     * 把 Map 中的值（变量 {@code value}）转换为字段类型的表达式。
+     */
+    private CodeBlock mapValue(TypeMirror type, ClassName mapSupport) {
+        TypeMirror boxed = type.getKind().isPrimitive()
+                ? processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type).asType()
+                : type;
+        String name = processingEnv.getTypeUtils().erasure(boxed).toString();
+        switch (name) {
+            case "java.lang.Integer":
+            case "java.lang.Long":
+            case "java.lang.Double":
+            case "java.lang.Float":
+            case "java.lang.Short":
+            case "java.lang.Byte":
+            case "java.lang.Boolean":
+            case "java.lang.Character":
+            case "java.lang.String":
+            case "java.math.BigDecimal":
+            case "java.math.BigInteger":
+                return CodeBlock.of("$T.as$L(value)", mapSupport, name.substring(name.lastIndexOf('.') + 1));
+            default:
+                break;
+        }
+        if (TypeUtils.isEnum(type)) {
+            return CodeBlock.of("$T.asEnum($T.class, value)", mapSupport, TypeName.get(type));
+        }
+        return CodeBlock.of("($T) value", TypeName.get(type));
+    }
+
+    /**
+     * 为方法加上运行时指标埋点，未开启指标时原样返回。
+     *
+     * <p>方法体包在 {@code try/finally} 中计数并记录抽样耗时；抽样到的调用还会记录入参集合字段的大小
+     * （列表方法记录列表本身的大小，字段记为 {@code size}）。
+     *
+     * @param method  原方法，第一个参数为入参
+     * @param reverse 入参是否为 DTO（fromDto 方向）
+     * @since 1.3.0
+     */
+    private MethodSpec metered(MethodSpec method, boolean reverse) {
+        if (!metrics) {
+            return method;
+        }
+        String input = method.parameters.get(0).name;
+        String constant = toConstantName(method.name) + "_METRICS";
+        List<String> sizeFields = new ArrayList<>();
+        CodeBlock.Builder sizes = CodeBlock.builder();
+        if (method.name.endsWith("List")) {
+            sizeFields.add("size");
+            sizes.addStatement("$L.recordSize(0, $L.size())", constant, input);
+        } else {
+            for (FieldMapping mapping : fieldMappings) {
+                VariableElement field = reverse ? mapping.getTargetField() : mapping.getSourceField();
+                if (mapping.getMappingType() != FieldMapping.MappingType.SIMPLE || field == null
+                        || !TypeUtils.isCollectionType(field.asType())) {
+                    continue;
+                }
+                String name = field.getSimpleName().toString();
+                if (sizeFields.contains(name)) {
+                    continue;
+                }
+                String local = "metricsSize" + capitalize(name);
+                sizes.addStatement("$T $L = $L.get$L()", TypeName.get(field.asType()), local, input, capitalize(name))
+                        .beginControlFlow("if ($L != null)", local)
+                        .addStatement("$L.recordSize($L, $L.$L)", constant, sizeFields.size(), local,
+                                TypeUtils.isArrayType(field.asType()) ? "length" : "size()")
+                        .endControlFlow();
+                sizeFields.add(name);
+            }
+        }
+
+        CodeBlock.Builder arguments = CodeBlock.builder().add("$S", method.name);
+        for (String sizeField : sizeFields) {
+            arguments.add(", $S", sizeField);
+        }
+        metricsFields.add(FieldSpec.builder(CopierMetrics.Operation.class, constant,
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("METRICS.operation($L)", arguments.build())
+                .build());
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(method.name)
+                .addJavadoc(method.javadoc)
+                .addAnnotations(method.annotations)
+                .addModifiers(method.modifiers)
+                .addTypeVariables(method.typeVariables)
+                .returns(method.returnType)
+                .addParameters(method.parameters)
+                .varargs(method.varargs)
+                .addExceptions(method.exceptions)
+                .addStatement("long metricsStart = $L.start()", constant);
+        if (!sizeFields.isEmpty()) {
+            builder.beginControlFlow("if (metricsStart != $T.NOT_SAMPLED && $L != null)", CopierMetrics.class, input)
+                    .addCode(sizes.build())
+                    .endControlFlow();
+        }
+        return builder.beginControlFlow("try")
+                .addCode(method.code)
+                .nextControlFlow("finally")
+                .addStatement("$L.stop(metricsStart)", constant)
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 添加运行时指标常量：向 {@link CopierMetricsRegistry} 注册的 {@code METRICS} 及各埋点方法的操作指标。
+     *
+     * @since 1.3.0
+     */
+    private void addMetricsFields(TypeSpec.Builder classBuilder, ClassName copierClass) {
+        classBuilder.addField(FieldSpec.builder(CopierMetrics.class, "METRICS",
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.register($T.class)", CopierMetricsRegistry.class, copierClass)
+                .build());
+        for (FieldSpec field : metricsFields) {
+            classBuilder.addField(field);
+        }
+    }
+
+    /**
+     * 字段名转为常量名，如 {@code amountCents} 转为 {@code AMOUNT_CENTS}。
+     */
+    static String toConstantName(String name) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                result.append('_');
+            }
+            result.append(Character.toUpperCase(c));
+        }
+        return result.toString();
+    }
+
+    /**
+     * 生成 toDtoColumns 方法。
+     *
+     * <p>逐行复用 toDto 的字段映射代码，只是把 {@code target} 换成写入当前行的
+     * {@code XxxColumns.RowWriter}，其 setter 与 DTO 同名同参。
+     *
+     * @since 1.3.0
+     */
+    private MethodSpec generateToDtoColumns() {
+        ClassName columnsName = columnsClassName();
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDtoColumns")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(columnsName)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(sourceType)),
+                        "sources");
+        if (useStaticMethods()) {
+            methodBuilder.addModifiers(Modifier.STATIC);
+        }
+
+        methodBuilder.beginControlFlow("if (sources == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T columns = new $T(sources.size())", columnsName, columnsName)
+                .addStatement("$T target = columns.rowWriter()", columnsName.nestedClass("RowWriter"))
+                .beginControlFlow("for ($T source : sources)", ClassName.get(sourceType))
+                .beginControlFlow("if (source == null)")
+                .addStatement("target.markNull()")
+                .nextControlFlow("else");
+
+        hoistedAccessors = collectHoistedAccessors();
+        addHoistedAccessorLocals(methodBuilder);
+        for (FieldMapping mapping : fieldMappings) {
+            generateFieldCopyCode(methodBuilder, mapping, false);
+        }
+        hoistedAccessors = new LinkedHashMap<>();
+        pathLocals = new LinkedHashMap<>();
+
+        return methodBuilder.endControlFlow()
+                .addStatement("target.row++")
+                .endControlFlow()
+                .addStatement("return columns")
+                .build();
+    }
+
+    /**
+     * 生成 toDtoOffHeap(List) 方法：写入直接缓冲区。
+     *
+     * @since 1.3.0
+     */
+    private MethodSpec generateToDtoOffHeap() {
+        ClassName flyweightName = FlyweightGenerator.flyweightClassName(targetType);
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDtoOffHeap")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(mappedDtoArrayType())
+                .addParameter(sourceListType(), "sources");
+        if (useStaticMethods()) {
+            methodBuilder.addModifiers(Modifier.STATIC);
+        }
+        return methodBuilder.beginControlFlow("if (sources == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("return fillOffHeap(sources, $T.allocate(sources.size(), $T.LAYOUT))",
+                        MAPPED_DTO_ARRAY, flyweightName)
+                .build();
+    }
+
+    /**
+     * 生成 toDtoOffHeap(List, Path) 方法：写入内存映射文件并刷盘。
+     *
+     * @since 1.3.0
+     */
+    private MethodSpec generateToDtoOffHeapFile() {
+        ClassName flyweightName = FlyweightGenerator.flyweightClassName(targetType);
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDtoOffHeap")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(mappedDtoArrayType())
+                .addParameter(sourceListType(), "sources")
+                .addParameter(Path.class, "path")
+                .addException(IOException.class);
+        if (useStaticMethods()) {
+            methodBuilder.addModifiers(Modifier.STATIC);
+        }
+        return methodBuilder.beginControlFlow("if (sources == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T array = fillOffHeap(sources, $T.create(path, sources.size(), $T.LAYOUT))",
+                        mappedDtoArrayType(), MAPPED_DTO_ARRAY, flyweightName)
+                .addStatement("array.force()")
+                .addStatement("return array")
+                .build();
+    }
+
+    /**
+     * 生成 fillOffHeap 方法：通过 Flyweight 逐条写入，复用 toDto 的字段映射代码。
+     *
+     * @since 1.3.0
+     */
+    private MethodSpec generateFillOffHeap() {
+        ClassName flyweightName = FlyweightGenerator.flyweightClassName(targetType);
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("fillOffHeap")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(mappedDtoArrayType())
+                .addParameter(sourceListType(), "sources")
+                .addParameter(mappedDtoArrayType(), "array");
+        if (useStaticMethods()) {
+            methodBuilder.addModifiers(Modifier.STATIC);
+        }
+
+        methodBuilder.addStatement("$T target = new $T(array)", flyweightName, flyweightName)
+                .addStatement("int index = 0")
+                .beginControlFlow("for ($T source : sources)", ClassName.get(sourceType))
+                .addStatement("target.moveTo(index++)")
+                .beginControlFlow("if (source != null)")
+                .addStatement("target.markPresent()");
+
+        hoistedAccessors = collectHoistedAccessors();
+        addHoistedAccessorLocals(methodBuilder);
+        for (FieldMapping mapping : fieldMappings) {
+            generateFieldCopyCode(methodBuilder, mapping, false);
+        }
+        hoistedAccessors = new LinkedHashMap<>();
+        pathLocals = new LinkedHashMap<>();
+
+        return methodBuilder.endControlFlow()
+                .endControlFlow()
+                .addStatement("return array")
+                .build();
+    }
+
+    /**
+     * 生成 toDtoView 方法及嵌套的 View 类。
+     *
+     * <p>View 继承目标类并覆盖被映射字段的 getter：无需转换的字段直接委托源对象；
+     * 需要转换或深拷贝的字段在首次访问时执行与 toDto 相同的映射代码（生成为 {@code loadViewXxx} 方法），
+     * 结果保存在父类字段中，之后的访问直接返回。被覆盖字段的 setter 抛出 {@link UnsupportedOperationException}。
+     *
+     * @since 1.3.0
+     */
+    private void addViewSupport(TypeSpec.Builder classBuilder) {
+        if (targetType.getModifiers().contains(Modifier.FINAL)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "view 要求目标类不能是 final 类", targetType);
+            return;
+        }
+        Set<String> finalMethods = new HashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(targetType.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.FINAL)) {
+                finalMethods.add(method.getSimpleName().toString());
+            }
+        }
+
+        ClassName dtoName = ClassName.get(targetType);
+        ClassName sourceName = ClassName.get(sourceType);
+        TypeSpec.Builder viewBuilder = TypeSpec.classBuilder("View")
+                .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+                .superclass(dtoName)
+                .addJavadoc("$T 的延迟只读视图，包装源对象而不是复制。\n", dtoName)
+                .addField(sourceName, "source", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(boolean.class, "loading", Modifier.PRIVATE)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(sourceName, "source")
+                        .addStatement("this.source = source")
+                        .build());
+        if (useStaticMethods()) {
+            viewBuilder.addModifiers(Modifier.STATIC);
+        }
+
+        Map<String, List<FieldMapping>> mappingsByTarget = new LinkedHashMap<>();
+        for (FieldMapping mapping : fieldMappings) {
+            if (mapping.getTargetFieldName() != null && mapping.getTargetType() != null) {
+                mappingsByTarget.computeIfAbsent(mapping.getTargetFieldName(), name -> new ArrayList<>()).add(mapping);
+            }
+        }
+        for (Map.Entry<String, List<FieldMapping>> entry : mappingsByTarget.entrySet()) {
+            String name = entry.getKey();
+            String property = capitalize(name);
+            FieldMapping first = entry.getValue().get(0);
+            TypeName fieldType = TypeName.get(first.getTargetType());
+
+            MethodSpec.Builder loader = MethodSpec.methodBuilder("loadView" + property)
+                    .addModifiers(Modifier.PRIVATE)
+                    .addParameter(sourceName, "source")
+                    .addParameter(dtoName, "target");
+            if (useStaticMethods()) {
+                loader.addModifiers(Modifier.STATIC);
+            }
+            for (FieldMapping mapping : entry.getValue()) {
+                generateFieldCopyCode(loader, mapping, false);
+            }
+            MethodSpec loaderMethod = loader.build();
+            if (loaderMethod.code.isEmpty()) {
+                continue;
+            }
+            if (finalMethods.contains("get" + property) || finalMethods.contains("set" + property)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "view 要求字段 " + name + " 的 getter/setter 不能是 final 方法", targetType);
+                return;
+            }
+
+            MethodSpec.Builder getter = MethodSpec.methodBuilder("get" + property)
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(fieldType);
+            MethodSpec.Builder setter = MethodSpec.methodBuilder("set" + property)
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(fieldType, name);
+            String passThrough = entry.getValue().size() == 1 && first.getSourceFieldName() != null
+                    ? "target.set" + property + "(source.get" + capitalize(first.getSourceFieldName()) + "());\n"
+                    : null;
+            if (loaderMethod.code.toString().equals(passThrough)) {
+                // 无需转换：直接委托源对象
+                getter.addStatement("return source.get$L()", capitalize(first.getSourceFieldName()));
+                setter.addStatement("throw new $T($S)", UnsupportedOperationException.class, "read-only view");
+            } else {
+                // 首次访问时转换并缓存到父类字段
+                String loadedField = name + "Loaded";
+                classBuilder.addMethod(loaderMethod);
+                viewBuilder.addField(boolean.class, loadedField, Modifier.PRIVATE);
+                getter.beginControlFlow("if (!$L)", loadedField)
+                        .addStatement("loading = true")
+                        .beginControlFlow("try")
+                        .addStatement("loadView$L(source, this)", property)
+                        .nextControlFlow("finally")
+                        .addStatement("loading = false")
+                        .endControlFlow()
+                        .addStatement("$L = true", loadedField)
+                        .endControlFlow()
+                        .addStatement("return super.get$L()", property);
+                setter.beginControlFlow("if (!loading)")
+                        .addStatement("throw new $T($S)", UnsupportedOperationException.class, "read-only view")
+                        .endControlFlow()
+                        .addStatement("super.set$L($L)", property, name);
+            }
+            viewBuilder.addMethod(getter.build()).addMethod(setter.build());
+        }
+
+        MethodSpec.Builder toDtoView = MethodSpec.methodBuilder("toDtoView")
+                .addJavadoc("创建包装源对象的延迟只读视图，只分配一个对象，字段在访问时才读取和转换。\n\n"
+                        + "<p>视图的 setter 会抛出 {@link UnsupportedOperationException}；"
+                        + "目标类自身的 equals/hashCode/toString 若直接读取字段，则只能看到已访问过的值。\n\n"
+                        + "@param source 源对象\n@return 视图对象，源对象为 null 时返回 null\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(dtoName)
+                .addParameter(sourceName, "source");
+        if (useStaticMethods()) {
+            toDtoView.addModifiers(Modifier.STATIC);
+        }
+        classBuilder.addMethod(toDtoView.beginControlFlow("if (source == null)")
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("return new View(source)")
+                        .build())
+                .addType(viewBuilder.build());
+    }
+
+    private TypeName mappedDtoArrayType() {
+        return ParameterizedTypeName.get(MAPPED_DTO_ARRAY, ClassName.get(targetType));
+    }
+
+    private TypeName sourceListType() {
+        return ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(sourceType));
+    }
+
+    /**
+     * 列式输出的列：每个被映射的目标字段一列（字段名 -> 字段类型）。
+     */
+    private Map<String, TypeMirror> collectColumns() {
+        Map<String, TypeMirror> result = new LinkedHashMap<>();
+        for (FieldMapping mapping : fieldMappings) {
+            if (mapping.getTargetFieldName() != null && mapping.getTargetType() != null) {
+                result.putIfAbsent(mapping.getTargetFieldName(), mapping.getTargetType());
+            }
+        }
+        return result;
+    }
+
+    private ClassName columnsClassName() {
+        ClassName dtoName = ClassName.get(targetType);
+        return ClassName.get(dtoName.packageName(), targetType.getSimpleName() + "Columns");
+    }
+
+    /**
+     * 生成 {@code XxxColumns} 类：每列一个数组（基本类型字段为基本类型数组），
+     * 附带按行读取的游标和按行写入的 RowWriter。
+     *
+     * @since 1.3.0
+     */
+    private void generateColumnsClass() throws IOException {
+        ClassName columnsName = columnsClassName();
+        ClassName dtoName = ClassName.get(targetType);
+        ClassName cursorName = columnsName.nestedClass("Cursor");
+        ClassName writerName = columnsName.nestedClass("RowWriter");
+        javax.lang.model.util.Types types = processingEnv.getTypeUtils();
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(columnsName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("$T 的列式（struct-of-arrays）批量结果，由 fast-bean-copier 生成。\n\n"
+                        + "<p>每个字段一列，按列访问时为连续的顺序读取；列数组直接返回，调用方不应修改。\n", dtoName)
+                .addField(int.class, "size", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(FieldSpec.builder(java.util.BitSet.class, "nullRows", Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("new $T()", java.util.BitSet.class)
+                        .build());
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                .addParameter(int.class, "size")
+                .addStatement("this.size = size");
+        TypeSpec.Builder cursorBuilder = TypeSpec.classBuilder(cursorName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("按行读取的游标，同一个实例在各行之间复用。\n")
+                .addField(FieldSpec.builder(int.class, "row", Modifier.PRIVATE).initializer("-1").build())
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(MethodSpec.methodBuilder("next")
+                        .addJavadoc("移动到下一行。\n\n@return 还有数据时返回 true\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return ++row < size")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("moveTo")
+                        .addJavadoc("移动到指定行。\n\n@param row 行号\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(int.class, "row")
+                        .beginControlFlow("if (row < 0 || row >= size)")
+                        .addStatement("throw new $T(\"row: \" + row + \", size: \" + size)",
+                                IndexOutOfBoundsException.class)
+                        .endControlFlow()
+                        .addStatement("this.row = row")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("position")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return row")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("isNull")
+                        .addJavadoc("当前行对应的源对象是否为 null。\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return nullRows.get(row)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("toDto")
+                        .addJavadoc("将当前行还原为 DTO 对象。\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(dtoName)
+                        .addStatement("return $T.this.toDto(row)", columnsName)
+                        .build());
+        TypeSpec.Builder writerBuilder = TypeSpec.classBuilder(writerName)
+                .addModifiers(Modifier.FINAL)
+                .addJavadoc("按行写入列数组，setter 与 DTO 保持一致，供 Copier 复用字段映射代码。\n")
+                .addField(int.class, "row")
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(MethodSpec.methodBuilder("markNull")
+                        .addStatement("nullRows.set(row)")
+                        .build());
+        MethodSpec.Builder toDto = MethodSpec.methodBuilder("toDto")
+                .addJavadoc("将指定行还原为 DTO 对象，源对象为 null 的行返回 null。\n\n@param row 行号\n@return DTO 对象\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(dtoName)
+                .addParameter(int.class, "row")
+                .beginControlFlow("if (nullRows.get(row))")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T dto = new $T()", dtoName, dtoName);
+
+        boolean unchecked = false;
+        for (Map.Entry<String, TypeMirror> column : collectColumns().entrySet()) {
+            String name = column.getKey();
+            String property = capitalize(name);
+            TypeName elementType = TypeName.get(column.getValue());
+            ArrayTypeName arrayType = ArrayTypeName.of(elementType);
+            classBuilder.addField(arrayType, name, Modifier.PRIVATE, Modifier.FINAL);
+            TypeName erasedType = TypeName.get(types.erasure(column.getValue()));
+            if (erasedType.equals(elementType)) {
+                constructor.addStatement("this.$L = new $T[size]", name, erasedType);
+            } else {
+                // 参数化类型不能直接创建泛型数组
+                constructor.addStatement("this.$L = ($T) new $T[size]", name, arrayType, erasedType);
+                unchecked = true;
+            }
+            classBuilder.addMethod(MethodSpec.methodBuilder("get" + property)
+                    .addJavadoc("$L 列。\n", name)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(arrayType)
+                    .addStatement("return $L", name)
+                    .build());
+            cursorBuilder.addMethod(MethodSpec.methodBuilder("get" + property)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(elementType)
+                    .addStatement("return $L[row]", name)
+                    .build());
+            writerBuilder.addMethod(MethodSpec.methodBuilder("set" + property)
+                    .addParameter(elementType, name)
+                    .addStatement("$T.this.$L[row] = $L", columnsName, name, name)
+                    .build());
+            toDto.addStatement("dto.set$L($L[row])", property, name);
+        }
+        if (unchecked) {
+            constructor.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                    .addMember("value", "$S", "unchecked")
+                    .build());
+        }
+
+        classBuilder.addMethod(constructor.build())
+                .addMethod(MethodSpec.methodBuilder("size")
+                        .addJavadoc("行数。\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return size")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("cursor")
+                        .addJavadoc("创建从第一行之前开始的游标。\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(cursorName)
+                        .addStatement("return new $T()", cursorName)
+                        .build())
+                .addMethod(toDto.addStatement("return dto").build())
+                .addMethod(MethodSpec.methodBuilder("rowWriter")
+                        .returns(writerName)
+                        .addStatement("return new $T()", writerName)
+                        .build())
+                .addType(cursorBuilder.build())
+                .addType(writerBuilder.build());
+
+        JavaFile.builder(columnsName.packageName(), classBuilder.build())
+                .build()
+                .writeTo(processingEnv.getFiler());
+    }
+
+    /**
+     * 统计表达式中重复出现的源对象访问器调用。
+     *
+     * <p>同一个 {@code source.getXxx()} 在所有表达式与拷贝条件中累计出现两次及以上时，
+     * 将其提升为 toDto 开头的局部变量，避免 getter 被重复调用。
+     *
+     * @return 访问器方法名到局部变量名的映射
+     * @since 1.3.0
+     */
+    private Map<String, String> collectHoistedAccessors() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (FieldMapping mapping : fieldMappings) {
+            if (mapping.hasCondition()) {
+                for (String accessor : ExpressionUtils.extractSourceAccessors(mapping.getCondition())) {
+                    counts.merge(accessor, 1, Integer::sum);
+                }
+            }
+            if (!isExpressionMapping(mapping)) {
+                continue;
+            }
+            for (String accessor : ExpressionUtils.extractSourceAccessors(mapping.getExpression())) {
+                counts.merge(accessor, 1, Integer::sum);
+            }
+        }
+
+        Map<String, String> result = new LinkedHashMap<>();
+        Set<String> localNames = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() < 2 || findSourceAccessor(entry.getKey()) == null) {
+                continue;
+            }
+            String accessor = entry.getKey();
+            String property = accessor.startsWith("is") ? accessor.substring(2) : accessor.substring(3);
+            String localName = "cached" + property;
+            for (int i = 2; !localNames.add(localName); i++) {
+                localName = "cached" + property + i;
+            }
+            result.put(accessor, localName);
+        }
+        return result;
+    }
+
+    /**
+     * 为提升的访问器生成局部变量声明。
+     *
+     * @since 1.3.0
+     */
+    private void addHoistedAccessorLocals(MethodSpec.Builder methodBuilder) {
+        for (Map.Entry<String, String> entry : hoistedAccessors.entrySet()) {
+            ExecutableElement accessor = findSourceAccessor(entry.getKey());
+            methodBuilder.addStatement("$T $L = source.$L()",
+                    TypeName.get(accessor.getReturnType()), entry.getValue(), entry.getKey());
+        }
+
+        addPathLocals(methodBuilder, fieldMappings);
+    }
+
+    /**
+     * 点号路径的每个前缀只读取一次，所有同前缀的字段共用：为这些映射的路径前缀生成判空的局部变量并登记到
+     * {@link #pathLocals}。前缀从方法参数 {@code source} 开始读取。
+     *
+     * @since 1.3.0
+     */
+    private void addPathLocals(MethodSpec.Builder methodBuilder, List<FieldMapping> mappings) {
+        pathLocals = new LinkedHashMap<>();
+        for (FieldMapping mapping : mappings) {
+            if (!mapping.isPathMapping()) {
+                continue;
+            }
+            List<String> path = mapping.getSourcePath();
+            for (int depth = 1; depth < path.size(); depth++) {
+                String key = String.join(".", path.subList(0, depth));
+                if (pathLocals.containsKey(key)) {
+                    continue;
+                }
+                String local = pathLocalName(path.subList(0, depth));
+                TypeMirror type = mapping.getSourcePathTypes().get(depth - 1);
+                addPathLocal(methodBuilder, local, type,
+                        depth == 1 ? null : pathLocals.get(String.join(".", path.subList(0, depth - 1))),
+                        path.get(depth - 1));
+                pathLocals.put(key, local);
+                pathLocalTypes.put(key, type);
+            }
+        }
+    }
+
+    /**
+     * 在源类型（含父类）中查找指定名称的无参访问器。
+     *
+     * @param accessorName 访问器方法名
+     * @return 访问器方法，找不到或返回类型无法声明为局部变量时返回 null
+     * @since 1.3.0
+     */
+    private ExecutableElement findSourceAccessor(String accessorName) {
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(sourceType))) {
+            if (!method.getSimpleName().contentEquals(accessorName) || !method.getParameters().isEmpty()) {
+                continue;
+            }
+            TypeKind returnKind = method.getReturnType().getKind();
+            if (returnKind == TypeKind.VOID || returnKind == TypeKind.TYPEVAR || returnKind == TypeKind.ERROR) {
+                return null;
+            }
+            return method;
+        }
+        return null;
+    }
+
+    /**
+     * 判断映射是否为表达式映射。
+     */
+    private boolean isExpressionMapping(FieldMapping mapping) {
+        return (mapping.getMappingType() == FieldMapping.MappingType.EXPRESSION
+                || mapping.getMappingType() == FieldMapping.MappingType.MANY_TO_ONE)
+                && mapping.hasExpression();
+    }
+
+    /**
+     * 生成全部字段的拷贝代码。
+     *
+     * <p>估算的字节码总量不超过 {@link #METHOD_SIZE_BUDGET} 时直接内联到方法体中；
+     * 否则按字段顺序分组，每组生成一个私有辅助方法（如 {@code toDtoFields0}），
+     * 保证每个方法都能被 JIT 编译。
+     *
+     * @param methodBuilder 方法构建器
+     * @param methodName    所属方法名，用作辅助方法名前缀
+     * @param reverse       是否反向拷贝（fromDto）
+     * @since 1.3.0
+     */
+    private void addFieldCopyCode(MethodSpec.Builder methodBuilder, String methodName, boolean reverse) {
+        List<CodeBlock> blocks = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        List<Set<String>> accessors = new ArrayList<>();
+        int totalSize = 0;
+        for (FieldMapping mapping : fieldMappings) {
+            MethodSpec.Builder fieldBuilder = MethodSpec.methodBuilder(methodName);
+            generateFieldCopyCode(fieldBuilder, mapping, reverse);
+            CodeBlock code = fieldBuilder.build().code;
+            if (code.isEmpty()) {
+                continue;
+            }
+            int size = estimateCodeSize(code);
+            blocks.add(code);
+            sizes.add(size);
+            accessors.add(collectUsedHoistedAccessors(mapping, reverse));
+            totalSize += size;
+        }
+
+        if (totalSize <= METHOD_SIZE_BUDGET) {
+            for (CodeBlock block : blocks) {
+                methodBuilder.addCode(block);
+            }
+            return;
+        }
+
+        CodeBlock.Builder chunk = CodeBlock.builder();
+        Set<String> chunkAccessors = new LinkedHashSet<>();
+        int chunkSize = 0;
+        int helperIndex = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            if (chunkSize > 0 && chunkSize + sizes.get(i) > METHOD_SIZE_BUDGET) {
+                addFieldCopyHelper(methodBuilder, methodName + "Fields" + helperIndex++, reverse,
+                        chunk.build(), chunkAccessors);
+                chunk = CodeBlock.builder();
+                chunkAccessors = new LinkedHashSet<>();
+                chunkSize = 0;
+            }
+            chunk.add(blocks.get(i));
+            chunkAccessors.addAll(accessors.get(i));
+            chunkSize += sizes.get(i);
+        }
+        if (chunkSize > 0) {
+            addFieldCopyHelper(methodBuilder, methodName + "Fields" + helperIndex, reverse,
+                    chunk.build(), chunkAccessors);
+        }
+    }
+
+    /**
+     * 生成一个字段拷贝辅助方法，并在调用方方法体中插入对它的调用。
+     *
+     * <p>辅助方法签名为 {@code (source, target, 提升的局部变量...)}，
+     * 组件模型为 DEFAULT 时为静态方法。
+     *
+     * @since 1.3.0
+     */
+    private void addFieldCopyHelper(MethodSpec.Builder methodBuilder, String helperName, boolean reverse,
+                                    CodeBlock code, Set<String> accessors) {
+        TypeElement fromType = reverse ? targetType : sourceType;
+        TypeElement toType = reverse ? sourceType : targetType;
+        MethodSpec.Builder helperBuilder = MethodSpec.methodBuilder(helperName)
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(ClassName.get(fromType), "source")
+                .addParameter(ClassName.get(toType), "target");
+        if (useStaticMethods()) {
+            helperBuilder.addModifiers(Modifier.STATIC);
+        }
+
+        List<String> arguments = new ArrayList<>();
+        arguments.add("source");
+        arguments.add("target");
+        for (String accessor : accessors) {
+            if (accessor.startsWith(".")) {
+                // 路径前缀局部变量，键为 "." + 前缀路径
+                String prefix = accessor.substring(1);
+                helperBuilder.addParameter(TypeName.get(pathLocalTypes.get(prefix)), pathLocals.get(prefix));
+                arguments.add(pathLocals.get(prefix));
+                continue;
+            }
+            String localName = hoistedAccessors.get(accessor);
+            helperBuilder.addParameter(TypeName.get(findSourceAccessor(accessor).getReturnType()), localName);
+            arguments.add(localName);
+        }
+
+        fieldCopyHelpers.add(helperBuilder.addCode(code).build());
+        methodBuilder.addStatement("$L($L)", helperName, String.join(", ", arguments));
+    }
+
+    /**
+     * 获取映射表达式中用到的已提升访问器。
+     *
+     * @since 1.3.0
+     */
+    private Set<String> collectUsedHoistedAccessors(FieldMapping mapping, boolean reverse) {
+        Set<String> result = new LinkedHashSet<>();
+        if (!reverse && mapping.hasCondition()) {
+            for (String accessor : ExpressionUtils.extractSourceAccessors(mapping.getCondition())) {
+                if (hoistedAccessors.containsKey(accessor)) {
+                    result.add(accessor);
+                }
+            }
+        }
+        if (!reverse && mapping.isPathMapping()) {
+            List<String> path = mapping.getSourcePath();
+            for (int depth = 1; depth < path.size(); depth++) {
+                String prefix = String.join(".", path.subList(0, depth));
+                if (pathLocals.containsKey(prefix)) {
+                    result.add("." + prefix);
+                }
+            }
+            return result;
+        }
+        if (reverse || !isExpressionMapping(mapping)) {
+            return result;
+        }
+        for (String accessor : ExpressionUtils.extractSourceAccessors(mapping.getExpression())) {
+            if (hoistedAccessors.containsKey(accessor)) {
+                result.add(accessor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 粗略估算代码块编译后的字节码大小。
+     *
+     * <p>按标识符（局部变量/字段访问）、方法调用与分支、常量字面量计数，
+     * 结果偏保守，只用于判断方法是否需要拆分。
+     *
+     * @param code 代码块
+     * @return 估算的字节数
+     * @since 1.3.0
+     */
+    static int estimateCodeSize(CodeBlock code) {
+        String text = code.toString();
+        int size = 0;
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\'') {
+                // 字面量：ldc / ldc_w
+                i++;
+                while (i < text.length() && text.charAt(i) != c) {
+                    i += text.charAt(i) == '\\' ? 2 : 1;
+                }
+                i++;
+                size += 3;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                // 标识符：load/store 或常量池引用
+                while (i < text.length() && Character.isJavaIdentifierPart(text.charAt(i))) {
+                    i++;
+                }
+                size += 2;
+            } else if (Character.isDigit(c)) {
+                while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                    i++;
+                }
+                size += 3;
+            } else {
+                // 方法调用、条件分支：invoke* / if* 均为 3 字节
+                if (c == '(') {
+                    size += 3;
+                } else if (c == ';' || c == '?' || c == '+' || c == '=') {
+                    size += 1;
+                }
+                i++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 生成 fromDto 方法。
+     *
+     * 该方法将目标对象拷贝回源对象（反向拷贝）。
+     * 方法签名：public static SourceType fromDto(TargetType source)
+     */
+    private MethodSpec generateFromDto() {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("fromDto")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ClassName.get(sourceType))
+                .addParameter(ClassName.get(targetType), "source");
+        
+        // 根据 ComponentModel 添加 static 修饰符
+        if (useStaticMethods()) {
+            methodBuilder.addModifiers(Modifier.STATIC);
+        }
+        
+        // 添加 null 检查
+        methodBuilder.beginControlFlow("if (source == null)")
+                .addStatement("return null")
+                .endControlFlow();
+        
+        // v1.3: 按运行时类型分派到子类型的 Copier
+        addSubtypeDispatch(methodBuilder, true);
+        
+        // 创建源对象
+        methodBuilder.addStatement("$T target = new $T()", ClassName.get(sourceType), ClassName.get(sourceType));
+        
+        // 生成反向字段拷贝代码
+        addFieldCopyCode(methodBuilder, "fromDto", true);
+        
+        // 返回源对象
+        methodBuilder.addStatement("return target");
+        
+        return methodBuilder.build();
+    }
+
+    // ========== v1.2: 函数式重载方法 ==========
+
+    /**
+     * 生成带 customizer 的 toDto 方法。
+     *
+     * @since 1.2.0
+     */
+    private MethodSpec generateToDtoWithCustomizer() {
+        TypeName targetTypeName = ClassName.get(targetType);
+        TypeName customizerType = ParameterizedTypeName.get(
+                ClassName.get(UnaryOperator.class), targetTypeName);
+        
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDto")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(targetTypeName)
+                .addParameter(ClassName.get(sourceType), "source")
+                .addParameter(customizerType, "customizer");
+        
+        if (useStaticMethods()) {
+            methodBuilder.addModifiers(Modifier.STATIC);
+        }
+        
+        methodBuilder.beginControlFlow("if (source == null)")
+                .addStatement("return null")
+                .endControlFlow();
+        
+        if (useStaticMethods()) {
+            methodBuilder.addStatement("$T result = toDto(source)", targetTypeName);
+        } else {
+            methodBuilder.addStatement("$T result = this.toDto(source)", targetTypeName);
+        }
+        
+        methodBuilder.beginControlFlow("if (customizer != null)")
+                .addStatement("result = customizer.apply(result)")
+                .endControlFlow()
+                .addStatement("return result");
+        
+        return methodBuilder.build();
+    }
+
+    /**
+     * 生成带 customizer 的 fromDto 方法。
+     *
+     * @since 1.2.0
+     */
+    private MethodSpec generateFromDtoWithCustomizer() {
+        TypeName sourceTypeName = ClassName.get(sourceType);
+        TypeName customizerType = ParameterizedTypeName.get(
+                ClassName.get(UnaryOperator.class), sourceTypeName);
+        
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("fromDto")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(sourceTypeName)
+                .addParameter(ClassName.get(targetType), "source")
+                .addParameter(customizerType, "customizer");
+        
+        if (useStaticMethods()) {
+            methodBuilder.addModifiers(Modifier.STATIC);
+        }
+        
+        methodBuilder.beginControlFlow("if (source == null)")
+                .addStatement("return null")
+                .endControlFlow();
+        
+        if (useStaticMethods()) {
+            methodBuilder.addStatement("$T result = fromDto(source)", sourceTypeName);
+        } else {
+            methodBuilder.addStatement("$T result = this.fromDto(source)", sourceTypeName);
+        }
+        
+        methodBuilder.beginControlFlow("if (customizer != null)")
+                .addStatement("result = customizer.apply(result)")
+                .endControlFlow()
+                .addStatement("return result");
+        
+        return methodBuilder.build();
+    }
+
+    /**
+     * 生成带 customizer 的 toDtoList 方法。
+     *
+     * @since 1.2.0
+     */
+    private MethodSpec generateToDtoListWithCustomizer() {
+        TypeName sourceTypeName = ClassName.get(sourceType);
         TypeName targetTypeName = ClassName.get(targetType);
         TypeName listOfSource = ParameterizedTypeName.get(ClassName.get(java.util.List.class), sourceTypeName);
         TypeName listOfTarget = ParameterizedTypeName.get(ClassName.get(java.util.List.class), targetTypeName);
@@ -574,8 +2120,8 @@ public final class CodeGenerator {
                 .addStatement("return null")
                 .endControlFlow();
         
-        methodBuilder.addStatement("$T result = new $T<>(sources.size())",
-                setOfTarget, ClassName.get(java.util.LinkedHashSet.class));
+        methodBuilder.addStatement("$T result = new $T<>($L)",
+                setOfTarget, ClassName.get(java.util.LinkedHashSet.class), buildInitialCapacity("sources.size()"));
         
         methodBuilder.beginControlFlow("for ($T source : sources)", sourceTypeName);
         if (useStaticMethods()) {
@@ -660,8 +2206,8 @@ public final class CodeGenerator {
                 .addStatement("return null")
                 .endControlFlow();
         
-        methodBuilder.addStatement("$T result = new $T<>(sources.size())",
-                setOfSource, ClassName.get(java.util.LinkedHashSet.class));
+        methodBuilder.addStatement("$T result = new $T<>($L)",
+                setOfSource, ClassName.get(java.util.LinkedHashSet.class), buildInitialCapacity("sources.size()"));
         
         methodBuilder.beginControlFlow("for ($T source : sources)", targetTypeName);
         if (useStaticMethods()) {
@@ -754,10 +2300,10 @@ public final class CodeGenerator {
                 .addStatement("return null")
                 .endControlFlow();
 
-        // 创建结果集合：Set<TargetType> result = new LinkedHashSet<>(sources.size());
-        methodBuilder.addStatement("$T result = new $T<>(sources.size())",
+        // 创建结果集合：按负载因子预分配，避免扩容
+        methodBuilder.addStatement("$T result = new $T<>($L)",
                 setOfTarget,
-                ClassName.get(java.util.LinkedHashSet.class));
+                ClassName.get(java.util.LinkedHashSet.class), buildInitialCapacity("sources.size()"));
 
         // 遍历源集合并拷贝
         methodBuilder.beginControlFlow("for ($T source : sources)", sourceTypeName);
@@ -947,10 +2493,10 @@ public final class CodeGenerator {
                 .addStatement("return null")
                 .endControlFlow();
 
-        // 创建结果集合：Set<SourceType> result = new LinkedHashSet<>(sources.size());
-        methodBuilder.addStatement("$T result = new $T<>(sources.size())",
+        // 创建结果集合：按负载因子预分配，避免扩容
+        methodBuilder.addStatement("$T result = new $T<>($L)",
                 setOfSource,
-                ClassName.get(java.util.LinkedHashSet.class));
+                ClassName.get(java.util.LinkedHashSet.class), buildInitialCapacity("sources.size()"));
 
         // 遍历源集合并反向拷贝
         methodBuilder.beginControlFlow("for ($T source : sources)", targetTypeName);
@@ -1100,7 +2646,7 @@ public final class CodeGenerator {
         if (str == null || str.isEmpty()) {
             return str;
         }
-        return str.substring(0, 1).toUpperCase() + str.substring(1);
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
     }
 
     /**
@@ -1132,22 +2678,11 @@ public final class CodeGenerator {
         return TypeName.get(typeMirror);
     }
 
-    private TypeMirror getTypeArgument(TypeMirror typeMirror, int index) {
-        if (!(typeMirror instanceof javax.lang.model.type.DeclaredType)) {
-            return null;
-        }
-        java.util.List<? extends TypeMirror> args = ((javax.lang.model.type.DeclaredType) typeMirror).getTypeArguments();
-        if (args == null || args.size() <= index) {
-            return null;
-        }
-        return args.get(index);
-    }
-
     /**
-     * 计算集合或 Map 的初始容量，减少扩容带来的开销。
+     * 计算哈希集合或 Map 恰好容纳指定数量元素且不触发扩容的初始容量。
      */
     private String buildInitialCapacity(String sizeExpression) {
-        return "Math.max((int)(" + sizeExpression + " / 0.75f) + 1, 16)";
+        return "(int) (" + sizeExpression + " / 0.75f) + 1";
     }
 
     /**
@@ -1196,11 +2731,44 @@ public final class CodeGenerator {
     /**
      * 生成字段拷贝代码，支持集合深拷贝的扩展。
      *
+     * <p>v1.3: 带拷贝条件的字段在 toDto 方向整体包裹在 {@code if (条件)} 中，
+     * 条件不成立时转换与深拷贝都不会执行。
+     *
      * @param methodBuilder 方法构建器
      * @param mapping       字段映射
      * @param reverse       是否反向拷贝（fromDto）
      */
     private void generateFieldCopyCode(MethodSpec.Builder methodBuilder, FieldMapping mapping, boolean reverse) {
+        if (reverse && merging && mapping.getMergeKey() != null) {
+            generateMergeFieldCopyCode(methodBuilder, mapping);
+            return;
+        }
+        if (reverse || !mapping.hasCondition()) {
+            generateUnconditionalFieldCopyCode(methodBuilder, mapping, reverse);
+            return;
+        }
+        MethodSpec.Builder guarded = MethodSpec.methodBuilder("guarded");
+        generateUnconditionalFieldCopyCode(guarded, mapping, false);
+        CodeBlock code = guarded.build().code;
+        if (code.isEmpty()) {
+            return;
+        }
+        methodBuilder.beginControlFlow("if ($L)",
+                ExpressionUtils.replaceSourceAccessors(mapping.getCondition(), hoistedAccessors));
+        methodBuilder.addCode(code);
+        methodBuilder.endControlFlow();
+    }
+
+    /**
+     * 生成不考虑拷贝条件的字段拷贝代码。
+     *
+     * @param methodBuilder 方法构建器
+     * @param mapping       字段映射
+     * @param reverse       是否反向拷贝（fromDto）
+     * @since 1.3.0
+     */
+    private void generateUnconditionalFieldCopyCode(MethodSpec.Builder methodBuilder, FieldMapping mapping,
+                                                    boolean reverse) {
         // v1.2: 根据映射类型生成不同的代码
         switch (mapping.getMappingType()) {
             case EXPRESSION:
@@ -1222,6 +2790,12 @@ public final class CodeGenerator {
         }
         
         // 原有的简单映射逻辑
+        if (mapping.isPathMapping()) {
+            // v1.3: 点号路径（扁平化/反扁平化）
+            generatePathFieldCopyCode(methodBuilder, mapping, reverse);
+            return;
+        }
+
         String sourceFieldName = reverse ? mapping.getTargetFieldName() : mapping.getSourceFieldName();
         String targetFieldName = reverse ? mapping.getSourceFieldName() : mapping.getTargetFieldName();
 
@@ -1230,45 +2804,173 @@ public final class CodeGenerator {
             return;
         }
 
-        String getterName = "get" + capitalize(sourceFieldName);
-        String setterName = "set" + capitalize(targetFieldName);
+        generateSimpleFieldCopyCode(methodBuilder, mapping, reverse,
+                "source.get" + capitalize(sourceFieldName) + "()", "target", "set" + capitalize(targetFieldName));
+    }
 
+    /**
+     * 生成简单映射的赋值语句：{@code targetReceiver.setter(转换后的 sourceValue)}。
+     *
+     * @param sourceValue    源值表达式（只会被求值一次）
+     * @param targetReceiver 调用 setter 的对象
+     * @param setterName     setter 方法名
+     * @since 1.3.0
+     */
+    private void generateSimpleFieldCopyCode(MethodSpec.Builder methodBuilder, FieldMapping mapping, boolean reverse,
+                                             String sourceValue, String targetReceiver, String setterName) {
         javax.lang.model.type.TypeMirror sourceFieldType = reverse ? mapping.getTargetType() : mapping.getSourceType();
         javax.lang.model.type.TypeMirror targetFieldType = reverse ? mapping.getSourceType() : mapping.getTargetType();
 
         if (hasUnsupportedGenerics(sourceFieldType) || hasUnsupportedGenerics(targetFieldType)) {
             warnUnsupportedGenerics(mapping, sourceFieldType, targetFieldType);
-            methodBuilder.addStatement("target.$L(source.$L())", setterName, getterName);
+            methodBuilder.addStatement("$L.$L($L)", targetReceiver, setterName, sourceValue);
+            return;
+        }
+
+        if (mapping.getViaType() != null) {
+            // 合成的 via 映射：依次按两段各自的规则转换
+            TypeMirror implementationType = reverse ? null : mapping.getImplementationType();
+            boolean compact = !reverse && implementationType == null && isCompactOutput(mapping);
+            methodBuilder.addStatement("$L.$L($L)", targetReceiver, setterName,
+                    convertViaValue(CodeBlock.of("$L", sourceValue), sourceFieldType, mapping.getViaType(),
+                            targetFieldType, reverse, implementationType, compact));
+            return;
+        }
+
+        if (mapping.getCopyStrategy() == CopyStrategy.SHARE) {
+            methodBuilder.addStatement("$L.$L($L)", targetReceiver, setterName, sourceValue);
+            return;
+        }
+
+        // 集合与数组：委托给共享的拷贝辅助方法
+        String kind = collectionKind(sourceFieldType, targetFieldType);
+        if (kind != null) {
+            // 实现类覆盖与紧凑输出只作用于 toDto 方向的目标字段
+            TypeMirror implementationType = reverse ? null : mapping.getImplementationType();
+            boolean compact = !reverse && implementationType == null && isCompactOutput(mapping);
+            if (mapping.getCopyStrategy() == CopyStrategy.SHARE_IF_IMMUTABLE) {
+                // 源集合为已知不可变实现时直接共享，否则走深拷贝
+                methodBuilder.addStatement("$L.$L($L($L))", targetReceiver, setterName,
+                        collectionCopyHelper(kind, sourceFieldType, targetFieldType, mapping.getTargetType(),
+                                reverse, null, compact && isCompactCandidate(kind, targetFieldType), true),
+                        sourceValue);
+                return;
+            }
+            methodBuilder.addStatement("$L.$L($L)", targetReceiver, setterName, convertValue(CodeBlock.of("$L", sourceValue),
+                    sourceFieldType, targetFieldType, mapping.getTargetType(), reverse, implementationType, compact));
+            return;
+        }
+
+        // 嵌套对象：调用对应的 Copier 或生成的拷贝辅助方法（均为 null 安全）
+        if (isNestedBeanPair(sourceFieldType, targetFieldType, reverse)) {
+            methodBuilder.addStatement("$L.$L($L)", targetReceiver, setterName,
+                    nestedBeanCopy(CodeBlock.of("$L", sourceValue), sourceFieldType, targetFieldType));
+            return;
+        }
+
+        if (needsTypeConversion(sourceFieldType, targetFieldType)) {
+            String conversionCode = generateConversionCode(sourceFieldType, targetFieldType, sourceValue);
+            methodBuilder.addStatement("$L.$L($L)", targetReceiver, setterName, conversionCode);
             return;
         }
 
-        if (TypeUtils.isList(sourceFieldType) && TypeUtils.isList(targetFieldType)) {
-            generateListDeepCopyCode(methodBuilder, getterName, setterName, sourceFieldType, targetFieldType, mapping, reverse);
+        methodBuilder.addStatement("$L.$L($L)", targetReceiver, setterName, sourceValue);
+    }
+
+    /**
+     * 生成点号路径映射的拷贝代码。
+     *
+     * <p>toDto 方向：路径前缀读取到判空的局部变量中（方法级共享，见 {@link #addHoistedAccessorLocals}），
+     * 任一前缀为 null 时不设置目标字段。fromDto 方向：按路径取出或创建中间对象后设置末端字段，
+     * 引用类型的 DTO 值为 null 时不创建中间对象。
+     *
+     * @since 1.3.0
+     */
+    private void generatePathFieldCopyCode(MethodSpec.Builder methodBuilder, FieldMapping mapping, boolean reverse) {
+        List<String> path = mapping.getSourcePath();
+        List<TypeMirror> types = mapping.getSourcePathTypes();
+        String leaf = capitalize(path.get(path.size() - 1));
+        String property = capitalize(mapping.getTargetFieldName());
+
+        if (!reverse) {
+            String receiver = null;
+            for (int depth = 1; depth < path.size(); depth++) {
+                String key = String.join(".", path.subList(0, depth));
+                String local = pathLocals.get(key);
+                if (local == null) {
+                    // 当前方法没有共享的路径局部变量（如视图的延迟加载方法），就地读取
+                    local = pathLocalName(path.subList(0, depth));
+                    addPathLocal(methodBuilder, local, types.get(depth - 1), receiver, path.get(depth - 1));
+                }
+                receiver = local;
+            }
+            methodBuilder.beginControlFlow("if ($L != null)", receiver);
+            generateSimpleFieldCopyCode(methodBuilder, mapping, false,
+                    receiver + ".get" + leaf + "()", "target", "set" + property);
+            methodBuilder.endControlFlow();
             return;
         }
-
-        if (TypeUtils.isSet(sourceFieldType) && TypeUtils.isSet(targetFieldType)) {
-            generateSetDeepCopyCode(methodBuilder, getterName, setterName, sourceFieldType, targetFieldType, mapping, reverse);
-            return;
+
+        String value = "source.get" + property + "()";
+        if (mapping.getTargetType().getKind().isPrimitive()) {
+            methodBuilder.addCode("{\n$>");
+        } else {
+            methodBuilder.beginControlFlow("if ($L != null)", value);
+        }
+        String receiver = "target";
+        int openBlocks = 0;
+        for (int depth = 1; depth < path.size(); depth++) {
+            String local = pathLocalName(path.subList(0, depth));
+            TypeMirror type = types.get(depth - 1);
+            String segment = capitalize(path.get(depth - 1));
+            methodBuilder.addStatement("$T $L = $L.get$L()", TypeName.get(type), local, receiver, segment);
+            if (TypeUtils.isInstantiableBean(type)) {
+                methodBuilder.beginControlFlow("if ($L == null)", local)
+                        .addStatement("$L = new $T()", local, TypeName.get(type))
+                        .addStatement("$L.set$L($L)", receiver, segment, local)
+                        .endControlFlow();
+            } else {
+                // 无法创建的中间类型：只写入已存在的对象
+                methodBuilder.beginControlFlow("if ($L != null)", local);
+                openBlocks++;
+            }
+            receiver = local;
+        }
+        generateSimpleFieldCopyCode(methodBuilder, mapping, true, value, receiver, "set" + leaf);
+        for (int i = 0; i < openBlocks; i++) {
+            methodBuilder.endControlFlow();
         }
-
-        if (TypeUtils.isArrayType(sourceFieldType) && TypeUtils.isArrayType(targetFieldType)) {
-            generateArrayDeepCopyCode(methodBuilder, getterName, setterName, sourceFieldType, targetFieldType, mapping, reverse);
-            return;
+        if (mapping.getTargetType().getKind().isPrimitive()) {
+            methodBuilder.addCode("$<}\n");
+        } else {
+            methodBuilder.endControlFlow();
         }
+    }
 
-        if (TypeUtils.isMap(sourceFieldType) && TypeUtils.isMap(targetFieldType)) {
-            generateMapDeepCopyCode(methodBuilder, getterName, setterName, sourceFieldType, targetFieldType, mapping, reverse);
-            return;
+    /**
+     * 路径前缀的局部变量名，如 {@code customer.address} -> {@code pathCustomerAddress}。
+     */
+    private String pathLocalName(List<String> prefix) {
+        StringBuilder name = new StringBuilder("path");
+        for (String segment : prefix) {
+            name.append(capitalize(segment));
         }
+        return name.toString();
+    }
 
-        if (needsTypeConversion(sourceFieldType, targetFieldType)) {
-            String conversionCode = generateConversionCode(sourceFieldType, targetFieldType, "source." + getterName + "()");
-            methodBuilder.addStatement("target.$L($L)", setterName, conversionCode);
-            return;
+    /**
+     * 声明一个路径前缀局部变量，父对象为 null 时取 null。
+     *
+     * @param parent 父前缀的局部变量名，为 null 时从 {@code source} 读取
+     */
+    private void addPathLocal(MethodSpec.Builder methodBuilder, String local, TypeMirror type, String parent,
+                              String segment) {
+        if (parent == null) {
+            methodBuilder.addStatement("$T $L = source.get$L()", TypeName.get(type), local, capitalize(segment));
+        } else {
+            methodBuilder.addStatement("$T $L = $L != null ? $L.get$L() : null", TypeName.get(type), local,
+                    parent, parent, capitalize(segment));
         }
-
-        methodBuilder.addStatement("target.$L(source.$L())", setterName, getterName);
     }
 
     /**
@@ -1298,8 +3000,9 @@ public final class CodeGenerator {
             return;
         }
         
-        // 生成表达式代码
-        methodBuilder.addStatement("target.$L($L)", setterName, expression);
+        // 生成表达式代码（公共访问器已提升为局部变量）
+        methodBuilder.addStatement("target.$L($L)", setterName,
+                ExpressionUtils.replaceSourceAccessors(expression, hoistedAccessors));
     }
 
     /**
@@ -1320,15 +3023,50 @@ public final class CodeGenerator {
         String setterName = "set" + capitalize(targetFieldName);
         String converterFieldName = getConverterFieldName(mapping.getConverterClassName());
         String format = mapping.getFormat() != null ? mapping.getFormat() : "";
-        
+        TypeMirror assignedType = reverse ? mapping.getSourceType() : mapping.getTargetType();
+
+        // v1.3: JsonConverter 反向转换（JSON 字符串 -> 对象）时以非泛型字段类型作为反序列化目标
+        if (reverse && format.isEmpty() && JSON_CONVERTER_CLASS.equals(mapping.getConverterClassName())
+                && assignedType.getKind() == TypeKind.DECLARED && !TypeUtils.isParameterizedType(assignedType)
+                && !TypeUtils.isStringType(assignedType)) {
+            TypeElement assignedElement = (TypeElement) ((DeclaredType) assignedType).asElement();
+            format = processingEnv.getElementUtils().getBinaryName(assignedElement).toString();
+        }
+
         // 生成转换器调用代码
-        if (useStaticMethods()) {
-            methodBuilder.addStatement("target.$L($L.convert(source.$L(), $S))", 
-                    setterName, converterFieldName, getterName, format);
-        } else {
-            methodBuilder.addStatement("target.$L(this.$L.convert(source.$L(), $S))", 
-                    setterName, converterFieldName, getterName, format);
+        CodeBlock value = CodeBlock.of(useStaticMethods() ? "$L.convert(source.$L(), $S)"
+                : "this.$L.convert(source.$L(), $S)", converterFieldName, getterName, format);
+        if (needsConverterCast(mapping.getConverterClassName(), assignedType)) {
+            value = CodeBlock.of("($T) $L", TypeName.get(assignedType).box(), value);
+        }
+        methodBuilder.addStatement("target.$L($L)", setterName, value);
+    }
+
+    /**
+     * 转换器声明的输出类型（如 JsonConverter 的 Object）不能直接赋给字段时需要强制转换。
+     * 泛型字段类型不做强制转换，避免生成未检查的转换。
+     *
+     * @since 1.3.0
+     */
+    private boolean needsConverterCast(String converterClassName, TypeMirror assignedType) {
+        if (TypeUtils.isParameterizedType(assignedType)) {
+            return false;
+        }
+        TypeElement converter = processingEnv.getElementUtils().getTypeElement(converterClassName);
+        if (converter == null) {
+            return true;
         }
+        Types types = processingEnv.getTypeUtils();
+        for (TypeMirror supertype : types.directSupertypes(converter.asType())) {
+            if (supertype.getKind() != TypeKind.DECLARED
+                    || !TYPE_CONVERTER_CLASS.equals(((TypeElement) ((DeclaredType) supertype).asElement())
+                    .getQualifiedName().toString())) {
+                continue;
+            }
+            List<? extends TypeMirror> arguments = ((DeclaredType) supertype).getTypeArguments();
+            return arguments.size() != 2 || !types.isAssignable(arguments.get(1), assignedType);
+        }
+        return true;
     }
 
     /**
@@ -1386,530 +3124,743 @@ public final class CodeGenerator {
     }
 
     /**
-     * 生成 List 字段的深拷贝代码。
-     *
-     * @param methodBuilder   方法构建器
-     * @param getterName      源字段 getter 方法名
-     * @param setterName      目标字段 setter 方法名
-     * @param sourceFieldType 源字段类型
-     * @param targetFieldType 目标字段类型
-     * @param mapping         字段映射
-     * @param reverse         是否为反向拷贝
-     */
-    private void generateListDeepCopyCode(MethodSpec.Builder methodBuilder,
-                                          String getterName,
-                                          String setterName,
-                                          javax.lang.model.type.TypeMirror sourceFieldType,
-                                          javax.lang.model.type.TypeMirror targetFieldType,
-                                          FieldMapping mapping,
-                                          boolean reverse) {
-        java.util.List<javax.lang.model.type.TypeMirror> sourceArgs = TypeUtils.extractTypeArguments(sourceFieldType);
-        java.util.List<javax.lang.model.type.TypeMirror> targetArgs = TypeUtils.extractTypeArguments(targetFieldType);
-        java.util.List<javax.lang.model.type.TypeMirror> dtoArgs = TypeUtils.extractTypeArguments(mapping.getTargetType());
-
-        javax.lang.model.type.TypeMirror sourceElementType = sourceArgs.isEmpty() ? null : sourceArgs.get(0);
-        javax.lang.model.type.TypeMirror targetElementType = targetArgs.isEmpty() ? null : targetArgs.get(0);
-        javax.lang.model.type.TypeMirror dtoElementType = dtoArgs.isEmpty() ? null : dtoArgs.get(0);
-
-        // List 循环元素类型：优先使用源元素类型，其次目标元素类型，最后退回 Object
-        TypeName loopElementType = sourceElementType != null
-                ? safeTypeName(sourceElementType)
-                : (targetElementType != null ? safeTypeName(targetElementType) : TypeName.get(Object.class));
-
-        // 目标 List 使用具体元素类型声明，避免 extends 通配符导致 add 受限
-        TypeName targetListType = targetElementType != null
-                ? ParameterizedTypeName.get(ClassName.get(java.util.List.class), safeTypeName(targetElementType))
-                : TypeName.get(targetFieldType);
-        TypeName targetListImplType = targetElementType != null
-                ? ParameterizedTypeName.get(ClassName.get(java.util.ArrayList.class), safeTypeName(targetElementType))
-                : TypeName.get(targetFieldType);
-
-        methodBuilder.beginControlFlow("if (source.$L() != null)", getterName)
-                .addStatement("$T sourceList = source.$L()", TypeName.get(sourceFieldType), getterName)
-                .addStatement("$T targetList = new $T(sourceList.size())", targetListType, targetListImplType)
-                .beginControlFlow("for ($T item : sourceList)", loopElementType);
-
-        // 一层元素：基本类型 / 对象 / DTO 拷贝
-        if (sourceElementType != null && TypeUtils.needsDeepCopy(sourceElementType) && dtoElementType != null) {
-            ClassName copierClass = ClassName.bestGuess(dtoElementType.toString() + "Copier");
-            String methodName = reverse ? "fromDto" : "toDto";
-            // 集合元素为对象类型时，需要对 null 元素安全处理，避免 NPE
-            methodBuilder.beginControlFlow("if (item != null)")
-                    .addStatement("targetList.add($T.$L(item))", copierClass, methodName)
-                    .nextControlFlow("else")
-                    .addStatement("targetList.add(null)")
-                    .endControlFlow();
-        } else if (targetElementType != null && TypeUtils.needsDeepCopy(targetElementType) && dtoElementType != null) {
-            ClassName copierClass = ClassName.bestGuess(dtoElementType.toString() + "Copier");
-            String methodName = reverse ? "fromDto" : "toDto";
-            methodBuilder.beginControlFlow("if (item != null)")
-                    .addStatement("targetList.add($T.$L(item))", copierClass, methodName)
-                    .nextControlFlow("else")
-                    .addStatement("targetList.add(null)")
-                    .endControlFlow();
-        }
-        // 嵌套 List：例如 List<List<User>> / List<Map<K, V>>
-        else if (sourceElementType != null && TypeUtils.isList(sourceElementType)) {
-            // List<List<...>> 或 List<Map<...>>，此处我们在生成代码时使用强类型 List
-            TypeName nestedSourceListType = safeTypeName(sourceElementType);
-            TypeName nestedTargetListType = targetElementType != null ? safeTypeName(targetElementType) : nestedSourceListType;
-
-            methodBuilder.beginControlFlow("if (item != null)")
-                    .addStatement("$T nestedSource = item", nestedSourceListType)
-                    .addStatement("$T nestedTarget = new java.util.ArrayList(nestedSource.size())", nestedTargetListType);
-
-            java.util.List<javax.lang.model.type.TypeMirror> nestedSourceArgs = TypeUtils.extractTypeArguments(sourceElementType);
-            java.util.List<javax.lang.model.type.TypeMirror> nestedTargetArgs = targetElementType != null
-                    ? TypeUtils.extractTypeArguments(targetElementType) : java.util.Collections.emptyList();
-            java.util.List<javax.lang.model.type.TypeMirror> nestedDtoArgs = dtoElementType != null
-                    ? TypeUtils.extractTypeArguments(dtoElementType) : java.util.Collections.emptyList();
-
-            javax.lang.model.type.TypeMirror nestedSourceElementType = nestedSourceArgs.isEmpty() ? null : nestedSourceArgs.get(0);
-            javax.lang.model.type.TypeMirror nestedTargetElementType = nestedTargetArgs.isEmpty() ? null : nestedTargetArgs.get(0);
-            javax.lang.model.type.TypeMirror nestedDtoElementType = nestedDtoArgs.isEmpty() ? null : nestedDtoArgs.get(0);
-
-            // 计算内部循环元素类型（尽量用具体泛型，而不是 Object）
-            javax.lang.model.type.TypeMirror loopNestedMirror =
-                    nestedSourceElementType != null ? nestedSourceElementType :
-                            (nestedTargetElementType != null ? nestedTargetElementType : null);
-            TypeName loopNestedType = loopNestedMirror != null
-                    ? safeTypeName(loopNestedMirror)
-                    : TypeName.get(Object.class);
-
-            methodBuilder.beginControlFlow("for ($T nestedItem : nestedSource)", loopNestedType);
-
-            if (nestedSourceElementType != null && TypeUtils.needsDeepCopy(nestedSourceElementType) && nestedDtoElementType != null) {
-                ClassName copierClass = ClassName.bestGuess(nestedDtoElementType.toString() + "Copier");
-                String methodName = reverse ? "fromDto" : "toDto";
-                methodBuilder.addStatement("nestedTarget.add($T.$L(nestedItem))", copierClass, methodName);
-            } else if (nestedTargetElementType != null && TypeUtils.needsDeepCopy(nestedTargetElementType) && nestedDtoElementType != null) {
-                ClassName copierClass = ClassName.bestGuess(nestedDtoElementType.toString() + "Copier");
-                String methodName = reverse ? "fromDto" : "toDto";
-                methodBuilder.addStatement("nestedTarget.add($T.$L(nestedItem))", copierClass, methodName);
-            } else {
-                methodBuilder.addStatement("nestedTarget.add(nestedItem)");
+     * 生成集合/数组值的拷贝表达式。
+     *
+     * <p>List、Set、Map 与数组委托给按（源类型 → 目标类型）去重的私有静态辅助方法，
+     * 辅助方法内部对元素递归调用本方法，因此任意嵌套层级都能深拷贝；
+     * 需要深拷贝的对象元素交给对应 DTO 的 Copier；其余值原样返回。
+     *
+     * @param value      源值表达式（只会被求值一次）
+     * @param sourceType 源值类型
+     * @param targetType 目标值类型
+     * @param dtoType    DTO 一侧的值类型，用于定位 Copier
+     * @param reverse    是否反向拷贝（fromDto）
+     * @return 目标值表达式
+     * @since 1.3.0
+     */
+    private CodeBlock convertValue(CodeBlock value, TypeMirror sourceType, TypeMirror targetType,
+                                   TypeMirror dtoType, boolean reverse) {
+        return convertValue(value, sourceType, targetType, dtoType, reverse, null, false);
+    }
+
+    /**
+     * 生成集合/数组值的拷贝表达式，可指定目标集合的实现类与输出策略。
+     *
+     * @param implementationType 目标集合实现类，为 null 时按目标类型自动选择
+     * @param compact            是否输出不可变的紧凑集合（对嵌套集合同样生效）
+     * @since 1.3.0
+     */
+    private CodeBlock convertValue(CodeBlock value, TypeMirror sourceType, TypeMirror targetType,
+                                   TypeMirror dtoType, boolean reverse, TypeMirror implementationType,
+                                   boolean compact) {
+        if (sourceType == null || targetType == null) {
+            return value;
+        }
+        String kind = collectionKind(sourceType, targetType);
+        if (kind != null) {
+            if (hasUnsupportedGenerics(sourceType) || hasUnsupportedGenerics(targetType)) {
+                return value;
             }
+            return CodeBlock.of("$L($L)",
+                    collectionCopyHelper(kind, sourceType, targetType, dtoType, reverse, implementationType,
+                            compact && isCompactCandidate(kind, targetType), false), value);
+        }
+        if (isNestedBeanPair(sourceType, targetType, reverse)) {
+            return nestedBeanCopy(value, sourceType, targetType);
+        }
+        if (dtoType != null && dtoType.getKind() == TypeKind.DECLARED
+                && (TypeUtils.needsDeepCopy(sourceType) || TypeUtils.needsDeepCopy(targetType))
+                && hasStaticCopier((TypeElement) processingEnv.getTypeUtils().asElement(dtoType))) {
+            // Copier 的 toDto/fromDto 自带 null 检查；同类型且没有 Copier 的元素（如同类型拷贝）按引用传递
+            return CodeBlock.of("$T.$L($L)", copierClassName(dtoType), reverse ? "fromDto" : "toDto", value);
+        }
+        return value;
+    }
 
-            methodBuilder.endControlFlow()
-                    .addStatement("targetList.add(nestedTarget)")
-                    .endControlFlow()
-                    .beginControlFlow("else")
-                    .addStatement("targetList.add(null)")
-                    .endControlFlow();
+    /**
+     * 生成经过中间类型的两段转换表达式，用于合成的 via 映射。
+     *
+     * <p>两段依次按各自的 DTO 类型转换（如 {@code ItemResponseCopier.toDto(ItemModelCopier.toDto(x))}），
+     * 中间类型上的字段映射规则因此得以保留；基本类型与包装类型之间按单段拷贝的规则拆装箱
+     * （如 {@code Integer -> int -> Integer} 中 null 变为 0）；三者为同种 List/Set/Queue 时生成逐元素两段转换的辅助方法，
+     * 不创建中间集合。
+     *
+     * @param value      源值表达式（只会被求值一次，包装类型拆箱时除外）
+     * @param sourceType 源值类型
+     * @param viaType    中间值类型
+     * @param targetType 目标值类型
+     * @param reverse    是否反向拷贝（fromDto）
+     * @return 目标值表达式
+     * @since 1.3.0
+     */
+    private CodeBlock convertViaValue(CodeBlock value, TypeMirror sourceType, TypeMirror viaType,
+                                      TypeMirror targetType, boolean reverse, TypeMirror implementationType,
+                                      boolean compact) {
+        String kind = collectionKind(sourceType, viaType);
+        if (kind != null && kind.equals(collectionKind(viaType, targetType))
+                && ("List".equals(kind) || "Set".equals(kind) || "Queue".equals(kind))
+                && !hasUnsupportedGenerics(sourceType) && !hasUnsupportedGenerics(viaType)
+                && !hasUnsupportedGenerics(targetType)) {
+            TypeMirror sourceElementType = firstTypeArgument(sourceType);
+            TypeMirror viaElementType = firstTypeArgument(viaType);
+            TypeMirror targetElementType = firstTypeArgument(targetType);
+            boolean compactOutput = compact && isCompactCandidate(kind, targetType);
+            TypeName returnType = collectionTargetType(kind, targetType);
+            CodeBlock body = buildCollectionCopyBody(kind, returnType, sourceElementType, targetType,
+                    implementationType, compactOutput, element -> convertViaValue(element, sourceElementType,
+                            viaElementType, targetElementType, reverse, null, compactOutput));
+            String helperName = addCopyHelper("copy" + kind + "Via" + (compactOutput ? "Compact" : "")
+                            + "_" + mangleElementTypes(sourceType) + "_" + mangleElementTypes(targetType),
+                    TypeName.get(sourceType), returnType, body);
+            return CodeBlock.of("$L($L)", helperName, value);
+        }
+        CodeBlock viaValue = convertValue(convertBoxing(value, sourceType, viaType), sourceType, viaType,
+                reverse ? sourceType : viaType, reverse);
+        return convertValue(convertBoxing(viaValue, viaType, targetType), viaType, targetType,
+                reverse ? viaType : targetType, reverse, implementationType, compact);
+    }
+
+    /**
+     * 生成包装类型拆箱为基本类型的表达式，null 时取基本类型的默认值；其余情况原样返回。
+     *
+     * @since 1.3.0
+     */
+    private CodeBlock convertBoxing(CodeBlock value, TypeMirror sourceType, TypeMirror targetType) {
+        if (!TypeUtils.isWrapper(sourceType) || !TypeUtils.isPrimitive(targetType)) {
+            // 装箱由编译器完成
+            return value;
         }
-        // 嵌套 Map：例如 List<Map<K, V>>
-        else if (sourceElementType != null && TypeUtils.isMap(sourceElementType)) {
-            TypeName nestedSourceMapType = safeTypeName(sourceElementType);
-            TypeName nestedTargetMapType = targetElementType != null ? safeTypeName(targetElementType) : nestedSourceMapType;
-
-            javax.lang.model.type.TypeMirror nestedSourceKeyType = TypeUtils.extractMapKeyType(sourceElementType);
-            javax.lang.model.type.TypeMirror nestedTargetKeyType = targetElementType != null
-                    ? TypeUtils.extractMapKeyType(targetElementType) : null;
-
-            javax.lang.model.type.TypeMirror nestedSourceValueType = TypeUtils.extractMapValueType(sourceElementType);
-            javax.lang.model.type.TypeMirror nestedTargetValueType = targetElementType != null
-                    ? TypeUtils.extractMapValueType(targetElementType) : null;
-            javax.lang.model.type.TypeMirror nestedDtoValueType = dtoElementType != null
-                    ? TypeUtils.extractMapValueType(dtoElementType) : null;
-            javax.lang.model.type.TypeMirror nestedDtoKeyType = dtoElementType != null
-                    ? TypeUtils.extractMapKeyType(dtoElementType) : null;
-
-            // key 的循环类型
-            javax.lang.model.type.TypeMirror nestedLoopKeyMirror =
-                    nestedSourceKeyType != null ? nestedSourceKeyType :
-                            (nestedTargetKeyType != null ? nestedTargetKeyType : null);
-            TypeName nestedKeyTypeName = nestedLoopKeyMirror != null
-                    ? safeTypeName(nestedLoopKeyMirror)
-                    : TypeName.get(Object.class);
-
-            // value 的循环类型
-            javax.lang.model.type.TypeMirror nestedLoopValueMirror =
-                    nestedSourceValueType != null ? nestedSourceValueType :
-                            (nestedTargetValueType != null ? nestedTargetValueType : null);
-            TypeName nestedValueTypeName = nestedLoopValueMirror != null
-                    ? safeTypeName(nestedLoopValueMirror)
-                    : TypeName.get(Object.class);
-
-            methodBuilder.beginControlFlow("if (item != null)")
-                    .addStatement("$T nestedSource = item", nestedSourceMapType)
-                    .addStatement("$T nestedTarget = new java.util.HashMap($L)", nestedTargetMapType,
-                            buildInitialCapacity("nestedSource.size()"))
-                    .beginControlFlow("for (java.util.Map.Entry<$T, $T> nestedEntry : nestedSource.entrySet())", nestedKeyTypeName, nestedValueTypeName)
-                    .addStatement("$T nestedKey = nestedEntry.getKey()", nestedKeyTypeName)
-                    .addStatement("$T nestedValue = nestedEntry.getValue()", nestedValueTypeName);
-            
-            // 处理嵌套 Map 中 key 的深拷贝
-            boolean needsNestedKeyDeepCopy = (nestedSourceKeyType != null && TypeUtils.needsDeepCopy(nestedSourceKeyType) && nestedDtoKeyType != null) ||
-                    (nestedTargetKeyType != null && TypeUtils.needsDeepCopy(nestedTargetKeyType) && nestedDtoKeyType != null);
-            
-            if (needsNestedKeyDeepCopy && nestedDtoKeyType != null) {
-                ClassName nestedKeyCopierClass = ClassName.bestGuess(nestedDtoKeyType.toString() + "Copier");
-                String nestedKeyMethodName = reverse ? "fromDto" : "toDto";
-                TypeName nestedTargetKeyTypeNameForCopy = nestedTargetKeyType != null ? safeTypeName(nestedTargetKeyType) : nestedKeyTypeName;
-                methodBuilder.beginControlFlow("if (nestedKey != null)")
-                        .addStatement("$T nestedCopiedKey = $T.$L(nestedKey)", nestedTargetKeyTypeNameForCopy, nestedKeyCopierClass, nestedKeyMethodName)
-                        .nextControlFlow("else")
-                        .addStatement("$T nestedCopiedKey = null", nestedTargetKeyTypeNameForCopy)
-                        .endControlFlow();
-            } else {
-                // key 不需要深拷贝，直接使用
-                methodBuilder.addStatement("$T nestedCopiedKey = nestedKey", nestedKeyTypeName);
-            }
-            
-            methodBuilder.beginControlFlow("if (nestedValue != null)");
-
-            if (nestedSourceValueType != null && TypeUtils.needsDeepCopy(nestedSourceValueType) && nestedDtoValueType != null) {
-                ClassName copierClass = ClassName.bestGuess(nestedDtoValueType.toString() + "Copier");
-                String methodName = reverse ? "fromDto" : "toDto";
-                methodBuilder.addStatement("nestedTarget.put(nestedCopiedKey, $T.$L(nestedValue))", copierClass, methodName);
-            } else if (nestedTargetValueType != null && TypeUtils.needsDeepCopy(nestedTargetValueType) && nestedDtoValueType != null) {
-                ClassName copierClass = ClassName.bestGuess(nestedDtoValueType.toString() + "Copier");
-                String methodName = reverse ? "fromDto" : "toDto";
-                methodBuilder.addStatement("nestedTarget.put(nestedCopiedKey, $T.$L(nestedValue))", copierClass, methodName);
-            } else {
-                methodBuilder.addStatement("nestedTarget.put(nestedCopiedKey, nestedValue)");
-            }
+        return CodeBlock.of("($L)", generateConversionCode(sourceType, targetType, value.toString()));
+    }
 
-            methodBuilder.endControlFlow()
-                    .beginControlFlow("else")
-                    .addStatement("nestedTarget.put(nestedCopiedKey, null)")
-                    .endControlFlow()
-                    .endControlFlow()
-                    .addStatement("targetList.add(nestedTarget)")
-                    .endControlFlow()
-                    .beginControlFlow("else")
-                    .addStatement("targetList.add(null)")
-                    .endControlFlow();
-        } else {
-            methodBuilder.addStatement("targetList.add(item)");
+    /**
+     * 生成嵌套对象的拷贝表达式。
+     *
+     * <p>一方标注了以另一方为 source 的 {@code @CopyTarget}（且使用默认组件模型）时直接调用其 Copier 的
+     * toDto/fromDto；否则在当前 Copier 中生成按同名字段拷贝的私有静态辅助方法，避免跨类调用和运行时反射。
+     *
+     * @param value      源值表达式
+     * @param sourceType 源值类型
+     * @param targetType 目标值类型
+     * @return 目标值表达式，源值为 null 时结果为 null
+     * @since 1.3.0
+     */
+    private CodeBlock nestedBeanCopy(CodeBlock value, TypeMirror sourceType, TypeMirror targetType) {
+        javax.lang.model.util.Types types = processingEnv.getTypeUtils();
+        TypeElement sourceElement = (TypeElement) types.asElement(sourceType);
+        TypeElement targetElement = (TypeElement) types.asElement(targetType);
+        if (TypeUtils.isCopyTargetOf(targetElement, sourceType) && hasStaticCopier(targetElement)) {
+            return CodeBlock.of("$T.toDto($L)", copierClassName(targetType), value);
+        }
+        if (TypeUtils.isCopyTargetOf(sourceElement, targetType) && hasStaticCopier(sourceElement)) {
+            return CodeBlock.of("$T.fromDto($L)", copierClassName(sourceType), value);
         }
+        return CodeBlock.of("$L($L)", beanCopyHelper(sourceElement, targetElement), value);
+    }
+
+    /**
+     * 判断嵌套对象能否按同名字段拷贝。反向拷贝（fromDto）时，正向能完整填充 DTO 一侧的嵌套对象
+     * 也按同名字段写回，与顶层字段的 fromDto 一样只写 DTO 中存在的属性。
+     *
+     * @since 1.3.0
+     */
+    private static boolean isNestedBeanPair(TypeMirror sourceType, TypeMirror targetType, boolean reverse) {
+        return TypeUtils.isNestedBeanMatch(sourceType, targetType)
+                || reverse && TypeUtils.isNestedBeanMatch(targetType, sourceType);
+    }
+
+    private static boolean hasStaticCopier(TypeElement element) {
+        CopyTarget annotation = element.getAnnotation(CopyTarget.class);
+        return annotation != null && annotation.componentModel() == ComponentModel.DEFAULT;
+    }
 
-        methodBuilder.endControlFlow()
-                .addStatement("target.$L(targetList)", setterName)
+    /**
+     * 生成（或复用）按同名、类型兼容字段拷贝嵌套对象的辅助方法，字段拷贝规则与顶层字段一致。
+     *
+     * @return 辅助方法名
+     * @since 1.3.0
+     */
+    private String beanCopyHelper(TypeElement sourceElement, TypeElement targetElement) {
+        String key = "Bean:" + sourceElement.getQualifiedName() + "->" + targetElement.getQualifiedName();
+        String helperName = collectionCopyHelperNames.get(key);
+        if (helperName != null) {
+            return helperName;
+        }
+        String baseName = "copyBean_" + sourceElement.getSimpleName() + "_" + targetElement.getSimpleName();
+        helperName = baseName;
+        for (int i = 2; collectionCopyHelperNames.containsValue(helperName); i++) {
+            helperName = baseName + i;
+        }
+        // 先登记名称，互相引用的嵌套类型递归时直接复用
+        collectionCopyHelperNames.put(key, helperName);
+
+        ClassName targetName = ClassName.get(targetElement);
+        MethodSpec.Builder helper = MethodSpec.methodBuilder(helperName)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(targetName)
+                .addParameter(ClassName.get(sourceElement), "source")
+                .beginControlFlow("if (source == null)")
+                .addStatement("return null")
                 .endControlFlow()
-                .beginControlFlow("else")
-                .addStatement("target.$L(null)", setterName)
-                .endControlFlow();
+                .addStatement("$T target = new $T()", targetName, targetName);
+
+        addSameNameFieldCopyCode(helper, sourceElement, targetElement);
+
+        collectionCopyHelpers.add(helper.addStatement("return target").build());
+        return helperName;
     }
 
     /**
-     * 生成 Set 字段的深拷贝代码。
-     *
-     * @param methodBuilder   方法构建器
-     * @param getterName      源字段 getter 方法名
-     * @param setterName      目标字段 setter 方法名
-     * @param sourceFieldType 源字段类型
-     * @param targetFieldType 目标字段类型
-     * @param mapping         字段映射
-     * @param reverse         是否为反向拷贝
-     */
-    private void generateSetDeepCopyCode(MethodSpec.Builder methodBuilder,
-                                         String getterName,
-                                         String setterName,
-                                         javax.lang.model.type.TypeMirror sourceFieldType,
-                                         javax.lang.model.type.TypeMirror targetFieldType,
-                                         FieldMapping mapping,
-                                         boolean reverse) {
-        java.util.List<javax.lang.model.type.TypeMirror> sourceArgs = TypeUtils.extractTypeArguments(sourceFieldType);
-        java.util.List<javax.lang.model.type.TypeMirror> targetArgs = TypeUtils.extractTypeArguments(targetFieldType);
-        java.util.List<javax.lang.model.type.TypeMirror> dtoArgs = TypeUtils.extractTypeArguments(mapping.getTargetType());
-
-        javax.lang.model.type.TypeMirror sourceElementType = sourceArgs.isEmpty() ? null : sourceArgs.get(0);
-        javax.lang.model.type.TypeMirror targetElementType = targetArgs.isEmpty() ? null : targetArgs.get(0);
-        javax.lang.model.type.TypeMirror dtoElementType = dtoArgs.isEmpty() ? null : dtoArgs.get(0);
-
-        // Set 循环元素类型：优先使用源元素类型，其次目标元素类型，最后退回 Object
-        TypeName loopElementType = sourceElementType != null
-                ? safeTypeName(sourceElementType)
-                : (targetElementType != null ? safeTypeName(targetElementType) : TypeName.get(Object.class));
-
-        methodBuilder.beginControlFlow("if (source.$L() != null)", getterName)
-                .addStatement("$T sourceSet = source.$L()", TypeName.get(sourceFieldType), getterName)
-                .addStatement("$T targetSet = new java.util.LinkedHashSet($L)", TypeName.get(targetFieldType),
-                        buildInitialCapacity("sourceSet.size()"))
-                .beginControlFlow("for ($T item : sourceSet)", loopElementType);
-
-        if (sourceElementType != null && TypeUtils.needsDeepCopy(sourceElementType) && dtoElementType != null) {
-            ClassName copierClass = ClassName.bestGuess(dtoElementType.toString() + "Copier");
-            String methodName = reverse ? "fromDto" : "toDto";
-            // Set 元素为对象类型时，对 null 元素做安全处理
-            methodBuilder.beginControlFlow("if (item != null)")
-                    .addStatement("targetSet.add($T.$L(item))", copierClass, methodName)
-                    .nextControlFlow("else")
-                    .addStatement("targetSet.add(null)")
-                    .endControlFlow();
-        } else if (targetElementType != null && TypeUtils.needsDeepCopy(targetElementType) && dtoElementType != null) {
-            ClassName copierClass = ClassName.bestGuess(dtoElementType.toString() + "Copier");
-            String methodName = reverse ? "fromDto" : "toDto";
-            methodBuilder.beginControlFlow("if (item != null)")
-                    .addStatement("targetSet.add($T.$L(item))", copierClass, methodName)
-                    .nextControlFlow("else")
-                    .addStatement("targetSet.add(null)")
-                    .endControlFlow();
-        } else if (sourceElementType != null && TypeUtils.isList(sourceElementType)) {
-            // Set<List<T>> 场景：对内部 List 做深拷贝，使用强类型声明
-            TypeName nestedSourceListType = safeTypeName(sourceElementType);
-            TypeName nestedTargetListType = targetElementType != null ? safeTypeName(targetElementType) : nestedSourceListType;
-
-            methodBuilder.beginControlFlow("if (item != null)")
-                    .addStatement("$T nestedSource = item", nestedSourceListType)
-                    .addStatement("$T nestedTarget = new java.util.ArrayList(nestedSource.size())", nestedTargetListType);
-
-            java.util.List<javax.lang.model.type.TypeMirror> nestedSourceArgs = TypeUtils.extractTypeArguments(sourceElementType);
-            java.util.List<javax.lang.model.type.TypeMirror> nestedTargetArgs = targetElementType != null
-                    ? TypeUtils.extractTypeArguments(targetElementType) : java.util.Collections.emptyList();
-            java.util.List<javax.lang.model.type.TypeMirror> nestedDtoArgs = dtoElementType != null
-                    ? TypeUtils.extractTypeArguments(dtoElementType) : java.util.Collections.emptyList();
-
-            javax.lang.model.type.TypeMirror nestedSourceElementType = nestedSourceArgs.isEmpty() ? null : nestedSourceArgs.get(0);
-            javax.lang.model.type.TypeMirror nestedTargetElementType = nestedTargetArgs.isEmpty() ? null : nestedTargetArgs.get(0);
-            javax.lang.model.type.TypeMirror nestedDtoElementType = nestedDtoArgs.isEmpty() ? null : nestedDtoArgs.get(0);
-
-            javax.lang.model.type.TypeMirror loopNestedMirror =
-                    nestedSourceElementType != null ? nestedSourceElementType :
-                            (nestedTargetElementType != null ? nestedTargetElementType : null);
-            TypeName loopNestedType = loopNestedMirror != null
-                    ? safeTypeName(loopNestedMirror)
-                    : TypeName.get(Object.class);
-
-            methodBuilder.beginControlFlow("for ($T nestedItem : nestedSource)", loopNestedType);
-
-            if (nestedSourceElementType != null && TypeUtils.needsDeepCopy(nestedSourceElementType) && nestedDtoElementType != null) {
-                ClassName copierClass = ClassName.bestGuess(nestedDtoElementType.toString() + "Copier");
-                String methodName = reverse ? "fromDto" : "toDto";
-                methodBuilder.addStatement("nestedTarget.add($T.$L(nestedItem))", copierClass, methodName);
-            } else if (nestedTargetElementType != null && TypeUtils.needsDeepCopy(nestedTargetElementType) && nestedDtoElementType != null) {
-                ClassName copierClass = ClassName.bestGuess(nestedDtoElementType.toString() + "Copier");
-                String methodName = reverse ? "fromDto" : "toDto";
-                methodBuilder.addStatement("nestedTarget.add($T.$L(nestedItem))", copierClass, methodName);
-            } else {
-                methodBuilder.addStatement("nestedTarget.add(nestedItem)");
+     * 获取（必要时生成）把嵌套对象的同名字段写入已有对象的私有静态辅助方法。
+     *
+     * @return 辅助方法名
+     * @since 1.3.0
+     */
+    private String beanUpdateHelper(TypeElement sourceElement, TypeElement targetElement) {
+        String key = "BeanUpdate:" + sourceElement.getQualifiedName() + "->" + targetElement.getQualifiedName();
+        String helperName = collectionCopyHelperNames.get(key);
+        if (helperName != null) {
+            return helperName;
+        }
+        String baseName = "updateBean_" + sourceElement.getSimpleName() + "_" + targetElement.getSimpleName();
+        helperName = baseName;
+        for (int i = 2; collectionCopyHelperNames.containsValue(helperName); i++) {
+            helperName = baseName + i;
+        }
+        collectionCopyHelperNames.put(key, helperName);
+
+        MethodSpec.Builder helper = MethodSpec.methodBuilder(helperName)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ClassName.get(sourceElement), "source")
+                .addParameter(ClassName.get(targetElement), "target");
+        addSameNameFieldCopyCode(helper, sourceElement, targetElement);
+        collectionCopyHelpers.add(helper.build());
+        return helperName;
+    }
+
+    /**
+     * 生成把源类型同名且类型兼容的字段拷贝到 {@code target} 的代码。
+     *
+     * @since 1.3.0
+     */
+    private void addSameNameFieldCopyCode(MethodSpec.Builder helper, TypeElement sourceElement,
+                                          TypeElement targetElement) {
+        Map<String, javax.lang.model.element.VariableElement> sourceFields = new LinkedHashMap<>();
+        for (javax.lang.model.element.VariableElement field : TypeUtils.getAllFields(sourceElement)) {
+            sourceFields.put(field.getSimpleName().toString(), field);
+        }
+        Map<String, String> savedHoistedAccessors = hoistedAccessors;
+        Map<String, String> savedPathLocals = pathLocals;
+        hoistedAccessors = new LinkedHashMap<>();
+        pathLocals = new LinkedHashMap<>();
+        for (javax.lang.model.element.VariableElement targetField : TypeUtils.getAllFields(targetElement)) {
+            javax.lang.model.element.VariableElement sourceField =
+                    sourceFields.get(targetField.getSimpleName().toString());
+            if (sourceField == null) {
+                continue;
+            }
+            TypeMirror sourceFieldType = TypeUtils.getFieldType(sourceField);
+            TypeMirror targetFieldType = TypeUtils.getFieldType(targetField);
+            if (TypeUtils.isTypeCompatible(sourceFieldType, targetFieldType)) {
+                generateFieldCopyCode(helper,
+                        new FieldMapping(sourceField, targetField, sourceFieldType, targetFieldType), false);
             }
+        }
+        hoistedAccessors = savedHoistedAccessors;
+        pathLocals = savedPathLocals;
+    }
+
+    /**
+     * 判断两侧是否为同一种集合形态。
+     *
+     * @return "List"、"Set"、"Queue"、"Map"、"Array"，包装类型集合与基本类型数组互转时返回
+     * "ListToArray"、"SetToArray"、"ArrayToList"、"ArrayToSet"，不是同种集合时返回 null
+     * @since 1.3.0
+     */
+    private String collectionKind(TypeMirror sourceType, TypeMirror targetType) {
+        if (TypeUtils.isBoxedPrimitiveArrayMatch(sourceType, targetType)) {
+            return TypeUtils.isList(sourceType) ? "ListToArray" : "SetToArray";
+        }
+        if (TypeUtils.isBoxedPrimitiveArrayMatch(targetType, sourceType)) {
+            return TypeUtils.isList(targetType) ? "ArrayToList" : "ArrayToSet";
+        }
+        if (TypeUtils.isList(sourceType) && TypeUtils.isList(targetType)) {
+            return "List";
+        }
+        if (TypeUtils.isSet(sourceType) && TypeUtils.isSet(targetType)) {
+            return "Set";
+        }
+        if (TypeUtils.isQueue(sourceType) && TypeUtils.isQueue(targetType)) {
+            return "Queue";
+        }
+        if (TypeUtils.isMap(sourceType) && TypeUtils.isMap(targetType)) {
+            return "Map";
+        }
+        if (TypeUtils.isArrayType(sourceType) && TypeUtils.isArrayType(targetType)) {
+            return "Array";
+        }
+        return null;
+    }
+
+    /**
+     * 获取（必要时生成）集合拷贝辅助方法。
+     *
+     * <p>方法体完全相同的辅助方法只生成一次，所有字段与嵌套层级共享，
+     * 方法名形如 {@code copyList_User_UserDto}。
+     *
+     * @param shareIfImmutable 源集合为已知不可变实现时直接返回源集合
+     * @return 辅助方法名
+     * @since 1.3.0
+     */
+    private String collectionCopyHelper(String kind, TypeMirror sourceType, TypeMirror targetType,
+                                        TypeMirror dtoType, boolean reverse, TypeMirror implementationType,
+                                        boolean compact, boolean shareIfImmutable) {
+        TypeName returnType;
+        CodeBlock body;
+        switch (kind) {
+            case "List":
+            case "Set":
+            case "Queue":
+                returnType = collectionTargetType(kind, targetType);
+                body = buildCollectionCopyBody(kind, returnType, sourceType, targetType, dtoType, reverse,
+                        implementationType, compact);
+                break;
+            case "Map":
+                returnType = collectionTargetType(kind, targetType);
+                body = buildMapCopyBody(returnType, sourceType, targetType, dtoType, reverse, implementationType,
+                        compact);
+                break;
+            case "ListToArray":
+            case "SetToArray":
+                returnType = TypeName.get(targetType);
+                body = buildUnboxingArrayBody(sourceType, targetType);
+                break;
+            case "ArrayToList":
+            case "ArrayToSet":
+                returnType = collectionTargetType(kind.substring("ArrayTo".length()), targetType);
+                body = buildBoxingCollectionBody(kind.substring("ArrayTo".length()), returnType, sourceType,
+                        targetType);
+                break;
+            default:
+                returnType = TypeName.get(targetType);
+                body = buildArrayCopyBody(sourceType, targetType, dtoType, reverse);
+                break;
+        }
 
-            methodBuilder.endControlFlow()
-                    .addStatement("targetSet.add(nestedTarget)")
+        if (shareIfImmutable) {
+            body = CodeBlock.builder()
+                    .beginControlFlow("if ($T.isKnownImmutable(source))", IMMUTABLES)
+                    .addStatement("return source")
                     .endControlFlow()
-                    .beginControlFlow("else")
-                    .addStatement("targetSet.add(null)")
-                    .endControlFlow();
-        } else {
-            methodBuilder.addStatement("targetSet.add(item)");
+                    .add(body)
+                    .build();
         }
 
-        methodBuilder.endControlFlow()
-                .addStatement("target.$L(targetSet)", setterName)
-                .endControlFlow()
-                .beginControlFlow("else")
-                .addStatement("target.$L(null)", setterName)
-                .endControlFlow();
+        return addCopyHelper("copy" + kind + (shareIfImmutable ? "Shared" : "") + (compact ? "Compact" : "")
+                        + "_" + mangleElementTypes(sourceType) + "_" + mangleElementTypes(targetType),
+                TypeName.get(sourceType), returnType, body);
     }
 
     /**
-     * 生成数组字段的深拷贝代码。
-     *
-     * @param methodBuilder   方法构建器
-     * @param getterName      源字段 getter 方法名
-     * @param setterName      目标字段 setter 方法名
-     * @param sourceFieldType 源字段类型
-     * @param targetFieldType 目标字段类型
-     * @param mapping         字段映射
-     * @param reverse         是否为反向拷贝
-     */
-    private void generateArrayDeepCopyCode(MethodSpec.Builder methodBuilder,
-                                           String getterName,
-                                           String setterName,
-                                           javax.lang.model.type.TypeMirror sourceFieldType,
-                                           javax.lang.model.type.TypeMirror targetFieldType,
-                                           FieldMapping mapping,
-                                           boolean reverse) {
-        methodBuilder.beginControlFlow("if (source.$L() != null)", getterName)
-                .addStatement("$T sourceArray = source.$L()", TypeName.get(sourceFieldType), getterName);
-
-        javax.lang.model.type.TypeMirror targetComponentType = TypeUtils.getArrayComponentType(targetFieldType);
-        javax.lang.model.type.TypeMirror sourceComponentType = TypeUtils.getArrayComponentType(sourceFieldType);
-        javax.lang.model.type.TypeMirror dtoComponentType = TypeUtils.getArrayComponentType(mapping.getTargetType());
-
-        methodBuilder.addStatement("$T targetArray = new $T[sourceArray.length]",
-                TypeName.get(targetFieldType),
-                TypeName.get(targetComponentType));
-
-        methodBuilder.beginControlFlow("for (int i = 0; i < sourceArray.length; i++)");
-
-        if (sourceComponentType != null && TypeUtils.needsDeepCopy(sourceComponentType) && dtoComponentType != null) {
-            ClassName copierClass = ClassName.bestGuess(dtoComponentType.toString() + "Copier");
-            String methodName = reverse ? "fromDto" : "toDto";
-            // 先取出强类型元素，再交给 Copier，避免在生成代码中出现强制类型转换，并保证 null 元素安全
-            methodBuilder.addStatement("$T element = sourceArray[i]", TypeName.get(sourceComponentType))
-                    .beginControlFlow("if (element != null)")
-                    .addStatement("targetArray[i] = $T.$L(element)", copierClass, methodName)
-                    .nextControlFlow("else")
-                    .addStatement("targetArray[i] = null")
-                    .endControlFlow();
-        } else {
-            methodBuilder.addStatement("targetArray[i] = sourceArray[i]");
+     * 登记（或复用方法体完全相同的）集合拷贝辅助方法，源为 null 时辅助方法返回 null。
+     *
+     * @param baseName 辅助方法名，重名时追加序号
+     * @return 辅助方法名
+     * @since 1.3.0
+     */
+    private String addCopyHelper(String baseName, TypeName parameterType, TypeName returnType, CodeBlock body) {
+        String key = parameterType + "->" + returnType + ":" + body;
+        String helperName = collectionCopyHelperNames.get(key);
+        if (helperName != null) {
+            return helperName;
+        }
+
+        helperName = baseName;
+        for (int i = 2; collectionCopyHelperNames.containsValue(helperName); i++) {
+            helperName = baseName + i;
         }
+        collectionCopyHelperNames.put(key, helperName);
 
-        methodBuilder.endControlFlow()
-                .addStatement("target.$L(targetArray)", setterName)
+        collectionCopyHelpers.add(MethodSpec.methodBuilder(helperName)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(returnType)
+                .addParameter(parameterType, "source")
+                .beginControlFlow("if (source == null)")
+                .addStatement("return null")
                 .endControlFlow()
-                .beginControlFlow("else")
-                .addStatement("target.$L(null)", setterName)
-                .endControlFlow();
+                .addCode(body)
+                .build());
+        return helperName;
+    }
+
+    /**
+     * 生成 List/Set/Queue 拷贝辅助方法体。
+     *
+     * <p>元素无需转换时整体 addAll（内部为数组拷贝），否则逐个转换元素。
+     * 紧凑输出时空集合与单元素集合直接返回 JDK 的共享/单例实现。
+     */
+    private CodeBlock buildCollectionCopyBody(String kind, TypeName returnType, TypeMirror sourceType,
+                                              TypeMirror targetType, TypeMirror dtoType, boolean reverse,
+                                              TypeMirror implementationType, boolean compact) {
+        TypeMirror sourceElementType = firstTypeArgument(sourceType);
+        TypeMirror targetElementType = firstTypeArgument(targetType);
+        TypeMirror dtoElementType = firstTypeArgument(dtoType);
+        return buildCollectionCopyBody(kind, returnType, sourceElementType, targetType, implementationType, compact,
+                element -> convertValue(element, sourceElementType, targetElementType, dtoElementType, reverse,
+                        null, compact));
     }
 
     /**
-     * 生成 Map 字段的深拷贝代码。
-     *
-     * @param methodBuilder   方法构建器
-     * @param getterName      源字段 getter 方法名
-     * @param setterName      目标字段 setter 方法名
-     * @param sourceFieldType 源字段类型
-     * @param targetFieldType 目标字段类型
-     * @param mapping         字段映射
-     * @param reverse         是否为反向拷贝
-     */
-    private void generateMapDeepCopyCode(MethodSpec.Builder methodBuilder,
-                                         String getterName,
-                                         String setterName,
-                                         javax.lang.model.type.TypeMirror sourceFieldType,
-                                         javax.lang.model.type.TypeMirror targetFieldType,
-                                         FieldMapping mapping,
-                                         boolean reverse) {
-        TypeMirror sourceKeyArgument = getTypeArgument(sourceFieldType, 0);
-        TypeMirror sourceValueArgument = getTypeArgument(sourceFieldType, 1);
-        TypeMirror targetKeyArgument = getTypeArgument(targetFieldType, 0);
-        TypeMirror targetValueArgument = getTypeArgument(targetFieldType, 1);
-
-        javax.lang.model.type.TypeMirror sourceKeyType = TypeUtils.extractMapKeyType(sourceFieldType);
-        javax.lang.model.type.TypeMirror targetKeyType = TypeUtils.extractMapKeyType(targetFieldType);
-
-        javax.lang.model.type.TypeMirror sourceValueType = TypeUtils.extractMapValueType(sourceFieldType);
-        javax.lang.model.type.TypeMirror targetValueType = TypeUtils.extractMapValueType(targetFieldType);
-        javax.lang.model.type.TypeMirror dtoValueType = TypeUtils.extractMapValueType(mapping.getTargetType());
-        javax.lang.model.type.TypeMirror dtoKeyType = TypeUtils.extractMapKeyType(mapping.getTargetType());
-
-        // Key 类型优先使用 source 的泛型，其次是 target，最后退回 Object
-        TypeName keyTypeName;
-        if (sourceKeyType != null) {
-            keyTypeName = safeTypeName(sourceKeyType);
-        } else if (targetKeyType != null) {
-            keyTypeName = safeTypeName(targetKeyType);
+     * 生成 List/Set/Queue 拷贝辅助方法体，元素按 {@code convertElement} 转换。
+     *
+     * @since 1.3.0
+     */
+    private CodeBlock buildCollectionCopyBody(String kind, TypeName returnType, TypeMirror sourceElementType,
+                                              TypeMirror targetType, TypeMirror implementationType,
+                                              boolean compact, UnaryOperator<CodeBlock> convertElement) {
+        CodeBlock element = convertElement.apply(CodeBlock.of("item"));
+        CodeBlock.Builder body = CodeBlock.builder();
+        if (compact) {
+            boolean list = "List".equals(kind);
+            CodeBlock single = convertElement.apply(
+                    CodeBlock.of(list ? "source.get(0)" : "source.iterator().next()"));
+            body.beginControlFlow("switch (source.size())")
+                    .add("case 0:\n").indent()
+                    .addStatement("return $T.$L()", java.util.Collections.class, list ? "emptyList" : "emptySet")
+                    .unindent()
+                    .add("case 1:\n").indent()
+                    .addStatement("return $T.$L($L)", java.util.Collections.class,
+                            list ? "singletonList" : "singleton", single)
+                    .unindent()
+                    .add("default:\n").indent();
+        }
+        body.addStatement(newCollection(kind, returnType, targetType, implementationType));
+        if ("item".equals(element.toString())) {
+            body.addStatement("target.addAll(source)");
         } else {
-            keyTypeName = TypeName.get(Object.class);
-        }
-
-        // Value 类型优先使用 source 的泛型，其次是 target，最后退回 Object
-        javax.lang.model.type.TypeMirror loopValueMirror =
-                sourceValueType != null ? sourceValueType :
-                        (targetValueType != null ? targetValueType : null);
-        TypeName loopValueTypeName = loopValueMirror != null
-                ? safeTypeName(loopValueMirror)
-                : TypeName.get(Object.class);
-        TypeMirror entryKeyMirror = sourceKeyArgument != null ? sourceKeyArgument : targetKeyArgument;
-        TypeMirror entryValueMirror = sourceValueArgument != null ? sourceValueArgument : targetValueArgument;
-        TypeName entryKeyTypeName = entryKeyMirror != null ? TypeName.get(entryKeyMirror) : keyTypeName;
-        TypeName entryValueTypeName = entryValueMirror != null ? TypeName.get(entryValueMirror) : loopValueTypeName;
-        TypeName targetKeyTypeName = targetKeyType != null ? safeTypeName(targetKeyType) : keyTypeName;
-        TypeName targetValueTypeName = targetValueType != null ? safeTypeName(targetValueType) : loopValueTypeName;
-        TypeName targetMapType = (targetKeyType != null || targetValueType != null)
-                ? ParameterizedTypeName.get(ClassName.get(java.util.Map.class), targetKeyTypeName, targetValueTypeName)
-                : TypeName.get(targetFieldType);
-        TypeName targetMapImplType = (targetKeyType != null || targetValueType != null)
-                ? ParameterizedTypeName.get(ClassName.get(java.util.HashMap.class), targetKeyTypeName, targetValueTypeName)
-                : TypeName.get(targetFieldType);
-
-        methodBuilder.beginControlFlow("if (source.$L() != null)", getterName)
-                .addStatement("$T sourceMap = source.$L()", TypeName.get(sourceFieldType), getterName)
-                .addStatement("$T targetMap = new $T($L)", targetMapType, targetMapImplType,
-                        buildInitialCapacity("sourceMap.size()"))
-                // 使用带泛型的 Map.Entry<K, V>，避免 Object + 强制类型转换
-                .beginControlFlow("for (java.util.Map.Entry<$T, $T> entry : sourceMap.entrySet())", entryKeyTypeName, entryValueTypeName)
-                .addStatement("$T key = entry.getKey()", keyTypeName)
-                .addStatement("$T value = entry.getValue()", loopValueTypeName);
-        
-        // 处理 key 的深拷贝
-        boolean needsKeyDeepCopy = (sourceKeyType != null && TypeUtils.needsDeepCopy(sourceKeyType) && dtoKeyType != null) ||
-                (targetKeyType != null && TypeUtils.needsDeepCopy(targetKeyType) && dtoKeyType != null);
-        
-        if (needsKeyDeepCopy && dtoKeyType != null) {
-            ClassName keyCopierClass = ClassName.bestGuess(dtoKeyType.toString() + "Copier");
-            String keyMethodName = reverse ? "fromDto" : "toDto";
-            TypeName targetKeyTypeNameForCopy = targetKeyType != null ? safeTypeName(targetKeyType) : keyTypeName;
-            methodBuilder.beginControlFlow("if (key != null)")
-                    .addStatement("$T copiedKey = $T.$L(key)", targetKeyTypeNameForCopy, keyCopierClass, keyMethodName)
-                    .nextControlFlow("else")
-                    .addStatement("$T copiedKey = null", targetKeyTypeNameForCopy)
+            body.beginControlFlow("for ($T item : source)", safeTypeName(sourceElementType))
+                    .addStatement("target.add($L)", element)
                     .endControlFlow();
-        } else {
-            // key 不需要深拷贝，直接使用
-            methodBuilder.addStatement("$T copiedKey = key", keyTypeName);
-        }
-        
-        methodBuilder.beginControlFlow("if (value != null)");
-
-        if (sourceValueType != null && TypeUtils.needsDeepCopy(sourceValueType) && dtoValueType != null) {
-            ClassName copierClass = ClassName.bestGuess(dtoValueType.toString() + "Copier");
-            String methodName = reverse ? "fromDto" : "toDto";
-            methodBuilder.addStatement("targetMap.put(copiedKey, $T.$L(value))", copierClass, methodName);
-        } else if (targetValueType != null && TypeUtils.needsDeepCopy(targetValueType) && dtoValueType != null) {
-            ClassName copierClass = ClassName.bestGuess(dtoValueType.toString() + "Copier");
-            String methodName = reverse ? "fromDto" : "toDto";
-            methodBuilder.addStatement("targetMap.put(copiedKey, $T.$L(value))", copierClass, methodName);
-        } else if (sourceValueType != null && TypeUtils.isList(sourceValueType)) {
-            // Map<K, List<V>> 场景：对 Value 中的 List 做深拷贝，生成代码中不出现强制类型转换
-            TypeName nestedSourceListType = safeTypeName(sourceValueType);
-            TypeName nestedTargetListType = targetValueType != null ? safeTypeName(targetValueType) : nestedSourceListType;
-
-            methodBuilder.addStatement("$T nestedSource = value", nestedSourceListType)
-                    .addStatement("$T nestedTarget = new java.util.ArrayList(nestedSource.size())", nestedTargetListType);
-
-            java.util.List<javax.lang.model.type.TypeMirror> nestedSourceArgs = TypeUtils.extractTypeArguments(sourceValueType);
-            java.util.List<javax.lang.model.type.TypeMirror> nestedTargetArgs = targetValueType != null
-                    ? TypeUtils.extractTypeArguments(targetValueType) : java.util.Collections.emptyList();
-            java.util.List<javax.lang.model.type.TypeMirror> nestedDtoArgs = dtoValueType != null
-                    ? TypeUtils.extractTypeArguments(dtoValueType) : java.util.Collections.emptyList();
-
-            javax.lang.model.type.TypeMirror nestedSourceElementType = nestedSourceArgs.isEmpty() ? null : nestedSourceArgs.get(0);
-            javax.lang.model.type.TypeMirror nestedTargetElementType = nestedTargetArgs.isEmpty() ? null : nestedTargetArgs.get(0);
-            javax.lang.model.type.TypeMirror nestedDtoElementType = nestedDtoArgs.isEmpty() ? null : nestedDtoArgs.get(0);
-
-            javax.lang.model.type.TypeMirror loopNestedMirror =
-                    nestedSourceElementType != null ? nestedSourceElementType :
-                            (nestedTargetElementType != null ? nestedTargetElementType : null);
-            TypeName loopNestedType = loopNestedMirror != null
-                    ? safeTypeName(loopNestedMirror)
-                    : TypeName.get(Object.class);
-
-            methodBuilder.beginControlFlow("for ($T nestedItem : nestedSource)", loopNestedType);
-
-            if (nestedSourceElementType != null && TypeUtils.needsDeepCopy(nestedSourceElementType) && nestedDtoElementType != null) {
-                ClassName copierClass = ClassName.bestGuess(nestedDtoElementType.toString() + "Copier");
-                String methodName = reverse ? "fromDto" : "toDto";
-                methodBuilder.addStatement("nestedTarget.add($T.$L(nestedItem))", copierClass, methodName);
-            } else if (nestedTargetElementType != null && TypeUtils.needsDeepCopy(nestedTargetElementType) && nestedDtoElementType != null) {
-                ClassName copierClass = ClassName.bestGuess(nestedDtoElementType.toString() + "Copier");
-                String methodName = reverse ? "fromDto" : "toDto";
-                methodBuilder.addStatement("nestedTarget.add($T.$L(nestedItem))", copierClass, methodName);
-            } else {
-                methodBuilder.addStatement("nestedTarget.add(nestedItem)");
-            }
+        }
+        if (compact) {
+            return body.addStatement("return $T.$L(target)", java.util.Collections.class,
+                            "List".equals(kind) ? "unmodifiableList" : "unmodifiableSet")
+                    .unindent()
+                    .endControlFlow()
+                    .build();
+        }
+        return body.addStatement("return target").build();
+    }
 
-            methodBuilder.endControlFlow()
-                    .addStatement("targetMap.put(copiedKey, nestedTarget)");
+    /**
+     * 生成 Map 拷贝辅助方法体，key 与 value 分别递归转换。
+     */
+    private CodeBlock buildMapCopyBody(TypeName returnType, TypeMirror sourceType, TypeMirror targetType,
+                                       TypeMirror dtoType, boolean reverse, TypeMirror implementationType,
+                                       boolean compact) {
+        TypeMirror sourceKeyType = TypeUtils.extractMapKeyType(sourceType);
+        TypeMirror targetKeyType = TypeUtils.extractMapKeyType(targetType);
+        TypeMirror dtoKeyType = TypeUtils.extractMapKeyType(dtoType);
+        TypeMirror sourceValueType = TypeUtils.extractMapValueType(sourceType);
+        TypeMirror targetValueType = TypeUtils.extractMapValueType(targetType);
+        TypeMirror dtoValueType = TypeUtils.extractMapValueType(dtoType);
+        CodeBlock key = convertValue(CodeBlock.of("entry.getKey()"), sourceKeyType, targetKeyType, dtoKeyType,
+                reverse, null, compact);
+        CodeBlock value = convertValue(CodeBlock.of("entry.getValue()"), sourceValueType, targetValueType,
+                dtoValueType, reverse, null, compact);
+
+        List<? extends TypeMirror> sourceArguments =
+                ((javax.lang.model.type.DeclaredType) sourceType).getTypeArguments();
+        TypeName entryType = ParameterizedTypeName.get(ClassName.get(java.util.Map.Entry.class),
+                TypeName.get(sourceArguments.get(0)), TypeName.get(sourceArguments.get(1)));
+
+        CodeBlock.Builder body = CodeBlock.builder();
+        if (compact) {
+            body.beginControlFlow("switch (source.size())")
+                    .add("case 0:\n").indent()
+                    .addStatement("return $T.emptyMap()", java.util.Collections.class)
+                    .unindent()
+                    .add("case 1:\n").indent()
+                    .addStatement("$T single = source.entrySet().iterator().next()", entryType)
+                    .addStatement("return $T.singletonMap($L, $L)", java.util.Collections.class,
+                            convertValue(CodeBlock.of("single.getKey()"), sourceKeyType, targetKeyType, dtoKeyType,
+                                    reverse, null, true),
+                            convertValue(CodeBlock.of("single.getValue()"), sourceValueType, targetValueType,
+                                    dtoValueType, reverse, null, true))
+                    .unindent()
+                    .add("default:\n").indent();
+        }
+        body.addStatement(newCollection("Map", returnType, targetType, implementationType));
+        if ("entry.getKey()".equals(key.toString()) && "entry.getValue()".equals(value.toString())) {
+            body.addStatement("target.putAll(source)");
         } else {
-            // 普通 Map<K, V> 场景：直接使用强类型 value，避免 Object -> V 的不安全强转
-            methodBuilder.addStatement("targetMap.put(copiedKey, value)");
+            body.beginControlFlow("for ($T entry : source.entrySet())", entryType)
+                    .addStatement("target.put($L, $L)", key, value)
+                    .endControlFlow();
+        }
+        if (compact) {
+            return body.addStatement("return $T.unmodifiableMap(target)", java.util.Collections.class)
+                    .unindent()
+                    .endControlFlow()
+                    .build();
+        }
+        return body.addStatement("return target").build();
+    }
+
+    /**
+     * 判断字段在 toDto 方向是否使用紧凑输出。
+     *
+     * @since 1.3.0
+     */
+    private boolean isCompactOutput(FieldMapping mapping) {
+        CollectionOutput output = mapping.getCollectionOutput() != CollectionOutput.INHERIT
+                ? mapping.getCollectionOutput() : collectionOutput;
+        return output == CollectionOutput.UNMODIFIABLE_COMPACT;
+    }
+
+    /**
+     * 紧凑输出只适用于声明为 {@code java.util.List/Set/Map} 接口的目标。
+     */
+    private boolean isCompactCandidate(String kind, TypeMirror targetType) {
+        if (!"List".equals(kind) && !"Set".equals(kind) && !"Map".equals(kind)) {
+            return false;
+        }
+        TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(targetType);
+        return element.getQualifiedName().contentEquals("java.util." + kind);
+    }
+
+    /**
+     * 生成创建目标集合的语句。
+     *
+     * <p>显式指定的 EnumSet/EnumMap 按枚举类创建；有 int 容量构造方法的实现类按源集合大小精确预分配
+     * （哈希结构按负载因子换算，不再保底 16；要求正数容量的队列至少为 1）；其余使用无参构造方法。
+     */
+    private CodeBlock newCollection(String kind, TypeName returnType, TypeMirror targetType,
+                                    TypeMirror implementationType) {
+        return newCollection(kind, returnType, targetType, implementationType, "source.size()");
+    }
+
+    private CodeBlock newCollection(String kind, TypeName returnType, TypeMirror targetType,
+                                    TypeMirror implementationType, String sizeExpression) {
+        javax.lang.model.util.Types types = processingEnv.getTypeUtils();
+        TypeElement implementation = collectionImplType(kind, targetType, implementationType);
+        ClassName implementationName = ClassName.get(implementation);
+        String qualifiedName = implementation.getQualifiedName().toString();
+        if ("java.util.EnumSet".equals(qualifiedName)) {
+            return CodeBlock.of("$T target = $T.noneOf($T.class)", returnType, implementationName,
+                    TypeName.get(types.erasure(firstTypeArgument(targetType))));
+        }
+        if ("java.util.EnumMap".equals(qualifiedName)) {
+            return CodeBlock.of("$T target = new $T<>($T.class)", returnType, implementationName,
+                    TypeName.get(types.erasure(TypeUtils.extractMapKeyType(targetType))));
+        }
+
+        String diamond = implementation.getTypeParameters().isEmpty() ? "" : "<>";
+        if (!hasCapacityConstructor(implementation)) {
+            return CodeBlock.of("$T target = new $T$L()", returnType, implementationName, diamond);
+        }
+        boolean hashed = isSubclassOf(implementation, java.util.HashMap.class)
+                || isSubclassOf(implementation, java.util.HashSet.class);
+        if (hashed) {
+            return CodeBlock.of("$T target = new $T$L($L)", returnType, implementationName, diamond,
+                    buildInitialCapacity(sizeExpression));
+        }
+        if (requiresPositiveCapacity(implementation)) {
+            return CodeBlock.of("$T target = new $T$L($T.max(1, $L))", returnType, implementationName, diamond,
+                    Math.class, sizeExpression);
+        }
+        return CodeBlock.of("$T target = new $T$L($L)", returnType, implementationName, diamond, sizeExpression);
+    }
+
+    /**
+     * PriorityQueue、ArrayBlockingQueue 等队列的容量参数必须为正数，源集合为空时传 0 会抛出
+     * {@code IllegalArgumentException}；ArrayDeque 接受 0。
+     */
+    private boolean requiresPositiveCapacity(TypeElement implementation) {
+        return isSubclassOf(implementation, java.util.Queue.class)
+                && !implementation.getQualifiedName().contentEquals("java.util.ArrayDeque");
+    }
+
+    private boolean hasCapacityConstructor(TypeElement implementation) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(implementation.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().size() == 1
+                    && constructor.getParameters().get(0).asType().getKind() == TypeKind.INT) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        methodBuilder.endControlFlow()
-                .beginControlFlow("else")
-                .addStatement("targetMap.put(copiedKey, null)")
+    private boolean isSubclassOf(TypeElement element, Class<?> superClass) {
+        javax.lang.model.util.Types types = processingEnv.getTypeUtils();
+        TypeElement superElement = processingEnv.getElementUtils().getTypeElement(superClass.getName());
+        return types.isSubtype(types.erasure(element.asType()), types.erasure(superElement.asType()));
+    }
+
+    /**
+     * 生成数组拷贝辅助方法体，多维数组逐维递归。
+     *
+     * <p>元素无需转换且类型相同时直接 {@code clone()}。
+     */
+    private CodeBlock buildArrayCopyBody(TypeMirror sourceType, TypeMirror targetType,
+                                         TypeMirror dtoType, boolean reverse) {
+        TypeMirror sourceComponentType = ((javax.lang.model.type.ArrayType) sourceType).getComponentType();
+        TypeMirror targetComponentType = ((javax.lang.model.type.ArrayType) targetType).getComponentType();
+        TypeMirror dtoComponentType = TypeUtils.isArrayType(dtoType)
+                ? ((javax.lang.model.type.ArrayType) dtoType).getComponentType() : null;
+
+        CodeBlock element = convertValue(CodeBlock.of("source[i]"), sourceComponentType, targetComponentType,
+                dtoComponentType, reverse);
+        CodeBlock.Builder body = CodeBlock.builder();
+        if ("source[i]".equals(element.toString()) && sourceType.toString().equals(targetType.toString())) {
+            return body.addStatement("return source.clone()").build();
+        }
+
+        // new T[n][]...：以最内层元素类型（擦除泛型）创建数组
+        TypeMirror innermost = TypeUtils.getArrayComponentType(targetType);
+        StringBuilder dimensions = new StringBuilder();
+        for (TypeMirror component = targetComponentType; component.getKind() == TypeKind.ARRAY;
+             component = ((javax.lang.model.type.ArrayType) component).getComponentType()) {
+            dimensions.append("[]");
+        }
+        return body.addStatement("$T target = new $T[source.length]$L", TypeName.get(targetType),
+                        TypeName.get(processingEnv.getTypeUtils().erasure(innermost)), dimensions)
+                .beginControlFlow("for (int i = 0; i < source.length; i++)")
+                .addStatement("target[i] = $L", element)
                 .endControlFlow()
+                .addStatement("return target")
+                .build();
+    }
+
+    /**
+     * 生成包装类型 List/Set 到基本类型数组的辅助方法体：一次精确分配，null 元素取基本类型默认值。
+     *
+     * @since 1.3.0
+     */
+    private CodeBlock buildUnboxingArrayBody(TypeMirror sourceType, TypeMirror targetType) {
+        TypeMirror component = ((javax.lang.model.type.ArrayType) targetType).getComponentType();
+        return CodeBlock.builder()
+                .addStatement("$T target = new $T[source.size()]", TypeName.get(targetType), TypeName.get(component))
+                .addStatement("int i = 0")
+                .beginControlFlow("for ($T item : source)", safeTypeName(firstTypeArgument(sourceType)))
+                .addStatement("target[i++] = $L", generateConversionCode(firstTypeArgument(sourceType), component,
+                        "item"))
                 .endControlFlow()
-                .addStatement("target.$L(targetMap)", setterName)
+                .addStatement("return target")
+                .build();
+    }
+
+    /**
+     * 生成基本类型数组到包装类型 List/Set 的辅助方法体，按数组长度精确预分配。
+     *
+     * @since 1.3.0
+     */
+    private CodeBlock buildBoxingCollectionBody(String kind, TypeName returnType, TypeMirror sourceType,
+                                                TypeMirror targetType) {
+        TypeMirror component = ((javax.lang.model.type.ArrayType) sourceType).getComponentType();
+        return CodeBlock.builder()
+                .addStatement(newCollection(kind, returnType, targetType, null, "source.length"))
+                .beginControlFlow("for ($T item : source)", TypeName.get(component))
+                .addStatement("target.add(item)")
                 .endControlFlow()
-                .beginControlFlow("else")
-                .addStatement("target.$L(null)", setterName)
-                .endControlFlow();
+                .addStatement("return target")
+                .build();
+    }
+
+    /**
+     * 集合拷贝的返回类型：保留目标字段声明的集合类，元素类型取解析后的目标泛型。
+     */
+    private TypeName collectionTargetType(String kind, TypeMirror targetType) {
+        ClassName rawType = ClassName.get((TypeElement) processingEnv.getTypeUtils().asElement(targetType));
+        List<TypeMirror> arguments = TypeUtils.extractTypeArguments(targetType);
+        TypeName[] argumentNames = new TypeName["Map".equals(kind) ? 2 : 1];
+        for (int i = 0; i < argumentNames.length; i++) {
+            argumentNames[i] = safeTypeName(i < arguments.size() ? arguments.get(i) : null);
+        }
+        return ParameterizedTypeName.get(rawType, argumentNames);
+    }
+
+    /**
+     * 集合拷贝使用的实现类。
+     *
+     * <p>优先使用 {@code @CopyField(implementation)} 指定的类；目标字段为具体类时沿用该类；
+     * 接口类型分别使用 ArrayList、LinkedHashSet、ArrayDeque、HashMap。
+     * EnumSet/EnumMap 不接受 null 元素（key）且按枚举声明顺序迭代，只在显式指定时使用。
+     */
+    private TypeElement collectionImplType(String kind, TypeMirror targetType, TypeMirror implementationType) {
+        javax.lang.model.util.Types types = processingEnv.getTypeUtils();
+        if (implementationType != null) {
+            return (TypeElement) types.asElement(implementationType);
+        }
+        TypeElement element = (TypeElement) types.asElement(targetType);
+        if (!element.getKind().isInterface()) {
+            return element;
+        }
+        Class<?> implementation;
+        switch (kind) {
+            case "List":
+                implementation = java.util.ArrayList.class;
+                break;
+            case "Set":
+                implementation = java.util.LinkedHashSet.class;
+                break;
+            case "Queue":
+                implementation = java.util.ArrayDeque.class;
+                break;
+            default:
+                implementation = java.util.HashMap.class;
+                break;
+        }
+        return processingEnv.getElementUtils().getTypeElement(implementation.getName());
+    }
+
+    /**
+     * 获取解析通配符后的第一个泛型参数。
+     */
+    private TypeMirror firstTypeArgument(TypeMirror typeMirror) {
+        List<TypeMirror> arguments = TypeUtils.extractTypeArguments(typeMirror);
+        return arguments.isEmpty() ? null : arguments.get(0);
+    }
+
+    /**
+     * 生成集合元素类型在方法名中的片段，例如 {@code Map<String, List<User>>} → {@code StringListUser}。
+     */
+    private String mangleElementTypes(TypeMirror collectionType) {
+        if (TypeUtils.isArrayType(collectionType)) {
+            return mangleTypeName(((javax.lang.model.type.ArrayType) collectionType).getComponentType());
+        }
+        StringBuilder sb = new StringBuilder();
+        for (TypeMirror argument : TypeUtils.extractTypeArguments(collectionType)) {
+            sb.append(mangleTypeName(argument));
+        }
+        return sb.length() > 0 ? sb.toString() : "Object";
+    }
+
+    private String mangleTypeName(TypeMirror typeMirror) {
+        if (typeMirror == null) {
+            return "Object";
+        }
+        if (typeMirror.getKind() == TypeKind.ARRAY) {
+            return mangleTypeName(((javax.lang.model.type.ArrayType) typeMirror).getComponentType()) + "Array";
+        }
+        if (typeMirror.getKind() == TypeKind.DECLARED) {
+            StringBuilder sb = new StringBuilder(
+                    ((javax.lang.model.type.DeclaredType) typeMirror).asElement().getSimpleName());
+            for (TypeMirror argument : TypeUtils.extractTypeArguments(typeMirror)) {
+                sb.append(mangleTypeName(argument));
+            }
+            return sb.toString();
+        }
+        return typeMirror.toString();
+    }
+
+    /**
+     * 获取 DTO 类型对应的 Copier 类名（与 DTO 位于同一包）。
+     *
+     * @since 1.3.0
+     */
+    private ClassName copierClassName(TypeMirror dtoType) {
+        TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(dtoType);
+        return ClassName.get(getPackageName(element), element.getSimpleName() + "Copier");
     }
 }
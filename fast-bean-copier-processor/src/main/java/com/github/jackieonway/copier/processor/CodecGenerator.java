@@ -0,0 +1,519 @@
+package com.github.jackieonway.copier.processor;
+
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.runtime.CodecSupport;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 二进制编解码器生成器。
+ *
+ * <p>为 {@code @CopyTarget(codec = true)} 标注的类生成 {@code XxxCodec}，包含：
+ * <ul>
+ *   <li>{@code sizeOf(T)}：预先计算编码后的字节数</li>
+ *   <li>{@code writeTo(T, ByteBuffer)}：写入缓冲区（支持堆内与直接缓冲区）</li>
+ *   <li>{@code readFrom(ByteBuffer)}：从缓冲区读取</li>
+ *   <li>{@code encode(T)}：分配精确大小的缓冲区并写入</li>
+ * </ul>
+ *
+ * <p>基本类型按定长写入，包装类型与日期时间类型先写 1 字节存在标记，字符串、集合和数组使用
+ * varint 长度前缀，嵌套对象调用其自身的 Codec。生成的代码不使用反射。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class CodecGenerator {
+
+    private static final ClassName CODEC_SUPPORT = ClassName.get(CodecSupport.class);
+
+    /**
+     * 由 {@link CodecSupport} 读写的值类型（全限定名 -> 方法名后缀）。
+     */
+    private static final Map<String, String> SUPPORTED_VALUE_TYPES = new HashMap<>();
+
+    static {
+        SUPPORTED_VALUE_TYPES.put("java.lang.String", "String");
+        SUPPORTED_VALUE_TYPES.put("java.math.BigDecimal", "BigDecimal");
+        SUPPORTED_VALUE_TYPES.put("java.math.BigInteger", "BigInteger");
+        SUPPORTED_VALUE_TYPES.put("java.util.Date", "Date");
+        SUPPORTED_VALUE_TYPES.put("java.time.LocalDate", "LocalDate");
+        SUPPORTED_VALUE_TYPES.put("java.time.LocalDateTime", "LocalDateTime");
+        SUPPORTED_VALUE_TYPES.put("java.time.Instant", "Instant");
+    }
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Messager messager;
+
+    /**
+     * 需要生成 Codec 的类型。
+     */
+    private final TypeElement valueType;
+
+    /**
+     * 枚举的 values() 缓存字段（枚举类名 -> 字段名）。
+     */
+    private final Map<ClassName, String> enumValueFields = new LinkedHashMap<>();
+
+    /**
+     * 局部变量序号，保证同一方法内（包括嵌套循环）的变量名唯一。
+     */
+    private int variableIndex;
+
+    /**
+     * 生成过程中是否遇到不支持的字段类型。
+     */
+    private boolean failed;
+
+    /**
+     * 构造方法。
+     *
+     * @param processingEnv 处理环境
+     * @param valueType     需要生成 Codec 的类型
+     */
+    public CodecGenerator(ProcessingEnvironment processingEnv, TypeElement valueType) {
+        this.processingEnv = processingEnv;
+        this.messager = processingEnv.getMessager();
+        this.valueType = valueType;
+    }
+
+    /**
+     * 获取类型对应的 Codec 类名（与类型位于同一包）。
+     *
+     * @param type 类型元素
+     * @return Codec 类名
+     */
+    public static ClassName codecClassName(TypeElement type) {
+        return ClassName.get(ClassName.get(type).packageName(), type.getSimpleName() + "Codec");
+    }
+
+    /**
+     * 生成 Codec 类。字段类型不受支持时输出编译错误，不生成文件。
+     */
+    public void generateCodecClass() {
+        ClassName valueName = ClassName.get(valueType);
+        List<VariableElement> fields = TypeUtils.getAllFields(valueType);
+
+        CodeBlock.Builder sizeBody = CodeBlock.builder()
+                .beginControlFlow("if (value == null)")
+                .addStatement("return 1")
+                .endControlFlow()
+                .addStatement("int size = 1");
+        CodeBlock.Builder writeBody = CodeBlock.builder()
+                .beginControlFlow("if (value == null)")
+                .addStatement("buffer.put((byte) 0)")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("buffer.put((byte) 1)");
+        CodeBlock.Builder readBody = CodeBlock.builder()
+                .beginControlFlow("if (buffer.get() == 0)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T value = new $T()", valueName, valueName);
+
+        for (VariableElement field : fields) {
+            String accessor = capitalize(field.getSimpleName().toString());
+            TypeMirror type = field.asType();
+            if (!isSupported(type)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "codec 不支持字段类型 " + type + "，嵌套对象需要同样标注 @CopyTarget(codec = true)", field);
+                failed = true;
+                continue;
+            }
+            appendSize(sizeBody, type, "value.get" + accessor + "()");
+            appendWrite(writeBody, type, "value.get" + accessor + "()");
+            String variable = appendRead(readBody, type);
+            readBody.addStatement("value.set$L($L)", accessor, variable);
+        }
+        if (failed) {
+            return;
+        }
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(codecClassName(valueType))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("$T 的二进制编解码器，由 fast-bean-copier 生成。\n", valueName)
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+        for (Map.Entry<ClassName, String> entry : enumValueFields.entrySet()) {
+            ClassName enumName = entry.getKey();
+            classBuilder.addField(FieldSpec.builder(ArrayTypeName.of(enumName),
+                            entry.getValue(), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.values()", enumName)
+                    .build());
+        }
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("sizeOf")
+                .addJavadoc("计算编码后的字节数。\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(int.class)
+                .addParameter(valueName, "value")
+                .addCode(sizeBody.addStatement("return size").build())
+                .build());
+        classBuilder.addMethod(MethodSpec.methodBuilder("writeTo")
+                .addJavadoc("写入缓冲区，剩余空间不足时抛出 {@link java.nio.BufferOverflowException}。\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(valueName, "value")
+                .addParameter(ByteBuffer.class, "buffer")
+                .addCode(writeBody.build())
+                .build());
+        classBuilder.addMethod(MethodSpec.methodBuilder("readFrom")
+                .addJavadoc("从缓冲区当前位置读取。\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(valueName)
+                .addParameter(ByteBuffer.class, "buffer")
+                .addCode(readBody.addStatement("return value").build())
+                .build());
+        classBuilder.addMethod(MethodSpec.methodBuilder("encode")
+                .addJavadoc("分配精确大小的堆内缓冲区并写入，返回的缓冲区已 flip。\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ByteBuffer.class)
+                .addParameter(valueName, "value")
+                .addStatement("$T buffer = $T.allocate(sizeOf(value))", ByteBuffer.class, ByteBuffer.class)
+                .addStatement("writeTo(value, buffer)")
+                .addStatement("buffer.flip()")
+                .addStatement("return buffer")
+                .build());
+
+        try {
+            JavaFile.builder(valueName.packageName(), classBuilder.build())
+                    .build()
+                    .writeTo(processingEnv.getFiler());
+        } catch (IOException e) {
+            throw new RuntimeException("生成 Codec 类失败", e);
+        }
+    }
+
+    /**
+     * 判断类型能否编解码。
+     */
+    private boolean isSupported(TypeMirror type) {
+        if (type.getKind().isPrimitive() || TypeUtils.isWrapper(type) || TypeUtils.isEnum(type)) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) type).getComponentType().getKind().isPrimitive();
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        if (SUPPORTED_VALUE_TYPES.containsKey(qualifiedName(type)) || hasCodec(type)) {
+            return true;
+        }
+        if (TypeUtils.isList(type) || TypeUtils.isSet(type) || TypeUtils.isMap(type)) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            if (arguments.isEmpty() || !isInstantiable(type)) {
+                return false;
+            }
+            for (TypeMirror argument : arguments) {
+                if (argument.getKind() != TypeKind.DECLARED || !isSupported(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean hasCodec(TypeMirror type) {
+        CopyTarget copyTarget = ((DeclaredType) type).asElement().getAnnotation(CopyTarget.class);
+        return copyTarget != null && copyTarget.codec();
+    }
+
+    /**
+     * 集合字段声明为接口或可无参实例化的具体类时才能解码。
+     */
+    private boolean isInstantiable(TypeMirror type) {
+        Element element = ((DeclaredType) type).asElement();
+        String name = qualifiedName(type);
+        return "java.util.List".equals(name) || "java.util.Set".equals(name) || "java.util.Map".equals(name)
+                || !element.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private void appendSize(CodeBlock.Builder body, TypeMirror type, String value) {
+        if (type.getKind().isPrimitive()) {
+            body.addStatement("size += $L", fixedWidth(type.getKind()));
+            return;
+        }
+        String variable = localVariable(body, type, value);
+        if (TypeUtils.isWrapper(type)) {
+            body.addStatement("size += $L == null ? 1 : $L", variable, 1 + fixedWidth(unboxedKind(type)));
+        } else if (TypeUtils.isEnum(type)) {
+            body.addStatement("size += $L == null ? 1 : $T.sizeOfVarint($L.ordinal() + 1)",
+                    variable, CODEC_SUPPORT, variable);
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            TypeKind componentKind = ((ArrayType) type).getComponentType().getKind();
+            body.addStatement("size += $L == null ? 1 : $T.sizeOfVarint($L.length + 1) + $L.length * $L",
+                    variable, CODEC_SUPPORT, variable, variable, fixedWidth(componentKind));
+        } else if (SUPPORTED_VALUE_TYPES.containsKey(qualifiedName(type))) {
+            body.addStatement("size += $T.sizeOf$L($L)", CODEC_SUPPORT,
+                    SUPPORTED_VALUE_TYPES.get(qualifiedName(type)), variable);
+        } else if (hasCodec(type)) {
+            body.addStatement("size += $T.sizeOf($L)", codecClassName(typeElement(type)), variable);
+        } else {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            body.beginControlFlow("if ($L == null)", variable)
+                    .addStatement("size += 1")
+                    .nextControlFlow("else")
+                    .addStatement("size += $T.sizeOfVarint($L.size() + 1)", CODEC_SUPPORT, variable);
+            if (TypeUtils.isMap(type)) {
+                String entry = nextVariable("entry");
+                body.beginControlFlow("for ($T.Entry<$T, $T> $L : $L.entrySet())", Map.class,
+                        TypeName.get(arguments.get(0)), TypeName.get(arguments.get(1)), entry, variable);
+                appendSize(body, arguments.get(0), entry + ".getKey()");
+                appendSize(body, arguments.get(1), entry + ".getValue()");
+            } else {
+                String item = nextVariable("item");
+                body.beginControlFlow("for ($T $L : $L)", TypeName.get(arguments.get(0)), item, variable);
+                appendSize(body, arguments.get(0), item);
+            }
+            body.endControlFlow().endControlFlow();
+        }
+    }
+
+    private void appendWrite(CodeBlock.Builder body, TypeMirror type, String value) {
+        if (type.getKind().isPrimitive()) {
+            body.addStatement(writePrimitive(type.getKind(), value));
+            return;
+        }
+        String variable = localVariable(body, type, value);
+        if (TypeUtils.isWrapper(type)) {
+            body.beginControlFlow("if ($L == null)", variable)
+                    .addStatement("buffer.put((byte) 0)")
+                    .nextControlFlow("else")
+                    .addStatement("buffer.put((byte) 1)")
+                    .addStatement(writePrimitive(unboxedKind(type), variable))
+                    .endControlFlow();
+        } else if (TypeUtils.isEnum(type)) {
+            body.addStatement("$T.writeVarint(buffer, $L == null ? 0 : $L.ordinal() + 1)",
+                    CODEC_SUPPORT, variable, variable);
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            TypeKind componentKind = ((ArrayType) type).getComponentType().getKind();
+            body.addStatement("$T.writeVarint(buffer, $L == null ? 0 : $L.length + 1)",
+                    CODEC_SUPPORT, variable, variable);
+            if (componentKind == TypeKind.BYTE) {
+                body.beginControlFlow("if ($L != null)", variable)
+                        .addStatement("buffer.put($L)", variable)
+                        .endControlFlow();
+            } else {
+                String item = nextVariable("item");
+                body.beginControlFlow("if ($L != null)", variable)
+                        .beginControlFlow("for ($T $L : $L)", TypeName.get(((ArrayType) type).getComponentType()), item,
+                                variable)
+                        .addStatement(writePrimitive(componentKind, item))
+                        .endControlFlow()
+                        .endControlFlow();
+            }
+        } else if (SUPPORTED_VALUE_TYPES.containsKey(qualifiedName(type))) {
+            body.addStatement("$T.write$L(buffer, $L)", CODEC_SUPPORT,
+                    SUPPORTED_VALUE_TYPES.get(qualifiedName(type)), variable);
+        } else if (hasCodec(type)) {
+            body.addStatement("$T.writeTo($L, buffer)", codecClassName(typeElement(type)), variable);
+        } else {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            body.beginControlFlow("if ($L == null)", variable)
+                    .addStatement("$T.writeVarint(buffer, 0)", CODEC_SUPPORT)
+                    .nextControlFlow("else")
+                    .addStatement("$T.writeVarint(buffer, $L.size() + 1)", CODEC_SUPPORT, variable);
+            if (TypeUtils.isMap(type)) {
+                String entry = nextVariable("entry");
+                body.beginControlFlow("for ($T.Entry<$T, $T> $L : $L.entrySet())", Map.class,
+                        TypeName.get(arguments.get(0)), TypeName.get(arguments.get(1)), entry, variable);
+                appendWrite(body, arguments.get(0), entry + ".getKey()");
+                appendWrite(body, arguments.get(1), entry + ".getValue()");
+            } else {
+                String item = nextVariable("item");
+                body.beginControlFlow("for ($T $L : $L)", TypeName.get(arguments.get(0)), item, variable);
+                appendWrite(body, arguments.get(0), item);
+            }
+            body.endControlFlow().endControlFlow();
+        }
+    }
+
+    /**
+     * 生成读取代码。
+     *
+     * @return 保存读取结果的局部变量名
+     */
+    private String appendRead(CodeBlock.Builder body, TypeMirror type) {
+        String variable = nextVariable("v");
+        TypeName typeName = TypeName.get(type);
+        if (type.getKind().isPrimitive()) {
+            body.addStatement("$T $L = $L", typeName, variable, readPrimitive(type.getKind()));
+        } else if (TypeUtils.isWrapper(type)) {
+            body.addStatement("$T $L = buffer.get() == 0 ? null : $T.valueOf($L)", typeName, variable, typeName,
+                    readPrimitive(unboxedKind(type)));
+        } else if (TypeUtils.isEnum(type)) {
+            String ordinal = nextVariable("ordinal");
+            body.addStatement("int $L = $T.readVarint(buffer)", ordinal, CODEC_SUPPORT)
+                    .addStatement("$T $L = $L == 0 ? null : $L[$L - 1]", typeName, variable, ordinal,
+                            enumValuesField(type), ordinal);
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            TypeKind componentKind = ((ArrayType) type).getComponentType().getKind();
+            String length = nextVariable("length");
+            body.addStatement("int $L = $T.readVarint(buffer) - 1", length, CODEC_SUPPORT)
+                    .addStatement("$T $L = null", typeName, variable)
+                    .beginControlFlow("if ($L >= 0)", length)
+                    .addStatement("$L = new $T[$L]", variable, TypeName.get(((ArrayType) type).getComponentType()), length);
+            if (componentKind == TypeKind.BYTE) {
+                body.addStatement("buffer.get($L)", variable);
+            } else {
+                String index = nextVariable("i");
+                body.beginControlFlow("for (int $L = 0; $L < $L; $L++)", index, index, length, index)
+                        .addStatement("$L[$L] = $L", variable, index, readPrimitive(componentKind))
+                        .endControlFlow();
+            }
+            body.endControlFlow();
+        } else if (SUPPORTED_VALUE_TYPES.containsKey(qualifiedName(type))) {
+            body.addStatement("$T $L = $T.read$L(buffer)", typeName, variable, CODEC_SUPPORT,
+                    SUPPORTED_VALUE_TYPES.get(qualifiedName(type)));
+        } else if (hasCodec(type)) {
+            body.addStatement("$T $L = $T.readFrom(buffer)", typeName, variable, codecClassName(typeElement(type)));
+        } else {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            String size = nextVariable("size");
+            body.addStatement("int $L = $T.readVarint(buffer) - 1", size, CODEC_SUPPORT)
+                    .addStatement("$T $L = null", typeName, variable)
+                    .beginControlFlow("if ($L >= 0)", size)
+                    .addStatement("$L = $L", variable, newCollection(type, size));
+            String index = nextVariable("i");
+            body.beginControlFlow("for (int $L = 0; $L < $L; $L++)", index, index, size, index);
+            if (TypeUtils.isMap(type)) {
+                String key = appendRead(body, arguments.get(0));
+                String value = appendRead(body, arguments.get(1));
+                body.addStatement("$L.put($L, $L)", variable, key, value);
+            } else {
+                String item = appendRead(body, arguments.get(0));
+                body.addStatement("$L.add($L)", variable, item);
+            }
+            body.endControlFlow().endControlFlow();
+        }
+        return variable;
+    }
+
+    /**
+     * 创建解码目标集合：接口类型按元素个数预分配，具体类型使用无参构造方法。
+     */
+    private CodeBlock newCollection(TypeMirror type, String size) {
+        String name = qualifiedName(type);
+        if ("java.util.List".equals(name)) {
+            return CodeBlock.of("new $T<>($L)", java.util.ArrayList.class, size);
+        }
+        if ("java.util.Set".equals(name)) {
+            return CodeBlock.of("new $T<>((int) ($L / 0.75f) + 1)", java.util.LinkedHashSet.class, size);
+        }
+        if ("java.util.Map".equals(name)) {
+            return CodeBlock.of("new $T<>((int) ($L / 0.75f) + 1)", LinkedHashMap.class, size);
+        }
+        return CodeBlock.of("new $T<>()", ClassName.get(typeElement(type)));
+    }
+
+    private String enumValuesField(TypeMirror type) {
+        ClassName enumName = ClassName.get(typeElement(type));
+        String field = enumValueFields.get(enumName);
+        if (field == null) {
+            field = String.join("_", enumName.simpleNames()).toUpperCase(Locale.ROOT) + "_VALUES";
+            if (enumValueFields.containsValue(field)) {
+                field = field + enumValueFields.size();
+            }
+            enumValueFields.put(enumName, field);
+        }
+        return field;
+    }
+
+    private String writePrimitive(TypeKind kind, String value) {
+        switch (kind) {
+            case BOOLEAN:
+                return "buffer.put((byte) (" + value + " ? 1 : 0))";
+            case BYTE:
+                return "buffer.put(" + value + ")";
+            default:
+                return "buffer.put" + capitalize(kind.name().toLowerCase(Locale.ROOT)) + "(" + value + ")";
+        }
+    }
+
+    private String readPrimitive(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return "buffer.get() != 0";
+            case BYTE:
+                return "buffer.get()";
+            default:
+                return "buffer.get" + capitalize(kind.name().toLowerCase(Locale.ROOT)) + "()";
+        }
+    }
+
+    private int fixedWidth(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+            case BYTE:
+                return 1;
+            case SHORT:
+            case CHAR:
+                return 2;
+            case INT:
+            case FLOAT:
+                return 4;
+            default:
+                return 8;
+        }
+    }
+
+    private TypeKind unboxedKind(TypeMirror wrapperType) {
+        return processingEnv.getTypeUtils().unboxedType(wrapperType).getKind();
+    }
+
+    /**
+     * 访问器调用先保存到局部变量，保证每个 getter 只调用一次；循环变量直接使用。
+     */
+    private String localVariable(CodeBlock.Builder body, TypeMirror type, String value) {
+        if (value.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+            return value;
+        }
+        String variable = nextVariable("v");
+        body.addStatement("$T $L = $L", TypeName.get(type), variable, value);
+        return variable;
+    }
+
+    private String nextVariable(String prefix) {
+        return prefix + (variableIndex++);
+    }
+
+    private TypeElement typeElement(TypeMirror type) {
+        return (TypeElement) ((DeclaredType) type).asElement();
+    }
+
+    private String qualifiedName(TypeMirror type) {
+        return typeElement(type).getQualifiedName().toString();
+    }
+
+    private String capitalize(String str) {
+        if (str == null || str.isEmpty()) {
+            return str;
+        }
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+}
@@ -0,0 +1,319 @@
+package com.github.jackieonway.copier.processor;
+
+import com.github.jackieonway.copier.runtime.DelimitedReader;
+import com.github.jackieonway.copier.runtime.DelimitedSupport;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 分隔文本（CSV/TSV）读写器生成器。
+ *
+ * <p>为指定了 {@code @CopyTarget(csvColumns)} 的类生成 {@code XxxCsv}，列顺序由注解决定：
+ * <ul>
+ *   <li>{@code fromRow(CharSequence[])}：把一行的字段解析为对象，整数与布尔值直接在字段上解析</li>
+ *   <li>{@code writeRow(T, Appendable)}：写出一行，必要时为字段加引号</li>
+ *   <li>{@code writeHeader(Appendable)}：写出标题行</li>
+ *   <li>{@code read(Path, boolean, Consumer)}：通过 {@link DelimitedReader} 流式读取内存映射文件</li>
+ * </ul>
+ *
+ * <p>空字段表示 null，基本类型字段遇到空字段时保持默认值。生成的代码不使用反射。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class DelimitedGenerator {
+
+    private static final ClassName SUPPORT = ClassName.get(DelimitedSupport.class);
+
+    /**
+     * 用 {@code X.parse(CharSequence)} 解析、{@code toString()} 写出的值类型。
+     */
+    private static final Set<String> TEMPORAL_TYPES = new HashSet<>(Arrays.asList(
+            "java.time.LocalDate", "java.time.LocalDateTime", "java.time.LocalTime", "java.time.Instant"));
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Messager messager;
+
+    /**
+     * 需要生成读写器的类型。
+     */
+    private final TypeElement valueType;
+
+    /**
+     * 列对应的字段名，按列顺序排列。
+     */
+    private final String[] columns;
+
+    /**
+     * 分隔符。
+     */
+    private final char delimiter;
+
+    /**
+     * 构造方法。
+     *
+     * @param processingEnv 处理环境
+     * @param valueType     需要生成读写器的类型
+     * @param columns       列对应的字段名
+     * @param delimiter     分隔符
+     */
+    public DelimitedGenerator(ProcessingEnvironment processingEnv, TypeElement valueType, String[] columns,
+                              char delimiter) {
+        this.processingEnv = processingEnv;
+        this.messager = processingEnv.getMessager();
+        this.valueType = valueType;
+        this.columns = columns;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * 获取类型对应的读写器类名（与类型位于同一包）。
+     *
+     * @param type 类型元素
+     * @return 读写器类名
+     */
+    public static ClassName csvClassName(TypeElement type) {
+        return ClassName.get(ClassName.get(type).packageName(), type.getSimpleName() + "Csv");
+    }
+
+    /**
+     * 生成读写器类。列名、分隔符或字段类型无效时输出编译错误，不生成文件。
+     */
+    public void generateCsvClass() {
+        if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+            messager.printMessage(Diagnostic.Kind.ERROR, "csvDelimiter 必须是引号与换行以外的 ASCII 字符", valueType);
+            return;
+        }
+        Map<String, VariableElement> fieldsByName = new LinkedHashMap<>();
+        for (VariableElement field : TypeUtils.getAllFields(valueType)) {
+            fieldsByName.put(field.getSimpleName().toString(), field);
+        }
+        List<VariableElement> fields = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        boolean failed = false;
+        for (String column : columns) {
+            VariableElement field = fieldsByName.get(column);
+            if (field == null || !seen.add(column)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "csvColumns 中的 '" + column + "' 不是 " + valueType.getSimpleName() + " 的字段或重复出现",
+                        valueType);
+                failed = true;
+            } else if (!isSupported(field.asType())) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "csvColumns 不支持字段类型 " + field.asType()
+                                + "，仅支持基本类型及包装类型、String、BigDecimal、BigInteger、枚举与 java.time 日期时间类型",
+                        field);
+                failed = true;
+            }
+            fields.add(field);
+        }
+        if (failed) {
+            return;
+        }
+
+        ClassName valueName = ClassName.get(valueType);
+        CodeBlock.Builder fromRow = CodeBlock.builder()
+                .addStatement("$T target = new $T()", valueName, valueName);
+        CodeBlock.Builder writeRow = CodeBlock.builder();
+        CodeBlock.Builder header = CodeBlock.builder();
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            String property = capitalize(field.getSimpleName().toString());
+            TypeMirror type = field.asType();
+            if (i > 0) {
+                writeRow.addStatement("out.append(DELIMITER)");
+                header.addStatement("out.append(DELIMITER)");
+            }
+            header.addStatement("$T.writeField(out, $S, DELIMITER)", SUPPORT, columns[i]);
+            fromRow.beginControlFlow("if (columns.length > $L && !$T.isEmpty(columns[$L]))", i, SUPPORT, i)
+                    .addStatement("target.set$L($L)", property, parse(type, "columns[" + i + "]"))
+                    .endControlFlow();
+            appendWrite(writeRow, type, "value.get" + property + "()", "value" + property);
+        }
+        writeRow.addStatement("out.append('\\n')");
+
+        TypeName consumerType = ParameterizedTypeName.get(ClassName.get(Consumer.class),
+                WildcardTypeName.supertypeOf(valueName));
+        CodeBlock.Builder columnList = CodeBlock.builder();
+        for (int i = 0; i < columns.length; i++) {
+            columnList.add(i == 0 ? "$S" : ", $S", columns[i]);
+        }
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(csvClassName(valueType))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("$T 的分隔文本读写器，由 fast-bean-copier 生成。\n", valueName)
+                .addField(FieldSpec.builder(ParameterizedTypeName.get(List.class, String.class), "COLUMNS",
+                                Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .addJavadoc("列对应的字段名，按列顺序排列。\n")
+                        .initializer("$T.unmodifiableList($T.asList($L))", Collections.class, Arrays.class,
+                                columnList.build())
+                        .build())
+                .addField(FieldSpec.builder(char.class, "DELIMITER", Modifier.PUBLIC, Modifier.STATIC,
+                                Modifier.FINAL)
+                        .addJavadoc("分隔符。\n")
+                        .initializer("$L", charLiteral(delimiter))
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(MethodSpec.methodBuilder("fromRow")
+                        .addJavadoc("把一行的字段解析为对象，缺少的列与空字段保持默认值。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(valueName)
+                        .addParameter(CharSequence[].class, "columns")
+                        .addCode(fromRow.addStatement("return target").build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("writeRow")
+                        .addJavadoc("写出一行（以换行结尾），null 写为空字段。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(valueName, "value")
+                        .addParameter(Appendable.class, "out")
+                        .addException(IOException.class)
+                        .addCode(writeRow.build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("writeHeader")
+                        .addJavadoc("写出标题行（以换行结尾）。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(Appendable.class, "out")
+                        .addException(IOException.class)
+                        .addCode(header.addStatement("out.append('\\n')").build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("read")
+                        .addJavadoc("流式读取文件，每行解析后交给 consumer。\n\n")
+                        .addJavadoc("@return 读取的行数（不含标题行）\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(long.class)
+                        .addParameter(Path.class, "file")
+                        .addParameter(boolean.class, "skipHeader")
+                        .addParameter(consumerType, "consumer")
+                        .addException(IOException.class)
+                        .addStatement("return $T.forEachRow(file, DELIMITER, skipHeader, "
+                                + "columns -> consumer.accept(fromRow(columns)))", DelimitedReader.class)
+                        .build());
+
+        try {
+            JavaFile.builder(valueName.packageName(), classBuilder.build())
+                    .build()
+                    .writeTo(processingEnv.getFiler());
+        } catch (IOException e) {
+            throw new RuntimeException("生成 Csv 类失败", e);
+        }
+    }
+
+    private boolean isSupported(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        String name = type.toString();
+        return TypeUtils.isBasicType(type) || TypeUtils.isStringType(type) || TypeUtils.isEnum(type)
+                || "java.math.BigDecimal".equals(name) || "java.math.BigInteger".equals(name)
+                || TEMPORAL_TYPES.contains(name);
+    }
+
+    /**
+     * 把非空字段解析为字段类型的表达式。
+     */
+    private CodeBlock parse(TypeMirror type, String column) {
+        String name = type.getKind().isPrimitive() ? type.toString()
+                : TypeUtils.isBasicType(type) ? TypeName.get(type).unbox().toString() : type.toString();
+        switch (name) {
+            case "long":
+                return CodeBlock.of("$T.parseLong($L)", SUPPORT, column);
+            case "int":
+                return CodeBlock.of("$T.parseInt($L)", SUPPORT, column);
+            case "boolean":
+                return CodeBlock.of("$T.parseBoolean($L)", SUPPORT, column);
+            case "char":
+                return CodeBlock.of("$T.parseChar($L)", SUPPORT, column);
+            case "short":
+                return CodeBlock.of("$T.parseShort($L.toString())", Short.class, column);
+            case "byte":
+                return CodeBlock.of("$T.parseByte($L.toString())", Byte.class, column);
+            case "double":
+                return CodeBlock.of("$T.parseDouble($L.toString())", Double.class, column);
+            case "float":
+                return CodeBlock.of("$T.parseFloat($L.toString())", Float.class, column);
+            default:
+                break;
+        }
+        if (TypeUtils.isStringType(type)) {
+            return CodeBlock.of("$L.toString()", column);
+        }
+        if (TypeUtils.isEnum(type) || TEMPORAL_TYPES.contains(name)) {
+            return TypeUtils.isEnum(type)
+                    ? CodeBlock.of("$T.valueOf($L.toString())", TypeName.get(type), column)
+                    : CodeBlock.of("$T.parse($L)", TypeName.get(type), column);
+        }
+        return CodeBlock.of("new $T($L.toString())", TypeName.get(type), column);
+    }
+
+    /**
+     * 写出一个字段。
+     */
+    private void appendWrite(CodeBlock.Builder code, TypeMirror type, String getter, String variable) {
+        if (type.getKind().isPrimitive()) {
+            if ("char".equals(type.toString())) {
+                code.addStatement("$T.writeField(out, $T.valueOf($L), DELIMITER)", SUPPORT, String.class, getter);
+            } else {
+                code.addStatement("out.append($T.valueOf($L))", String.class, getter);
+            }
+            return;
+        }
+        code.addStatement("$T $L = $L", TypeName.get(type), variable, getter)
+                .beginControlFlow("if ($L != null)", variable);
+        if (TypeUtils.isStringType(type)) {
+            code.addStatement("$T.writeField(out, $L, DELIMITER)", SUPPORT, variable);
+        } else if ("java.lang.Character".equals(type.toString())) {
+            code.addStatement("$T.writeField(out, $L.toString(), DELIMITER)", SUPPORT, variable);
+        } else if (TypeUtils.isEnum(type)) {
+            code.addStatement("out.append($L.name())", variable);
+        } else {
+            code.addStatement("out.append($L.toString())", variable);
+        }
+        code.endControlFlow();
+    }
+
+    private static String charLiteral(char c) {
+        switch (c) {
+            case '\t':
+                return "'\\t'";
+            case '\'':
+                return "'\\''";
+            case '\\':
+                return "'\\\\'";
+            default:
+                return "'" + c + "'";
+        }
+    }
+
+    private String capitalize(String str) {
+        if (str == null || str.isEmpty()) {
+            return str;
+        }
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+}
@@ -4,6 +4,7 @@ import javax.lang.model.type.TypeMirror;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -33,6 +34,11 @@ public final class ExpressionUtils {
      */
     private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"");
 
+    /**
+     * 表达式中引用源对象的变量名。
+     */
+    private static final String SOURCE_VARIABLE = "source";
+
     /**
      * Java 关键字集合。
      */
@@ -213,6 +219,162 @@ public final class ExpressionUtils {
         return variables.contains(variableName);
     }
 
+    /**
+     * 提取表达式中对源对象无参访问器的调用。
+     *
+     * <p>识别 {@code source.getXxx()} 和 {@code source.isXxx()} 形式的调用，
+     * 跳过字符串/字符字面量以及 {@code other.source.getXxx()} 这类非源对象的引用。
+     * 返回的列表按出现顺序排列，重复调用会重复出现，便于统计调用次数。
+     *
+     * @param expression 表达式
+     * @return 访问器方法名列表（如 {@code getFirstName}）
+     * @since 1.3.0
+     */
+    public static List<String> extractSourceAccessors(String expression) {
+        List<String> accessors = new ArrayList<>();
+        if (expression == null || expression.trim().isEmpty()) {
+            return accessors;
+        }
+        for (int[] match : scanSourceAccessors(expression)) {
+            accessors.add(expression.substring(match[2], match[3]));
+        }
+        return accessors;
+    }
+
+    /**
+     * 将表达式中的源对象访问器调用替换为指定的变量名。
+     *
+     * <p>例如在替换表 {@code getFirstName -> cachedFirstName} 下，
+     * {@code source.getFirstName() + " " + source.getLastName()} 会被改写为
+     * {@code cachedFirstName + " " + source.getLastName()}。字符串字面量中的内容保持不变。
+     *
+     * @param expression   表达式
+     * @param replacements 访问器方法名到替换变量名的映射
+     * @return 替换后的表达式
+     * @since 1.3.0
+     */
+    public static String replaceSourceAccessors(String expression, Map<String, String> replacements) {
+        if (expression == null || replacements == null || replacements.isEmpty()) {
+            return expression;
+        }
+        StringBuilder result = new StringBuilder(expression.length());
+        int last = 0;
+        for (int[] match : scanSourceAccessors(expression)) {
+            String replacement = replacements.get(expression.substring(match[2], match[3]));
+            if (replacement == null) {
+                continue;
+            }
+            result.append(expression, last, match[0]).append(replacement);
+            last = match[1];
+        }
+        result.append(expression, last, expression.length());
+        return result.toString();
+    }
+
+    /**
+     * 扫描 {@code source.getXxx()} 形式的调用。
+     *
+     * <p>每个匹配项为 {@code [调用起始, 调用结束, 方法名起始, 方法名结束]}。
+     */
+    private static List<int[]> scanSourceAccessors(String expression) {
+        List<int[]> matches = new ArrayList<>();
+        int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipLiteral(expression, i);
+                continue;
+            }
+            if (!Character.isJavaIdentifierStart(c)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && Character.isJavaIdentifierPart(expression.charAt(i))) {
+                i++;
+            }
+            if (!SOURCE_VARIABLE.equals(expression.substring(start, i)) || isQualified(expression, start)) {
+                continue;
+            }
+            int j = skipWhitespace(expression, i);
+            if (j >= length || expression.charAt(j) != '.') {
+                continue;
+            }
+            j = skipWhitespace(expression, j + 1);
+            int nameStart = j;
+            while (j < length && Character.isJavaIdentifierPart(expression.charAt(j))) {
+                j++;
+            }
+            int nameEnd = j;
+            if (!isAccessorName(expression.substring(nameStart, nameEnd))) {
+                continue;
+            }
+            j = skipWhitespace(expression, j);
+            if (j >= length || expression.charAt(j) != '(') {
+                continue;
+            }
+            j = skipWhitespace(expression, j + 1);
+            if (j >= length || expression.charAt(j) != ')') {
+                continue;
+            }
+            matches.add(new int[]{start, j + 1, nameStart, nameEnd});
+            i = j + 1;
+        }
+        return matches;
+    }
+
+    /**
+     * 判断方法名是否为 getter 形式（{@code getXxx} / {@code isXxx}）。
+     */
+    private static boolean isAccessorName(String name) {
+        if (name.startsWith("get") && name.length() > 3) {
+            return Character.isUpperCase(name.charAt(3));
+        }
+        if (name.startsWith("is") && name.length() > 2) {
+            return Character.isUpperCase(name.charAt(2));
+        }
+        return false;
+    }
+
+    /**
+     * 判断标识符前是否有点号（即 {@code xxx.source} 形式的限定访问）。
+     */
+    private static boolean isQualified(String expression, int identifierStart) {
+        int k = identifierStart - 1;
+        while (k >= 0 && Character.isWhitespace(expression.charAt(k))) {
+            k--;
+        }
+        return k >= 0 && expression.charAt(k) == '.';
+    }
+
+    private static int skipWhitespace(String expression, int index) {
+        while (index < expression.length() && Character.isWhitespace(expression.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 跳过字符串或字符字面量，返回字面量之后的位置。
+     */
+    private static int skipLiteral(String expression, int quoteIndex) {
+        char quote = expression.charAt(quoteIndex);
+        int i = quoteIndex + 1;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == quote) {
+                return i + 1;
+            }
+            i++;
+        }
+        return expression.length();
+    }
+
     /**
      * 检查括号是否匹配。
      */
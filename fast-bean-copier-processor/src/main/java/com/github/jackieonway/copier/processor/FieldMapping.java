@@ -1,5 +1,8 @@
 package com.github.jackieonway.copier.processor;
 
+import com.github.jackieonway.copier.annotation.CollectionOutput;
+import com.github.jackieonway.copier.annotation.CopyStrategy;
+
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeMirror;
 import java.util.ArrayList;
@@ -109,6 +112,70 @@ public class FieldMapping {
      */
     private String qualifiedByName;
 
+    /**
+     * 目标集合字段的实现类（toDto 方向）。
+     *
+     * @since 1.3.0
+     */
+    private TypeMirror implementationType;
+
+    /**
+     * 集合输出策略（toDto 方向）。
+     *
+     * @since 1.3.0
+     */
+    private CollectionOutput collectionOutput = CollectionOutput.INHERIT;
+
+    /**
+     * 集合拷贝策略（双向）。
+     *
+     * @since 1.3.0
+     */
+    private CopyStrategy copyStrategy = CopyStrategy.DEEP;
+
+    /**
+     * 合成 via 映射时中间字段的类型：源值需先按第一段转换为该类型，再按第二段转换为目标类型，
+     * 其余映射为 null。
+     *
+     * @since 1.3.0
+     */
+    private TypeMirror viaType;
+
+    /**
+     * 点号分隔的源字段路径（如 {@code customer.address.city}）的各段字段名，普通映射为 null。
+     *
+     * @since 1.3.0
+     */
+    private List<String> sourcePath;
+
+    /**
+     * 源字段路径各段的字段类型，与 {@link #sourcePath} 一一对应。
+     *
+     * @since 1.3.0
+     */
+    private List<TypeMirror> sourcePathTypes;
+
+    /**
+     * 字段拷贝条件（布尔表达式），仅作用于 toDto 方向，未设置时为 null。
+     *
+     * @since 1.3.0
+     */
+    private String condition;
+
+    /**
+     * 具名附加源的名称，来自主源的映射为 null。
+     *
+     * @since 1.3.0
+     */
+    private String sourceName;
+
+    /**
+     * 集合元素的合并键属性名，未设置时为 null。
+     *
+     * @since 1.3.0
+     */
+    private String mergeKey;
+
     /**
      * 构造方法。
      *
@@ -301,6 +368,198 @@ public class FieldMapping {
         this.qualifiedByName = qualifiedByName;
     }
 
+    /**
+     * 获取目标集合字段的实现类。
+     *
+     * @return 实现类，未指定时返回 null
+     * @since 1.3.0
+     */
+    public TypeMirror getImplementationType() {
+        return implementationType;
+    }
+
+    /**
+     * 设置目标集合字段的实现类。
+     *
+     * @param implementationType 实现类
+     * @since 1.3.0
+     */
+    public void setImplementationType(TypeMirror implementationType) {
+        this.implementationType = implementationType;
+    }
+
+    /**
+     * 获取集合输出策略。
+     *
+     * @return 集合输出策略，未在字段上指定时为 {@link CollectionOutput#INHERIT}
+     * @since 1.3.0
+     */
+    public CollectionOutput getCollectionOutput() {
+        return collectionOutput;
+    }
+
+    /**
+     * 设置集合输出策略。
+     *
+     * @param collectionOutput 集合输出策略
+     * @since 1.3.0
+     */
+    public void setCollectionOutput(CollectionOutput collectionOutput) {
+        this.collectionOutput = collectionOutput;
+    }
+
+    /**
+     * 获取集合拷贝策略。
+     *
+     * @return 集合拷贝策略，默认 {@link CopyStrategy#DEEP}
+     * @since 1.3.0
+     */
+    public CopyStrategy getCopyStrategy() {
+        return copyStrategy;
+    }
+
+    /**
+     * 设置集合拷贝策略。
+     *
+     * @param copyStrategy 集合拷贝策略
+     * @since 1.3.0
+     */
+    public void setCopyStrategy(CopyStrategy copyStrategy) {
+        this.copyStrategy = copyStrategy;
+    }
+
+    /**
+     * 获取合成 via 映射时中间字段的类型。
+     *
+     * @return 中间字段类型，不需要分两段转换时返回 null
+     * @since 1.3.0
+     */
+    public TypeMirror getViaType() {
+        return viaType;
+    }
+
+    /**
+     * 设置合成 via 映射时中间字段的类型。
+     *
+     * @param viaType 中间字段类型
+     * @since 1.3.0
+     */
+    public void setViaType(TypeMirror viaType) {
+        this.viaType = viaType;
+    }
+
+    /**
+     * 获取源字段路径的各段字段名。
+     *
+     * @return 字段名列表，普通映射返回 null
+     * @since 1.3.0
+     */
+    public List<String> getSourcePath() {
+        return sourcePath;
+    }
+
+    /**
+     * 获取源字段路径各段的字段类型。
+     *
+     * @return 字段类型列表，普通映射返回 null
+     * @since 1.3.0
+     */
+    public List<TypeMirror> getSourcePathTypes() {
+        return sourcePathTypes;
+    }
+
+    /**
+     * 设置源字段路径。源字段与源类型对应路径的最后一段。
+     *
+     * @param sourcePath      各段字段名
+     * @param sourcePathTypes 各段字段类型
+     * @since 1.3.0
+     */
+    public void setSourcePath(List<String> sourcePath, List<TypeMirror> sourcePathTypes) {
+        this.sourcePath = sourcePath;
+        this.sourcePathTypes = sourcePathTypes;
+    }
+
+    /**
+     * 判断是否是点号路径映射。
+     *
+     * @return 如果源字段是嵌套路径返回 true
+     * @since 1.3.0
+     */
+    public boolean isPathMapping() {
+        return sourcePath != null;
+    }
+
+    /**
+     * 获取字段拷贝条件。
+     *
+     * @return 布尔表达式，未设置时返回 null
+     * @since 1.3.0
+     */
+    public String getCondition() {
+        return condition;
+    }
+
+    /**
+     * 设置字段拷贝条件。
+     *
+     * @param condition 布尔表达式
+     * @since 1.3.0
+     */
+    public void setCondition(String condition) {
+        this.condition = condition;
+    }
+
+    /**
+     * 判断是否带有拷贝条件。
+     *
+     * @return 如果设置了条件返回 true
+     * @since 1.3.0
+     */
+    public boolean hasCondition() {
+        return condition != null && !condition.isEmpty();
+    }
+
+    /**
+     * 获取具名附加源的名称。
+     *
+     * @return 附加源名称，来自主源时返回 null
+     * @since 1.3.0
+     */
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    /**
+     * 设置具名附加源的名称。
+     *
+     * @param sourceName 附加源名称
+     * @since 1.3.0
+     */
+    public void setSourceName(String sourceName) {
+        this.sourceName = sourceName;
+    }
+
+    /**
+     * 获取集合元素的合并键属性名。
+     *
+     * @return 合并键，未设置时返回 null
+     * @since 1.3.0
+     */
+    public String getMergeKey() {
+        return mergeKey;
+    }
+
+    /**
+     * 设置集合元素的合并键属性名。
+     *
+     * @param mergeKey 合并键
+     * @since 1.3.0
+     */
+    public void setMergeKey(String mergeKey) {
+        this.mergeKey = mergeKey;
+    }
+
     /**
      * 判断是否有表达式。
      *
@@ -0,0 +1,305 @@
+package com.github.jackieonway.copier.processor;
+
+import com.github.jackieonway.copier.runtime.MappedDtoArray;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 堆外 Flyweight 访问类生成器。
+ *
+ * <p>为 {@code @CopyTarget(offHeap = true)} 标注的类生成 {@code XxxFlyweight}，按固定偏移读写
+ * {@link MappedDtoArray} 中的定长记录。字段按宽度从大到小排列，末尾 1 字节为存在标记，
+ * 记录大小按最大字段宽度对齐。要求目标类的字段全部为基本类型。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class FlyweightGenerator {
+
+    private static final ClassName MAPPED_DTO_ARRAY = ClassName.get(MappedDtoArray.class);
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Messager messager;
+
+    /**
+     * 需要生成 Flyweight 的类型。
+     */
+    private final TypeElement valueType;
+
+    /**
+     * 构造方法。
+     *
+     * @param processingEnv 处理环境
+     * @param valueType     需要生成 Flyweight 的类型
+     */
+    public FlyweightGenerator(ProcessingEnvironment processingEnv, TypeElement valueType) {
+        this.processingEnv = processingEnv;
+        this.messager = processingEnv.getMessager();
+        this.valueType = valueType;
+    }
+
+    /**
+     * 获取类型对应的 Flyweight 类名（与类型位于同一包）。
+     *
+     * @param type 类型元素
+     * @return Flyweight 类名
+     */
+    public static ClassName flyweightClassName(TypeElement type) {
+        return ClassName.get(ClassName.get(type).packageName(), type.getSimpleName() + "Flyweight");
+    }
+
+    /**
+     * 校验目标类能否使用定长布局，不支持的字段输出编译错误。
+     *
+     * @return 全部字段均为基本类型时返回 true
+     */
+    public boolean validate() {
+        boolean valid = true;
+        for (VariableElement field : TypeUtils.getAllFields(valueType)) {
+            if (!field.asType().getKind().isPrimitive()) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "offHeap 只支持基本类型字段，字段类型为 " + field.asType(), field);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * 生成 Flyweight 类。
+     */
+    public void generateFlyweightClass() {
+        ClassName valueName = ClassName.get(valueType);
+        ClassName flyweightName = flyweightClassName(valueType);
+
+        List<VariableElement> fields = new ArrayList<>(TypeUtils.getAllFields(valueType));
+        // 宽字段在前，保证每个字段都按自身宽度对齐
+        fields.sort(Comparator.comparingInt((VariableElement field) -> width(field.asType().getKind())).reversed());
+        int offset = 0;
+        int alignment = 1;
+        List<FieldSpec> offsetFields = new ArrayList<>();
+        for (VariableElement field : fields) {
+            int width = width(field.asType().getKind());
+            offsetFields.add(constant(offsetName(field), offset));
+            offset += width;
+            alignment = Math.max(alignment, width);
+        }
+        int presentOffset = offset;
+        int recordSize = (presentOffset + 1 + alignment - 1) / alignment * alignment;
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(flyweightName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("$T 的堆外定长记录访问类，由 fast-bean-copier 生成。\n\n"
+                        + "<p>同一个实例通过 {@link #moveTo(int)} 在记录之间移动，读写时不创建对象。\n", valueName)
+                .addField(constant("RECORD_SIZE", recordSize));
+        for (FieldSpec offsetField : offsetFields) {
+            classBuilder.addField(offsetField);
+        }
+        classBuilder.addField(constant("PRESENT_OFFSET", presentOffset));
+
+        ParameterizedTypeName arrayType = ParameterizedTypeName.get(MAPPED_DTO_ARRAY, valueName);
+        ParameterizedTypeName layoutType = ParameterizedTypeName.get(MAPPED_DTO_ARRAY.nestedClass("Layout"), valueName);
+        TypeSpec layout = TypeSpec.anonymousClassBuilder("")
+                .addSuperinterface(layoutType)
+                .addMethod(MethodSpec.methodBuilder("recordSize")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return RECORD_SIZE")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("read")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(valueName)
+                        .addParameter(ByteBuffer.class, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addStatement("return $T.read(buffer, offset)", flyweightName)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("write")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(valueName, "value")
+                        .addParameter(ByteBuffer.class, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addStatement("$T.write(value, buffer, offset)", flyweightName)
+                        .build())
+                .build();
+        classBuilder.addField(FieldSpec.builder(layoutType, "LAYOUT",
+                        Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("记录布局，用于 {@link $T#allocate}、{@link $T#create} 与 {@link $T#open}。\n",
+                        MAPPED_DTO_ARRAY, MAPPED_DTO_ARRAY, MAPPED_DTO_ARRAY)
+                .initializer("$L", layout)
+                .build());
+        classBuilder.addField(arrayType, "array", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(ByteBuffer.class, "buffer", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(FieldSpec.builder(int.class, "base", Modifier.PRIVATE).initializer("-1").build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addJavadoc("创建指向数组的访问器，使用前需先调用 {@link #moveTo(int)}。\n\n"
+                                + "@param array 堆外记录数组\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(arrayType, "array")
+                        .addStatement("this.array = array")
+                        .addStatement("this.buffer = array.buffer()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("moveTo")
+                        .addJavadoc("移动到指定下标的记录。\n\n@param index 下标\n@return 当前访问器\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(flyweightName)
+                        .addParameter(int.class, "index")
+                        .addStatement("this.base = array.offsetOf(index)")
+                        .addStatement("return this")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("isNull")
+                        .addJavadoc("当前记录是否为空（对应的源对象为 null）。\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return buffer.get(base + PRESENT_OFFSET) == 0")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("markPresent")
+                        .addJavadoc("将当前记录标记为非空，写入字段前调用。\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addStatement("buffer.put(base + PRESENT_OFFSET, (byte) 1)")
+                        .build());
+
+        CodeBlock.Builder readBody = CodeBlock.builder()
+                .beginControlFlow("if (buffer.get(offset + PRESENT_OFFSET) == 0)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T value = new $T()", valueName, valueName);
+        CodeBlock.Builder writeBody = CodeBlock.builder()
+                .beginControlFlow("if (value == null)")
+                .addStatement("buffer.put(offset + PRESENT_OFFSET, (byte) 0)")
+                .addStatement("return")
+                .endControlFlow();
+        for (VariableElement field : TypeUtils.getAllFields(valueType)) {
+            String name = field.getSimpleName().toString();
+            String accessor = capitalize(name);
+            TypeKind kind = field.asType().getKind();
+            String position = "base + " + offsetName(field);
+            classBuilder.addMethod(MethodSpec.methodBuilder("get" + accessor)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(TypeName.get(field.asType()))
+                    .addStatement("return $L", readExpression(kind, position))
+                    .build());
+            classBuilder.addMethod(MethodSpec.methodBuilder("set" + accessor)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(TypeName.get(field.asType()), name)
+                    .addStatement(writeStatement(kind, position, name))
+                    .build());
+            readBody.addStatement("value.set$L($L)", accessor,
+                    readExpression(kind, "offset + " + offsetName(field)));
+            writeBody.addStatement(writeStatement(kind, "offset + " + offsetName(field),
+                    "value.get" + accessor + "()"));
+        }
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("toDto")
+                        .addJavadoc("将当前记录还原为 DTO 对象。\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(valueName)
+                        .addStatement("return read(buffer, base)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("read")
+                        .addModifiers(Modifier.STATIC)
+                        .returns(valueName)
+                        .addParameter(ByteBuffer.class, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addCode(readBody.addStatement("return value").build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("write")
+                        .addModifiers(Modifier.STATIC)
+                        .addParameter(valueName, "value")
+                        .addParameter(ByteBuffer.class, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addCode(writeBody.addStatement("buffer.put(offset + PRESENT_OFFSET, (byte) 1)").build())
+                        .build());
+
+        try {
+            JavaFile.builder(flyweightName.packageName(), classBuilder.build())
+                    .build()
+                    .writeTo(processingEnv.getFiler());
+        } catch (IOException e) {
+            throw new RuntimeException("生成 Flyweight 类失败", e);
+        }
+    }
+
+    private static FieldSpec constant(String name, int value) {
+        return FieldSpec.builder(int.class, name, Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", value)
+                .build();
+    }
+
+    /**
+     * 偏移常量名，如 {@code lastPrice} -> {@code LAST_PRICE_OFFSET}。
+     */
+    private static String offsetName(VariableElement field) {
+        return field.getSimpleName().toString().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT)
+                + "_OFFSET";
+    }
+
+    private static int width(TypeKind kind) {
+        switch (kind) {
+            case LONG:
+            case DOUBLE:
+                return 8;
+            case INT:
+            case FLOAT:
+                return 4;
+            case SHORT:
+            case CHAR:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    private static String readExpression(TypeKind kind, String position) {
+        switch (kind) {
+            case BOOLEAN:
+                return "buffer.get(" + position + ") != 0";
+            case BYTE:
+                return "buffer.get(" + position + ")";
+            default:
+                return "buffer.get" + capitalize(kind.name().toLowerCase(Locale.ROOT)) + "(" + position + ")";
+        }
+    }
+
+    private static String writeStatement(TypeKind kind, String position, String value) {
+        switch (kind) {
+            case BOOLEAN:
+                return "buffer.put(" + position + ", (byte) (" + value + " ? 1 : 0))";
+            case BYTE:
+                return "buffer.put(" + position + ", " + value + ")";
+            default:
+                return "buffer.put" + capitalize(kind.name().toLowerCase(Locale.ROOT)) + "(" + position + ", " + value
+                        + ")";
+        }
+    }
+
+    private static String capitalize(String str) {
+        if (str == null || str.isEmpty()) {
+            return str;
+        }
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+}
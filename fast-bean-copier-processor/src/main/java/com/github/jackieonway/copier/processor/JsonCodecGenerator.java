@@ -0,0 +1,610 @@
+package com.github.jackieonway.copier.processor;
+
+import com.github.jackieonway.copier.annotation.CopyField;
+import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.runtime.JsonReader;
+import com.github.jackieonway.copier.runtime.JsonWriter;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * JSON 编解码器生成器。
+ *
+ * <p>为 {@code @CopyTarget(json = true)} 标注的类生成 {@code XxxJsonCodec}，包含：
+ * <ul>
+ *   <li>{@code write(T, Appendable)} / {@code write(T, OutputStream)}：流式写出 JSON（UTF-8）</li>
+ *   <li>{@code read(Reader)} / {@code read(byte[])}：读取 JSON</li>
+ *   <li>{@code writeValue} / {@code readValue}：供嵌套对象的 JsonCodec 调用</li>
+ * </ul>
+ *
+ * <p>字段名在类加载时预先编码为 {@link JsonWriter.Name}，写出时直接复制；读取时按字段名 {@code switch}，
+ * 未知字段被跳过。标注了 {@code @CopyField(converter = JsonConverter.class)} 的字段：String 类型视为已序列化的
+ * JSON 原样嵌入，其他类型交给 JsonConverter（Jackson）序列化后嵌入。生成的代码不使用反射。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class JsonCodecGenerator {
+
+    private static final ClassName JSON_CONVERTER =
+            ClassName.get("com.github.jackieonway.copier.converter", "JsonConverter");
+
+    /**
+     * 写为 JSON 字符串、用静态工厂方法解析的值类型（全限定名 -> 解析方法名）。
+     */
+    private static final Map<String, String> STRING_VALUE_TYPES = new HashMap<>();
+
+    static {
+        STRING_VALUE_TYPES.put("java.time.LocalDate", "parse");
+        STRING_VALUE_TYPES.put("java.time.LocalDateTime", "parse");
+        STRING_VALUE_TYPES.put("java.time.LocalTime", "parse");
+        STRING_VALUE_TYPES.put("java.time.OffsetDateTime", "parse");
+        STRING_VALUE_TYPES.put("java.time.Instant", "parse");
+        STRING_VALUE_TYPES.put("java.time.Duration", "parse");
+        STRING_VALUE_TYPES.put("java.util.UUID", "fromString");
+    }
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Messager messager;
+
+    /**
+     * 需要生成 JsonCodec 的类型。
+     */
+    private final TypeElement valueType;
+
+    /**
+     * 局部变量序号，保证同一方法内（包括嵌套循环）的变量名唯一。
+     */
+    private int variableIndex;
+
+    /**
+     * 是否有字段交给 JsonConverter 处理。
+     */
+    private boolean usesConverter;
+
+    /**
+     * 构造方法。
+     *
+     * @param processingEnv 处理环境
+     * @param valueType     需要生成 JsonCodec 的类型
+     */
+    public JsonCodecGenerator(ProcessingEnvironment processingEnv, TypeElement valueType) {
+        this.processingEnv = processingEnv;
+        this.messager = processingEnv.getMessager();
+        this.valueType = valueType;
+    }
+
+    /**
+     * 获取类型对应的 JsonCodec 类名（与类型位于同一包）。
+     *
+     * @param type 类型元素
+     * @return JsonCodec 类名
+     */
+    public static ClassName jsonCodecClassName(TypeElement type) {
+        return ClassName.get(ClassName.get(type).packageName(), type.getSimpleName() + "JsonCodec");
+    }
+
+    /**
+     * 生成 JsonCodec 类。字段类型不受支持时输出编译错误，不生成文件。
+     */
+    public void generateJsonCodecClass() {
+        ClassName valueName = ClassName.get(valueType);
+        List<VariableElement> fields = TypeUtils.getAllFields(valueType);
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(jsonCodecClassName(valueType))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("$T 的 JSON 编解码器，由 fast-bean-copier 生成。\n", valueName);
+
+        CodeBlock.Builder writeBody = CodeBlock.builder()
+                .beginControlFlow("if (value == null)")
+                .addStatement("writer.writeNull()")
+                .addStatement("return")
+                .endControlFlow();
+        CodeBlock.Builder readBody = CodeBlock.builder()
+                .beginControlFlow("if (reader.nextNull())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T value = new $T()", valueName, valueName)
+                .addStatement("reader.beginObject()")
+                .beginControlFlow("while (reader.hasNext())")
+                .beginControlFlow("switch (reader.nextName())");
+
+        boolean failed = false;
+        boolean first = true;
+        for (VariableElement field : fields) {
+            String name = field.getSimpleName().toString();
+            String accessor = capitalize(name);
+            TypeMirror type = field.asType();
+            boolean converted = isJsonConverterField(field);
+            if (!converted && !isSupported(type)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "json 不支持字段类型 " + type + "，嵌套对象需要同样标注 @CopyTarget(json = true)，"
+                                + "或在字段上使用 @CopyField(converter = JsonConverter.class)", field);
+                failed = true;
+                continue;
+            }
+            String constant = "NAME_" + CodeGenerator.toConstantName(name);
+            classBuilder.addField(FieldSpec.builder(JsonWriter.Name.class, constant,
+                            Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.name($S, $L)", JsonWriter.class, name, first)
+                    .build());
+            first = false;
+
+            writeBody.addStatement("writer.writeName($L)", constant);
+            readBody.add("case $S:\n", name).indent()
+                    .beginControlFlow("if (!reader.nextNull())");
+            if (converted) {
+                appendConverterWrite(writeBody, type, "value.get" + accessor + "()");
+                readBody.addStatement("value.set$L($L)", accessor, converterRead(type));
+            } else {
+                appendWrite(writeBody, type, "value.get" + accessor + "()");
+                readBody.addStatement("value.set$L($L)", accessor, appendRead(readBody, type));
+            }
+            readBody.endControlFlow().addStatement("break").unindent();
+        }
+        if (failed) {
+            return;
+        }
+        if (first) {
+            writeBody.addStatement("writer.beginObject()");
+        }
+        writeBody.addStatement("writer.endObject()");
+        readBody.add("default:\n").indent()
+                .addStatement("reader.skipValue()")
+                .addStatement("break")
+                .unindent()
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("reader.endObject()")
+                .addStatement("return value");
+
+        if (usesConverter) {
+            classBuilder.addField(FieldSpec.builder(JSON_CONVERTER, "JSON_CONVERTER",
+                            Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T()", JSON_CONVERTER)
+                    .build());
+        }
+        classBuilder.addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(MethodSpec.methodBuilder("write")
+                        .addJavadoc("写出 JSON 到字符输出。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(valueName, "value")
+                        .addParameter(Appendable.class, "out")
+                        .addException(IOException.class)
+                        .addStatement("writeValue(value, $T.of(out))", JsonWriter.class)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("write")
+                        .addJavadoc("以 UTF-8 写出 JSON 到字节输出（不关闭输出）。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(valueName, "value")
+                        .addParameter(OutputStream.class, "out")
+                        .addException(IOException.class)
+                        .addStatement("$T writer = $T.of(out)", JsonWriter.class, JsonWriter.class)
+                        .addStatement("writeValue(value, writer)")
+                        .addStatement("writer.flush()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("read")
+                        .addJavadoc("读取字符输入中的 JSON（不关闭输入），格式错误时抛出 {@link IllegalArgumentException}。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(valueName)
+                        .addParameter(Reader.class, "in")
+                        .addException(IOException.class)
+                        .addStatement("$T reader = $T.of(in)", JsonReader.class, JsonReader.class)
+                        .addStatement("$T value = readValue(reader)", valueName)
+                        .addStatement("reader.endDocument()")
+                        .addStatement("return value")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("read")
+                        .addJavadoc("读取 UTF-8 编码的 JSON，格式错误时抛出 {@link IllegalArgumentException}。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(valueName)
+                        .addParameter(byte[].class, "json")
+                        .addStatement("$T reader = $T.of(json)", JsonReader.class, JsonReader.class)
+                        .addStatement("$T value = readValue(reader)", valueName)
+                        .addStatement("reader.endDocument()")
+                        .addStatement("return value")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("writeValue")
+                        .addJavadoc("写出一个值，null 写为 {@code null}。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(valueName, "value")
+                        .addParameter(JsonWriter.class, "writer")
+                        .addException(IOException.class)
+                        .addCode(writeBody.build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("readValue")
+                        .addJavadoc("读取一个值，未知字段被跳过。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(valueName)
+                        .addParameter(JsonReader.class, "reader")
+                        .addCode(readBody.build())
+                        .build());
+
+        try {
+            JavaFile.builder(valueName.packageName(), classBuilder.build())
+                    .build()
+                    .writeTo(processingEnv.getFiler());
+        } catch (IOException e) {
+            throw new RuntimeException("生成 JsonCodec 类失败", e);
+        }
+    }
+
+    /**
+     * 判断字段是否标注了 {@code @CopyField(converter = JsonConverter.class)}。
+     */
+    private boolean isJsonConverterField(VariableElement field) {
+        CopyField copyField = field.getAnnotation(CopyField.class);
+        if (copyField == null) {
+            return false;
+        }
+        String converter;
+        try {
+            converter = copyField.converter().getCanonicalName();
+        } catch (MirroredTypeException e) {
+            converter = e.getTypeMirror().toString();
+        }
+        return JSON_CONVERTER.canonicalName().equals(converter);
+    }
+
+    /**
+     * 判断类型能否编解码。
+     */
+    private boolean isSupported(TypeMirror type) {
+        if (type.getKind().isPrimitive() || TypeUtils.isWrapper(type) || TypeUtils.isEnum(type)) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) type).getComponentType().getKind().isPrimitive();
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        String name = qualifiedName(type);
+        if (TypeUtils.isStringType(type) || STRING_VALUE_TYPES.containsKey(name) || hasJsonCodec(type)
+                || "java.math.BigDecimal".equals(name) || "java.math.BigInteger".equals(name)
+                || "java.util.Date".equals(name)) {
+            return true;
+        }
+        if (TypeUtils.isList(type) || TypeUtils.isSet(type) || TypeUtils.isMap(type)) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            if (arguments.isEmpty() || !isInstantiable(type)) {
+                return false;
+            }
+            if (TypeUtils.isMap(type) && !isSupportedKey(arguments.get(0))) {
+                return false;
+            }
+            for (TypeMirror argument : arguments) {
+                if (argument.getKind() != TypeKind.DECLARED || !isSupported(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Map 的键写为 JSON 字段名，支持 String、枚举、Integer 与 Long。
+     */
+    private boolean isSupportedKey(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        String name = qualifiedName(type);
+        return TypeUtils.isStringType(type) || TypeUtils.isEnum(type)
+                || "java.lang.Integer".equals(name) || "java.lang.Long".equals(name);
+    }
+
+    private boolean hasJsonCodec(TypeMirror type) {
+        CopyTarget copyTarget = ((DeclaredType) type).asElement().getAnnotation(CopyTarget.class);
+        return copyTarget != null && copyTarget.json();
+    }
+
+    /**
+     * 集合字段声明为接口或可无参实例化的具体类时才能解码。
+     */
+    private boolean isInstantiable(TypeMirror type) {
+        Element element = ((DeclaredType) type).asElement();
+        String name = qualifiedName(type);
+        return "java.util.List".equals(name) || "java.util.Set".equals(name) || "java.util.Map".equals(name)
+                || !element.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private void appendConverterWrite(CodeBlock.Builder body, TypeMirror type, String value) {
+        if (TypeUtils.isStringType(type)) {
+            body.addStatement("writer.writeRawValue($L)", value);
+        } else {
+            usesConverter = true;
+            body.addStatement("writer.writeRawValue(JSON_CONVERTER.toJson($L))", value);
+        }
+    }
+
+    private CodeBlock converterRead(TypeMirror type) {
+        if (TypeUtils.isStringType(type)) {
+            return CodeBlock.of("reader.nextRawValue()");
+        }
+        usesConverter = true;
+        TypeName erasure = TypeName.get(processingEnv.getTypeUtils().erasure(type));
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return CodeBlock.of("($T) JSON_CONVERTER.fromJson(reader.nextRawValue(), $T.class)",
+                    TypeName.get(type), erasure);
+        }
+        return CodeBlock.of("JSON_CONVERTER.fromJson(reader.nextRawValue(), $T.class)", erasure);
+    }
+
+    private void appendWrite(CodeBlock.Builder body, TypeMirror type, String value) {
+        if (type.getKind().isPrimitive()) {
+            body.addStatement(writeScalar(type.getKind(), value));
+            return;
+        }
+        String variable = localVariable(body, type, value);
+        body.beginControlFlow("if ($L == null)", variable)
+                .addStatement("writer.writeNull()")
+                .nextControlFlow("else");
+        if (TypeUtils.isWrapper(type)) {
+            body.addStatement(writeScalar(unboxedKind(type), variable));
+        } else if (TypeUtils.isEnum(type)) {
+            body.addStatement("writer.writeString($L.name())", variable);
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            TypeKind componentKind = ((ArrayType) type).getComponentType().getKind();
+            if (componentKind == TypeKind.BYTE) {
+                body.addStatement("writer.writeString($T.getEncoder().encodeToString($L))", Base64.class, variable);
+            } else {
+                String index = nextVariable("i");
+                body.addStatement("writer.beginArray()")
+                        .beginControlFlow("for (int $L = 0; $L < $L.length; $L++)", index, index, variable, index)
+                        .beginControlFlow("if ($L > 0)", index)
+                        .addStatement("writer.comma()")
+                        .endControlFlow()
+                        .addStatement(writeScalar(componentKind, variable + "[" + index + "]"))
+                        .endControlFlow()
+                        .addStatement("writer.endArray()");
+            }
+        } else if (TypeUtils.isStringType(type)) {
+            body.addStatement("writer.writeString($L)", variable);
+        } else if (STRING_VALUE_TYPES.containsKey(qualifiedName(type))) {
+            body.addStatement("writer.writeString($L.toString())", variable);
+        } else if ("java.util.Date".equals(qualifiedName(type))) {
+            body.addStatement("writer.writeLong($L.getTime())", variable);
+        } else if (hasJsonCodec(type)) {
+            body.addStatement("$T.writeValue($L, writer)", jsonCodecClassName(typeElement(type)), variable);
+        } else if (!TypeUtils.isList(type) && !TypeUtils.isSet(type) && !TypeUtils.isMap(type)) {
+            // BigDecimal、BigInteger 写为 JSON 数字，保留全部精度
+            body.addStatement("writer.writeNumber($L.toString())", variable);
+        } else {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            String count = nextVariable("count");
+            body.addStatement("int $L = 0", count);
+            if (TypeUtils.isMap(type)) {
+                String entry = nextVariable("entry");
+                TypeMirror keyType = arguments.get(0);
+                body.addStatement("writer.beginObject()")
+                        .beginControlFlow("for ($T.Entry<$T, $T> $L : $L.entrySet())", Map.class,
+                                TypeName.get(keyType), TypeName.get(arguments.get(1)), entry, variable)
+                        .beginControlFlow("if ($L++ > 0)", count)
+                        .addStatement("writer.comma()")
+                        .endControlFlow()
+                        .addStatement("writer.writeKey($L)", TypeUtils.isEnum(keyType)
+                                ? entry + ".getKey().name()"
+                                : TypeUtils.isStringType(keyType) ? entry + ".getKey()"
+                                : "String.valueOf(" + entry + ".getKey())");
+                appendWrite(body, arguments.get(1), entry + ".getValue()");
+                body.endControlFlow().addStatement("writer.endObject()");
+            } else {
+                String item = nextVariable("item");
+                body.addStatement("writer.beginArray()")
+                        .beginControlFlow("for ($T $L : $L)", TypeName.get(arguments.get(0)), item, variable)
+                        .beginControlFlow("if ($L++ > 0)", count)
+                        .addStatement("writer.comma()")
+                        .endControlFlow();
+                appendWrite(body, arguments.get(0), item);
+                body.endControlFlow().addStatement("writer.endArray()");
+            }
+        }
+        body.endControlFlow();
+    }
+
+    /**
+     * 生成读取代码，调用前已确认下一个值不是 null。
+     *
+     * @return 读取结果的表达式或保存结果的局部变量名
+     */
+    private CodeBlock appendRead(CodeBlock.Builder body, TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return CodeBlock.of(readScalar(type.getKind()));
+        }
+        if (TypeUtils.isWrapper(type)) {
+            return CodeBlock.of(readScalar(unboxedKind(type)));
+        }
+        TypeName typeName = TypeName.get(type);
+        if (TypeUtils.isEnum(type)) {
+            return CodeBlock.of("$T.valueOf(reader.nextString())", typeName);
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            TypeKind componentKind = ((ArrayType) type).getComponentType().getKind();
+            if (componentKind == TypeKind.BYTE) {
+                return CodeBlock.of("$T.getDecoder().decode(reader.nextString())", Base64.class);
+            }
+            String variable = nextVariable("array");
+            String length = nextVariable("length");
+            body.addStatement("$T $L = new $T[8]", typeName, variable,
+                            TypeName.get(((ArrayType) type).getComponentType()))
+                    .addStatement("int $L = 0", length)
+                    .addStatement("reader.beginArray()")
+                    .beginControlFlow("while (reader.hasNext())")
+                    .beginControlFlow("if ($L == $L.length)", length, variable)
+                    .addStatement("$L = $T.copyOf($L, $L * 2)", variable, Arrays.class, variable, length)
+                    .endControlFlow()
+                    .addStatement("$L[$L++] = $L", variable, length, readScalar(componentKind))
+                    .endControlFlow()
+                    .addStatement("reader.endArray()")
+                    .addStatement("$L = $T.copyOf($L, $L)", variable, Arrays.class, variable, length);
+            return CodeBlock.of("$L", variable);
+        }
+        String name = qualifiedName(type);
+        if (TypeUtils.isStringType(type)) {
+            return CodeBlock.of("reader.nextString()");
+        }
+        if (STRING_VALUE_TYPES.containsKey(name)) {
+            return CodeBlock.of("$T.$L(reader.nextString())", typeName, STRING_VALUE_TYPES.get(name));
+        }
+        if ("java.util.Date".equals(name)) {
+            return CodeBlock.of("new $T(reader.nextLong())", typeName);
+        }
+        if (hasJsonCodec(type)) {
+            return CodeBlock.of("$T.readValue(reader)", jsonCodecClassName(typeElement(type)));
+        }
+        if (!TypeUtils.isList(type) && !TypeUtils.isSet(type) && !TypeUtils.isMap(type)) {
+            return CodeBlock.of("new $T(reader.nextNumber())", typeName);
+        }
+
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        String variable = nextVariable("v");
+        body.addStatement("$T $L = $L", typeName, variable, newCollection(type));
+        if (TypeUtils.isMap(type)) {
+            TypeMirror keyType = arguments.get(0);
+            String key = nextVariable("key");
+            body.addStatement("reader.beginObject()")
+                    .beginControlFlow("while (reader.hasNext())")
+                    .addStatement("$T $L = $L", TypeName.get(keyType), key, readKey(keyType))
+                    .beginControlFlow("if (reader.nextNull())")
+                    .addStatement("$L.put($L, null)", variable, key)
+                    .nextControlFlow("else");
+            body.addStatement("$L.put($L, $L)", variable, key, appendRead(body, arguments.get(1)));
+            body.endControlFlow().endControlFlow().addStatement("reader.endObject()");
+        } else {
+            body.addStatement("reader.beginArray()")
+                    .beginControlFlow("while (reader.hasNext())")
+                    .beginControlFlow("if (reader.nextNull())")
+                    .addStatement("$L.add(null)", variable)
+                    .nextControlFlow("else");
+            body.addStatement("$L.add($L)", variable, appendRead(body, arguments.get(0)));
+            body.endControlFlow().endControlFlow().addStatement("reader.endArray()");
+        }
+        return CodeBlock.of("$L", variable);
+    }
+
+    private CodeBlock readKey(TypeMirror keyType) {
+        if (TypeUtils.isEnum(keyType)) {
+            return CodeBlock.of("$T.valueOf(reader.nextName())", TypeName.get(keyType));
+        }
+        if (TypeUtils.isStringType(keyType)) {
+            return CodeBlock.of("reader.nextName()");
+        }
+        return CodeBlock.of("$T.valueOf(reader.nextName())", TypeName.get(keyType));
+    }
+
+    /**
+     * 创建解码目标集合：接口类型使用 ArrayList、LinkedHashSet、LinkedHashMap，具体类型使用无参构造方法。
+     */
+    private CodeBlock newCollection(TypeMirror type) {
+        String name = qualifiedName(type);
+        if ("java.util.List".equals(name)) {
+            return CodeBlock.of("new $T<>()", java.util.ArrayList.class);
+        }
+        if ("java.util.Set".equals(name)) {
+            return CodeBlock.of("new $T<>()", java.util.LinkedHashSet.class);
+        }
+        if ("java.util.Map".equals(name)) {
+            return CodeBlock.of("new $T<>()", LinkedHashMap.class);
+        }
+        return CodeBlock.of("new $T<>()", ClassName.get(typeElement(type)));
+    }
+
+    private String writeScalar(TypeKind kind, String value) {
+        switch (kind) {
+            case BOOLEAN:
+                return "writer.writeBoolean(" + value + ")";
+            case CHAR:
+                return "writer.writeString(String.valueOf(" + value + "))";
+            case DOUBLE:
+                return "writer.writeDouble(" + value + ")";
+            case FLOAT:
+                return "writer.writeFloat(" + value + ")";
+            default:
+                return "writer.writeLong(" + value + ")";
+        }
+    }
+
+    private String readScalar(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return "reader.nextBoolean()";
+            case CHAR:
+                return "reader.nextChar()";
+            case DOUBLE:
+                return "reader.nextDouble()";
+            case FLOAT:
+                return "(float) reader.nextDouble()";
+            case LONG:
+                return "reader.nextLong()";
+            case INT:
+                return "reader.nextInt()";
+            default:
+                return "(" + kind.name().toLowerCase(Locale.ROOT) + ") reader.nextInt()";
+        }
+    }
+
+    private TypeKind unboxedKind(TypeMirror wrapperType) {
+        return processingEnv.getTypeUtils().unboxedType(wrapperType).getKind();
+    }
+
+    /**
+     * 访问器调用先保存到局部变量，保证每个 getter 只调用一次；循环变量直接使用。
+     */
+    private String localVariable(CodeBlock.Builder body, TypeMirror type, String value) {
+        if (value.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+            return value;
+        }
+        String variable = nextVariable("v");
+        body.addStatement("$T $L = $L", TypeName.get(type), variable, value);
+        return variable;
+    }
+
+    private String nextVariable(String prefix) {
+        return prefix + (variableIndex++);
+    }
+
+    private TypeElement typeElement(TypeMirror type) {
+        return (TypeElement) ((DeclaredType) type).asElement();
+    }
+
+    private String qualifiedName(TypeMirror type) {
+        return typeElement(type).getQualifiedName().toString();
+    }
+
+    private String capitalize(String str) {
+        if (str == null || str.isEmpty()) {
+            return str;
+        }
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+}
@@ -0,0 +1,415 @@
+package com.github.jackieonway.copier.processor;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JDBC 行映射器生成器。
+ *
+ * <p>为 {@code @CopyTarget(rowMapper = true)} 标注的类生成 {@code XxxRowMapper}，包含：
+ * <ul>
+ *   <li>{@code fromResultSet(ResultSet)}：读取当前行，列序号按结果集解析一次，缓存在线程内（最近 4 个结果集），
+ *   并按列标签签名在结果集之间共享</li>
+ *   <li>{@code readAll(ResultSet)}：读取剩余全部行</li>
+ *   <li>{@code bind(PreparedStatement, T)}：按字段顺序用 {@code setLong}/{@code setString} 等类型化方法绑定参数</li>
+ *   <li>{@code insertSql(String)}：生成与 bind 参数顺序一致的 INSERT 语句</li>
+ * </ul>
+ *
+ * <p>列名为字段名的下划线形式（{@code amountCents} 对应 {@code amount_cents}），读取时按列标签匹配，
+ * 不区分大小写并忽略下划线；结果集中缺少的列对应字段保持默认值。生成的代码不使用反射。
+ *
+ * @author jackieonway
+ * @since 1.3.0
+ */
+public final class RowMapperGenerator {
+
+    /**
+     * 按 JDBC 类型化方法读写的字段类型（全限定名 -> {get/set 方法后缀, java.sql.Types 常量名}）。
+     */
+    private static final Map<String, String[]> JDBC_TYPES = new HashMap<>();
+
+    static {
+        JDBC_TYPES.put("long", new String[]{"Long", "BIGINT"});
+        JDBC_TYPES.put("int", new String[]{"Int", "INTEGER"});
+        JDBC_TYPES.put("short", new String[]{"Short", "SMALLINT"});
+        JDBC_TYPES.put("byte", new String[]{"Byte", "TINYINT"});
+        JDBC_TYPES.put("double", new String[]{"Double", "DOUBLE"});
+        JDBC_TYPES.put("float", new String[]{"Float", "REAL"});
+        JDBC_TYPES.put("boolean", new String[]{"Boolean", "BOOLEAN"});
+        JDBC_TYPES.put("java.lang.Long", JDBC_TYPES.get("long"));
+        JDBC_TYPES.put("java.lang.Integer", JDBC_TYPES.get("int"));
+        JDBC_TYPES.put("java.lang.Short", JDBC_TYPES.get("short"));
+        JDBC_TYPES.put("java.lang.Byte", JDBC_TYPES.get("byte"));
+        JDBC_TYPES.put("java.lang.Double", JDBC_TYPES.get("double"));
+        JDBC_TYPES.put("java.lang.Float", JDBC_TYPES.get("float"));
+        JDBC_TYPES.put("java.lang.Boolean", JDBC_TYPES.get("boolean"));
+        JDBC_TYPES.put("java.lang.String", new String[]{"String", "VARCHAR"});
+        JDBC_TYPES.put("java.math.BigDecimal", new String[]{"BigDecimal", "DECIMAL"});
+        JDBC_TYPES.put("byte[]", new String[]{"Bytes", "VARBINARY"});
+    }
+
+    /**
+     * 每个线程缓存列序号的最近结果集个数。
+     */
+    private static final int RECENT_RESULT_SETS = 4;
+
+    /**
+     * 按列标签签名缓存的结果集结构上限，超过后新结构只解析不缓存。
+     */
+    private static final int MAX_CACHED_SHAPES = 256;
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Messager messager;
+
+    /**
+     * 需要生成行映射器的类型。
+     */
+    private final TypeElement valueType;
+
+    /**
+     * 构造方法。
+     *
+     * @param processingEnv 处理环境
+     * @param valueType     需要生成行映射器的类型
+     */
+    public RowMapperGenerator(ProcessingEnvironment processingEnv, TypeElement valueType) {
+        this.processingEnv = processingEnv;
+        this.messager = processingEnv.getMessager();
+        this.valueType = valueType;
+    }
+
+    /**
+     * 获取类型对应的行映射器类名（与类型位于同一包）。
+     *
+     * @param type 类型元素
+     * @return 行映射器类名
+     */
+    public static ClassName rowMapperClassName(TypeElement type) {
+        return ClassName.get(ClassName.get(type).packageName(), type.getSimpleName() + "RowMapper");
+    }
+
+    /**
+     * 生成行映射器类。字段类型不受支持时输出编译错误，不生成文件。
+     */
+    public void generateRowMapperClass() {
+        ClassName valueName = ClassName.get(valueType);
+        ClassName mapperName = rowMapperClassName(valueType);
+        List<VariableElement> fields = TypeUtils.getAllFields(valueType);
+        boolean failed = false;
+        for (VariableElement field : fields) {
+            if (!isSupported(field.asType())) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "rowMapper 不支持字段类型 " + field.asType()
+                                + "，仅支持基本类型及包装类型、String、BigDecimal、byte[]、枚举与日期时间类型", field);
+                failed = true;
+            }
+        }
+        if (failed) {
+            return;
+        }
+
+        List<String> columns = new ArrayList<>();
+        CodeBlock.Builder resolve = CodeBlock.builder()
+                .addStatement("int[] indexes = new int[$L]", fields.size())
+                .beginControlFlow("for (int i = 1; i <= labels.length; i++)")
+                .beginControlFlow("switch (labels[i - 1].replace($S, $S).toLowerCase($T.ROOT))",
+                        "_", "", Locale.class);
+        CodeBlock.Builder read = CodeBlock.builder()
+                .addStatement("$T target = new $T()", valueName, valueName);
+        CodeBlock.Builder bind = CodeBlock.builder()
+                .beginControlFlow("if (value == null)")
+                .addStatement("throw new $T($S)", IllegalArgumentException.class, "value 不能为 null")
+                .endControlFlow();
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            String name = field.getSimpleName().toString();
+            columns.add(toColumnName(name));
+            resolve.add("case $S:\n$>", name.toLowerCase(Locale.ROOT))
+                    .addStatement("indexes[$L] = i", i)
+                    .addStatement("break")
+                    .add("$<");
+            read.beginControlFlow("if (columns[$L] > 0)", i);
+            appendRead(read, field.asType(), capitalize(name), "columns[" + i + "]");
+            read.endControlFlow();
+            appendBind(bind, field.asType(), "value.get" + capitalize(name) + "()", i + 1);
+        }
+        resolve.add("default:\n$>").addStatement("break").add("$<")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return indexes");
+
+        ClassName cacheName = mapperName.nestedClass("ColumnCache");
+        TypeSpec cacheType = TypeSpec.classBuilder("ColumnCache")
+                .addJavadoc("当前线程最近读取的结果集及其列序号。\n")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addField(ParameterizedTypeName.get(ClassName.get(WeakReference.class), ClassName.get(ResultSet.class)),
+                        "resultSet", Modifier.FINAL)
+                .addField(int[].class, "indexes", Modifier.FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(ResultSet.class, "resultSet")
+                        .addParameter(int[].class, "indexes")
+                        .addStatement("this.resultSet = new $T<>(resultSet)", WeakReference.class)
+                        .addStatement("this.indexes = indexes")
+                        .build())
+                .build();
+
+        CodeBlock.Builder columnList = CodeBlock.builder();
+        for (int i = 0; i < columns.size(); i++) {
+            columnList.add(i == 0 ? "$S" : ", $S", columns.get(i));
+        }
+        TypeName listOfString = ParameterizedTypeName.get(List.class, String.class);
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(mapperName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("$T 的 JDBC 行映射器，由 fast-bean-copier 生成。\n", valueName)
+                .addField(FieldSpec.builder(listOfString, "COLUMNS", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .addJavadoc("列名，顺序与 {@link #bind} 的参数顺序一致。\n")
+                        .initializer("$T.unmodifiableList($T.asList($L))", Collections.class, Arrays.class,
+                                columnList.build())
+                        .build())
+                .addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(ThreadLocal.class),
+                                ArrayTypeName.of(cacheName)), "RECENT_COLUMNS", Modifier.PRIVATE, Modifier.STATIC,
+                                Modifier.FINAL)
+                        .addJavadoc("每个线程最近读取的 $L 个结果集，交替读取多个结果集时互不驱逐。\n", RECENT_RESULT_SETS)
+                        .initializer("$T.withInitial(() -> new $T[$L])", ThreadLocal.class, cacheName,
+                                RECENT_RESULT_SETS)
+                        .build())
+                .addField(FieldSpec.builder(ParameterizedTypeName.get(ConcurrentMap.class, String.class, int[].class),
+                                "COLUMN_INDEXES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .addJavadoc("列标签签名 -> 列序号，最多缓存 $L 种结果集结构。\n", MAX_CACHED_SHAPES)
+                        .initializer("new $T<>()", ConcurrentHashMap.class)
+                        .build())
+                .addType(cacheType)
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(MethodSpec.methodBuilder("fromResultSet")
+                        .addJavadoc("读取结果集的当前行。同一结果集的列序号只解析一次。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(valueName)
+                        .addParameter(ResultSet.class, "resultSet")
+                        .addException(SQLException.class)
+                        .addStatement("return read(resultSet, columnIndexes(resultSet))")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("readAll")
+                        .addJavadoc("读取结果集剩余的全部行。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(ParameterizedTypeName.get(ClassName.get(List.class), valueName))
+                        .addParameter(ResultSet.class, "resultSet")
+                        .addException(SQLException.class)
+                        .addStatement("int[] columns = resolveColumns(resultSet.getMetaData())")
+                        .addStatement("$T<$T> result = new $T<>()", List.class, valueName, ArrayList.class)
+                        .beginControlFlow("while (resultSet.next())")
+                        .addStatement("result.add(read(resultSet, columns))")
+                        .endControlFlow()
+                        .addStatement("return result")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("bind")
+                        .addJavadoc("按 {@link #COLUMNS} 的顺序从第 1 个参数开始绑定，适合配合 addBatch 批量写入。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(PreparedStatement.class, "statement")
+                        .addParameter(valueName, "value")
+                        .addException(SQLException.class)
+                        .addCode(bind.build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("insertSql")
+                        .addJavadoc("生成插入全部列的 INSERT 语句，参数顺序与 {@link #bind} 一致。\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(String.class)
+                        .addParameter(String.class, "table")
+                        .addStatement("return $S + table + $S", "INSERT INTO ",
+                                " (" + String.join(", ", columns) + ") VALUES ("
+                                        + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("columnIndexes")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(int[].class)
+                        .addParameter(ResultSet.class, "resultSet")
+                        .addException(SQLException.class)
+                        .addStatement("$T[] caches = RECENT_COLUMNS.get()", cacheName)
+                        .beginControlFlow("for ($T cache : caches)", cacheName)
+                        .beginControlFlow("if (cache != null && cache.resultSet.get() == resultSet)")
+                        .addStatement("return cache.indexes")
+                        .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("int[] indexes = resolveColumns(resultSet.getMetaData())")
+                        .addStatement("$T.arraycopy(caches, 0, caches, 1, caches.length - 1)", System.class)
+                        .addStatement("caches[0] = new $T(resultSet, indexes)", cacheName)
+                        .addStatement("return indexes")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("resolveColumns")
+                        .addJavadoc("字段序号 -> 列序号（从 1 开始），结果集中没有的列为 0。列标签相同的结果集共用解析结果。\n")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(int[].class)
+                        .addParameter(ResultSetMetaData.class, "metaData")
+                        .addException(SQLException.class)
+                        .addStatement("String[] labels = new String[metaData.getColumnCount()]")
+                        .beginControlFlow("for (int i = 0; i < labels.length; i++)")
+                        .addStatement("labels[i] = metaData.getColumnLabel(i + 1)")
+                        .endControlFlow()
+                        .addStatement("String signature = String.join($S, labels)", "\u0000")
+                        .addStatement("int[] indexes = COLUMN_INDEXES.get(signature)")
+                        .beginControlFlow("if (indexes == null)")
+                        .addStatement("indexes = matchColumns(labels)")
+                        .beginControlFlow("if (COLUMN_INDEXES.size() < $L)", MAX_CACHED_SHAPES)
+                        .addStatement("COLUMN_INDEXES.putIfAbsent(signature, indexes)")
+                        .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return indexes")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("matchColumns")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(int[].class)
+                        .addParameter(String[].class, "labels")
+                        .addCode(resolve.build())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("read")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(valueName)
+                        .addParameter(ResultSet.class, "resultSet")
+                        .addParameter(int[].class, "columns")
+                        .addException(SQLException.class)
+                        .addCode(read.addStatement("return target").build())
+                        .build());
+
+        try {
+            JavaFile.builder(valueName.packageName(), classBuilder.build())
+                    .build()
+                    .writeTo(processingEnv.getFiler());
+        } catch (IOException e) {
+            throw new RuntimeException("生成 RowMapper 类失败", e);
+        }
+    }
+
+    private boolean isSupported(TypeMirror type) {
+        String name = type.toString();
+        return JDBC_TYPES.containsKey(name) || TypeUtils.isEnum(type) || isTemporal(name);
+    }
+
+    private boolean isTemporal(String name) {
+        return "java.util.Date".equals(name) || "java.time.LocalDate".equals(name)
+                || "java.time.LocalDateTime".equals(name) || "java.time.Instant".equals(name);
+    }
+
+    /**
+     * 读取一列并写入 {@code target}。
+     */
+    private void appendRead(CodeBlock.Builder code, TypeMirror type, String property, String column) {
+        String name = type.toString();
+        String[] jdbc = JDBC_TYPES.get(name);
+        if (jdbc != null && (type.getKind().isPrimitive() || type.getKind() == TypeKind.ARRAY
+                || "String".equals(jdbc[0]) || "BigDecimal".equals(jdbc[0]))) {
+            code.addStatement("target.set$L(resultSet.get$L($L))", property, jdbc[0], column);
+        } else if (jdbc != null) {
+            // 包装类型：基本类型读取后用 wasNull 区分 SQL NULL
+            TypeName primitive = TypeName.get(type).unbox();
+            code.addStatement("$T value$L = resultSet.get$L($L)", primitive, property, jdbc[0], column)
+                    .addStatement("target.set$L(resultSet.wasNull() ? null : value$L)", property, property);
+        } else if (TypeUtils.isEnum(type)) {
+            code.addStatement("$T value$L = resultSet.getString($L)", String.class, property, column)
+                    .addStatement("target.set$L(value$L == null ? null : $T.valueOf(value$L))",
+                            property, property, TypeName.get(type), property);
+        } else if ("java.util.Date".equals(name) || "java.time.Instant".equals(name)) {
+            code.addStatement("$T value$L = resultSet.getTimestamp($L)", Timestamp.class, property, column)
+                    .addStatement("target.set$L(value$L == null ? null : $L)", property, property,
+                            "java.util.Date".equals(name)
+                                    ? CodeBlock.of("new $T(value$L.getTime())", java.util.Date.class, property)
+                                    : CodeBlock.of("value$L.toInstant()", property));
+        } else {
+            code.addStatement("target.set$L(resultSet.getObject($L, $T.class))", property, column,
+                    TypeName.get(type));
+        }
+    }
+
+    /**
+     * 绑定一个参数，null 值使用 setNull。
+     */
+    private void appendBind(CodeBlock.Builder code, TypeMirror type, String getter, int parameter) {
+        String name = type.toString();
+        String[] jdbc = JDBC_TYPES.get(name);
+        if (jdbc != null && type.getKind().isPrimitive()) {
+            code.addStatement("statement.set$L($L, $L)", jdbc[0], parameter, getter);
+            return;
+        }
+        String variable = "param" + parameter;
+        code.addStatement("$T $L = $L", TypeName.get(type), variable, getter)
+                .beginControlFlow("if ($L == null)", variable)
+                .addStatement("statement.setNull($L, $T.$L)", parameter, Types.class, sqlType(type, jdbc))
+                .nextControlFlow("else");
+        if (jdbc != null) {
+            code.addStatement("statement.set$L($L, $L)", jdbc[0], parameter, variable);
+        } else if (TypeUtils.isEnum(type)) {
+            code.addStatement("statement.setString($L, $L.name())", parameter, variable);
+        } else if ("java.util.Date".equals(name)) {
+            code.addStatement("statement.setTimestamp($L, new $T($L.getTime()))", parameter, Timestamp.class, variable);
+        } else if ("java.time.Instant".equals(name)) {
+            code.addStatement("statement.setTimestamp($L, $T.from($L))", parameter, Timestamp.class, variable);
+        } else {
+            code.addStatement("statement.setObject($L, $L)", parameter, variable);
+        }
+        code.endControlFlow();
+    }
+
+    private String sqlType(TypeMirror type, String[] jdbc) {
+        if (jdbc != null) {
+            return jdbc[1];
+        }
+        if (TypeUtils.isEnum(type)) {
+            return "VARCHAR";
+        }
+        return "java.time.LocalDate".equals(type.toString()) ? "DATE" : "TIMESTAMP";
+    }
+
+    /**
+     * 字段名转为列名，如 {@code amountCents} 转为 {@code amount_cents}。
+     */
+    private static String toColumnName(String name) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                result.append('_');
+            }
+            result.append(Character.toLowerCase(c));
+        }
+        return result.toString();
+    }
+
+    private String capitalize(String str) {
+        if (str == null || str.isEmpty()) {
+            return str;
+        }
+        return Character.toUpperCase(str.charAt(0)) + str.substring(1);
+    }
+}
@@ -4,15 +4,23 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import com.github.jackieonway.copier.annotation.CopyTarget;
+import com.github.jackieonway.copier.annotation.Immutable;
 
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.WildcardType;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -26,6 +34,20 @@ import java.util.Set;
  */
 public final class TypeUtils {
 
+    /**
+     * 已知不可变的 JDK 值类型。
+     *
+     * @since 1.3.0
+     */
+    private static final Set<String> IMMUTABLE_JDK_TYPES = new HashSet<>(Arrays.asList(
+            "java.math.BigDecimal", "java.math.BigInteger",
+            "java.time.Duration", "java.time.Instant", "java.time.LocalDate", "java.time.LocalDateTime",
+            "java.time.LocalTime", "java.time.MonthDay", "java.time.OffsetDateTime", "java.time.OffsetTime",
+            "java.time.Period", "java.time.Year", "java.time.YearMonth", "java.time.ZonedDateTime",
+            "java.time.ZoneId", "java.time.ZoneOffset",
+            "java.util.UUID", "java.util.Currency", "java.util.Locale", "java.util.regex.Pattern",
+            "java.net.URI", "java.lang.Class"));
+
     /**
      * 私有构造方法，防止实例化。
      */
@@ -82,6 +104,13 @@ public final class TypeUtils {
      * @return 如果两个类型兼容，返回 true；否则返回 false
      */
     public static boolean isTypeCompatible(TypeMirror source, TypeMirror target) {
+        return isTypeCompatible(source, target, new HashSet<>());
+    }
+
+    /**
+     * 判断两个类型是否兼容，visiting 记录正在比较的嵌套对象类型对，避免互相引用的类型无限递归。
+     */
+    private static boolean isTypeCompatible(TypeMirror source, TypeMirror target, Set<String> visiting) {
         if (source == null || target == null) {
             return false;
         }
@@ -100,23 +129,215 @@ public final class TypeUtils {
             return isPrimitiveWrapperMatch(target, source);
         }
 
-        // 同类型的集合/数组，允许泛型不同以便后续深拷贝处理
-        if (isList(source) && isList(target)) {
+        // 包装类型的 List/Set 与基本类型数组互转
+        if (isBoxedPrimitiveArrayMatch(source, target) || isBoxedPrimitiveArrayMatch(target, source)) {
             return true;
         }
-        if (isSet(source) && isSet(target)) {
-            return true;
+
+        // 同类型的集合/数组，允许泛型不同以便后续深拷贝处理
+        if (isList(source) && isList(target) || isSet(source) && isSet(target) || isMap(source) && isMap(target)
+                || isQueue(source) && isQueue(target) || isArrayType(source) && isArrayType(target)) {
+            return beanElementsCompatible(source, target, visiting);
         }
-        if (isMap(source) && isMap(target)) {
+
+        // 不同类型的嵌套对象，由生成的 Copier 或拷贝辅助方法转换
+        return isNestedBeanMatch(source, target, visiting);
+    }
+
+    /**
+     * 判断是否为可以逐字段拷贝的两个不同嵌套对象类型，例如 {@code Address} 与 {@code AddressDto}。
+     *
+     * <p>要求两侧都是非 JDK 的具体类，目标类有非私有的无参构造方法，并且满足以下任一条件：
+     * 一方标注了以另一方为 source 的 {@link CopyTarget}，或者目标类的每个可写字段在源类中都有同名且类型兼容的字段。
+     *
+     * @param source 源类型
+     * @param target 目标类型
+     * @return 如果可以拷贝，返回 true；否则返回 false
+     * @since 1.3.0
+     */
+    public static boolean isNestedBeanMatch(TypeMirror source, TypeMirror target) {
+        return isNestedBeanMatch(source, target, new HashSet<>());
+    }
+
+    private static boolean isNestedBeanMatch(TypeMirror source, TypeMirror target, Set<String> visiting) {
+        if (!isNestedBeanCandidate(source, target)) {
+            return false;
+        }
+        TypeElement sourceElement = (TypeElement) ((DeclaredType) source).asElement();
+        TypeElement targetElement = (TypeElement) ((DeclaredType) target).asElement();
+        if (isCopyTargetOf(targetElement, source) || isCopyTargetOf(sourceElement, target)) {
             return true;
         }
-        if (isArrayType(source) && isArrayType(target)) {
+        return unmappedProperties(sourceElement, targetElement, visiting).isEmpty();
+    }
+
+    /**
+     * 列出无法按同名字段从源嵌套对象拷贝的目标属性：源类中没有同名字段，或同名字段类型不兼容。
+     *
+     * <p>用于在嵌套对象类型不兼容时提示具体缺少哪些属性。两侧不是可逐字段拷贝的嵌套对象类型，
+     * 或一方标注了以另一方为 source 的 {@link CopyTarget} 时返回空列表。
+     *
+     * @param source 源类型
+     * @param target 目标类型
+     * @return 未映射的目标属性名
+     * @since 1.3.0
+     */
+    public static List<String> unmappedNestedProperties(TypeMirror source, TypeMirror target) {
+        if (!isNestedBeanCandidate(source, target)) {
+            return new ArrayList<>();
+        }
+        TypeElement sourceElement = (TypeElement) ((DeclaredType) source).asElement();
+        TypeElement targetElement = (TypeElement) ((DeclaredType) target).asElement();
+        if (isCopyTargetOf(targetElement, source) || isCopyTargetOf(sourceElement, target)) {
+            return new ArrayList<>();
+        }
+        return unmappedProperties(sourceElement, targetElement, new HashSet<>());
+    }
+
+    /**
+     * 集合/数组中不同类型的嵌套对象元素同样需要能够按同名字段拷贝。
+     */
+    private static boolean beanElementsCompatible(TypeMirror source, TypeMirror target, Set<String> visiting) {
+        List<TypeMirror> sourceElements = elementTypes(source);
+        List<TypeMirror> targetElements = elementTypes(target);
+        if (sourceElements.size() != targetElements.size()) {
             return true;
         }
+        for (int i = 0; i < sourceElements.size(); i++) {
+            TypeMirror sourceElement = sourceElements.get(i);
+            TypeMirror targetElement = targetElements.get(i);
+            if (isBeanType(sourceElement) && isBeanType(targetElement)
+                    && !sourceElement.toString().equals(targetElement.toString())
+                    && !isNestedBeanMatch(sourceElement, targetElement, visiting)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取集合的泛型参数或数组的元素类型。
+     *
+     * @param type 集合或数组类型
+     * @return 元素类型列表，Map 依次为键与值的类型
+     * @since 1.3.0
+     */
+    public static List<TypeMirror> elementTypes(TypeMirror type) {
+        if (isArrayType(type)) {
+            return Arrays.asList(((ArrayType) type).getComponentType());
+        }
+        return extractTypeArguments(type);
+    }
+
+    private static boolean isNestedBeanCandidate(TypeMirror source, TypeMirror target) {
+        return isBeanType(source) && isBeanType(target) && !source.toString().equals(target.toString())
+                && hasNoArgConstructor((TypeElement) ((DeclaredType) target).asElement());
+    }
+
+    private static List<String> unmappedProperties(TypeElement sourceElement, TypeElement targetElement,
+                                                   Set<String> visiting) {
+        List<String> unmapped = new ArrayList<>();
+        // 互相引用的类型正在比较时视为兼容，由外层的比较结果决定
+        String pair = sourceElement.getQualifiedName() + "->" + targetElement.getQualifiedName();
+        if (!visiting.add(pair)) {
+            return unmapped;
+        }
+        Map<String, VariableElement> sourceFields = new HashMap<>();
+        for (VariableElement field : getAllFields(sourceElement)) {
+            sourceFields.put(field.getSimpleName().toString(), field);
+        }
+        for (VariableElement field : getAllFields(targetElement)) {
+            if (field.getModifiers().contains(Modifier.FINAL)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            VariableElement sourceField = sourceFields.get(name);
+            if (sourceField == null || !isTypeCompatible(getFieldType(sourceField), getFieldType(field), visiting)) {
+                unmapped.add(name);
+            }
+        }
+        visiting.remove(pair);
+        return unmapped;
+    }
 
+    /**
+     * 判断类型是否标注了以指定类型为 source 的 {@link CopyTarget}。
+     *
+     * @param element    可能标注 {@code @CopyTarget} 的类型
+     * @param sourceType 期望的 source 类型
+     * @return 如果是，返回 true；否则返回 false
+     * @since 1.3.0
+     */
+    public static boolean isCopyTargetOf(TypeElement element, TypeMirror sourceType) {
+        CopyTarget annotation = element.getAnnotation(CopyTarget.class);
+        if (annotation == null) {
+            return false;
+        }
+        try {
+            annotation.source();
+        } catch (MirroredTypeException e) {
+            return e.getTypeMirror().toString().equals(sourceType.toString());
+        }
         return false;
     }
 
+    /**
+     * 判断类型是否为可以通过无参构造方法创建的非 JDK 具体类。
+     *
+     * @param type 类型
+     * @return 如果可以创建，返回 true；否则返回 false
+     * @since 1.3.0
+     */
+    public static boolean isInstantiableBean(TypeMirror type) {
+        return isBeanType(type) && hasNoArgConstructor((TypeElement) ((DeclaredType) type).asElement());
+    }
+
+    private static boolean isBeanType(TypeMirror type) {
+        if (type == null || type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Element element = ((DeclaredType) type).asElement();
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        String typeName = type.toString();
+        return !typeName.startsWith("java.") && !typeName.startsWith("javax.")
+                && ((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private static boolean hasNoArgConstructor(TypeElement element) {
+        boolean hasConstructor = false;
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.CONSTRUCTOR) {
+                hasConstructor = true;
+                if (((ExecutableElement) enclosed).getParameters().isEmpty()
+                        && !enclosed.getModifiers().contains(Modifier.PRIVATE)) {
+                    return true;
+                }
+            }
+        }
+        return !hasConstructor;
+    }
+
+    /**
+     * 判断是否为元素类型互相匹配的"包装类型 List/Set"与"基本类型数组"，
+     * 例如 {@code List<Long>} 与 {@code long[]}。
+     *
+     * @param collectionType List 或 Set 类型
+     * @param arrayType      一维基本类型数组
+     * @return 如果匹配，返回 true；否则返回 false
+     * @since 1.3.0
+     */
+    public static boolean isBoxedPrimitiveArrayMatch(TypeMirror collectionType, TypeMirror arrayType) {
+        if (!(isList(collectionType) || isSet(collectionType)) || !isArrayType(arrayType)) {
+            return false;
+        }
+        TypeMirror component = ((ArrayType) arrayType).getComponentType();
+        List<TypeMirror> arguments = extractTypeArguments(collectionType);
+        return isPrimitive(component) && arguments.size() == 1 && isWrapper(arguments.get(0))
+                && isPrimitiveWrapperMatch(component, arguments.get(0));
+    }
+
     /**
      * 判断基本类型和包装类型是否匹配。
      *
@@ -153,7 +374,8 @@ public final class TypeUtils {
     /**
      * 获取类的所有字段。
      *
-     * 包括继承自父类的字段，但不包括 static 和 transient 字段。
+     * 包括继承自父类（JDK 类除外）的字段，父类字段在前；子类中同名的字段覆盖父类字段。
+     * 不包括 static 和 transient 字段。
      *
      * @param element 要获取字段的类元素
      * @return 字段列表
@@ -164,6 +386,15 @@ public final class TypeUtils {
             return fields;
         }
 
+        // v1.3: 先收集父类字段
+        TypeMirror superclass = element.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED) {
+            TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (!superElement.getQualifiedName().toString().startsWith("java.")) {
+                fields.addAll(getAllFields(superElement));
+            }
+        }
+
         // 获取当前类的所有字段
         for (Object enclosedElement : element.getEnclosedElements()) {
             if (enclosedElement instanceof VariableElement) {
@@ -171,6 +402,7 @@ public final class TypeUtils {
                 Set<Modifier> modifiers = field.getModifiers();
                 // 过滤掉 static 和 transient 字段
                 if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+                    removeField(fields, field.getSimpleName().toString());
                     fields.add(field);
                 }
             }
@@ -179,6 +411,15 @@ public final class TypeUtils {
         return fields;
     }
 
+    private static void removeField(List<VariableElement> fields, String name) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).getSimpleName().contentEquals(name)) {
+                fields.remove(i);
+                return;
+            }
+        }
+    }
+
     /**
      * 获取字段的类型。
      *
@@ -317,6 +558,29 @@ public final class TypeUtils {
         return isDeclaredType(type, "java.util.Map", "java.util.HashMap", "java.util.LinkedHashMap", "java.util.concurrent.ConcurrentHashMap");
     }
 
+    /**
+     * 判断是否为 Queue/Deque 类型。
+     *
+     * @param type 要检查的类型
+     * @return 如果是 Queue 类型，返回 true；否则返回 false
+     * @since 1.3.0
+     */
+    public static boolean isQueue(TypeMirror type) {
+        return isDeclaredType(type, "java.util.Queue", "java.util.Deque", "java.util.ArrayDeque");
+    }
+
+    /**
+     * 判断是否为枚举类型。
+     *
+     * @param type 要检查的类型
+     * @return 如果是枚举类型，返回 true；否则返回 false
+     * @since 1.3.0
+     */
+    public static boolean isEnum(TypeMirror type) {
+        return type != null && type.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
     /**
      * 判断是否为数组类型。
      *
@@ -347,11 +611,23 @@ public final class TypeUtils {
         return isDeclaredType(type, "java.lang.String");
     }
 
+    /**
+     * 判断是否为带类型参数的类型，如 {@code List<Foo>}。
+     *
+     * @param type 要检查的类型
+     * @return 如果是带类型参数的类或接口类型，返回 true；否则返回 false
+     * @since 1.3.0
+     */
+    public static boolean isParameterizedType(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
     /**
      * 判断元素类型是否需要深拷贝。
      *
-     * 基本类型、包装类型和 String 直接返回 false；
-     * 被 @CopyTarget 标注的类型或用户自定义对象返回 true；
+     * 基本类型、包装类型、String 和枚举直接返回 false；
+     * 被 @CopyTarget 标注的类型返回 true；可推断为不可变的类型（见 {@link #isImmutable(TypeMirror)}）返回 false；
+     * 其余用户自定义对象返回 true；
      * 其他情况默认返回 false。
      *
      * @param elementType 元素类型
@@ -362,7 +638,7 @@ public final class TypeUtils {
             return false;
         }
 
-        if (isBasicType(elementType) || isStringType(elementType)) {
+        if (isBasicType(elementType) || isStringType(elementType) || isEnum(elementType)) {
             return false;
         }
 
@@ -381,19 +657,91 @@ public final class TypeUtils {
             return true;
         }
 
+        // 不可变值类型直接共享引用
+        if (isImmutable(elementType)) {
+            return false;
+        }
+
         // 非 JDK 的自定义对象视为需要深拷贝（嵌套对象）
         String typeName = elementType.toString();
         return !typeName.startsWith("java.");
     }
 
     /**
-     * 判断是否为集合类型（List/Set/Map/数组）。
+     * 判断类型在编译期是否可推断为不可变，不可变类型的实例可以直接共享引用。
+     *
+     * <p>满足以下任一条件即视为不可变：
+     * <ul>
+     *   <li>基本类型、包装类型、String、枚举及已知不可变的 JDK 值类型（BigDecimal、java.time 等）</li>
+     *   <li>标注了 {@link Immutable} 的类型</li>
+     *   <li>final 类，所有实例字段均为 final 且字段类型不可变，父类同样满足条件</li>
+     * </ul>
+     *
+     * @param type 要检查的类型
+     * @return 如果可推断为不可变，返回 true；否则返回 false
+     * @since 1.3.0
+     */
+    public static boolean isImmutable(TypeMirror type) {
+        return isImmutable(type, new HashSet<String>());
+    }
+
+    private static boolean isImmutable(TypeMirror type, Set<String> visiting) {
+        if (type == null) {
+            return false;
+        }
+        if (isBasicType(type) || isStringType(type) || isEnum(type)) {
+            return true;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        String qualifiedName = element.getQualifiedName().toString();
+        if (IMMUTABLE_JDK_TYPES.contains(qualifiedName) || element.getAnnotation(Immutable.class) != null) {
+            return true;
+        }
+        boolean classOrRecord = element.getKind() == ElementKind.CLASS || "RECORD".equals(element.getKind().name());
+        if (qualifiedName.startsWith("java.") || !classOrRecord || !element.getModifiers().contains(Modifier.FINAL)) {
+            return false;
+        }
+        // 自引用（如链表节点）在递归中按已满足处理，由其余字段决定结果
+        return !visiting.add(qualifiedName) || hasOnlyImmutableState(element, visiting);
+    }
+
+    /**
+     * 检查类及其父类的实例字段是否全部为 final 且类型不可变，父类本身不要求是 final。
+     */
+    private static boolean hasOnlyImmutableState(TypeElement element, Set<String> visiting) {
+        for (Element member : element.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.FIELD || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (!member.getModifiers().contains(Modifier.FINAL) || !isImmutable(member.asType(), visiting)) {
+                return false;
+            }
+        }
+        TypeMirror superclass = element.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return true;
+        }
+        TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+        String superName = superElement.getQualifiedName().toString();
+        if (superName.startsWith("java.")) {
+            // 只接受无实例状态的 JDK 父类
+            return "java.lang.Object".equals(superName) || "java.lang.Number".equals(superName)
+                    || "java.lang.Record".equals(superName);
+        }
+        return hasOnlyImmutableState(superElement, visiting);
+    }
+
+    /**
+     * 判断是否为集合类型（List/Set/Queue/Map/数组）。
      *
      * @param type 要检查的类型
      * @return 如果是集合类型，返回 true；否则返回 false
      */
     public static boolean isCollectionType(TypeMirror type) {
-        return isList(type) || isSet(type) || isMap(type) || isArrayType(type);
+        return isList(type) || isSet(type) || isQueue(type) || isMap(type) || isArrayType(type);
     }
 
     /**